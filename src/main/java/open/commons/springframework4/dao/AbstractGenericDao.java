@@ -33,20 +33,48 @@
 
 package open.commons.springframework4.dao;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
@@ -57,9 +85,13 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
 import org.springframework.jdbc.datasource.ConnectionProxy;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.jdbc.support.nativejdbc.NativeJdbcExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import open.commons.Result;
 import open.commons.annotation.ColumnDef;
@@ -70,6 +102,38 @@ import open.commons.database.IConnectionCallbackSetter;
 import open.commons.function.SQLBiFunction;
 import open.commons.function.SQLConsumer;
 import open.commons.function.SQLFunction;
+import open.commons.springframework4.dao.bulk.BatchUpdateReport;
+import open.commons.springframework4.dao.cache.EntityCache;
+import open.commons.springframework4.dao.cache.EntityCaches;
+import open.commons.springframework4.dao.concurrent.ConnectionGate;
+import open.commons.springframework4.dao.concurrent.ConnectionLanes;
+import open.commons.springframework4.dao.concurrent.DaoExecutors;
+import open.commons.springframework4.dao.concurrent.Deadline;
+import open.commons.springframework4.dao.concurrent.SingleFlight;
+import open.commons.springframework4.dao.export.ExportColumns;
+import open.commons.springframework4.dao.export.ExportFormat;
+import open.commons.springframework4.dao.export.ExportHandler;
+import open.commons.springframework4.dao.loader.BatchLoader;
+import open.commons.springframework4.dao.lob.LobStreams;
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.named.InListQuery;
+import open.commons.springframework4.dao.named.NamedQuery;
+import open.commons.springframework4.dao.resilience.AdaptiveConcurrencyLimiter;
+import open.commons.springframework4.dao.resilience.CircuitBreaker;
+import open.commons.springframework4.dao.resilience.CircuitBreakerOpenException;
+import open.commons.springframework4.dao.resilience.LoadShedder;
+import open.commons.springframework4.dao.resilience.LoadSheddingException;
+import open.commons.springframework4.dao.resilience.RetryPolicy;
+import open.commons.springframework4.dao.resilience.SQLExceptionUtils;
+import open.commons.springframework4.dao.shard.ConsistentHashRouter;
+import open.commons.springframework4.dao.spill.RowCodec;
+import open.commons.springframework4.dao.spill.SpillableList;
+import open.commons.springframework4.dao.trace.Span;
+import open.commons.springframework4.dao.trace.SpanContext;
+import open.commons.springframework4.dao.trace.TraceContext;
+import open.commons.springframework4.dao.trace.Tracer;
+import open.commons.springframework4.dao.workload.WorkloadRecorder;
+import open.commons.springframework4.dao.workload.WorkloadReplayer;
 import open.commons.utils.AssertUtils;
 import open.commons.utils.SQLUtils;
 
@@ -84,15 +148,15 @@ import open.commons.utils.SQLUtils;
  * <pre>
  * static final Function<QueryParamObj, SQLConsumer<PreparedStatement>> PROVIDER = param -> pstmt -> {
  *     pstmt.setString(1, param.getName());
- *     pstmt.setString(1, param.getCost());
- *     pstmt.setString(1, param.getDate());
+ *     pstmt.setString(2, param.getCost());
+ *     pstmt.setString(3, param.getDate());
  * };
  * 
  * static SQLConsumer<PreparedStatement> create(QueryParamObj param) {
  *     return pstmt -> {
  *         pstmt.setString(1, param.getName());
- *         pstmt.setString(1, param.getCost());
- *         pstmt.setString(1, param.getDate());
+ *         pstmt.setString(2, param.getCost());
+ *         pstmt.setString(3, param.getDate());
  *     };
  * }
  * 
@@ -135,6 +199,87 @@ public abstract class AbstractGenericDao implements IGenericDao {
     protected JdbcTemplate jdbcTemplate;
 
     private final ConcurrentSkipListMap<String, SQLBiFunction<ResultSet, Integer, ?>> CREATORS = new ConcurrentSkipListMap<>();
+    /** 쿼리 - 쿼리 이름. {@link #getQuery(String)}를 통해서 제공된 쿼리 정보 */
+    private final ConcurrentHashMap<String, String> QUERY_NAMES = new ConcurrentHashMap<>();
+    /** 쿼리 이름 - 쿼리 실행 설정. {@link QuerySource}가 파일을 다시 읽었거나 {@link #clearQueryCache()} 호출시 초기화된다. */
+    private final ConcurrentHashMap<String, Optional<QueryOptions>> queryOptions = new ConcurrentHashMap<>();
+    /** {@link #queryOptions}를 생성할 때의 {@link QuerySource#getGeneration()} */
+    private volatile long queryOptionsGeneration = -1;
+    /** 쿼리 정보 파일에 정의되지 않은 설정값. 'useCodeAsDefaultMessage'가 설정된 경우 설정 항목 이름이 반환되므로 구분하기 위해서 사용한다. */
+    private static final String UNDEFINED_PROPERTY = AbstractGenericDao.class.getName() + ".UNDEFINED_PROPERTY";
+
+    /** DAO 동작 상태 정보 */
+    protected final DaoMetrics metrics = new DaoMetrics();
+
+    /** 조회 결과 개수 기반 fetch size 자동 조정 여부 */
+    private boolean adaptiveFetchSize = false;
+    private final FetchSizeEstimator fetchSizeEstimator = new FetchSizeEstimator(metrics);
+
+    /** {@link Connection} 반환시 닫히지 않은 자원의 생성 위치 기록 여부 */
+    private boolean resourceLeakDebug = false;
+
+    /** {@link DataSource} 장애시 요청을 즉시 거부하는 객체. (nullable) */
+    private CircuitBreaker circuitBreaker;
+    /** 동시 실행 요청 개수를 제한하는 객체. (nullable) */
+    private LoadShedder loadShedder;
+    /** 일시적인 오류 발생시 재시도 기준. (nullable) */
+    private RetryPolicy retryPolicy;
+    /** {@link Connection} 할당 개수를 제한하는 객체. (nullable) */
+    private ConnectionGate connectionGate;
+    /** 요청 종류(lane)별로 {@link Connection} 할당 개수를 제한하는 객체. (nullable) */
+    private ConnectionLanes connectionLanes;
+    /** 실행 시간에 따라 동시 실행 요청 개수 제한을 조정하는 객체. (nullable) */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    /** 기본 {@link DataSource}의 요청 허가 객체. 설정이 변경된 경우 <code>null</code> */
+    private volatile Guards defaultGuards;
+    /** shard {@link DataSource} - 요청 허가 객체. 설정된 객체와 같은 설정으로 shard 마다 생성한다. */
+    private final ConcurrentHashMap<DataSource, Guards> shardGuards = new ConcurrentHashMap<>();
+
+    /** 비동기 요청 처리 객체 */
+    private ExecutorService asyncExecutor;
+    /** {@link #asyncExecutor}를 직접 생성했는지 여부 */
+    private boolean asyncExecutorOwned;
+
+    /** shard 이름 - {@link DataSource}. (nullable) */
+    private Map<String, DataSource> shards;
+    private ConsistentHashRouter shardRouter;
+    private int shardVirtualNodes = 160;
+    /** 모든 shard에 요청하는 경우 응답 대기 시간 (단위: ms) */
+    private long scatterTimeout = 10000;
+    private boolean scatterPartialResults = false;
+    private ExecutorService scatterExecutor;
+    /** {@link #scatterExecutor}를 직접 생성했는지 여부 */
+    private boolean scatterExecutorOwned;
+
+    /** 실행 쿼리 기록 객체. (nullable) */
+    private WorkloadRecorder workloadRecorder;
+
+    /** 쿼리 실행 추적 객체. (nullable) */
+    private Tracer tracer;
+
+    /** 키 컬럼 값으로 조회한 엔티티 보관 객체. (nullable) */
+    private EntityCaches entityCaches;
+
+    /** 동시에 실행되는 동일한 조회 요청 병합 객체. (nullable) */
+    private SingleFlight singleFlight;
+
+    /** 목록 파라미터를 사용하는 쿼리 1개의 최대 파라미터 개수 */
+    private int inListMaxParameters = 1000;
+    /** 나누어진 목록 파라미터 조회 쿼리 동시 실행 여부 */
+    private boolean inListParallel = false;
+
+    /** 실패를 격리하여 실행하는 다중 쿼리 요청에서 savepoint 1개로 실행할 요청쿼리 개수 */
+    private int isolatedUpdateChunkSize = 64;
+
+    /** 작업 단위 1개에서 보관할 {@link PreparedStatement} 최대 개수 */
+    private int unitOfWorkStatementCacheSize = 64;
+
+    /** 임시 파일에 저장하는 조회 결과에서 힙에 보관할 최대 데이터 개수 */
+    private int spillThreshold = 100000;
+    /** 임시 파일에 저장한 조회 결과에서 보관할 최근 조회 데이터 개수 */
+    private int spillCacheSize = 256;
+    /** 조회 결과를 저장할 임시 파일 생성 디렉토리. (nullable) */
+    private File spillDirectory;
 
     /**
      * <br>
@@ -159,17 +304,274 @@ public abstract class AbstractGenericDao implements IGenericDao {
     public void afterPropertiesSet() throws Exception {
         AssertUtils.assertNull("DataSource MUST NOT BE null", this.dataSource);
         AssertUtils.assertNull("QuerySource Source MUST NOT BE null", this.querySource);
+
+        if (this.shards != null && this.scatterExecutor == null) {
+            this.scatterExecutor = newScatterExecutor(this.shards.size());
+            this.scatterExecutorOwned = true;
+        }
+
+        if (this.asyncExecutor == null) {
+            int threads = this.connectionGate != null ? this.connectionGate.getPermits() : Runtime.getRuntime().availableProcessors() * 2;
+            this.asyncExecutor = DaoExecutors.newExecutor("dao-async", threads);
+            this.asyncExecutorOwned = true;
+        }
+    }
+
+    /**
+     * 요청을 다른 쓰레드에서 실행한다. <br>
+     * Java 21 이상에서는 요청마다 가상 쓰레드에서 실행되며, 실제 DBMS 동시 요청 개수는 {@link #setConnectionGate(ConnectionGate)}로 제한한다.
+     * 
+     * <pre>
+     * public CompletableFuture&lt;Result&lt;List&lt;Plant&gt;&gt;&gt; getPlantsAsync(String region) {
+     *     return async(() -&gt; getList(query, pstmt -&gt; pstmt.setString(1, region), Plant.class));
+     * }
+     * </pre>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			요청 처리 기한 전달 추가
+     * </pre>
+     *
+     * @param task
+     *            요청 처리 객체
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see DaoExecutors
+     */
+    protected <R> CompletableFuture<R> async(Supplier<R> task) {
+        SpanContext parent = TraceContext.current();
+        Deadline deadline = Deadline.current();
+        return CompletableFuture.supplyAsync(() -> {
+            try (TraceContext.Scope scope = TraceContext.attach(parent); Deadline.Scope deadlineScope = Deadline.attach(deadline)) {
+                return task.get();
+            }
+        }, this.asyncExecutor);
+    }
+
+    /**
+     * {@link AdaptiveConcurrencyLimiter}를 제공한다. 설정되지 않았거나, 현재 쓰레드가 이미 {@link Connection}을 할당받은 경우(트랜잭션 참여) <code>null</code>을
+     * 반환한다.
+     */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter(AdaptiveConcurrencyLimiter limiter, QueryOptions options) throws SQLException {
+        if (limiter == null || TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+            return null;
+        }
+        return limiter;
+    }
+
+    /**
+     * 요청 처리 기한을 제공한다. 실행 설정에 없는 경우 현재 쓰레드에 설정된 기한을 사용한다.
+     */
+    private Deadline deadline(QueryOptions options) {
+        Deadline deadline = options != null ? options.getDeadline() : null;
+        return deadline != null ? deadline : Deadline.current();
+    }
+
+    /**
+     * 요청을 처리할 {@link DataSource}의 요청 허가 객체를 제공한다. shard는 설정된 객체와 같은 설정으로 shard 마다 생성한 객체를 사용하여, 장애가 발생하거나 느려진
+     * shard가 다른 shard의 요청을 거부하거나 지연시키지 않도록 한다.
+     */
+    private Guards guards(QueryOptions options) throws SQLException {
+        DataSource dataSource = resolveDataSource(options);
+        if (dataSource == getDataSource()) {
+            Guards guards = this.defaultGuards;
+            if (guards == null) {
+                guards = new Guards(this.loadShedder, this.connectionLanes, this.connectionGate, this.concurrencyLimiter, this.circuitBreaker);
+                this.defaultGuards = guards;
+            }
+            return guards;
+        }
+
+        return this.shardGuards.computeIfAbsent(dataSource, ds -> {
+            String name = ds.toString();
+            for (Map.Entry<String, DataSource> shard : this.shards.entrySet()) {
+                if (shard.getValue() == ds) {
+                    name = shard.getKey();
+                    break;
+                }
+            }
+
+            return new Guards(this.loadShedder != null ? this.loadShedder.copy() : null //
+                    , this.connectionLanes != null ? this.connectionLanes.copy() : null //
+                    , this.connectionGate != null ? this.connectionGate.copy() : null //
+                    , this.concurrencyLimiter != null ? this.concurrencyLimiter.copy() : null //
+                    , this.circuitBreaker != null ? this.circuitBreaker.copy(name) : null);
+        });
+    }
+
+    /**
+     * {@link ConnectionLanes} 허가를 받는다. 설정되지 않았거나, 현재 쓰레드가 이미 {@link Connection}을 할당받은 경우(트랜잭션 참여) <code>null</code>을 반환한다.
+     */
+    private ConnectionLanes.Lane acquireLane(ConnectionLanes lanes, String queryName, QueryOptions options) throws SQLException {
+        if (lanes == null || TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+            return null;
+        }
+
+        QueryOptions effective = QueryOptions.merge(options, getQueryOptions(queryName));
+        return lanes.acquire(effective != null ? effective.getLane() : null);
+    }
+
+    /**
+     * {@link ConnectionGate} 허가를 받는다. 설정되지 않았거나, 현재 쓰레드가 이미 {@link Connection}을 할당받은 경우(트랜잭션 참여) <code>null</code>을 반환한다.
+     */
+    private ConnectionGate acquireGate(ConnectionGate gate, QueryOptions options) throws SQLException {
+        if (gate == null || TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+            return null;
+        }
+
+        gate.acquire();
+        return gate;
+    }
+
+    /**
+     * 쿼리 정보 파일을 다시 읽도록 보관된 쿼리 정보와 쿼리 실행 설정을 제거한다. <br>
+     * 쿼리 정보 객체가 {@link QuerySource}가 아닌 경우 파일이 변경되었는지 확인할 수 없으므로, 쿼리 정보 파일을 변경한 후 이 메소드를 호출한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see ReloadableResourceBundleMessageSource#clearCache()
+     */
+    public void clearQueryCache() {
+        this.querySource.clearCache();
+        this.queryOptions.clear();
+    }
+
+
+    /**
+     * 조회 결과 첫번째 행의 BLOB 컬럼 데이터를 파일로 복사한다. <br>
+     * 데이터 전체를 메모리에 읽지 않고 {@link LobStreams#DEFAULT_BUFFER_SIZE} 크기의 버퍼를 이용하여 복사한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param column
+     *            BLOB 컬럼 이름
+     * @param target
+     *            저장할 파일. 파일이 존재하는 경우 덮어쓴다.
+     * @return 복사한 데이터 크기 (단위: byte). 값이 <code>NULL</code>인 경우 -1
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RowCursor#copyBlob(int, Path)
+     */
+    public Result<Long> copyBlob(String query, SQLConsumer<PreparedStatement> setter, String column, Path target) {
+        return copyBlob(query, setter, column, (cursor, index) -> cursor.copyBlob(index, target));
+    }
+
+    /**
+     * 조회 결과 첫번째 행의 BLOB 컬럼 데이터를 채널로 복사한다. <br>
+     * 데이터 전체를 메모리에 읽지 않고 {@link LobStreams#DEFAULT_BUFFER_SIZE} 크기의 버퍼를 이용하여 복사한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param column
+     *            BLOB 컬럼 이름
+     * @param target
+     *            대상 채널. 복사 후 닫지 않는다.
+     * @return 복사한 데이터 크기 (단위: byte). 값이 <code>NULL</code>인 경우 -1
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RowCursor#copyBlob(int, WritableByteChannel)
+     */
+    public Result<Long> copyBlob(String query, SQLConsumer<PreparedStatement> setter, String column, WritableByteChannel target) {
+        return copyBlob(query, setter, column, (cursor, index) -> cursor.copyBlob(index, target));
+    }
+
+    private Result<Long> copyBlob(String query, SQLConsumer<PreparedStatement> setter, String column, SQLBiFunction<RowCursor, Integer, Long> copier) {
+
+        Result<Long> result = new Result<>();
+
+        long[] copied = { 0 };
+        try {
+            long rows = executeScan(new DefaultConCallbackBroker2(query, setter), new QueryOptions().maxRows(1), new RowCursorHandler() {
+                int index;
+
+                @Override
+                public void begin(RowCursor cursor) throws SQLException {
+                    index = cursor.indexOf(column);
+                }
+
+                @Override
+                public void handle(RowCursor cursor) throws SQLException {
+                    copied[0] = copier.apply(cursor, index);
+                }
+            });
+
+            if (rows < 1) {
+                result.setMessage("No data found. query=" + query);
+            } else {
+                result.andTrue().setData(copied[0]);
+            }
+        } catch (SQLException e) {
+            logger.warn(e.getMessage(), e);
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 재시도 횟수를 전체 및 쿼리 이름별로 기록한다.
+     */
+    private void countRetry(String metric, String queryName) {
+        metrics.counter(metric).increment();
+        if (queryName != null) {
+            metrics.counter(metric + "." + queryName).increment();
+        }
     }
 
-    private <T> List<T> createObject(ResultSet rs, Class<T> entity, String... columns) throws SQLException {
+    private <T> List<T> createObject(String queryName, ResultSet rs, Class<T> entity, String... columns) throws SQLException {
 
         SQLBiFunction<ResultSet, Integer, T> creator = findCreator(entity, columns);
 
-        List<T> l = new ArrayList<>();
+        List<T> l = this.adaptiveFetchSize ? new ArrayList<>(fetchSizeEstimator.getInitialCapacity(queryName)) : new ArrayList<>();
         int i = 1;
         while (rs.next()) {
             l.add(creator.apply(rs, i++));
         }
+
+        if (this.adaptiveFetchSize) {
+            fetchSizeEstimator.record(queryName, l.size(), rs.getFetchSize());
+        }
+
         return l;
     }
 
@@ -178,6 +580,12 @@ public abstract class AbstractGenericDao implements IGenericDao {
      */
     @Override
     public void destroy() throws Exception {
+        if (this.scatterExecutorOwned && this.scatterExecutor != null) {
+            this.scatterExecutor.shutdownNow();
+        }
+        if (this.asyncExecutorOwned && this.asyncExecutor != null) {
+            this.asyncExecutor.shutdown();
+        }
     }
 
     /**
@@ -199,24 +607,275 @@ public abstract class AbstractGenericDao implements IGenericDao {
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
     private <T> T execute(SQLFunction<Connection, T> act) throws SQLException {
+        return execute(null, null, false, act);
+    }
+
+    /**
+     * 쿼리 요청을 처리하고 결과를 제공한다. <br>
+     * 멱등성이 보장된 요청은 일시적인 오류가 발생한 경우 {@link RetryPolicy}에 따라 재시도한다. 단, 외부 트랜잭션에 참여 중인 경우에는 재시도하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			요청 처리 기한 이후 재시도 중단
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리. 쿼리 정보 파일에 정의된 설정을 확인하기 위해서 사용한다. (nullable)
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param idempotent
+     *            실행 설정에 멱등성 여부가 없는 경우 사용할 기본값
+     * @param act
+     *            {@link Connection}을 전달받아 요청쿼리를 처리하는 객체
+     * @return 쿼리처리 결과.
+     * @throws SQLException
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <T> T execute(String query, QueryOptions options, boolean idempotent, SQLFunction<Connection, T> act) throws SQLException {
+        String queryName = getQueryName(query);
+        QueryOptions effective = QueryOptions.merge(options, getQueryOptions(queryName));
+
+        RetryPolicy policy = effective != null && effective.getRetryPolicy() != null ? effective.getRetryPolicy() : this.retryPolicy;
+        if (effective != null && effective.getIdempotent() != null) {
+            idempotent = effective.getIdempotent();
+        }
+
+        if (policy == null || !idempotent || TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+            return executeOnce(queryName, options, null, act);
+        }
+
+        int maxAttempts = effective != null && effective.getMaxAttempts() != null ? effective.getMaxAttempts() : policy.getMaxAttempts();
+        long deadline = System.nanoTime() + policy.getMaxElapsedNanos();
+        Deadline callDeadline = deadline(options);
+        if (callDeadline != null) {
+            // 요청 처리 기한 이후에는 재시도하지 않는다.
+            deadline = Math.min(deadline, System.nanoTime() + callDeadline.remainingNanos());
+        }
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                T r = executeOnce(queryName, options, null, act);
+                if (attempt > 1) {
+                    countRetry("retry.recovered", queryName);
+                }
+                return r;
+            } catch (SQLException e) {
+                if (attempt >= maxAttempts || !policy.isRetryable(e)) {
+                    if (attempt > 1) {
+                        countRetry("retry.exhausted", queryName);
+                    }
+                    throw e;
+                }
+
+                long backoff = policy.backoff(attempt);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff) >= deadline) {
+                    countRetry("retry.exhausted", queryName);
+                    throw e;
+                }
+
+                countRetry("retry.attempts", queryName);
+                logger.info("Retry query. name={}, attempt={}/{}, backoff={}ms, cause={}", queryName, attempt + 1, maxAttempts, backoff, e.getMessage());
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link AdaptiveConcurrencyLimiter}, {@link CircuitBreaker} 허가를 받아 실행하고 실행 결과를 반영한다. {@link Connection} 할당 대기 이후에 호출하고, 조회 결과
+     * 처리 시간(<code>handlerNanos</code>)은 제외하여 DBMS 실행 시간만 반영되도록 한다.
+     */
+    private <T> T executeLimited(QueryOptions options, Guards guards, long[] handlerNanos, SQLFunction<Connection, T> act) throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiter(guards.concurrencyLimiter, options);
+        CircuitBreaker breaker = guards.circuitBreaker;
+        long limit = limiter != null ? limiter.acquire() : 0;
+        boolean dropped = false;
+        boolean executed = true;
+        try {
+            if (breaker == null) {
+                return doExecute(options, act);
+            }
 
-        Connection con = DataSourceUtils.getConnection(getDataSource());
+            long permit = breaker.acquire();
+            long started = System.nanoTime();
+            boolean failure = true;
+            try {
+                T r = doExecute(options, act);
+                failure = false;
+                return r;
+            } catch (SQLException e) {
+                // 요청 데이터/쿼리 오류는 DBMS가 정상 응답한 것으로 판단한다.
+                failure = !SQLExceptionUtils.isClientError(e);
+                throw e;
+            } finally {
+                breaker.onResult(permit, System.nanoTime() - started - (handlerNanos != null ? handlerNanos[0] : 0), failure);
+            }
+        } catch (SQLException e) {
+            // 요청 데이터/쿼리 오류는 DBMS 과부하로 판단하지 않으며, 실행 전에 거부된 요청은 실행 시간을 반영하지 않는다.
+            executed = !(e instanceof CircuitBreakerOpenException);
+            dropped = executed && !SQLExceptionUtils.isClientError(e);
+            throw e;
+        } finally {
+            if (limiter != null && executed) {
+                // 허가 시각을 조회 결과 처리 시간만큼 늦추어 실행 시간에서 제외한다.
+                limiter.release(limit + (handlerNanos != null ? handlerNanos[0] : 0), dropped);
+            } else if (limiter != null) {
+                limiter.cancel();
+            }
+        }
+    }
+
+    /**
+     * 쿼리 요청을 처리하고 결과를 제공한다. <br>
+     * 설정된 경우 {@link LoadShedder}, {@link ConnectionLanes}, {@link ConnectionGate}, {@link AdaptiveConcurrencyLimiter}, {@link CircuitBreaker} 허가를
+     * 받은 후 실행하며, 실행 결과를 {@link AdaptiveConcurrencyLimiter}, {@link CircuitBreaker}에 반영한다. <br>
+     * 재시도하는 경우 실행할 때마다 {@link Span}이 생성된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			실행 추적 추가
+     * 2026. 10. 19.		박준홍			Connection 할당 개수 제한 추가
+     * 2026. 10. 19.		박준홍			동시 실행 개수 자동 조정 추가
+     * 2026. 10. 19.		박준홍			lane별 Connection 할당 개수 제한 추가
+     * 2026. 10. 19.		박준홍			요청 처리 기한 확인 추가
+     * 2026. 10. 19.		박준홍			Connection 할당 대기 이후 동시 실행 허가를 받도록 변경
+     * 2026. 10. 19.		박준홍			shard별 요청 허가 객체 적용
+     * 2026. 10. 19.		박준홍			조회 결과 처리 시간을 실행 시간에서 제외
+     * </pre>
+     *
+     * @param queryName
+     *            쿼리 이름. (nullable)
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param handlerNanos
+     *            <code>act</code>가 조회 결과를 처리하는데 사용한 시간(단위: ns)을 기록하는 배열. {@link AdaptiveConcurrencyLimiter},
+     *            {@link CircuitBreaker}에 반영할 실행 시간에서 제외한다. (nullable)
+     * @param act
+     *            {@link Connection}을 전달받아 요청쿼리를 처리하는 객체
+     * @return 쿼리처리 결과.
+     * @throws SQLException
+     *             요청이 거부된 경우 {@link LoadSheddingException}, {@link CircuitBreakerOpenException}, 요청 처리 기한이 지난 경우
+     *             {@link SQLTimeoutException}
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <T> T executeOnce(String queryName, QueryOptions options, long[] handlerNanos, SQLFunction<Connection, T> act) throws SQLException {
+        Guards guards = guards(options);
+        LoadShedder shedder = guards.loadShedder;
+        ConnectionLanes lanes = guards.connectionLanes;
+
+        Span span = startSpan("dao.execute", queryName);
+        try {
+            // 결과를 기다리지 않는 요청은 Connection을 할당받지 않는다.
+            Deadline deadline = deadline(options);
+            if (deadline != null && deadline.isExpired()) {
+                metrics.counter("deadline.exceeded").increment();
+                throw new SQLTimeoutException("Deadline exceeded before execution. query=" + queryName + ", deadline=" + deadline);
+            }
+
+            if (shedder != null) {
+                shedder.acquire();
+            }
+
+            try {
+                // 허가 대기 시간이 실행 시간에 포함되지 않도록 AdaptiveConcurrencyLimiter, CircuitBreaker보다 먼저 대기한다.
+                ConnectionLanes.Lane lane = acquireLane(lanes, queryName, options);
+                try {
+                    ConnectionGate gate = acquireGate(guards.connectionGate, options);
+                    try {
+                        return executeLimited(options, guards, handlerNanos, act);
+                    } finally {
+                        if (gate != null) {
+                            gate.release();
+                        }
+                    }
+                } finally {
+                    if (lane != null) {
+                        lanes.release(lane);
+                    }
+                }
+            } finally {
+                if (shedder != null) {
+                    shedder.release();
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            span.setError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * {@link Connection}을 할당받아 쿼리 요청을 처리하고 결과를 제공한다. <br>
+     * 진행 중인 트랜잭션(작업 단위 포함)에 참여하는 경우에는 commit/rollback 하지 않으며, 오류가 발생한 경우 트랜잭션을 rollback-only로 표시한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard 선택 적용
+     * 2026. 10. 19.		박준홍			닫히지 않은 Statement/ResultSet 정리 추가
+     * 2026. 10. 19.		박준홍			트랜잭션 참여시 commit/rollback 생략
+     * 2026. 10. 19.		박준홍			요청 처리 기한 감시 해제 추가
+     * </pre>
+     *
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param act
+     *            {@link Connection}을 전달받아 요청쿼리를 처리하는 객체
+     * @return 쿼리처리 결과.
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <T> T doExecute(QueryOptions options, SQLFunction<Connection, T> act) throws SQLException {
+
+        DataSource dataSource = resolveDataSource(options);
+        Connection con = DataSourceUtils.getConnection(dataSource);
         Connection conToWork = null;
+        ResourceTracker tracker = null;
+        CloseSuppressingInvocationHandler handler = null;
+        boolean transactional = DataSourceUtils.isConnectionTransactional(con, dataSource);
 
         JdbcTemplate jdbcTemplate = getJdbcTemplate();
         NativeJdbcExtractor nativeJdbcExtractor = jdbcTemplate.getNativeJdbcExtractor();
 
         try {
-            con.setAutoCommit(false);
+            if (!transactional) {
+                con.setAutoCommit(false);
+            }
 
             if (nativeJdbcExtractor != null) {
                 conToWork = nativeJdbcExtractor.getNativeConnection(con);
             } else {
-                conToWork = (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[] { ConnectionProxy.class },
-                        new CloseSuppressingInvocationHandler(con, jdbcTemplate));
+                tracker = new ResourceTracker(this.resourceLeakDebug);
+                handler = new CloseSuppressingInvocationHandler(con, dataSource, jdbcTemplate, options, tracker);
+                conToWork = (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[] { ConnectionProxy.class }, handler);
             }
 
-            conToWork.setAutoCommit(false);
+            if (!transactional) {
+                conToWork.setAutoCommit(false);
+            }
             T r = act.apply(conToWork);
 
             return r;
@@ -224,9 +883,17 @@ public abstract class AbstractGenericDao implements IGenericDao {
         } catch (SQLException e) {
             logger.warn("Fail to execute query.", e);
 
-            try {
-                con.rollback();
-            } catch (SQLException ignored) {
+            if (transactional) {
+                // 트랜잭션 완료 여부는 트랜잭션을 시작한 곳에서 결정한다.
+                Object holder = TransactionSynchronizationManager.getResource(dataSource);
+                if (holder instanceof ConnectionHolder) {
+                    ((ConnectionHolder) holder).setRollbackOnly();
+                }
+            } else {
+                try {
+                    con.rollback();
+                } catch (SQLException ignored) {
+                }
             }
 
             StringBuffer msg = new StringBuffer();
@@ -238,9 +905,22 @@ public abstract class AbstractGenericDao implements IGenericDao {
             DataAccessException dae = jdbcTemplate.getExceptionTranslator().translate("ConnectionCallback", msg.toString(), e);
             throw new SQLException(dae.getMessage(), dae);
         } finally {
-            try {
-                if (con != null) {
-                    con.commit();
+            if (handler != null) {
+                handler.releaseDeadlines();
+            }
+            if (tracker != null) {
+                int[] leaked = tracker.closeAll();
+                if (leaked[0] > 0) {
+                    metrics.counter("jdbc.leaked.statements").add(leaked[0]);
+                }
+                if (leaked[1] > 0) {
+                    metrics.counter("jdbc.leaked.resultSets").add(leaked[1]);
+                }
+            }
+
+            try {
+                if (con != null && !transactional) {
+                    con.commit();
                 }
             } catch (SQLException ignored) {
             }
@@ -253,159 +933,2762 @@ public abstract class AbstractGenericDao implements IGenericDao {
     }
 
     /**
-     * 요청쿼리를 실행하고 결과를 제공한다. <br>
+     * 1개의 {@link Connection}과 트랜잭션으로 여러 DAO 요청을 처리한다. <br>
+     * <code>callback</code> 안에서 같은 {@link DataSource}를 사용하는 모든 DAO 요청(다른 DAO 객체 포함)은 같은 {@link Connection}을 사용하며, 같은 쿼리의
+     * {@link PreparedStatement}를 재사용한다. <br>
+     * <code>callback</code>이 정상적으로 종료되면 commit 하고, 예외가 발생하거나 실패한 DAO 요청이 있는 경우 rollback 한다. <br>
+     * 이미 진행 중인 트랜잭션(또는 작업 단위)이 있는 경우에는 해당 트랜잭션에 참여한다.
+     * 
+     * <pre>
+     * dao.doInUnitOfWork(() -&gt; {
+     *     Result&lt;Plant&gt; plant = plantDao.getObject(query, setter, Plant.class);
+     *     ...
+     *     return dao.executeUpdate(update, updateSetter).getData();
+     * });
+     * </pre>
+     * 
+     * <b>주의</b>
+     * <ul>
+     * <li>작업 단위는 요청한 쓰레드에만 적용된다. 비동기 요청, shard를 지정한 요청은 작업 단위에 포함되지 않는다.
+     * <li>작업 단위 안에서는 재시도({@link RetryPolicy}), 동일 요청 병합({@link SingleFlight})이 적용되지 않는다.
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param callback
+     *            DAO 요청을 처리하는 객체
+     * @return <code>callback</code> 처리 결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setUnitOfWorkStatementCacheSize(int)
+     */
+    public <R> Result<R> doInUnitOfWork(Callable<R> callback) {
+
+        Result<R> result = new Result<>();
+
+        Span span = startSpan("dao.unitOfWork", null);
+        try {
+            DataSource dataSource = getDataSource();
+            if (TransactionSynchronizationManager.hasResource(dataSource)) {
+                result.andTrue().setData(callback.call());
+                return result;
+            }
+
+            ConnectionGate gate = acquireGate(guards(null).connectionGate, null);
+            try {
+                UnitOfWork unitOfWork = new UnitOfWork(dataSource.getConnection(), this.unitOfWorkStatementCacheSize, this.metrics);
+                result.andTrue().setData(unitOfWork.execute(dataSource, callback));
+            } finally {
+                if (gate != null) {
+                    gate.release();
+                }
+            }
+        } catch (Exception e) {
+            span.setError(e);
+            logger.warn(e.getMessage(), e);
+            result.setMessage(e.getMessage());
+        } finally {
+            span.end();
+        }
+
+        return result;
+    }
+
+    /**
+     * 요청쿼리를 실행하고 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			실행 추적 추가
+     * 2026. 10. 19.		박준홍			Statement, ResultSet 닫기 추가
+     * </pre>
+     *
+     * @param broker
+     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
+     * @param entity
+     *            요청쿼리 처리 결과 데이타 모델
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과.
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @throws SQLException
+     * 
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * @see {@link ColumnDef}
+     */
+    private <T> List<T> executeQuery(ConnectionCallbackBroker broker, Class<T> entity, String... columns) throws SQLException {
+        Span span = startSpan("dao.executeQuery", getQueryName(broker.getQuery()));
+        try {
+            List<T> list = execute(broker.getQuery(), null, true, con -> {
+                try (PreparedStatement pstmt = con.prepareStatement(broker.getQuery())) {
+                    IConnectionCallbackSetter setter = broker.getSetter();
+                    if (setter != null) {
+                        setter.set(pstmt);
+                    }
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        return createObject(getQueryName(broker.getQuery()), rs, entity, columns);
+                    }
+                }
+            });
+            span.setAttribute(Span.ROWS, list.size());
+            return list;
+        } catch (SQLException | RuntimeException e) {
+            span.setError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * 요청쿼리를 실행하고 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2019. 3. 28.     박준홍         최초 작성
+     * </pre>
+     *
+     * @param broker
+     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
+     * @param entity
+     *            요청쿼리 처리 결과 데이타 모델
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과.
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     * @throws SQLException
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <S, T> List<T> executeQuery(ConnectionCallbackBroker2<S> broker, Class<T> entity, String... columns) throws SQLException {
+        return executeQuery(broker, null, entity, columns);
+    }
+
+    /**
+     * 요청쿼리를 실행하고 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 19.     박준홍         최초 작성
+     * 2026. 10. 19.     박준홍         실행 추적 추가
+     * 2026. 10. 19.     박준홍         Statement, ResultSet 닫기 추가
+     * </pre>
+     *
+     * @param broker
+     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param entity
+     *            요청쿼리 처리 결과 데이타 모델
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과.
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     * @throws SQLException
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <S, T> List<T> executeQuery(ConnectionCallbackBroker2<S> broker, QueryOptions options, Class<T> entity, String... columns) throws SQLException {
+        Span span = startSpan("dao.executeQuery", getQueryName(broker.getQuery()));
+        try {
+            List<T> list = execute(broker.getQuery(), options, true, con -> {
+                try (PreparedStatement pstmt = con.prepareStatement(broker.getQuery())) {
+                    broker.set(pstmt);
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        return createObject(getQueryName(broker.getQuery()), rs, entity, columns);
+                    }
+                }
+            });
+            span.setAttribute(Span.ROWS, list.size());
+            return list;
+        } catch (SQLException | RuntimeException e) {
+            span.setError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * 요청쿼리를 실행하고 조회 결과를 행 단위로 전달한다. <br>
+     * 전달한 행은 되돌릴 수 없으므로 쿼리 정보 파일에 멱등성({@link QueryOptions#IDEMPOTENT})이 설정된 경우에도 재시도하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			조회 종료 설정 추가
+     * 2026. 10. 19.		박준홍			재시도하지 않도록 수정
+     * 2026. 10. 19.		박준홍			조회 결과 처리 시간을 실행 시간에서 제외
+     * </pre>
+     *
+     * @param broker
+     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param handler
+     *            조회 결과 처리 객체
+     * @return 처리한 행 개수
+     * @throws SQLException
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private <S> long executeScan(ConnectionCallbackBroker2<S> broker, QueryOptions options, RowCursorHandler handler) throws SQLException {
+        // 재시도하는 경우 handler.begin(..)부터 다시 호출되어 이미 전달한 행을 다시 전달하게 된다.
+        long[] handlerNanos = { 0 };
+        return executeOnce(getQueryName(broker.getQuery()), options, handlerNanos, con -> {
+            try (PreparedStatement pstmt = con.prepareStatement(broker.getQuery(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                broker.set(pstmt);
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    RowCursor cursor = new RowCursor(rs);
+                    try {
+                        // 행 처리(변환, 전송 등) 시간은 DBMS 실행 시간이 아니므로 따로 기록한다.
+                        long started = System.nanoTime();
+                        handler.begin(cursor);
+                        handlerNanos[0] += System.nanoTime() - started;
+                        while (cursor.next()) {
+                            started = System.nanoTime();
+                            handler.handle(cursor);
+                            handlerNanos[0] += System.nanoTime() - started;
+                        }
+                    } finally {
+                        cursor.close();
+                    }
+
+                    if (this.adaptiveFetchSize) {
+                        fetchSizeEstimator.record(getQueryName(broker.getQuery()), cursor.getRow(), rs.getFetchSize());
+                    }
+
+                    return cursor.getRow();
+                }
+            }
+        });
+    }
+
+    /**
+     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 쿼리 처리결과.
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Result<Integer> executeUpdate(ConnectionCallbackBroker... brokers) {
+        return executeUpdate(Arrays.asList(brokers));
+    }
+
+    /**
+     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<Integer> executeUpdate(ConnectionCallbackBroker2<T>... brokers) {
+        return executeUpdate((QueryOptions) null, brokers);
+    }
+
+    /**
+     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			실행 추적 추가
+     * 2026. 10. 19.		박준홍			엔티티 보관 객체 무효화 추가
+     * </pre>
+     *
+     * @param options
+     *            요청쿼리 실행 설정. 모든 요청쿼리에 적용된다. (nullable)
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setEntityCaches(List)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<Integer> executeUpdate(QueryOptions options, ConnectionCallbackBroker2<T>... brokers) {
+        return executeUpdate(options, (Runnable) null, brokers);
+    }
+
+    /**
+     * 요청쿼리를 chunk 단위로 savepoint를 설정하여 실행한다. 실패한 경우 savepoint로 되돌린 후, 실패한 요청쿼리를 제외하고 해당 chunk를 다시 실행한다. <br>
+     * 요청쿼리는 1개씩 실행되므로 실패한 요청쿼리를 바로 확인할 수 있으며, 재실행되는 요청쿼리는 같은 chunk에서 실패한 요청쿼리 이전의 요청쿼리로 한정된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			되돌린 savepoint 해제
+     * </pre>
+     *
+     * @param con
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @param chunkSize
+     *            savepoint 1개로 실행할 요청쿼리 개수
+     * @return
+     * @throws SQLException
+     *             savepoint를 설정하거나 되돌리지 못한 경우
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    static <T> BatchUpdateReport executeIsolated(Connection con, ConnectionCallbackBroker2<T>[] brokers, int chunkSize) throws SQLException {
+        int[] counts = new int[brokers.length];
+        SQLException[] errors = new SQLException[brokers.length];
+        int executions = 0;
+
+        int from = 0;
+        while (from < brokers.length) {
+            int to = Math.min(brokers.length, from + Math.max(1, chunkSize));
+
+            Savepoint savepoint = con.setSavepoint();
+            int i = from;
+            try {
+                for (; i < to; i++) {
+                    if (errors[i] != null) {
+                        continue;
+                    }
+                    executions++;
+                    counts[i] = new DefaultConnectionCallback2<T>(brokers[i]).doInConnection(con);
+                }
+
+                try {
+                    con.releaseSavepoint(savepoint);
+                } catch (SQLException ignored) {
+                    // 지원하지 않는 경우 트랜잭션 종료시 해제된다.
+                }
+                from = to;
+            } catch (SQLException e) {
+                con.rollback(savepoint);
+                try {
+                    con.releaseSavepoint(savepoint);
+                } catch (SQLException ignored) {
+                    // 지원하지 않는 경우 트랜잭션 종료시 해제된다.
+                }
+                // 되돌린 요청쿼리는 실패한 요청쿼리를 제외하고 다시 실행한다.
+                Arrays.fill(counts, from, i, 0);
+                errors[i] = e;
+            }
+        }
+
+        return new BatchUpdateReport(counts, errors, executions);
+    }
+
+    /**
+     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리하고, 변경된 엔티티를 무효화한다.
+     * 
+     * @param invalidation
+     *            엔티티 무효화 함수. <code>null</code>인 경우 쿼리가 변경하는 테이블의 엔티티를 모두 무효화한다.
+     */
+    private <T> Result<Integer> executeUpdate(QueryOptions options, Runnable invalidation, ConnectionCallbackBroker2<T>[] brokers) {
+
+        Result<Integer> result = new Result<>();
+
+        String query = brokers.length == 1 ? brokers[0].getQuery() : null;
+        Span span = startSpan("dao.executeUpdate", getQueryName(query));
+        span.setAttribute(Span.BATCH_SIZE, brokers.length);
+        try {
+            Integer updated = execute(query, options, false, con -> {
+                DefaultConnectionCallback2<T> action = null;
+                int inserted = 0;
+                for (ConnectionCallbackBroker2<T> broker : brokers) {
+                    action = new DefaultConnectionCallback2<T>(broker);
+                    inserted += action.doInConnection(con);
+                }
+
+                return inserted;
+            });
+
+            span.setAttribute(Span.ROWS, updated);
+            result.andTrue().setData(updated);
+
+            invalidateEntityCaches(invalidation != null ? invalidation : () -> {
+                for (ConnectionCallbackBroker2<T> broker : brokers) {
+                    this.entityCaches.invalidate(broker.getQuery());
+                }
+            });
+
+        } catch (Exception e) {
+            span.setError(e);
+            logger.warn(e.getMessage(), e);
+            result.setMessage(e.getMessage());
+        } finally {
+            span.end();
+        }
+
+        return result;
+    }
+
+    /**
+     * 다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			실행 추적 추가
+     * 2026. 10. 19.		박준홍			엔티티 보관 객체 무효화 추가
+     * </pre>
+     *
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 쿼리 처리결과
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Result<Integer> executeUpdate(List<ConnectionCallbackBroker> brokers) {
+
+        Result<Integer> result = new Result<>();
+
+        Span span = startSpan("dao.executeUpdate", brokers.size() == 1 ? getQueryName(brokers.get(0).getQuery()) : null);
+        span.setAttribute(Span.BATCH_SIZE, brokers.size());
+        try {
+            Integer updated = execute(con -> {
+                DefaultConnectionCallback action = null;
+                int inserted = 0;
+                for (ConnectionCallbackBroker broker : brokers) {
+                    action = new DefaultConnectionCallback(broker);
+                    inserted += action.doInConnection(con);
+                }
+                return inserted;
+            });
+
+            span.setAttribute(Span.ROWS, updated);
+            result.andTrue().setData(updated);
+
+            invalidateEntityCaches(() -> brokers.forEach(broker -> this.entityCaches.invalidate(broker.getQuery())));
+
+        } catch (Exception e) {
+            span.setError(e);
+            logger.warn(e.getMessage(), e);
+            result.setMessage(e.getMessage());
+        } finally {
+            span.end();
+        }
+
+        return result;
+    }
+
+    /**
+     * 단일 요청쿼리를 처리한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @return 쿼리 처리결과
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Result<Integer> executeUpdate(String query, IConnectionCallbackSetter setter) {
+        return executeUpdate(new ConnectionCallbackBroker(query, setter));
+    }
+
+    /**
+     * 단일 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 29.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @return 쿼리 처리결과
+     *
+     * @since 2019. 3. 29.
+     * @version _._._
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Integer> executeUpdate(String query, SQLConsumer<PreparedStatement> setter) {
+        return executeUpdate(new DefaultConCallbackBroker2(query, setter));
+    }
+
+    /**
+     * 단일 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Integer> executeUpdate(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options) {
+        return executeUpdate(options, new DefaultConCallbackBroker2(query, setter));
+    }
+
+    /**
+     * 목록 파라미터(<code>IN (:ids)</code>)를 사용하는 요청쿼리를 처리한다. <br>
+     * 목록은 {@link #setInListMaxParameters(int)} 이내의 크기로 나누어 하나의 {@link Connection}에서 순서대로 실행하며, 처리 개수는 합산하여 제공한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param listName
+     *            목록 파라미터 이름
+     * @param values
+     *            목록 파라미터 값
+     * @param param
+     *            목록 파라미터를 제외한 파라미터 객체. JavaBean 또는 {@link Map}. (nullable)
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see InListQuery
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Integer> executeUpdateByIn(String query, String listName, Collection<?> values, Object param) {
+        Result<Integer> result = new Result<>();
+        if (values == null || values.isEmpty()) {
+            result.andTrue().setData(0);
+            return result;
+        }
+
+        List<ConnectionCallbackBroker2<?>> brokers = new ArrayList<>();
+        try {
+            InListQuery in = InListQuery.parse(query, listName);
+            forEachInChunk(query, in, values, (sql, chunk, bucket) -> brokers
+                    .add(new DefaultConCallbackBroker2(sql, (SQLConsumer<PreparedStatement>) pstmt -> in.bind(pstmt, param, chunk, bucket))));
+        } catch (IllegalArgumentException e) {
+            result.setMessage(e.getMessage());
+            return result;
+        }
+
+        return executeUpdate((QueryOptions) null, brokers.toArray(new ConnectionCallbackBroker2[brokers.size()]));
+    }
+
+    /**
+     * 키 컬럼 값으로 엔티티를 변경/삭제하는 요청쿼리를 처리하고, 보관된 해당 엔티티만 무효화한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            변경되는 엔티티 타입
+     * @param key
+     *            변경되는 엔티티의 키 컬럼 값. {@link EntityCache#getKeyColumns()} 순서
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setEntityCaches(List)
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Integer> executeUpdateByKey(String query, SQLConsumer<PreparedStatement> setter, Class<?> entity, Object... key) {
+        EntityCache<?> cache = this.entityCaches != null ? this.entityCaches.get(entity) : null;
+        Runnable invalidation = cache != null //
+                ? () -> cache.invalidate(EntityCache.key(key))
+                : () -> this.entityCaches.invalidate(query);
+
+        return executeUpdate((QueryOptions) null, invalidation, new ConnectionCallbackBroker2[] { new DefaultConCallbackBroker2(query, setter) });
+    }
+
+    /**
+     * 이름 있는 파라미터(<code>:name</code>)를 사용하는 단일 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param param
+     *            파라미터 객체. JavaBean 또는 {@link Map}
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery
+     */
+    public Result<Integer> executeUpdateByNamed(String query, Object param) {
+        return executeUpdateByNamed(query, param, null);
+    }
+
+    /**
+     * 이름 있는 파라미터(<code>:name</code>)를 사용하는 단일 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param param
+     *            파라미터 객체. JavaBean 또는 {@link Map}
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery
+     */
+    public Result<Integer> executeUpdateByNamed(String query, Object param, QueryOptions options) {
+        NamedQuery named = parseNamed(query);
+        return executeUpdate(named.getSql(), pstmt -> named.bind(pstmt, param), options);
+    }
+
+    /**
+     * 다중 (Insert/Update/Delete) 쿼리 요청을 처리한다. 일부 요청쿼리가 실패하더라도 실패한 요청쿼리의 변경 내용만 취소하고, 나머지 요청쿼리의 변경 내용은 반영한다.<br>
+     * 요청쿼리를 {@link #setIsolatedUpdateChunkSize(int)} 개수 단위로 savepoint를 설정하여 실행하며, 실패한 경우 savepoint로 되돌린 후 실패한 요청쿼리를 제외하고 다시
+     * 실행한다. 따라서 실패한 요청쿼리 1개당 재실행 비용은 최대 chunk 크기이다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 요청쿼리별 처리 결과. savepoint를 지원하지 않거나 {@link Connection} 오류 등으로 처리하지 못한 경우 실패.
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<BatchUpdateReport> executeUpdateIsolated(ConnectionCallbackBroker2<T>... brokers) {
+        return executeUpdateIsolated((QueryOptions) null, brokers);
+    }
+
+    /**
+     * 다중 (Insert/Update/Delete) 쿼리 요청을 처리한다. 일부 요청쿼리가 실패하더라도 실패한 요청쿼리의 변경 내용만 취소하고, 나머지 요청쿼리의 변경 내용은 반영한다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param options
+     *            요청쿼리 실행 설정. 모든 요청쿼리에 적용된다. (nullable)
+     * @param brokers
+     *            요청쿼리 처리 객체
+     * @return 요청쿼리별 처리 결과. savepoint를 지원하지 않거나 {@link Connection} 오류 등으로 처리하지 못한 경우 실패.
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #executeUpdateIsolated(ConnectionCallbackBroker2...)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<BatchUpdateReport> executeUpdateIsolated(QueryOptions options, ConnectionCallbackBroker2<T>... brokers) {
+
+        Result<BatchUpdateReport> result = new Result<>();
+
+        Span span = startSpan("dao.executeUpdate", brokers.length == 1 ? getQueryName(brokers[0].getQuery()) : null);
+        span.setAttribute(Span.BATCH_SIZE, brokers.length);
+        try {
+            int chunkSize = this.isolatedUpdateChunkSize;
+            BatchUpdateReport report = execute(null, options, false, con -> executeIsolated(con, brokers, chunkSize));
+
+            span.setAttribute(Span.ROWS, report.getUpdated());
+            if (report.hasFailure()) {
+                metrics.counter("batchUpdate.failed").add(report.getFailed().size());
+                metrics.counter("batchUpdate.reexecuted").add(report.getExecutions() - brokers.length);
+            }
+            result.andTrue().setData(report);
+
+            invalidateEntityCaches(() -> {
+                for (ConnectionCallbackBroker2<T> broker : brokers) {
+                    this.entityCaches.invalidate(broker.getQuery());
+                }
+            });
+
+        } catch (Exception e) {
+            span.setError(e);
+            logger.warn(e.getMessage(), e);
+            result.setMessage(e.getMessage());
+        } finally {
+            span.end();
+        }
+
+        return result;
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 조회 결과를 엔티티로 변환하지 않고 바로 출력한다. <br>
+     * 행 단위로 출력하므로 결과 크기와 무관하게 일정한 메모리를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. 대량 조회시 fetch size를 설정한다. (nullable)
+     * @param format
+     *            출력 형식
+     * @param columns
+     *            출력 대상 컬럼 정보. <code>null</code>인 경우 모든 컬럼
+     * @param out
+     *            출력 대상. 출력 후 닫지 않는다.
+     * @return 출력한 행 개수
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see ExportColumns#of(Class)
+     */
+    public Result<Long> export(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, ExportFormat format, ExportColumns columns,
+            OutputStream out) {
+
+        Result<Long> result = new Result<>();
+
+        try {
+            ExportHandler handler = format.newHandler(out, columns);
+            long count = executeScan(new DefaultConCallbackBroker2(query, setter), options, handler);
+            handler.finish();
+
+            result.andTrue().setData(count);
+        } catch (SQLException | IOException e) {
+            logger.warn("Fail to export. query=" + query + ", format=" + format, e);
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 데이터 조회 결과를 Spring MVC 응답으로 바로 출력하는 객체를 제공한다. <br>
+     * 요청쿼리는 응답을 출력하는 시점에 실행된다.
+     * 
+     * <pre>
+     * &#64;GetMapping("/plants/export")
+     * public ResponseEntity&lt;StreamingResponseBody&gt; export() {
+     *     return ResponseEntity.ok() //
+     *             .contentType(MediaType.parseMediaType(ExportFormat.CSV.getContentType())) //
+     *             .body(dao.exportAsStream(query, null, new QueryOptions().fetchSize(5000), ExportFormat.CSV, ExportColumns.of(Plant.class)));
+     * }
+     * </pre>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. 대량 조회시 fetch size를 설정한다. (nullable)
+     * @param format
+     *            출력 형식
+     * @param columns
+     *            출력 대상 컬럼 정보. <code>null</code>인 경우 모든 컬럼
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #export(String, SQLConsumer, QueryOptions, ExportFormat, ExportColumns, OutputStream)
+     */
+    public StreamingResponseBody exportAsStream(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, ExportFormat format,
+            ExportColumns columns) {
+        // 응답 데이터는 요청 쓰레드가 아닌 별도의 쓰레드에서 작성된다.
+        SpanContext parent = TraceContext.current();
+        return out -> {
+            try (TraceContext.Scope scope = TraceContext.attach(parent)) {
+                Result<Long> result = export(query, setter, options, format, columns, out);
+                if (!result.getResult()) {
+                    throw new IOException(result.getMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * 데이타 타입에 맞는 객체 생성자를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param entity
+     *            쿼리처리 결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version _._._
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> SQLBiFunction<ResultSet, Integer, T> findCreator(Class<T> entity, String... columns) {
+
+        SQLBiFunction<ResultSet, Integer, T> creator = (SQLBiFunction<ResultSet, Integer, T>) CREATORS.get(entity.getName());
+
+        if (creator == null) {
+            creator = (rs, rowNum) -> {
+                return SQLUtils.newInstance(entity, rs, columns);
+            };
+            CREATORS.put(entity.getName(), creator);
+        }
+
+        return creator;
+    }
+
+    /**
+     * {@link DataSource}를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public DataSource getDataSource() {
+        return this.dataSource;
+    }
+
+    /**
+     * 조회 결과 개수 기반 fetch size 추정 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setAdaptiveFetchSize(boolean)
+     */
+    public FetchSizeEstimator getFetchSizeEstimator() {
+        return this.fetchSizeEstimator;
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.IGenericDao#getJdbcTemplate()
+     */
+    @Override
+    public JdbcTemplate getJdbcTemplate() {
+        if (this.jdbcTemplate == null) {
+            this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+        }
+
+        return this.jdbcTemplate;
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param entity
+     *            결과 데이타 타입
+     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * 
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<List<T>> getList(String query, Class<T> entity, String... columns) {
+        return getList(query, (IConnectionCallbackSetter) null, entity, columns);
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard 설정 적용
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * 
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     * 
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<List<T>> getList(String query, IConnectionCallbackSetter setter, Class<T> entity, String... columns) {
+
+        // shard 설정이 있는 경우 모든 shard에 요청한다.
+        if (isSharded()) {
+            return getList(query, setter != null ? (SQLConsumer<PreparedStatement>) setter::set : null, (QueryOptions) null, entity, columns);
+        }
+
+        Result<List<T>> result = new Result<>();
+
+        try {
+            List<T> list = executeQuery(new ConnectionCallbackBroker(query, setter), entity, columns);
+            result.andTrue().setData(list);
+        } catch (SQLException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체 <br>
+     * @param entity
+     *            결과 데이타 타입
+     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * 
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<List<T>> getList(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, String... columns) {
+        return getList(query, setter, (QueryOptions) null, entity, columns);
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체 <br>
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * 
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see QueryOptions
+     */
+    public <T> Result<List<T>> getList(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<T> entity, String... columns) {
+        return getList(query, setter, options, null, 0, entity, columns);
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 결과를 정렬하여 최대 <code>limit</code>개를 제공한다. <br>
+     * shard 설정이 있고 shard key 또는 shard 이름이 설정되지 않은 경우 모든 shard에 동시에 요청하여 결과를 병합한다. 이 때 <code>limit</code>은 각 shard의 최대
+     * 조회 개수({@link QueryOptions#maxRows(int)})로도 적용되므로, 요청쿼리의 정렬 기준과 <code>order</code>가 같아야 한다. <br>
+     * {@link #setScatterTimeout(long)} 이내에 응답하지 않은 shard의 요청은 취소되며, 그 결과는 {@link #setScatterPartialResults(boolean)} 설정에 따라
+     * 처리된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			동일 요청 병합 추가
+     * 2026. 10. 19.		박준홍			병합된 요청의 결과 대기에 요청 처리 기한 적용
+     * 2026. 10. 19.		박준홍			병합된 요청의 결과를 복사하는 중 정렬되지 않도록 수정
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체 <br>
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param order
+     *            결과 정렬 기준. (nullable)
+     * @param limit
+     *            최대 결과 개수. 0 이하인 경우 제한하지 않는다.
+     * @param entity
+     *            결과 데이타 타입
+     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * 
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setShards(Map)
+     */
+    public <T> Result<List<T>> getList(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Comparator<? super T> order, int limit,
+            Class<T> entity, String... columns) {
+
+        Result<List<T>> result = new Result<>();
+
+        if (limit > 0 && (options == null || options.getMaxRows() == null || options.getMaxRows() > limit)) {
+            options = options != null ? new QueryOptions(options).maxRows(limit) : new QueryOptions().maxRows(limit);
+        }
+
+        try {
+            List<T> list;
+            Object flightKey = singleFlightKey(query, setter, options, entity, columns);
+            if (flightKey != null) {
+                SingleFlight flight = this.singleFlight;
+                QueryOptions flightOptions = options;
+                // 결과를 기다리는 요청이 복사하는 동안 변경되지 않도록 변경할 수 없는 목록으로 완료한다.
+                list = flight.execute(flightKey, () -> Collections.unmodifiableList(queryList(query, setter, flightOptions, entity, result, columns)),
+                        ArrayList::new, deadline(options));
+
+                if (order != null && flight.isShareResults()) {
+                    list = new ArrayList<>(list);
+                }
+            } else {
+                list = queryList(query, setter, options, entity, result, columns);
+            }
+
+            if (order != null) {
+                // shard별로 정렬된 결과를 이어붙인 경우 병합(merge) 수준의 비용으로 정렬된다.
+                list.sort(order);
+            }
+            if (limit > 0 && list.size() > limit) {
+                list = new ArrayList<>(list.subList(0, limit));
+            }
+
+            result.andTrue().setData(list);
+        } catch (SQLException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 목록 파라미터(<code>IN (:ids)</code>)를 사용하는 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param listName
+     *            목록 파라미터 이름
+     * @param values
+     *            목록 파라미터 값
+     * @param param
+     *            목록 파라미터를 제외한 파라미터 객체. JavaBean 또는 {@link Map}. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see InListQuery
+     */
+    public <T> Result<List<T>> getListByIn(String query, String listName, Collection<?> values, Object param, Class<T> entity, String... columns) {
+        return getListByIn(query, listName, values, param, null, entity, columns);
+    }
+
+    /**
+     * 목록 파라미터(<code>IN (:ids)</code>)를 사용하는 데이터 조회 요청쿼리를 처리한다. <br>
+     * 목록 파라미터는 2의 거듭제곱 개수로 확장되어 목록 크기와 무관하게 적은 종류의 쿼리만 생성된다. 목록이 {@link #setInListMaxParameters(int)}를 넘는 경우 나누어
+     * 실행한 후 결과를 순서대로 이어붙이며, {@link #setInListParallel(boolean)}가 설정된 경우 동시에 실행한다. (트랜잭션에 참여한 경우 제외)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param listName
+     *            목록 파라미터 이름
+     * @param values
+     *            목록 파라미터 값
+     * @param param
+     *            목록 파라미터를 제외한 파라미터 객체. JavaBean 또는 {@link Map}. (nullable)
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see InListQuery
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<List<T>> getListByIn(String query, String listName, Collection<?> values, Object param, QueryOptions options, Class<T> entity,
+            String... columns) {
+
+        Result<List<T>> result = new Result<>();
+        if (values == null || values.isEmpty()) {
+            result.andTrue().setData(new ArrayList<>());
+            return result;
+        }
+
+        try {
+            InListQuery in = InListQuery.parse(query, listName);
+            List<Callable<List<T>>> tasks = new ArrayList<>();
+            forEachInChunk(query, in, values, (sql, chunk, bucket) -> tasks.add(() -> executeQuery(
+                    new DefaultConCallbackBroker2(sql, (SQLConsumer<PreparedStatement>) pstmt -> in.bind(pstmt, param, chunk, bucket)), options, entity, columns)));
+
+            List<T> list;
+            if (tasks.size() > 1 && this.inListParallel && !TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+                list = invokeInChunks(tasks);
+            } else {
+                list = new ArrayList<>();
+                for (Callable<List<T>> task : tasks) {
+                    list.addAll(callInChunk(task));
+                }
+            }
+
+            result.andTrue().setData(list);
+        } catch (SQLException | IllegalArgumentException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 이름 있는 파라미터(<code>:name</code>)를 사용하는 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param param
+     *            파라미터 객체. JavaBean 또는 {@link Map}
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery
+     */
+    public <T> Result<List<T>> getListByNamed(String query, Object param, Class<T> entity, String... columns) {
+        return getListByNamed(query, param, null, entity, columns);
+    }
+
+    /**
+     * 이름 있는 파라미터(<code>:name</code>)를 사용하는 데이터 조회 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param param
+     *            파라미터 객체. JavaBean 또는 {@link Map}
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery
+     */
+    public <T> Result<List<T>> getListByNamed(String query, Object param, QueryOptions options, Class<T> entity, String... columns) {
+        NamedQuery named = parseNamed(query);
+        return getList(named.getSql(), pstmt -> named.bind(pstmt, param), options, entity, columns);
+    }
+
+    /**
+     * DAO 동작 상태 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public DaoMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param entity
+     *            결과 데이타 타입
+     * @param required
+     *            필수여부
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<T> getObject(String query, Class<T> entity, boolean required, String... columns) {
+        return getObject(query, null, entity, required, columns);
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param entity
+     *            결과 데이타 타입
+     * @param required
+     *            필수 여부
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<T> getObject(String query, Class<T> entity, String... columns) {
+        return getObject(query, null, entity, false, columns);
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @param required
+     *            필수 여부
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, boolean required, String... columns) {
+        return getObject(query, setter, null, entity, required, columns);
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @param required
+     *            필수 여부
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see QueryOptions
+     */
+    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<T> entity, boolean required,
+            String... columns) {
+        Result<T> result = new Result<>();
+
+        try {
+            List<T> list = executeQuery(new DefaultConCallbackBroker2(query, setter), options, entity, columns);
+
+            switch (list.size()) {
+                case 0:
+                    if (required) {
+                        throw new EmptyResultDataAccessException(1);
+                    }
+                    result.andTrue();
+                    break;
+                case 1:
+                    result.setData(list.get(0));
+                    break;
+                default:
+                    throw new IncorrectResultSizeDataAccessException(1, list.size());
+            }
+        } catch (SQLException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2019. 3. 28.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입.
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2019. 3. 28.
+     * @version 0.1.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, String... columns) {
+        return getObject(query, setter, entity, false, columns);
+    }
+
+    /**
+     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param entity
+     *            결과 데이타 타입.
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 쿼리 처리결과
+     *         <ul>
+     *         <li>&lt;T&gt; 요청받을 데이타 타입
+     *         </ul>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see QueryOptions
+     */
+    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<T> entity, String... columns) {
+        return getObject(query, setter, options, entity, false, columns);
+    }
+
+    /**
+     * 키 컬럼 값으로 엔티티 1개를 조회한다. 엔티티 보관 객체가 설정된 경우 보관된 엔티티를 먼저 확인한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param entity
+     *            결과 데이타 타입.
+     * @param key
+     *            키 컬럼 값. {@link EntityCache#getKeyColumns()} 순서
+     * @return 쿼리 처리결과
+     * @throws IllegalArgumentException
+     *             엔티티 보관 객체가 설정되지 않은 경우
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see EntityCache#getLookupQuery()
+     */
+    public <T> Result<T> getObjectByKey(Class<T> entity, Object... key) {
+        EntityCache<T> cache = this.entityCaches != null ? this.entityCaches.get(entity) : null;
+        if (cache == null) {
+            throw new IllegalArgumentException("No entity cache. entity=" + entity.getName());
+        }
+        return getObjectByKey(cache.getLookupQuery(), entity, key);
+    }
+
+    /**
+     * 키 컬럼 값으로 엔티티 1개를 조회한다. 엔티티 보관 객체가 설정된 경우 보관된 엔티티를 먼저 확인하고, 없는 경우 조회한 엔티티를 보관한다. <br>
+     * 보관된 엔티티는 다른 요청과 공유되므로 변경하지 않아야 한다. 트랜잭션에 참여한 경우에는 보관된 엔티티를 사용하지 않고 조회하며, 조회한 엔티티도 보관하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			트랜잭션 참여시 보관된 엔티티 사용 제외
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리. 키 컬럼 값을 순서대로 위치 기반 파라미터(<code>?</code>)로 사용한다.
+     * @param entity
+     *            결과 데이타 타입.
+     * @param key
+     *            키 컬럼 값. {@link EntityCache#getKeyColumns()} 순서
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #setEntityCaches(List)
+     */
+    public <T> Result<T> getObjectByKey(String query, Class<T> entity, Object... key) {
+        SQLConsumer<PreparedStatement> setter = pstmt -> {
+            for (int i = 0; i < key.length; i++) {
+                pstmt.setObject(i + 1, key[i]);
+            }
+        };
+
+        EntityCache<T> cache = this.entityCaches != null ? this.entityCaches.get(entity) : null;
+        // 트랜잭션 안에서 조회한 데이터는 commit 되지 않았을 수 있으므로 다른 쓰레드와 공유하지 않는다.
+        if (cache == null || TransactionSynchronizationManager.hasResource(getDataSource())) {
+            return getObject(query, setter, entity);
+        }
+
+        Object cacheKey = EntityCache.key(key);
+        T cached = cache.get(cacheKey);
+        if (cached != null) {
+            Result<T> result = new Result<>();
+            result.andTrue().setData(cached);
+            return result;
+        }
+
+        long version = cache.version();
+        Result<T> result = getObject(query, setter, entity);
+        if (result.getResult()) {
+            cache.put(cacheKey, result.getData(), version);
+        }
+        return result;
+    }
+
+    /**
+     * 이름 있는 파라미터(<code>:name</code>)를 사용하는 데이터 1개 요청쿼리를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 요청쿼리
+     * @param param
+     *            파라미터 객체. JavaBean 또는 {@link Map}
+     * @param entity
+     *            결과 데이타 타입.
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery
+     */
+    public <T> Result<T> getObjectByNamed(String query, Object param, Class<T> entity, String... columns) {
+        NamedQuery named = parseNamed(query);
+        return getObject(named.getSql(), pstmt -> named.bind(pstmt, param), entity, columns);
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String)
+     */
+    @Override
+    public String getQuery(String name) {
+        String query = this.querySource.getMessage(name, null, null);
+        if (query != null) {
+            QUERY_NAMES.put(query, name);
+        }
+        return query;
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String, java.lang.Object[],
+     *      java.util.Locale)
+     */
+    @Override
+    public String getQuery(String name, Object[] args, Locale locale) {
+        return this.querySource.getMessage(name, args, locale);
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String, java.lang.Object[],
+     *      java.lang.String, java.util.Locale)
+     */
+    @Override
+    public String getQuery(String name, Object[] args, String defaultMessage, Locale locale) {
+        return this.querySource.getMessage(name, args, defaultMessage, locale);
+    }
+
+    /**
+     * 쿼리 정보 파일에서 쿼리 이름에 연관된 true/false 설정값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param name
+     *            쿼리 이름
+     * @param property
+     *            설정 항목 이름
+     * @return 설정값. 정의되지 않았거나 true/false가 아닌 경우 <code>null</code>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private Boolean getQueryFlag(String name, String property) {
+        String value = getQueryOptionValue(name, property);
+        if (value == null) {
+            return null;
+        }
+
+        value = value.trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        } else {
+            logger.warn("Invalid query property. name=" + name + ", property=" + property + ", value=" + value);
+            return null;
+        }
+    }
+
+    /**
+     * 쿼리에 해당하는 쿼리 이름을 제공한다. <br>
+     * {@link #getQuery(String)}를 통해서 제공된 쿼리만 확인할 수 있으며, 동일한 쿼리가 여러 이름으로 정의된 경우 마지막으로 제공된 이름을 반환한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            쿼리
+     * @return 쿼리 이름. 확인할 수 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    protected String getQueryName(String query) {
+        return query != null ? QUERY_NAMES.get(query) : null;
+    }
+
+    /**
+     * 이름 있는 파라미터를 사용하는 쿼리를 변환하고, 변환된 쿼리에도 원본 쿼리의 이름을 적용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private NamedQuery parseNamed(String query) {
+        NamedQuery named = NamedQuery.parse(query);
+        String name = getQueryName(query);
+        if (name != null && !named.getSql().equals(query)) {
+            QUERY_NAMES.putIfAbsent(named.getSql(), name);
+        }
+        return named;
+    }
+
+    /**
+     * 쿼리 정보 파일에 정의된 쿼리 실행 설정을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			재시도 설정 추가
+     * 2026. 10. 19.		박준홍			동일 요청 병합 설정 추가
+     * 2026. 10. 19.		박준홍			lane 설정 추가
+     * 2026. 10. 19.		박준홍			쿼리 이름별로 보관하고, 쿼리 정보 파일을 다시 읽은 경우 초기화
+     * 2026. 10. 19.		박준홍			파일을 다시 읽었는지 QuerySource로 확인
+     * </pre>
+     *
+     * @param name
+     *            쿼리 이름
+     * @return 쿼리 실행 설정. 정의된 설정이 없는 경우 <code>null</code>. 보관된 설정을 복사하여 제공한다. 쿼리 정보 객체가 {@link QuerySource}인 경우 파일을 다시
+     *         읽으면 설정도 다시 읽으며, 그 외에는 {@link #clearQueryCache()}를 호출할 때까지 보관된 설정을 사용한다.
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see QueryOptions#FETCH_SIZE
+     * @see QueryOptions#MAX_ROWS
+     * @see QueryOptions#QUERY_TIMEOUT
+     * @see QueryOptions#IDEMPOTENT
+     * @see QueryOptions#MAX_ATTEMPTS
+     * @see QueryOptions#SINGLE_FLIGHT
+     * @see QueryOptions#LANE
+     */
+    public QueryOptions getQueryOptions(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        if (this.querySource instanceof QuerySource) {
+            long generation = ((QuerySource) this.querySource).getGeneration();
+            if (generation != this.queryOptionsGeneration) {
+                synchronized (this.queryOptions) {
+                    if (generation != this.queryOptionsGeneration) {
+                        this.queryOptions.clear();
+                        this.queryOptionsGeneration = generation;
+                    }
+                }
+            }
+        }
+
+        Optional<QueryOptions> options = this.queryOptions.computeIfAbsent(name, n -> Optional.ofNullable(readQueryOptions(n)));
+        return options.isPresent() ? new QueryOptions(options.get()) : null;
+    }
+
+    /** 쿼리 정보 파일에 정의된 쿼리 실행 설정을 읽는다. */
+    private QueryOptions readQueryOptions(String name) {
+        Integer fetchSize = getQueryProperty(name, QueryOptions.FETCH_SIZE);
+        Integer maxRows = getQueryProperty(name, QueryOptions.MAX_ROWS);
+        Integer queryTimeout = getQueryProperty(name, QueryOptions.QUERY_TIMEOUT);
+        Boolean idempotent = getQueryFlag(name, QueryOptions.IDEMPOTENT);
+        Integer maxAttempts = getQueryProperty(name, QueryOptions.MAX_ATTEMPTS);
+        Boolean singleFlight = getQueryFlag(name, QueryOptions.SINGLE_FLIGHT);
+        String lane = getQueryOptionValue(name, QueryOptions.LANE);
+
+        if (fetchSize == null && maxRows == null && queryTimeout == null && idempotent == null && maxAttempts == null && singleFlight == null
+                && lane == null) {
+            return null;
+        }
+
+        QueryOptions options = new QueryOptions();
+        if (fetchSize != null) {
+            options.fetchSize(fetchSize);
+        }
+        if (maxRows != null) {
+            options.maxRows(maxRows);
+        }
+        if (queryTimeout != null) {
+            options.queryTimeout(queryTimeout);
+        }
+        if (idempotent != null) {
+            options.idempotent(idempotent);
+        }
+        if (maxAttempts != null) {
+            options.maxAttempts(maxAttempts);
+        }
+        if (singleFlight != null) {
+            options.singleFlight(singleFlight);
+        }
+        if (lane != null) {
+            options.lane(lane.trim());
+        }
+
+        return options;
+    }
+
+    /** 쿼리 정보 파일에서 쿼리 이름에 연관된 설정값을 제공한다. 정의되지 않은 경우 <code>null</code> */
+    private String getQueryOptionValue(String name, String property) {
+        String value = this.querySource.getMessage(name + "." + property, null, UNDEFINED_PROPERTY, null);
+        return UNDEFINED_PROPERTY.equals(value) ? null : value;
+    }
+
+    /**
+     * 쿼리 정보 파일에서 쿼리 이름에 연관된 정수 설정값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param name
+     *            쿼리 이름
+     * @param property
+     *            설정 항목 이름
+     * @return 설정값. 정의되지 않았거나 정수가 아닌 경우 <code>null</code>
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private Integer getQueryProperty(String name, String property) {
+        String value = getQueryOptionValue(name, property);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid query property. name=" + name + ", property=" + property + ", value=" + value);
+            return null;
+        }
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 결과 개수가 {@link #setSpillThreshold(int)}를 넘는 경우 임시 파일에 저장하는 목록으로 제공한다. <br>
+     * 수백만 건의 조회 결과를 임의 위치로 접근해야 하는 경우에 사용하며, 순서대로 한번만 처리하는 경우에는 {@link #scan(String, SQLConsumer, QueryOptions, RowCursorHandler)}를
+     * 사용한다. 사용이 끝나면 {@link SpillableList#close()}를 호출하여 임시 파일을 삭제해야 한다. <br>
+     * shard 설정이 있는 경우 shard key 또는 shard 이름을 설정해야 한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param codec
+     *            임시 파일 저장시 사용할 데이터 변환 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return 쿼리 처리결과
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see SpillableList
+     */
+    public <T> Result<SpillableList<T>> getSpillableList(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, RowCodec<T> codec,
+            Class<T> entity, String... columns) {
+
+        Result<SpillableList<T>> result = new Result<>();
+
+        SpillableList<T> list = new SpillableList<>(codec, this.spillThreshold, this.spillCacheSize, this.spillDirectory);
+        DefaultConCallbackBroker2 broker = new DefaultConCallbackBroker2(query, setter);
+        Span span = startSpan("dao.executeQuery", getQueryName(query));
+        try {
+            execute(query, options, true, con -> {
+                // 재시도하는 경우 이전 실행에서 추가된 데이터를 삭제한다.
+                list.clear();
+                try (PreparedStatement pstmt = con.prepareStatement(query)) {
+                    broker.set(pstmt);
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        SQLBiFunction<ResultSet, Integer, T> creator = findCreator(entity, columns);
+                        int i = 1;
+                        while (rs.next()) {
+                            list.add(creator.apply(rs, i++));
+                        }
+                    }
+                } catch (UncheckedIOException e) {
+                    throw new SQLException(e.getMessage(), e.getCause());
+                }
+                return list;
+            });
+            span.setAttribute(Span.ROWS, list.size());
+
+            if (list.isSpilled()) {
+                metrics.counter("spill.lists").increment();
+                metrics.counter("spill.bytes").add(list.getSpilledBytes());
+            }
+
+            result.andTrue().setData(list);
+        } catch (SQLException e) {
+            span.setError(e);
+            result.setMessage(e.getMessage());
+        } finally {
+            if (!result.getResult()) {
+                list.close();
+            }
+            span.end();
+        }
+
+        return result;
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.IGenericDao#getQuerySourece()
+     */
+    @Override
+    public ReloadableResourceBundleMessageSource getQuerySourece() {
+        return this.querySource;
+    }
+
+    private static <T> List<T> callInChunk(Callable<List<T>> task) throws SQLException {
+        try {
+            return task.call();
+        } catch (SQLException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException("Fail to query a chunk. cause=" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 목록 파라미터 값을 {@link #inListMaxParameters} 이내의 크기로 나누고, 나누어진 목록별 쿼리를 전달한다.
+     */
+    private void forEachInChunk(String query, InListQuery in, Collection<?> values, InChunkConsumer consumer) {
+        List<?> list = values instanceof List ? (List<?>) values : new ArrayList<>(values);
+        int chunkSize = in.maxChunkSize(this.inListMaxParameters);
+        String name = getQueryName(query);
+
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            List<?> chunk = list.subList(from, Math.min(list.size(), from + chunkSize));
+            int bucket = InListQuery.bucket(chunk.size());
+            String sql = in.getSql(bucket);
+            if (name != null) {
+                QUERY_NAMES.putIfAbsent(sql, name);
+            }
+            consumer.accept(sql, chunk, bucket);
+        }
+    }
+
+    /**
+     * 엔티티를 무효화한다. 트랜잭션에 참여한 경우 트랜잭션 종료 전에 다른 요청이 변경 전 엔티티를 다시 보관할 수 있으므로, 종료 후 다시 무효화한다.
+     */
+    private void invalidateEntityCaches(Runnable invalidation) {
+        if (this.entityCaches == null) {
+            return;
+        }
+
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 나누어진 목록별 쿼리를 동시에 실행하고, 결과를 순서대로 이어붙인다.
+     */
+    private <T> List<T> invokeInChunks(List<Callable<List<T>>> tasks) throws SQLException {
+        List<Future<List<T>>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<List<T>> task : tasks) {
+                futures.add(this.asyncExecutor.submit(Deadline.wrap(TraceContext.wrap(task))));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new SQLException("Fail to submit chunk queries. cause=" + e.getMessage(), e);
+        }
+
+        List<T> merged = new ArrayList<>();
+        for (Future<List<T>> future : futures) {
+            try {
+                merged.addAll(future.get());
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                Throwable cause = e.getCause();
+                throw cause instanceof SQLException //
+                        ? (SQLException) cause
+                        : new SQLException("Fail to query a chunk. cause=" + cause, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new SQLException("Interrupted while waiting for chunks.", e);
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * shard 설정 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean isSharded() {
+        return this.shards != null;
+    }
+
+    /**
+     * 키 단위의 개별 조회 요청을 모아서 1번의 목록 파라미터(<code>IN (:ids)</code>) 쿼리로 조회하는 객체를 생성한다. <br>
+     * 요청(request) 또는 주기(tick) 단위로 생성하여 사용한다. 조회 결과는 <code>keyOf</code>로 확인한 키로 요청자에게 전달되므로, 키 타입은 요청시 전달한 키와
+     * {@link Object#equals(Object)}가 성립하는 타입이어야 한다. <br>
+     * {@link BatchLoader#setBatchWindow(long)}에 의한 조회는 {@link #setAsyncExecutor(ExecutorService)}에서 실행된다. 트랜잭션 안에서 생성한 경우 조회가 트랜잭션에 참여하도록
+     * {@link BatchLoader#setBatchWindow(long)}를 사용할 수 없으며, {@link BatchLoader#dispatch()}를 직접 호출해야 한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			batchWindow 조회를 asyncExecutor에서 실행
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리. 예) SELECT * FROM plant WHERE plant_id IN (:ids)
+     * @param listName
+     *            목록 파라미터 이름
+     * @param entity
+     *            결과 데이타 타입
+     * @param keyOf
+     *            조회 결과의 키를 제공하는 함수
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getListByIn(String, String, Collection, Object, Class, String...)
+     */
+    public <K, T> BatchLoader<K, T> newBatchLoader(String query, String listName, Class<T> entity, Function<? super T, ? extends K> keyOf, String... columns) {
+        LongAdder batches = this.metrics.counter("batchLoader.batches");
+        LongAdder loadedKeys = this.metrics.counter("batchLoader.keys");
+
+        return new BatchLoader<>(keys -> {
+            batches.increment();
+            loadedKeys.add(keys.size());
+
+            Result<List<T>> result = getListByIn(query, listName, keys, null, entity, columns);
+            if (!result.getResult()) {
+                throw new SQLException(result.getMessage());
+            }
+
+            Map<K, T> loaded = new HashMap<>(keys.size() * 4 / 3 + 1);
+            for (T row : result.getData()) {
+                loaded.putIfAbsent(keyOf.apply(row), row);
+            }
+            return loaded;
+        }, TransactionSynchronizationManager.hasResource(getDataSource()) ? null : this.asyncExecutor);
+    }
+
+    private static ExecutorService newScatterExecutor(int shards) {
+        return DaoExecutors.newExecutor("dao-scatter", Math.max(2, shards * 2));
+    }
+
+    /**
+     * 요청을 처리할 {@link DataSource}를 제공한다. <br>
+     * shard 이름, shard key 순서로 확인하며, 둘 다 없는 경우 기본 {@link DataSource}를 제공한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @return
+     * @throws SQLException
+     *             shard 설정이 없거나 존재하지 않는 shard인 경우
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    protected DataSource resolveDataSource(QueryOptions options) throws SQLException {
+        if (options == null || (options.getShard() == null && options.getShardKey() == null)) {
+            return getDataSource();
+        }
+
+        if (this.shards == null) {
+            throw new SQLException("Shards are not configured. options=" + options);
+        }
+
+        String shard = options.getShard() != null ? options.getShard() : this.shardRouter.route(options.getShardKey());
+        DataSource dataSource = this.shards.get(shard);
+        if (dataSource == null) {
+            throw new SQLException("No such shard. shard=" + shard);
+        }
+
+        return dataSource;
+    }
+
+    /** 설정 변경 이후 요청 허가 객체를 다시 생성하도록 한다. */
+    private void resetGuards() {
+        this.defaultGuards = null;
+        this.shardGuards.clear();
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 조회 결과를 행 단위로 전달한다. <br>
+     * 행 마다 객체를 생성하지 않으므로 대량의 데이터를 조회 후 바로 처리(집계, 전송 등)하는 경우에 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param handler
+     *            조회 결과 처리 객체
+     * @return 처리한 행 개수
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RowCursor
+     */
+    public Result<Long> scan(String query, RowCursorHandler handler) {
+        return scan(query, null, handler);
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 조회 결과를 행 단위로 전달한다. <br>
+     * 행 마다 객체를 생성하지 않으므로 대량의 데이터를 조회 후 바로 처리(집계, 전송 등)하는 경우에 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param handler
+     *            조회 결과 처리 객체
+     * @return 처리한 행 개수
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RowCursor
+     */
+    public Result<Long> scan(String query, SQLConsumer<PreparedStatement> setter, RowCursorHandler handler) {
+        return scan(query, setter, null, handler);
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 처리하고, 조회 결과를 행 단위로 전달한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. 쿼리 정보 파일에 정의된 설정보다 우선 적용된다. (nullable)
+     * @param handler
+     *            조회 결과 처리 객체
+     * @return 처리한 행 개수
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RowCursor
+     * @see QueryOptions
+     */
+    public Result<Long> scan(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, RowCursorHandler handler) {
+
+        Result<Long> result = new Result<>();
+
+        try {
+            long count = executeScan(new DefaultConCallbackBroker2(query, setter), options, handler);
+            result.andTrue().setData(count);
+        } catch (SQLException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 데이터 조회 요청쿼리를 실행한다. shard가 지정되지 않은 경우 모든 shard에 요청한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> queryList(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<T> entity, Result<?> result, String... columns)
+            throws SQLException {
+        if (isSharded() && (options == null || (options.getShard() == null && options.getShardKey() == null))) {
+            return scatter(query, setter, options, entity, result, columns);
+        } else {
+            return executeQuery(new DefaultConCallbackBroker2(query, setter), options, entity, columns);
+        }
+    }
+
+    /**
+     * 동일 요청 병합 대상인 경우 요청 식별 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			요청 처리 기한 제외
+     * </pre>
+     *
+     * @return 쿼리, 파라미터, 실행 설정, 결과 타입 정보. 병합 대상이 아닌 경우 <code>null</code>
+     * @throws SQLException
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    private Object singleFlightKey(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<?> entity, String... columns)
+            throws SQLException {
+        if (this.singleFlight == null) {
+            return null;
+        }
+
+        QueryOptions effective = QueryOptions.merge(options, getQueryOptions(getQueryName(query)));
+        if (effective == null || !Boolean.TRUE.equals(effective.getSingleFlight())) {
+            return null;
+        }
+        // 트랜잭션에 참여한 경우 다른 Connection에서 조회한 결과를 사용할 수 없다.
+        if (TransactionSynchronizationManager.hasResource(resolveDataSource(options))) {
+            return null;
+        }
+
+        List<Object> parameters = ParameterFingerprint.of(setter);
+        if (parameters == null) {
+            return null;
+        }
+
+        // 요청 처리 기한은 요청마다 다르므로 식별 정보에서 제외한다.
+        QueryOptions identity = options != null && options.getDeadline() != null ? new QueryOptions(options).deadline(null) : options;
+        return Arrays.asList(query, parameters, String.valueOf(identity), entity, Arrays.asList(columns));
+    }
+
+    /**
+     * 모든 shard에 동시에 요청하여 결과를 병합한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param options
+     *            요청쿼리 실행 설정. (nullable)
+     * @param entity
+     *            결과 데이타 타입
+     * @param result
+     *            일부 shard만 응답한 경우 메시지를 설정할 객체
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return shard 순서대로 이어붙인 결과
+     * @throws SQLException
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> scatter(String query, SQLConsumer<PreparedStatement> setter, QueryOptions options, Class<T> entity, Result<?> result, String... columns)
+            throws SQLException {
+
+        long timeout = this.scatterTimeout;
+
+        QueryOptions base = options != null ? new QueryOptions(options) : new QueryOptions();
+        if (timeout > 0 && base.getQueryTimeout() == null) {
+            // 응답을 기다리지 않는 shard의 쿼리도 제한시간 이후에는 중단되도록 한다.
+            base.queryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeout + 999)));
+        }
+
+        Map<String, Future<List<T>>> futures = new LinkedHashMap<>();
+        try {
+            for (String shard : this.shards.keySet()) {
+                QueryOptions shardOptions = new QueryOptions(base).shard(shard);
+                futures.put(shard, this.scatterExecutor
+                        .submit(Deadline.wrap(TraceContext.wrap(() -> executeQuery(new DefaultConCallbackBroker2(query, setter), shardOptions, entity, columns)))));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.values().forEach(f -> f.cancel(true));
+            throw new SQLException("Fail to submit shard queries. cause=" + e.getMessage(), e);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        List<T> merged = new ArrayList<>();
+        List<String> timedOut = new ArrayList<>();
+
+        for (Map.Entry<String, Future<List<T>>> entry : futures.entrySet()) {
+            Future<List<T>> future = entry.getValue();
+            try {
+                merged.addAll(timeout > 0 ? future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS) : future.get());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timedOut.add(entry.getKey());
+            } catch (ExecutionException e) {
+                futures.values().forEach(f -> f.cancel(true));
+                Throwable cause = e.getCause();
+                throw cause instanceof SQLException //
+                        ? (SQLException) cause
+                        : new SQLException("Fail to query shard. shard=" + entry.getKey() + ", cause=" + cause, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                throw new SQLException("Interrupted while waiting for shards.", e);
+            }
+        }
+
+        if (!timedOut.isEmpty()) {
+            String msg = "Shard query timed out. shards=" + timedOut + ", timeout=" + timeout + "ms";
+            if (!this.scatterPartialResults) {
+                throw new SQLException(msg);
+            }
+            logger.warn(msg);
+            result.setMessage(msg);
+        }
+
+        return merged;
+    }
+
+    /**
+     * 조회 결과 개수 기반 fetch size 자동 조정 여부를 설정한다. <br>
+     * 
+     * 설정된 경우 쿼리 이름별로 조회 결과 개수를 추정하여 다음 실행시 fetch size와 결과 목록의 초기 크기로 사용한다. 요청시 전달된 설정({@link QueryOptions})이 있는 경우
+     * 그 설정이 우선 적용되며, 쿼리 정보 파일에 정의된 설정은 추정값이 없는 경우에만 적용된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param adaptiveFetchSize
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see FetchSizeEstimator
+     */
+    public void setAdaptiveFetchSize(boolean adaptiveFetchSize) {
+        this.adaptiveFetchSize = adaptiveFetchSize;
+    }
+
+    /**
+     * fetch size 자동 조정시 최대값을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param maxFetchSize
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setAdaptiveFetchSizeMax(int maxFetchSize) {
+        this.fetchSizeEstimator.setMaxFetchSize(maxFetchSize);
+    }
+
+    /**
+     * fetch size 자동 조정시 최소값을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param minFetchSize
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setAdaptiveFetchSizeMin(int minFetchSize) {
+        this.fetchSizeEstimator.setMinFetchSize(minFetchSize);
+    }
+
+    /**
+     * 비동기 요청({@link #async(Supplier)})을 처리할 {@link ExecutorService}를 설정한다. <br>
+     * 설정하지 않은 경우 {@link DaoExecutors#newExecutor(String, int)}로 생성한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param asyncExecutor
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setAsyncExecutor(ExecutorService asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        this.asyncExecutorOwned = false;
+    }
+
+    /**
+     * {@link DataSource} 장애시 요청을 즉시 거부하는 객체를 설정한다. <br>
+     * 동일한 {@link DataSource}를 사용하는 DAO에는 동일한 객체를 설정한다. 요청이 거부된 경우 {@link Result#getMessage()}에
+     * {@link CircuitBreakerOpenException} 메시지가 설정된다.
+     * shard 요청은 shard 마다 같은 설정으로 생성한 객체를 사용하므로, 장애가 발생한 shard가 다른 shard의 요청을 거부하지 않는다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 객체 사용
      * </pre>
      *
-     * @param broker
-     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
-     * @param entity
-     *            요청쿼리 처리 결과 데이타 모델
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과.
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param circuitBreaker
      *
-     * @throws SQLException
-     * 
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
-     * @see {@link ColumnDef}
+     * 
+     * @see CircuitBreaker#forDataSource(DataSource)
      */
-    private <T> List<T> executeQuery(ConnectionCallbackBroker broker, Class<T> entity, String... columns) throws SQLException {
-        return execute(con -> {
-            PreparedStatement pstmt = con.prepareStatement(broker.getQuery());
-
-            IConnectionCallbackSetter setter = broker.getSetter();
-            if (setter != null) {
-                setter.set(pstmt);
-            }
-
-            ResultSet rs = pstmt.executeQuery();
-
-            return createObject(rs, entity, columns);
-        });
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        resetGuards();
+        if (circuitBreaker != null) {
+            circuitBreaker.registerMetrics(this.metrics);
+        }
     }
 
     /**
-     * 요청쿼리를 실행하고 결과를 제공한다. <br>
+     * 실행 시간에 따라 동시 실행 요청 개수 제한을 조정하는 객체를 설정한다. <br>
+     * 동일한 {@link DataSource}를 사용하는 DAO에는 동일한 객체를 설정한다. 요청이 거부된 경우 {@link Result#getMessage()}에 {@link LoadSheddingException}
+     * 메시지가 설정된다.
+     * shard 요청은 shard 마다 같은 설정으로 생성한 객체를 사용한다.
      * 
      * <pre>
      * [개정이력]
-     *      날짜      | 작성자   |   내용
+     *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.     박준홍         최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 객체 사용
      * </pre>
      *
-     * @param broker
-     *            요청쿼리와 쿼리 파라미터를 처리하는 객체
-     * @param entity
-     *            요청쿼리 처리 결과 데이타 모델
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과.
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
-     * @throws SQLException
+     * @param concurrencyLimiter
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    private <S, T> List<T> executeQuery(ConnectionCallbackBroker2<S> broker, Class<T> entity, String... columns) throws SQLException {
-        return execute(con -> {
-            PreparedStatement pstmt = con.prepareStatement(broker.getQuery());
-            broker.set(pstmt);
-
-            ResultSet rs = pstmt.executeQuery();
-
-            return createObject(rs, entity, columns);
-        });
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        resetGuards();
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.registerMetrics(this.metrics);
+        }
     }
 
     /**
-     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * {@link Connection} 할당 개수를 제한하는 객체를 설정한다. <br>
+     * 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 설정해야 하며, 최대 개수는 연결 풀 크기로 설정한다.
+     * shard 요청은 shard 마다 같은 허가 개수로 생성한 객체를 사용한다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 객체 사용
      * </pre>
      *
-     * @param brokers
-     *            요청쿼리 처리 객체
-     * @return 쿼리 처리결과.
+     * @param connectionGate
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public Result<Integer> executeUpdate(ConnectionCallbackBroker... brokers) {
-        return executeUpdate(Arrays.asList(brokers));
+    public void setConnectionGate(ConnectionGate connectionGate) {
+        this.connectionGate = connectionGate;
+        resetGuards();
+        if (connectionGate != null) {
+            connectionGate.registerMetrics(this.metrics);
+        }
     }
 
     /**
-     * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * 요청 종류(lane)별로 {@link Connection} 할당 개수를 제한하는 객체를 설정한다. <br>
+     * 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 설정해야 한다. 요청의 lane은 {@link QueryOptions#lane(String)} 또는 쿼리 정보 파일의
+     * {@link QueryOptions#LANE} 항목으로 지정한다.
+     * shard 요청은 shard 마다 같은 구성으로 생성한 객체를 사용한다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 객체 사용
      * </pre>
      *
-     * @param brokers
-     *            요청쿼리 처리 객체
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param connectionLanes
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    @SuppressWarnings("unchecked")
-    public <T> Result<Integer> executeUpdate(ConnectionCallbackBroker2<T>... brokers) {
-
-        Result<Integer> result = new Result<>();
-
-        try {
-            Integer updated = execute(con -> {
-                DefaultConnectionCallback2<T> action = null;
-                int inserted = 0;
-                for (ConnectionCallbackBroker2<T> broker : brokers) {
-                    action = new DefaultConnectionCallback2<T>(broker);
-                    inserted += action.doInConnection(con);
-                }
-
-                return inserted;
-            });
-
-            result.andTrue().setData(updated);
-
-        } catch (Exception e) {
-            logger.warn(e.getMessage(), e);
-            result.setMessage(e.getMessage());
+    public void setConnectionLanes(ConnectionLanes connectionLanes) {
+        this.connectionLanes = connectionLanes;
+        resetGuards();
+        if (connectionLanes != null) {
+            connectionLanes.registerMetrics(this.metrics);
         }
-
-        return result;
     }
 
     /**
-     * 다중 (Insert/Update/Delete) 쿼리 요청을 처리한다.<br>
+     * {@link DataSource} 객체를 설정한다. <br>
      * 
      * <pre>
      * [개정이력]
@@ -414,161 +3697,145 @@ public abstract class AbstractGenericDao implements IGenericDao {
      * 2019. 3. 28.		박준홍			최초 작성
      * </pre>
      *
-     * @param brokers
-     *            요청쿼리 처리 객체
-     * @return 쿼리 처리결과
+     * @param dataSource
      *
      * @since 2019. 3. 28.
      * @version 0.1.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public Result<Integer> executeUpdate(List<ConnectionCallbackBroker> brokers) {
-
-        Result<Integer> result = new Result<>();
-
-        try {
-            Integer updated = execute(con -> {
-                DefaultConnectionCallback action = null;
-                int inserted = 0;
-                for (ConnectionCallbackBroker broker : brokers) {
-                    action = new DefaultConnectionCallback(broker);
-                    inserted += action.doInConnection(con);
-                }
-                return inserted;
-            });
-
-            result.andTrue().setData(updated);
-
-        } catch (Exception e) {
-            logger.warn(e.getMessage(), e);
-            result.setMessage(e.getMessage());
-        }
-
-        return result;
-    }
+    public abstract void setDataSource(DataSource dataSource);
 
     /**
-     * 단일 요청쿼리를 처리한다.<br>
+     * 키 컬럼 값으로 조회한 엔티티를 보관하는 객체를 설정한다. <br>
+     * 보관된 엔티티는 이 DAO를 통해서 테이블을 변경하는 경우 무효화되며, 트랜잭션에 참여한 경우 트랜잭션 종료 후 다시 무효화된다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체
-     * @return 쿼리 처리결과
+     * @param entityCaches
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getObjectByKey(String, Class, Object...)
+     * @see #executeUpdateByKey(String, SQLConsumer, Class, Object...)
      */
-    public Result<Integer> executeUpdate(String query, IConnectionCallbackSetter setter) {
-        return executeUpdate(new ConnectionCallbackBroker(query, setter));
+    public void setEntityCaches(List<EntityCache<?>> entityCaches) {
+        this.entityCaches = entityCaches != null ? new EntityCaches(entityCaches) : null;
+        if (this.entityCaches != null) {
+            this.entityCaches.registerMetrics(this.metrics);
+        }
     }
 
     /**
-     * 단일 요청쿼리를 처리한다. <br>
+     * 목록 파라미터를 사용하는 쿼리 1개에 사용할 최대 파라미터 개수를 설정한다. <br>
+     * 드라이버/DBMS 제한에 맞추어 설정한다. (예: Oracle IN 목록 1000, SQL Server 2100)
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 29.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체
-     * @return 쿼리 처리결과
+     * @param inListMaxParameters
      *
-     * @since 2019. 3. 29.
-     * @version _._._
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getListByIn(String, String, Collection, Object, QueryOptions, Class, String...)
      */
-    @SuppressWarnings("unchecked")
-    public Result<Integer> executeUpdate(String query, SQLConsumer<PreparedStatement> setter) {
-        return executeUpdate(new DefaultConCallbackBroker2(query, setter));
+    public void setInListMaxParameters(int inListMaxParameters) {
+        if (inListMaxParameters < 1) {
+            throw new IllegalArgumentException("inListMaxParameters MUST BE greater than 0. inListMaxParameters=" + inListMaxParameters);
+        }
+        this.inListMaxParameters = inListMaxParameters;
     }
 
     /**
-     * 데이타 타입에 맞는 객체 생성자를 제공한다. <br>
+     * 나누어진 목록 파라미터 조회 쿼리를 동시에 실행할지 여부를 설정한다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param entity
-     *            쿼리처리 결과 데이타 타입
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param inListParallel
      *
-     * @since 2019. 3. 28.
-     * @version _._._
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getListByIn(String, String, Collection, Object, QueryOptions, Class, String...)
      */
-    @SuppressWarnings("unchecked")
-    private <T> SQLBiFunction<ResultSet, Integer, T> findCreator(Class<T> entity, String... columns) {
-
-        SQLBiFunction<ResultSet, Integer, T> creator = (SQLBiFunction<ResultSet, Integer, T>) CREATORS.get(entity.getName());
-
-        if (creator == null) {
-            creator = (rs, rowNum) -> {
-                return SQLUtils.newInstance(entity, rs, columns);
-            };
-            CREATORS.put(entity.getName(), creator);
-        }
-
-        return creator;
+    public void setInListParallel(boolean inListParallel) {
+        this.inListParallel = inListParallel;
     }
 
     /**
-     * {@link DataSource}를 제공한다. <br>
+     * 실패를 격리하여 실행하는 다중 쿼리 요청에서 savepoint 1개로 실행할 요청쿼리 개수를 설정한다. <br>
+     * 값이 클수록 savepoint 설정 횟수가 줄어들고, 요청쿼리가 실패한 경우 다시 실행하는 요청쿼리 개수가 늘어난다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @return
+     * @param isolatedUpdateChunkSize
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #executeUpdateIsolated(QueryOptions, ConnectionCallbackBroker2...)
      */
-    public DataSource getDataSource() {
-        return this.dataSource;
+    public void setIsolatedUpdateChunkSize(int isolatedUpdateChunkSize) {
+        if (isolatedUpdateChunkSize < 1) {
+            throw new IllegalArgumentException("isolatedUpdateChunkSize MUST BE positive. isolatedUpdateChunkSize=" + isolatedUpdateChunkSize);
+        }
+        this.isolatedUpdateChunkSize = isolatedUpdateChunkSize;
     }
 
     /**
-     * @see open.commons.springframework4.dao.IGenericDao#getJdbcTemplate()
+     * 동시 실행 요청 개수를 제한하는 객체를 설정한다. <br>
+     * 동일한 {@link DataSource}를 사용하는 DAO에는 동일한 객체를 설정한다. 요청이 거부된 경우 {@link Result#getMessage()}에
+     * {@link LoadSheddingException} 메시지가 설정된다.
+     * shard 요청은 shard 마다 같은 설정으로 생성한 객체를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 객체 사용
+     * </pre>
+     *
+     * @param loadShedder
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    @Override
-    public JdbcTemplate getJdbcTemplate() {
-        if (this.jdbcTemplate == null) {
-            this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+    public void setLoadShedder(LoadShedder loadShedder) {
+        this.loadShedder = loadShedder;
+        resetGuards();
+        if (loadShedder != null) {
+            loadShedder.registerMetrics(this.metrics);
         }
-
-        return this.jdbcTemplate;
     }
 
     /**
-     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 쿼리 정보 객체를 설정한다. <br>
      * 
      * <pre>
      * [개정이력]
@@ -577,332 +3844,366 @@ public abstract class AbstractGenericDao implements IGenericDao {
      * 2019. 3. 28.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            데이터 조회 요청쿼리
-     * @param entity
-     *            결과 데이타 타입
-     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * 
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param querySource
      *
      * @since 2019. 3. 28.
      * @version 0.1.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<List<T>> getList(String query, Class<T> entity, String... columns) {
-        return getList(query, (IConnectionCallbackSetter) null, entity, columns);
+    public abstract void setQuerySource(ReloadableResourceBundleMessageSource querySource);
+
+    /**
+     * {@link Connection} 반환시 닫히지 않은 {@link Statement}, {@link ResultSet}의 생성 위치 기록 여부를 설정한다. <br>
+     * 
+     * 설정 여부와 관계없이 닫히지 않은 자원은 {@link Connection} 반환시 닫히며, 개수는 {@link DaoMetrics}에 <code>jdbc.leaked.statements</code>,
+     * <code>jdbc.leaked.resultSets</code> 이름으로 제공된다. 설정된 경우 자원 생성시마다 stack trace를 생성하므로 운영 환경에서는 문제 분석시에만 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param resourceLeakDebug
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setResourceLeakDebug(boolean resourceLeakDebug) {
+        this.resourceLeakDebug = resourceLeakDebug;
     }
 
     /**
-     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 일시적인 오류 발생시 재시도 기준을 설정한다. <br>
+     * 멱등성이 보장된 요청에만 적용되며, 재시도 현황은 {@link #getMetrics()}에 다음 이름으로 제공된다. 쿼리 이름을 확인할 수 있는 경우 이름 뒤에 '.&lt;쿼리 이름&gt;'을 붙인
+     * 항목도 함께 제공된다.
+     * <ul>
+     * <li>retry.attempts: 재시도 횟수
+     * <li>retry.recovered: 재시도 후 성공한 요청 개수
+     * <li>retry.exhausted: 재시도 후 실패한 요청 개수
+     * </ul>
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            데이터 조회 요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체
-     * @param entity
-     *            결과 데이타 타입
-     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @param retryPolicy
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      * 
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @see QueryOptions#idempotent(boolean)
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * shard 요청을 동시에 처리할 {@link ExecutorService}를 설정한다. <br>
+     * 설정하지 않은 경우 shard 개수의 2배 크기의 쓰레드 풀을 생성하여 사용하며, {@link #destroy()}시 종료된다.
      * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @param scatterExecutor
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<List<T>> getList(String query, IConnectionCallbackSetter setter, Class<T> entity, String... columns) {
-
-        Result<List<T>> result = new Result<>();
-
-        try {
-            List<T> list = executeQuery(new ConnectionCallbackBroker(query, setter), entity, columns);
-            result.andTrue().setData(list);
-        } catch (SQLException e) {
-            result.setMessage(e.getMessage());
+    public void setScatterExecutor(ExecutorService scatterExecutor) {
+        if (this.scatterExecutorOwned && this.scatterExecutor != null) {
+            this.scatterExecutor.shutdown();
         }
-
-        return result;
+        this.scatterExecutor = scatterExecutor;
+        this.scatterExecutorOwned = false;
     }
 
     /**
-     * 데이터 조회 요청쿼리를 처리한다. <br>
+     * 제한시간 이내에 응답하지 않은 shard가 있는 경우 응답한 shard의 결과만 제공할지 여부를 설정한다. <br>
+     * <code>true</code>인 경우 {@link Result#getMessage()}에 응답하지 않은 shard 정보가 설정되며, <code>false</code>인 경우 요청은 실패 처리된다. (기본값:
+     * <code>false</code>)
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            데이터 조회 요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체 <br>
-     * @param entity
-     *            결과 데이타 타입
-     * @columns 요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *          <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * 
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param scatterPartialResults
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<List<T>> getList(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, String... columns) {
-
-        Result<List<T>> result = new Result<>();
-
-        try {
-            List<T> list = executeQuery(new DefaultConCallbackBroker2(query, setter), entity, columns);
-            result.andTrue().setData(list);
-        } catch (SQLException e) {
-            result.setMessage(e.getMessage());
-        }
-
-        return result;
+    public void setScatterPartialResults(boolean scatterPartialResults) {
+        this.scatterPartialResults = scatterPartialResults;
     }
 
     /**
-     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 모든 shard에 요청하는 경우 응답을 기다리는 최대 시간(ms)을 설정한다. 0 이하인 경우 제한하지 않는다. (기본값: 10000) <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            조회 요청쿼리
-     * @param entity
-     *            결과 데이타 타입
-     * @param required
-     *            필수여부
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param scatterTimeout
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<T> getObject(String query, Class<T> entity, boolean required, String... columns) {
-        return getObject(query, null, entity, required, columns);
+    public void setScatterTimeout(long scatterTimeout) {
+        this.scatterTimeout = scatterTimeout;
     }
 
     /**
-     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * shard를 설정한다. <br>
+     * shard key({@link QueryOptions#shardKey(Object)})가 설정된 요청은 일관된 해시(consistent hashing)로 선택된 shard에서 처리되고, shard key가 없는
+     * 데이터 조회(getList) 요청은 모든 shard에서 처리된다. 그 외 shard key가 없는 요청은 기본 {@link DataSource}에서 처리된다. <br>
+     * shard 이름은 해시 계산에 사용되므로, shard를 추가/제거하는 경우에도 기존 shard의 이름은 변경하지 않아야 한다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			shard별 요청 허가 객체 초기화
      * </pre>
      *
-     * @param query
-     *            조회 요청쿼리
-     * @param entity
-     *            결과 데이타 타입
-     * @param required
-     *            필수 여부
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param shards
+     *            shard 이름 - {@link DataSource}
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see ConsistentHashRouter
      */
-    public <T> Result<T> getObject(String query, Class<T> entity, String... columns) {
-        return getObject(query, null, entity, false, columns);
+    public void setShards(Map<String, DataSource> shards) {
+        if (shards == null || shards.isEmpty()) {
+            this.shards = null;
+            this.shardRouter = null;
+        } else {
+            this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+            this.shardRouter = new ConsistentHashRouter(this.shards.keySet(), this.shardVirtualNodes);
+        }
+        resetGuards();
     }
 
     /**
-     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * shard 별 가상 노드 개수를 설정한다. (기본값: 160) <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            조회 요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체
-     * @param entity
-     *            결과 데이타 타입
-     * @param required
-     *            필수 여부
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param shardVirtualNodes
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, boolean required, String... columns) {
-        Result<T> result = new Result<>();
-
-        try {
-            List<T> list = executeQuery(new DefaultConCallbackBroker2(query, setter), entity, columns);
-
-            switch (list.size()) {
-                case 0:
-                    if (required) {
-                        throw new EmptyResultDataAccessException(1);
-                    }
-                    result.andTrue();
-                    break;
-                case 1:
-                    result.setData(list.get(0));
-                    break;
-                default:
-                    throw new IncorrectResultSizeDataAccessException(1, list.size());
-            }
-        } catch (SQLException e) {
-            result.setMessage(e.getMessage());
+    public void setShardVirtualNodes(int shardVirtualNodes) {
+        this.shardVirtualNodes = shardVirtualNodes;
+        if (this.shards != null) {
+            this.shardRouter = new ConsistentHashRouter(this.shards.keySet(), shardVirtualNodes);
         }
-
-        return result;
     }
 
     /**
-     * 데이터 1개 요청쿼리를 처리한다. <br>
+     * 동시에 실행되는 동일한 조회 요청을 병합하는 객체를 설정한다. <br>
+     * 실행 설정({@link QueryOptions#singleFlight(boolean)} 또는 쿼리 정보 파일의 {@link QueryOptions#SINGLE_FLIGHT})으로 병합을 허용한 쿼리에만 적용되며,
+     * 트랜잭션에 참여한 요청은 병합하지 않는다. 파라미터는 파라미터 설정 객체가 설정하는 값으로 비교한다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param query
-     *            조회 요청쿼리
-     * @param setter
-     *            요청쿼리 파라미터 설정 객체
-     * @param entity
-     *            결과 데이타 타입.
-     * @param columns
-     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
-     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
-     * @return 쿼리 처리결과
-     *         <ul>
-     *         <li>&lt;T&gt; 요청받을 데이타 타입
-     *         </ul>
+     * @param singleFlight
+     *            (nullable)
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    public <T> Result<T> getObject(String query, SQLConsumer<PreparedStatement> setter, Class<T> entity, String... columns) {
-        return getObject(query, setter, entity, false, columns);
+    public void setSingleFlight(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+        if (singleFlight != null) {
+            singleFlight.registerMetrics(this.metrics);
+        }
     }
 
     /**
-     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String)
+     * 임시 파일에 저장한 조회 결과에서 보관할 최근 조회 데이터 개수를 설정한다. 0 이하인 경우 보관하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param spillCacheSize
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getSpillableList(String, SQLConsumer, QueryOptions, RowCodec, Class, String...)
      */
-    @Override
-    public String getQuery(String name) {
-        return this.querySource.getMessage(name, null, null);
+    public void setSpillCacheSize(int spillCacheSize) {
+        this.spillCacheSize = spillCacheSize;
     }
 
     /**
-     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String, java.lang.Object[],
-     *      java.util.Locale)
+     * 조회 결과를 저장할 임시 파일 생성 디렉토리를 설정한다. 설정하지 않은 경우 시스템 임시 디렉토리(java.io.tmpdir)를 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param spillDirectory
+     *            (nullable)
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getSpillableList(String, SQLConsumer, QueryOptions, RowCodec, Class, String...)
      */
-    @Override
-    public String getQuery(String name, Object[] args, Locale locale) {
-        return this.querySource.getMessage(name, args, locale);
+    public void setSpillDirectory(File spillDirectory) {
+        this.spillDirectory = spillDirectory;
     }
 
     /**
-     * @see open.commons.springframework4.dao.IGenericDao#getQuery(java.lang.String, java.lang.Object[],
-     *      java.lang.String, java.util.Locale)
+     * 조회 결과를 임시 파일에 저장하기 전까지 힙에 보관할 최대 데이터 개수를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param spillThreshold
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #getSpillableList(String, SQLConsumer, QueryOptions, RowCodec, Class, String...)
      */
-    @Override
-    public String getQuery(String name, Object[] args, String defaultMessage, Locale locale) {
-        return this.querySource.getMessage(name, args, defaultMessage, locale);
+    public void setSpillThreshold(int spillThreshold) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("spillThreshold MUST NOT be negative. spillThreshold=" + spillThreshold);
+        }
+        this.spillThreshold = spillThreshold;
     }
 
     /**
-     * @see open.commons.springframework4.dao.IGenericDao#getQuerySourece()
+     * 쿼리 실행 추적 객체를 설정한다. <br>
+     * 설정된 경우 쿼리 실행({@code dao.execute}), 조회({@code dao.executeQuery}), 변경({@code dao.executeUpdate}) 요청마다 {@link Span}이 생성된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     *
+     * @param tracer
+     *
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
      */
-    @Override
-    public ReloadableResourceBundleMessageSource getQuerySourece() {
-        return this.querySource;
+    public void setTracer(Tracer tracer) {
+        this.tracer = tracer;
     }
 
     /**
-     * {@link DataSource} 객체를 설정한다. <br>
+     * 작업 단위 1개에서 보관할 {@link PreparedStatement} 최대 개수를 설정한다. 0 이하인 경우 보관하지 않는다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param dataSource
+     * @param unitOfWorkStatementCacheSize
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #doInUnitOfWork(Callable)
      */
-    public abstract void setDataSource(DataSource dataSource);
+    public void setUnitOfWorkStatementCacheSize(int unitOfWorkStatementCacheSize) {
+        this.unitOfWorkStatementCacheSize = unitOfWorkStatementCacheSize;
+    }
 
     /**
-     * 쿼리 정보 객체를 설정한다. <br>
+     * 실행 쿼리(쿼리 이름, 파라미터, 실행 시간, 실행 쓰레드)를 기록할 객체를 설정한다. <br>
+     * {@link JdbcTemplate#getNativeJdbcExtractor()}가 설정된 경우에는 기록되지 않는다.
      * 
      * <pre>
      * [개정이력]
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
-     * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			최초 작성
      * </pre>
      *
-     * @param querySource
+     * @param workloadRecorder
      *
-     * @since 2019. 3. 28.
-     * @version 0.1.0
+     * @since 2026. 10. 19.
+     * @version 0.2.0
      * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see WorkloadReplayer
      */
-    public abstract void setQuerySource(ReloadableResourceBundleMessageSource querySource);
+    public void setWorkloadRecorder(WorkloadRecorder workloadRecorder) {
+        this.workloadRecorder = workloadRecorder;
+        if (workloadRecorder != null) {
+            workloadRecorder.registerMetrics(this.metrics);
+        }
+    }
+
+    /**
+     * 실행 추적 정보를 생성한다. {@link Tracer}가 설정되지 않은 경우 {@link Span#NOOP}을 제공한다.
+     */
+    private Span startSpan(String name, String queryName) {
+        Tracer tracer = this.tracer;
+        if (tracer == null) {
+            return Span.NOOP;
+        }
+
+        return tracer.startSpan(name).setAttribute(Span.QUERY_NAME, queryName);
+    }
 
     /**
      * Invocation handler that suppresses close calls on JDBC Connections. Also prepares returned Statement
@@ -914,23 +4215,70 @@ public abstract class AbstractGenericDao implements IGenericDao {
 
         private final Connection target;
 
+        private final DataSource dataSource;
+
         private JdbcTemplate jdbcTemplate;
 
-        public CloseSuppressingInvocationHandler(Connection target, JdbcTemplate jdbcTemplate) {
+        /** 요청시 전달된 쿼리 실행 설정 */
+        private final QueryOptions options;
+
+        /** 생성된 Statement 추적 객체 */
+        private final ResourceTracker tracker;
+
+        /** 요청 처리 기한 감시 대상 Statement - 기한 */
+        private final Map<Statement, Deadline> deadlines = new IdentityHashMap<>();
+
+        public CloseSuppressingInvocationHandler(Connection target, DataSource dataSource, JdbcTemplate jdbcTemplate, QueryOptions options,
+                ResourceTracker tracker) {
             this.target = target;
+            this.dataSource = dataSource;
             this.jdbcTemplate = jdbcTemplate;
+            this.options = options;
+            this.tracker = tracker;
         }
 
-        private void applyStatementSettings(JdbcTemplate jdbcTemplate, Statement stmt) throws SQLException {
-            int fetchSize = jdbcTemplate.getFetchSize();
-            if (fetchSize > 0) {
+        /**
+         * 요청시 전달된 설정, 쿼리 정보 파일에 정의된 설정, {@link JdbcTemplate} 설정 순서로 적용한다. 요청 처리 기한이 있는 경우 남은 시간을 넘지 않도록 query timeout을
+         * 설정하고, 기한이 지나면 취소되도록 감시 대상으로 등록한다.
+         */
+        private void applyStatementSettings(JdbcTemplate jdbcTemplate, QueryOptions options, Statement stmt) throws SQLException {
+            Integer fetchSize = options != null ? options.getFetchSize() : null;
+            if (fetchSize != null) {
                 stmt.setFetchSize(fetchSize);
+            } else if (jdbcTemplate.getFetchSize() > 0) {
+                stmt.setFetchSize(jdbcTemplate.getFetchSize());
             }
-            int maxRows = jdbcTemplate.getMaxRows();
-            if (maxRows > 0) {
+
+            Integer maxRows = options != null ? options.getMaxRows() : null;
+            if (maxRows != null) {
                 stmt.setMaxRows(maxRows);
+            } else if (jdbcTemplate.getMaxRows() > 0) {
+                stmt.setMaxRows(jdbcTemplate.getMaxRows());
+            }
+
+            Integer queryTimeout = options != null ? options.getQueryTimeout() : null;
+            DataSourceUtils.applyTimeout(stmt, this.dataSource, queryTimeout != null ? queryTimeout : jdbcTemplate.getQueryTimeout());
+
+            Deadline deadline = deadline(options);
+            if (deadline != null) {
+                int remaining = deadline.remainingSeconds();
+                // 트랜잭션 timeout이 적용된 경우에도 남은 시간을 넘지 않도록 한다.
+                int timeout = stmt.getQueryTimeout();
+                if (timeout == 0 || timeout > remaining) {
+                    stmt.setQueryTimeout(remaining);
+                }
+
+                deadline.register(stmt, metrics.counter("deadline.cancelled"));
+                this.deadlines.put(stmt, deadline);
             }
-            DataSourceUtils.applyTimeout(stmt, getDataSource(), jdbcTemplate.getQueryTimeout());
+        }
+
+        /**
+         * 실행이 끝난 {@link Statement}를 요청 처리 기한 감시 대상에서 제외한다.
+         */
+        void releaseDeadlines() {
+            this.deadlines.forEach((stmt, deadline) -> deadline.deregister(stmt));
+            this.deadlines.clear();
         }
 
         @SuppressWarnings("rawtypes")
@@ -963,12 +4311,43 @@ public abstract class AbstractGenericDao implements IGenericDao {
 
             // Invoke method on target Connection.
             try {
-                Object retVal = method.invoke(this.target, args);
+                // 작업 단위 안에서는 보관된 PreparedStatement를 재사용한다.
+                UnitOfWork unitOfWork = method.getName().equals("prepareStatement") ? UnitOfWork.current(this.dataSource) : null;
+                Object retVal = unitOfWork != null ? unitOfWork.prepareStatement(args) : null;
+                if (retVal == null) {
+                    retVal = method.invoke(this.target, args);
+                }
 
                 // If return value is a JDBC Statement, apply statement settings
                 // (fetch size, max rows, transaction timeout).
                 if (retVal instanceof Statement) {
-                    applyStatementSettings(jdbcTemplate, ((Statement) retVal));
+                    // 'prepareStatement', 'prepareCall' 인 경우 쿼리 정보 파일에 정의된 설정, 추정된 fetch size를 함께 적용한다.
+                    String queryName = args != null && args.length > 0 && args[0] instanceof String ? getQueryName((String) args[0]) : null;
+                    QueryOptions declared = getQueryOptions(queryName);
+                    if (adaptiveFetchSize) {
+                        Integer fetchSize = fetchSizeEstimator.getFetchSize(queryName);
+                        if (fetchSize != null) {
+                            declared = QueryOptions.merge(new QueryOptions().fetchSize(fetchSize), declared);
+                        }
+                    }
+                    try {
+                        applyStatementSettings(jdbcTemplate, QueryOptions.merge(this.options, declared), ((Statement) retVal));
+                    } catch (SQLException e) {
+                        // 추적 대상으로 등록되기 전이므로 바로 닫는다.
+                        try {
+                            ((Statement) retVal).close();
+                        } catch (SQLException ignored) {
+                        }
+                        throw e;
+                    }
+
+                    // Connection 반환시 닫히지 않은 Statement(와 ResultSet)를 닫는다.
+                    retVal = this.tracker.track((Statement) retVal);
+
+                    WorkloadRecorder recorder = workloadRecorder;
+                    if (recorder != null && retVal instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                        retVal = recorder.wrap((PreparedStatement) retVal, queryName, (String) args[0]);
+                    }
                 }
 
                 return retVal;
@@ -978,4 +4357,31 @@ public abstract class AbstractGenericDao implements IGenericDao {
         }
     }
 
+    /**
+     * {@link DataSource} 별 요청 허가 객체.
+     */
+    private static final class Guards {
+        private final LoadShedder loadShedder;
+        private final ConnectionLanes connectionLanes;
+        private final ConnectionGate connectionGate;
+        private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+        private final CircuitBreaker circuitBreaker;
+
+        private Guards(LoadShedder loadShedder, ConnectionLanes connectionLanes, ConnectionGate connectionGate, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                CircuitBreaker circuitBreaker) {
+            this.loadShedder = loadShedder;
+            this.connectionLanes = connectionLanes;
+            this.connectionGate = connectionGate;
+            this.concurrencyLimiter = concurrencyLimiter;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    /**
+     * 나누어진 목록 파라미터별 쿼리를 처리하는 함수.
+     */
+    @FunctionalInterface
+    private interface InChunkConsumer {
+        void accept(String sql, List<?> chunk, int bucket);
+    }
 }
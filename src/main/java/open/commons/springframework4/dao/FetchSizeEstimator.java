@@ -0,0 +1,238 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 1:32:08
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 쿼리 이름별 조회 결과 개수를 지수이동평균(EWMA)으로 추정하여 fetch size 및 결과 목록의 초기 크기를 제공하는 객체.<br>
+ * 
+ * 추정값은 {@link DaoMetrics}에 다음 이름으로 제공된다.
+ * <ul>
+ * <li>fetchSize.estimate.&lt;쿼리 이름&gt;: 추정 조회 개수
+ * <li>fetchSize.current.&lt;쿼리 이름&gt;: 다음 실행시 적용할 fetch size
+ * <li>fetchSize.roundTrips.&lt;쿼리 이름&gt;: 적용된 fetch size 기준 누적 fetch 횟수(추정)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class FetchSizeEstimator {
+
+    /** 결과 목록 초기 크기 기본값. ({@link java.util.ArrayList} 기본값과 동일) */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** 쿼리 이름 - 추정 정보 */
+    private final ConcurrentHashMap<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    private final DaoMetrics metrics;
+
+    /** 최소 fetch size */
+    private int minFetchSize = 10;
+    /** 최대 fetch size */
+    private int maxFetchSize = 10000;
+    /** 결과 목록 최대 초기 크기 */
+    private int maxInitialCapacity = 65536;
+    /** 지수이동평균 가중치 (0 &lt; alpha &lt;= 1). 값이 클수록 최근 결과를 더 많이 반영한다. */
+    private double alpha = 0.3;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     *            추정값을 제공할 객체
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public FetchSizeEstimator(DaoMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private int clampFetchSize(double rows) {
+        return (int) Math.max(this.minFetchSize, Math.min(this.maxFetchSize, Math.ceil(rows)));
+    }
+
+    private Estimate estimate(String name) {
+        return this.estimates.computeIfAbsent(name, n -> {
+            Estimate e = new Estimate();
+            metrics.gauge("fetchSize.estimate." + n, () -> e.get());
+            metrics.gauge("fetchSize.current." + n, () -> e.observed() ? clampFetchSize(e.get()) : 0);
+            e.roundTrips = metrics.counter("fetchSize.roundTrips." + n);
+            return e;
+        });
+    }
+
+    /**
+     * 다음 실행시 적용할 fetch size를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            쿼리 이름
+     * @return fetch size. 추정 정보가 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Integer getFetchSize(String name) {
+        Estimate e = name != null ? this.estimates.get(name) : null;
+        return e != null && e.observed() ? clampFetchSize(e.get()) : null;
+    }
+
+    /**
+     * 결과 목록의 초기 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            쿼리 이름
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getInitialCapacity(String name) {
+        Estimate e = name != null ? this.estimates.get(name) : null;
+        if (e == null || !e.observed()) {
+            return DEFAULT_CAPACITY;
+        }
+        return (int) Math.max(DEFAULT_CAPACITY, Math.min(this.maxInitialCapacity, Math.ceil(e.get())));
+    }
+
+    /**
+     * 쿼리 실행 결과 개수를 반영한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            쿼리 이름
+     * @param rows
+     *            조회된 데이터 개수
+     * @param fetchSize
+     *            실행시 적용된 fetch size. 0 이하인 경우 드라이버 기본값으로 간주하고 fetch 횟수를 계산하지 않는다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void record(String name, long rows, int fetchSize) {
+        if (name == null) {
+            return;
+        }
+
+        Estimate e = estimate(name);
+        e.update(rows, this.alpha);
+
+        if (fetchSize > 0) {
+            // 마지막 fetch는 결과가 없음을 확인하기 위해 1회 더 발생한다.
+            e.roundTrips.add(rows / fetchSize + 1);
+        }
+    }
+
+    public void setAlpha(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha MUST BE in (0, 1]. alpha=" + alpha);
+        }
+        this.alpha = alpha;
+    }
+
+    public void setMaxFetchSize(int maxFetchSize) {
+        this.maxFetchSize = maxFetchSize;
+    }
+
+    public void setMaxInitialCapacity(int maxInitialCapacity) {
+        this.maxInitialCapacity = maxInitialCapacity;
+    }
+
+    public void setMinFetchSize(int minFetchSize) {
+        this.minFetchSize = minFetchSize;
+    }
+
+    /**
+     * 쿼리 이름별 추정 정보.
+     */
+    private static class Estimate {
+        /** 추정값. {@link Double#doubleToLongBits(double)}, 음수인 경우 측정값 없음. */
+        private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(-1));
+        private LongAdder roundTrips;
+
+        double get() {
+            return Double.longBitsToDouble(bits.get());
+        }
+
+        boolean observed() {
+            return get() >= 0;
+        }
+
+        void update(long rows, double alpha) {
+            long prev;
+            long next;
+            do {
+                prev = bits.get();
+                double old = Double.longBitsToDouble(prev);
+                next = Double.doubleToLongBits(old < 0 ? rows : old + alpha * (rows - old));
+            } while (!bits.compareAndSet(prev, next));
+        }
+    }
+}
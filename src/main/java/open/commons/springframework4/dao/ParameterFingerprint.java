@@ -0,0 +1,145 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:40:06
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import open.commons.function.SQLConsumer;
+
+/**
+ * 파라미터 설정 객체가 설정하는 값을 기록하여, 동일한 파라미터인지 비교할 수 있는 정보를 생성하는 객체.<br>
+ * 
+ * 파라미터 설정 객체를 기록용 {@link PreparedStatement}에 대해 실행하므로, 파라미터 설정 객체는 여러 번 실행해도 같은 값을 설정해야 한다. 스트림, LOB 등 내용을 비교할 수
+ * 없는 값을 설정하는 경우 정보를 생성하지 않는다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+final class ParameterFingerprint {
+
+    private ParameterFingerprint() {
+    }
+
+    /**
+     * 파라미터 설정 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param setter
+     *            파라미터 설정 객체. (nullable)
+     * @return 설정 메소드 이름과 인자 목록. 비교할 수 없는 값을 설정하거나 오류가 발생한 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    static List<Object> of(SQLConsumer<PreparedStatement> setter) {
+        List<Object> calls = new ArrayList<>();
+        if (setter == null) {
+            return calls;
+        }
+
+        boolean[] comparable = { true };
+        PreparedStatement recorder = (PreparedStatement) Proxy.newProxyInstance(ParameterFingerprint.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    String name = method.getName();
+                    switch (name) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "ParameterFingerprint";
+                        default:
+                            break;
+                    }
+
+                    if (name.startsWith("set") && args != null) {
+                        calls.add(name);
+                        for (Object arg : args) {
+                            if (arg instanceof InputStream || arg instanceof Reader || arg instanceof Blob || arg instanceof Clob) {
+                                comparable[0] = false;
+                            }
+                            calls.add(arg instanceof byte[] ? ByteBuffer.wrap(((byte[]) arg).clone()) : arg);
+                        }
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+
+        try {
+            setter.accept(recorder);
+        } catch (SQLException | RuntimeException e) {
+            return null;
+        }
+
+        return comparable[0] ? calls : null;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else {
+            return (char) 0;
+        }
+    }
+}
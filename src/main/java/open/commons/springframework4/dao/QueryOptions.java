@@ -0,0 +1,567 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오전 11:02:27
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import open.commons.springframework4.dao.concurrent.ConnectionLanes;
+import open.commons.springframework4.dao.concurrent.Deadline;
+import open.commons.springframework4.dao.concurrent.SingleFlight;
+import open.commons.springframework4.dao.resilience.RetryPolicy;
+
+/**
+ * 쿼리 단위로 적용되는 실행 설정 정보.<br>
+ * 
+ * 설정되지 않은(<code>null</code>) 항목은 쿼리 정보 파일에 정의된 값, {@link JdbcTemplate} 설정 순서로 적용된다. <br>
+ * 쿼리 정보 파일에는 쿼리 이름 뒤에 항목 이름을 붙여서 정의한다.
+ * 
+ * <pre>
+ * statisticsDao.select.static.info=SELECT ...
+ * statisticsDao.select.static.info.fetchSize=1
+ * statisticsDao.select.static.info.queryTimeout=3
+ * 
+ * statisticsDao.select.static.info.all=SELECT ...
+ * statisticsDao.select.static.info.all.fetchSize=5000
+ * statisticsDao.select.static.info.all.maxRows=1000000
+ * 
+ * statisticsDao.update.static.info=UPDATE ...
+ * statisticsDao.update.static.info.idempotent=true
+ * statisticsDao.update.static.info.maxAttempts=5
+ * 
+ * dashboardDao.select.summary=SELECT ...
+ * dashboardDao.select.summary.singleFlight=true
+ * 
+ * reportDao.select.monthly=SELECT ...
+ * reportDao.select.monthly.lane=batch
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryOptions {
+
+    /** 쿼리 정보 파일에 정의하는 fetch size 항목 이름 */
+    public static final String FETCH_SIZE = "fetchSize";
+    /** 쿼리 정보 파일에 정의하는 멱등성 여부(true/false) 항목 이름 */
+    public static final String IDEMPOTENT = "idempotent";
+    /** 쿼리 정보 파일에 정의하는 {@link ConnectionLanes} lane 이름 항목 이름 */
+    public static final String LANE = "lane";
+    /** 쿼리 정보 파일에 정의하는 최대 실행 횟수(재시도 포함) 항목 이름 */
+    public static final String MAX_ATTEMPTS = "maxAttempts";
+    /** 쿼리 정보 파일에 정의하는 max rows 항목 이름 */
+    public static final String MAX_ROWS = "maxRows";
+    /** 쿼리 정보 파일에 정의하는 query timeout(초) 항목 이름 */
+    public static final String QUERY_TIMEOUT = "queryTimeout";
+    /** 쿼리 정보 파일에 정의하는 동일 요청 병합 여부(true/false) 항목 이름 */
+    public static final String SINGLE_FLIGHT = "singleFlight";
+
+    /** @see Statement#setFetchSize(int) */
+    private Integer fetchSize;
+    /** @see Statement#setMaxRows(int) */
+    private Integer maxRows;
+    /** 단위: 초, @see Statement#setQueryTimeout(int) */
+    private Integer queryTimeout;
+    /** 멱등성 여부. 재시도 가능 여부를 판단하기 위해서 사용한다. */
+    private Boolean idempotent;
+    /** 최대 실행 횟수 (재시도 포함) */
+    private Integer maxAttempts;
+    /** 재시도 기준 */
+    private RetryPolicy retryPolicy;
+    /** 요청을 처리할 shard를 결정하는 값 */
+    private Object shardKey;
+    /** 요청을 처리할 shard 이름 */
+    private String shard;
+    /** 동시에 실행되는 동일한 조회 요청 병합 여부 */
+    private Boolean singleFlight;
+    /** {@link Connection} 할당 lane 이름 */
+    private String lane;
+    /** 요청 처리 기한 */
+    private Deadline deadline;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public QueryOptions() {
+    }
+
+    /**
+     * 복사 생성자.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param src
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public QueryOptions(QueryOptions src) {
+        this.fetchSize = src.fetchSize;
+        this.maxRows = src.maxRows;
+        this.queryTimeout = src.queryTimeout;
+        this.idempotent = src.idempotent;
+        this.maxAttempts = src.maxAttempts;
+        this.retryPolicy = src.retryPolicy;
+        this.shardKey = src.shardKey;
+        this.shard = src.shard;
+        this.singleFlight = src.singleFlight;
+        this.lane = src.lane;
+        this.deadline = src.deadline;
+    }
+
+    /**
+     * 요청 처리 기한을 설정한다. 남은 시간이 {@link Statement#setQueryTimeout(int)}로 설정되며, 기한이 지나도록 실행 중인 {@link Statement}는 취소된다. <br>
+     * 설정하지 않은 경우 {@link Deadline#current()}를 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param deadline
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public QueryOptions deadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * fetch size를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param fetchSize
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see Statement#setFetchSize(int)
+     */
+    public QueryOptions fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public Boolean getIdempotent() {
+        return idempotent;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    public Integer getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public String getShard() {
+        return shard;
+    }
+
+    public Object getShardKey() {
+        return shardKey;
+    }
+
+    public Boolean getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 멱등성 여부를 설정한다. <br>
+     * 멱등성이 보장된 요청만 일시적인 오류 발생시 재시도한다. 설정하지 않은 경우 조회(getList, getObject)는 멱등성이 보장된 것으로, 그 외 요청은 보장되지 않은 것으로
+     * 판단한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param idempotent
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public QueryOptions idempotent(boolean idempotent) {
+        this.idempotent = idempotent;
+        return this;
+    }
+
+    /**
+     * {@link Connection}을 할당받을 lane을 설정한다. DAO에 {@link ConnectionLanes}가 설정된 경우에만 적용된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param lane
+     *            lane 이름
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see AbstractGenericDao#setConnectionLanes(ConnectionLanes)
+     */
+    public QueryOptions lane(String lane) {
+        this.lane = lane;
+        return this;
+    }
+
+    /**
+     * 최대 실행 횟수(최초 실행 포함)를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param maxAttempts
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see RetryPolicy#setMaxAttempts(int)
+     */
+    public QueryOptions maxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * 최대 조회 개수를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param maxRows
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see Statement#setMaxRows(int)
+     */
+    public QueryOptions maxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * 쿼리 실행 제한시간(초)을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param queryTimeout
+     *            제한시간 (단위: 초)
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see Statement#setQueryTimeout(int)
+     */
+    public QueryOptions queryTimeout(int queryTimeout) {
+        this.queryTimeout = queryTimeout;
+        return this;
+    }
+
+    /**
+     * 재시도 기준을 설정한다. 설정하지 않은 경우 DAO에 설정된 기준을 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param retryPolicy
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public QueryOptions retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * 요청을 처리할 shard 이름을 설정한다. <br>
+     * 설정된 경우 {@link #shardKey(Object)}보다 우선 적용된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param shard
+     *            {@link AbstractGenericDao#setShards(java.util.Map)}에 설정된 shard 이름
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public QueryOptions shard(String shard) {
+        this.shard = shard;
+        return this;
+    }
+
+    /**
+     * 요청을 처리할 shard를 결정하는 값을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param shardKey
+     *            shard key. 예) 발전소 ID
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see open.commons.springframework4.dao.shard.ConsistentHashRouter#route(Object)
+     */
+    public QueryOptions shardKey(Object shardKey) {
+        this.shardKey = shardKey;
+        return this;
+    }
+
+    /**
+     * 동시에 실행되는 동일한 조회 요청(쿼리, 파라미터, 결과 타입이 같은 요청)의 병합 여부를 설정한다. <br>
+     * 병합되는 경우 1개의 요청만 실행되고, 나머지 요청은 그 결과를 전달받는다. DAO에 {@link SingleFlight}가 설정된 경우에만 적용된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param singleFlight
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see AbstractGenericDao#setSingleFlight(SingleFlight)
+     */
+    public QueryOptions singleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+        return this;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("QueryOptions [fetchSize=");
+        buffer.append(fetchSize);
+        buffer.append(", maxRows=");
+        buffer.append(maxRows);
+        buffer.append(", queryTimeout=");
+        buffer.append(queryTimeout);
+        buffer.append(", idempotent=");
+        buffer.append(idempotent);
+        buffer.append(", maxAttempts=");
+        buffer.append(maxAttempts);
+        buffer.append(", retryPolicy=");
+        buffer.append(retryPolicy);
+        buffer.append(", shardKey=");
+        buffer.append(shardKey);
+        buffer.append(", shard=");
+        buffer.append(shard);
+        buffer.append(", singleFlight=");
+        buffer.append(singleFlight);
+        buffer.append(", lane=");
+        buffer.append(lane);
+        buffer.append(", deadline=");
+        buffer.append(deadline);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 두 설정 정보를 병합한 결과를 제공한다. <br>
+     * <code>override</code>에 설정된 항목이 우선 적용된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param override
+     *            우선 적용할 설정. (nullable)
+     * @param base
+     *            기본 설정. (nullable)
+     * @return 병합된 설정. 둘 다 <code>null</code>인 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static QueryOptions merge(QueryOptions override, QueryOptions base) {
+        if (override == null) {
+            return base;
+        } else if (base == null) {
+            return override;
+        }
+
+        QueryOptions merged = new QueryOptions(base);
+        if (override.fetchSize != null) {
+            merged.fetchSize = override.fetchSize;
+        }
+        if (override.maxRows != null) {
+            merged.maxRows = override.maxRows;
+        }
+        if (override.queryTimeout != null) {
+            merged.queryTimeout = override.queryTimeout;
+        }
+        if (override.idempotent != null) {
+            merged.idempotent = override.idempotent;
+        }
+        if (override.maxAttempts != null) {
+            merged.maxAttempts = override.maxAttempts;
+        }
+        if (override.retryPolicy != null) {
+            merged.retryPolicy = override.retryPolicy;
+        }
+        if (override.shardKey != null) {
+            merged.shardKey = override.shardKey;
+        }
+        if (override.shard != null) {
+            merged.shard = override.shard;
+        }
+        if (override.singleFlight != null) {
+            merged.singleFlight = override.singleFlight;
+        }
+        if (override.lane != null) {
+            merged.lane = override.lane;
+        }
+        if (override.deadline != null) {
+            merged.deadline = override.deadline;
+        }
+
+        return merged;
+    }
+}
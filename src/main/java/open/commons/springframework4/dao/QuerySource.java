@@ -0,0 +1,105 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:52:30
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+/**
+ * 쿼리 정보 파일을 다시 읽었는지 확인할 수 있는 {@link ReloadableResourceBundleMessageSource}.<br>
+ * 
+ * 파일을 다시 읽거나({@link #setCacheSeconds(int)}) {@link #clearCache()}를 호출할 때마다 {@link #getGeneration()}이 증가한다. DAO는 이 값이 바뀐 경우 쿼리
+ * 이름별로 보관한 쿼리 실행 설정({@link AbstractGenericDao#getQueryOptions(String)})을 다시 읽는다. <br>
+ * 
+ * <pre>
+ * &lt;bean id="querySource" class="open.commons.springframework4.dao.QuerySource"&gt;
+ *     &lt;property name="basename" value="classpath:dao/plant-queries" /&gt;
+ *     &lt;property name="cacheSeconds" value="60" /&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QuerySource extends ReloadableResourceBundleMessageSource {
+
+    /** 파일을 읽거나 보관된 내용을 제거할 때마다 증가 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 보관된 파일 내용을 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @see org.springframework.context.support.ReloadableResourceBundleMessageSource#clearCache()
+     */
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        this.generation.incrementAndGet();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 파일을 읽는다. 파일이 변경되지 않아 기존 내용을 사용하는 경우에는 {@link #getGeneration()}이 바뀌지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @see org.springframework.context.support.ReloadableResourceBundleMessageSource#refreshProperties(java.lang.String,
+     *      org.springframework.context.support.ReloadableResourceBundleMessageSource.PropertiesHolder)
+     */
+    @Override
+    protected PropertiesHolder refreshProperties(String filename, PropertiesHolder propHolder) {
+        PropertiesHolder refreshed = super.refreshProperties(filename, propHolder);
+        if (refreshed != propHolder) {
+            this.generation.incrementAndGet();
+        }
+        return refreshed;
+    }
+}
@@ -0,0 +1,236 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:20:06
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@link java.sql.Connection} 1회 할당(lease) 동안 생성된 {@link Statement}, {@link ResultSet}을 추적하고, 할당이 종료될 때 닫히지 않은 자원을 닫는 객체.<br>
+ * 
+ * 디버그 모드인 경우 {@link Statement}가 반환하는 {@link ResultSet}도 추적하며, 닫히지 않은 자원의 생성 위치(stack trace)를 로그로 남긴다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+final class ResourceTracker {
+
+    private static final Logger logger = LogManager.getLogger(ResourceTracker.class);
+
+    /** 닫힌 자원을 정리하는 기준 개수 */
+    private static final int PURGE_THRESHOLD = 32;
+
+    private final boolean debug;
+
+    private final List<Tracked> resources = new ArrayList<>();
+
+    private int purgeAt = PURGE_THRESHOLD;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param debug
+     *            자원 생성 위치 기록 여부
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    ResourceTracker(boolean debug) {
+        this.debug = debug;
+    }
+
+    private void add(AutoCloseable resource) {
+        if (this.resources.size() >= this.purgeAt) {
+            this.resources.removeIf(Tracked::isClosed);
+            this.purgeAt = Math.max(PURGE_THRESHOLD, this.resources.size() * 2);
+        }
+        this.resources.add(new Tracked(resource, this.debug ? new Throwable("Allocated here") : null));
+    }
+
+    /**
+     * 닫히지 않은 자원을 생성 역순으로 닫는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 닫히지 않았던 자원 개수. [0]: {@link Statement}, [1]: {@link ResultSet}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    int[] closeAll() {
+        int[] leaked = new int[2];
+
+        for (int i = this.resources.size() - 1; i >= 0; i--) {
+            Tracked tracked = this.resources.get(i);
+            if (tracked.isClosed()) {
+                continue;
+            }
+
+            boolean statement = tracked.resource instanceof Statement;
+            leaked[statement ? 0 : 1]++;
+
+            if (tracked.allocation != null) {
+                logger.warn("Unclosed " + (statement ? "Statement" : "ResultSet") + " at the end of connection lease. resource=" + tracked.resource,
+                        tracked.allocation);
+            }
+
+            try {
+                tracked.resource.close();
+            } catch (Exception ignored) {
+            }
+        }
+
+        this.resources.clear();
+
+        return leaked;
+    }
+
+    /**
+     * {@link Statement}를 추적한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param stmt
+     * @return 디버그 모드인 경우 {@link ResultSet}을 추적하는 객체, 아닌 경우 <code>stmt</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    Statement track(Statement stmt) {
+        add(stmt);
+
+        if (!this.debug) {
+            return stmt;
+        }
+
+        Class<?> type = stmt instanceof CallableStatement ? CallableStatement.class
+                : stmt instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(ResourceTracker.class.getClassLoader(), new Class<?>[] { type }, new StatementHandler(stmt));
+    }
+
+    /**
+     * 반환되는 {@link ResultSet}을 추적하는 객체.
+     */
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            try {
+                Object retVal = method.invoke(this.target, args);
+                if (retVal instanceof ResultSet) {
+                    add((ResultSet) retVal);
+                }
+                return retVal;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static class Tracked {
+        private final AutoCloseable resource;
+        /** 생성 위치. (nullable) */
+        private final Throwable allocation;
+
+        Tracked(AutoCloseable resource, Throwable allocation) {
+            this.resource = resource;
+            this.allocation = allocation;
+        }
+
+        boolean isClosed() {
+            try {
+                if (resource instanceof Statement) {
+                    return ((Statement) resource).isClosed();
+                } else {
+                    return ((ResultSet) resource).isClosed();
+                }
+            } catch (SQLException | AbstractMethodError e) {
+                // 상태를 확인할 수 없는 경우 닫기를 시도한다.
+                return false;
+            }
+        }
+    }
+}
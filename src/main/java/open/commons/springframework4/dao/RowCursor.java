@@ -0,0 +1,468 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오전 10:05:12
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+import open.commons.springframework4.dao.lob.LobStreams;
+import open.commons.springframework4.dao.lob.LobSupplier;
+
+/**
+ * {@link ResultSet}을 행(row) 단위로 순회하면서 데이터를 직접 읽는 재사용 객체.<br>
+ * 
+ * 조회 1회당 1개의 객체만 생성되며, 행마다 새로운 객체를 생성하지 않는다. 컬럼 위치는 조회 시작시점에 {@link #indexOf(String)}으로 미리 계산하고,
+ * 반복 구간에서는 컬럼 위치(index)를 이용하여 값을 읽는다.<br>
+ * 
+ * LOB 컬럼은 {@link #getBinaryStream(int)}, {@link #copyBlob(int, Path)} 등을 이용하여 데이터 전체를 메모리에 읽지 않고 처리할 수 있다.<br>
+ * 
+ * <b>주의</b>: 이 객체는 {@link RowCursorHandler} 실행 중에만 유효하며, 외부에 저장하여 사용해서는 안된다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class RowCursor {
+
+    private final ResultSet rs;
+    /** 컬럼 이름(대문자) - 컬럼 위치 */
+    private final Map<String, Integer> indexes;
+    private final int columnCount;
+
+    private long row;
+    /** 조회 종료 여부 */
+    private boolean closed;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param rs
+     *            조회 결과
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    RowCursor(ResultSet rs) throws SQLException {
+        this.rs = rs;
+
+        ResultSetMetaData meta = rs.getMetaData();
+        this.columnCount = meta.getColumnCount();
+        this.indexes = new HashMap<>(columnCount * 2);
+        for (int i = 1; i <= columnCount; i++) {
+            // 동일한 이름이 있는 경우 첫번째 컬럼을 사용한다.
+            indexes.putIfAbsent(meta.getColumnLabel(i).toUpperCase(), i);
+        }
+    }
+
+    private void checkValid(long row, int index) throws SQLException {
+        if (this.closed || this.row != row) {
+            throw new SQLException("LOB is no longer accessible. row=" + row + ", index=" + index + ", current-row=" + this.row + ", closed=" + this.closed);
+        }
+    }
+
+    /**
+     * 조회 종료를 설정한다. 이후 {@link LobSupplier}는 더 이상 유효하지 않다.
+     */
+    void close() {
+        this.closed = true;
+    }
+
+    /**
+     * BLOB 컬럼 데이터를 파일로 복사한다. 데이터 크기와 관계없이 {@link LobStreams#DEFAULT_BUFFER_SIZE} 크기의 버퍼만 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @param target
+     *            저장할 파일. 파일이 존재하는 경우 덮어쓴다.
+     * @return 복사한 데이터 크기 (단위: byte). 값이 <code>NULL</code>인 경우 -1 (파일을 생성하지 않는다)
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long copyBlob(int index, Path target) throws SQLException {
+        try (InputStream in = rs.getBinaryStream(index)) {
+            return in != null ? LobStreams.copy(in, target, LobStreams.DEFAULT_BUFFER_SIZE) : -1;
+        } catch (IOException e) {
+            throw new SQLException("Fail to copy BLOB. index=" + index + ", target=" + target, e);
+        }
+    }
+
+    /**
+     * BLOB 컬럼 데이터를 채널로 복사한다. 데이터 크기와 관계없이 {@link LobStreams#DEFAULT_BUFFER_SIZE} 크기의 버퍼만 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @param target
+     *            대상 채널. 복사 후 닫지 않는다.
+     * @return 복사한 데이터 크기 (단위: byte). 값이 <code>NULL</code>인 경우 -1
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long copyBlob(int index, WritableByteChannel target) throws SQLException {
+        try (InputStream in = rs.getBinaryStream(index)) {
+            return in != null ? LobStreams.copy(in, target, LobStreams.DEFAULT_BUFFER_SIZE) : -1;
+        } catch (IOException e) {
+            throw new SQLException("Fail to copy BLOB. index=" + index, e);
+        }
+    }
+
+    public BigDecimal getBigDecimal(int index) throws SQLException {
+        return rs.getBigDecimal(index);
+    }
+
+    /**
+     * BLOB/바이너리 컬럼 데이터를 읽는 {@link InputStream}을 제공한다. 현재 행을 처리하는 동안에만 유효하다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @return 값이 <code>NULL</code>인 경우 <code>null</code>
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public InputStream getBinaryStream(int index) throws SQLException {
+        return rs.getBinaryStream(index);
+    }
+
+    public boolean getBoolean(int index) throws SQLException {
+        return rs.getBoolean(index);
+    }
+
+    public byte getByte(int index) throws SQLException {
+        return rs.getByte(index);
+    }
+
+    public byte[] getBytes(int index) throws SQLException {
+        return rs.getBytes(index);
+    }
+
+    /**
+     * CLOB/문자 컬럼 데이터를 읽는 {@link Reader}를 제공한다. 현재 행을 처리하는 동안에만 유효하다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @return 값이 <code>NULL</code>인 경우 <code>null</code>
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Reader getCharacterStream(int index) throws SQLException {
+        return rs.getCharacterStream(index);
+    }
+
+    /**
+     * 조회 결과의 컬럼 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    public Date getDate(int index) throws SQLException {
+        return rs.getDate(index);
+    }
+
+    public double getDouble(int index) throws SQLException {
+        return rs.getDouble(index);
+    }
+
+    public float getFloat(int index) throws SQLException {
+        return rs.getFloat(index);
+    }
+
+    public int getInt(int index) throws SQLException {
+        return rs.getInt(index);
+    }
+
+    public long getLong(int index) throws SQLException {
+        return rs.getLong(index);
+    }
+
+    public Object getObject(int index) throws SQLException {
+        return rs.getObject(index);
+    }
+
+    /**
+     * 원본 {@link ResultSet}을 제공한다. <br>
+     * 커서 이동({@link ResultSet#next()} 등)은 {@link AbstractGenericDao}가 담당하므로 직접 호출해서는 안된다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public ResultSet getResultSet() {
+        return this.rs;
+    }
+
+    /**
+     * 현재 행 번호를 제공한다. (1부터 시작) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getRow() {
+        return this.row;
+    }
+
+    public short getShort(int index) throws SQLException {
+        return rs.getShort(index);
+    }
+
+    public String getString(int index) throws SQLException {
+        return rs.getString(index);
+    }
+
+    public Timestamp getTimestamp(int index) throws SQLException {
+        return rs.getTimestamp(index);
+    }
+
+    /**
+     * 컬럼 이름(label)에 해당하는 위치를 제공한다. <br>
+     * 반복 구간 밖({@link RowCursorHandler#begin(RowCursor)})에서 1회 호출하여 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param column
+     *            컬럼 이름. (대소문자 구분 없음)
+     * @return 컬럼 위치 (1부터 시작)
+     * @throws SQLException
+     *             컬럼이 존재하지 않는 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int indexOf(String column) throws SQLException {
+        Integer index = this.indexes.get(column.toUpperCase());
+        if (index == null) {
+            throw new SQLException("No such column. column=" + column);
+        }
+        return index;
+    }
+
+    /**
+     * 현재 행의 BLOB/바이너리 컬럼 데이터를 필요한 시점에 읽는 객체를 제공한다. <br>
+     * 다음 행으로 이동했거나 조회가 종료된 후 {@link LobSupplier#get()}을 호출하면 {@link SQLException}이 발생한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public LobSupplier<InputStream> lazyBinaryStream(int index) {
+        long current = this.row;
+        return () -> {
+            checkValid(current, index);
+            return rs.getBinaryStream(index);
+        };
+    }
+
+    /**
+     * 현재 행의 CLOB/문자 컬럼 데이터를 필요한 시점에 읽는 객체를 제공한다. <br>
+     * 다음 행으로 이동했거나 조회가 종료된 후 {@link LobSupplier#get()}을 호출하면 {@link SQLException}이 발생한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            컬럼 위치
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public LobSupplier<Reader> lazyCharacterStream(int index) {
+        long current = this.row;
+        return () -> {
+            checkValid(current, index);
+            return rs.getCharacterStream(index);
+        };
+    }
+
+    /**
+     * 다음 행으로 이동한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    boolean next() throws SQLException {
+        if (rs.next()) {
+            this.row++;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 컬럼의 값이 <code>NULL</code>인지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see ResultSet#wasNull()
+     */
+    public boolean wasNull() throws SQLException {
+        return rs.wasNull();
+    }
+}
@@ -0,0 +1,106 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오전 10:21:40
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.sql.SQLException;
+
+/**
+ * {@link RowCursor}를 이용하여 조회 결과를 행 단위로 처리하는 객체.<br>
+ * 
+ * 컬럼 위치 계산, 재사용할 엔티티 생성 등은 {@link #begin(RowCursor)}에서 1회 처리하고, {@link #handle(RowCursor)}에서는 객체를 생성하지 않도록 작성한다.
+ * 
+ * <pre>
+ * dao.scan(query, pstmt -&gt; pstmt.setString(1, plantID), new RowCursorHandler() {
+ *     int id;
+ *     int value;
+ *     long sum;
+ * 
+ *     public void begin(RowCursor cursor) throws SQLException {
+ *         id = cursor.indexOf("plant_id");
+ *         value = cursor.indexOf("value");
+ *     }
+ * 
+ *     public void handle(RowCursor cursor) throws SQLException {
+ *         sum += cursor.getLong(value);
+ *     }
+ * });
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+@FunctionalInterface
+public interface RowCursorHandler {
+
+    /**
+     * 조회 결과를 읽기 전에 1회 호출된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param cursor
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    default void begin(RowCursor cursor) throws SQLException {
+    }
+
+    /**
+     * 행 마다 호출된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param cursor
+     *            현재 행을 가리키는 객체. 모든 행에 대해 동일한 객체가 전달된다.
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    void handle(RowCursor cursor) throws SQLException;
+}
@@ -0,0 +1,434 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:12:36
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 1개의 {@link Connection}과 트랜잭션을 여러 DAO 요청이 함께 사용하도록 하는 작업 단위(unit of work).<br>
+ * 
+ * {@link DataSource}를 키로 {@link TransactionSynchronizationManager}에 등록되므로, 작업 단위 안에서 같은 {@link DataSource}를 사용하는 모든 DAO 요청은
+ * {@link org.springframework.jdbc.datasource.DataSourceUtils#getConnection(DataSource)}를 통해 같은 {@link Connection}을 할당받는다. <br>
+ * 작업 단위 안에서 생성된 {@link PreparedStatement}는 쿼리별로 보관되어, 같은 쿼리를 다시 요청하는 경우 재사용된다.
+ * 
+ * 다음 이름으로 {@link DaoMetrics}에 제공된다.
+ * <ul>
+ * <li>unitOfWork.commits: 완료된 작업 단위 개수
+ * <li>unitOfWork.rollbacks: 취소된 작업 단위 개수
+ * <li>unitOfWork.statements.prepared: 새로 생성된 {@link PreparedStatement} 개수
+ * <li>unitOfWork.statements.reused: 재사용된 {@link PreparedStatement} 개수
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+final class UnitOfWork extends ConnectionHolder {
+
+    private static final Logger logger = LogManager.getLogger(UnitOfWork.class);
+
+    /** 보관할 {@link PreparedStatement} 최대 개수 */
+    private final int maxStatements;
+    /** 쿼리 - 보관된 {@link PreparedStatement} */
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    private final LongAdder prepared;
+    private final LongAdder reused;
+    private final LongAdder commits;
+    private final LongAdder rollbacks;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param con
+     *            작업 단위가 사용할 {@link Connection}
+     * @param maxStatements
+     *            보관할 {@link PreparedStatement} 최대 개수. 0 이하인 경우 보관하지 않는다.
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    UnitOfWork(Connection con, int maxStatements, DaoMetrics metrics) {
+        super(con, true);
+
+        this.maxStatements = maxStatements;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= maxStatements) {
+                    return false;
+                }
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+
+        this.prepared = metrics.counter("unitOfWork.statements.prepared");
+        this.reused = metrics.counter("unitOfWork.statements.reused");
+        this.commits = metrics.counter("unitOfWork.commits");
+        this.rollbacks = metrics.counter("unitOfWork.rollbacks");
+    }
+
+    /**
+     * 현재 쓰레드에서 진행 중인 작업 단위를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     * @return 진행 중인 작업 단위가 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    static UnitOfWork current(DataSource dataSource) {
+        Object resource = TransactionSynchronizationManager.getResource(dataSource);
+        return resource instanceof UnitOfWork ? (UnitOfWork) resource : null;
+    }
+
+    private void closeStatements() {
+        for (Iterator<CachedStatement> it = this.statements.values().iterator(); it.hasNext();) {
+            it.next().evict();
+            it.remove();
+        }
+    }
+
+    /**
+     * 작업 단위를 등록하고 요청을 처리한다. 요청이 정상적으로 처리된 경우 트랜잭션을 완료(commit)하고, 예외가 발생하거나 작업 단위 안에서 실패한 DAO 요청이 있는 경우
+     * 트랜잭션을 취소(rollback)한다. <br>
+     * 작업 단위가 종료되면 보관된 {@link PreparedStatement}와 {@link Connection}을 닫는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     *            작업 단위를 등록할 키
+     * @param callback
+     *            DAO 요청을 처리하는 객체
+     * @return
+     * @throws Exception
+     *             <code>callback</code>에서 발생한 예외, 또는 트랜잭션 처리 중 발생한 {@link SQLException}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    <R> R execute(DataSource dataSource, Callable<R> callback) throws Exception {
+        Connection con = getConnection();
+        boolean autoCommit = con.getAutoCommit();
+        if (autoCommit) {
+            con.setAutoCommit(false);
+        }
+
+        boolean synchronization = !TransactionSynchronizationManager.isSynchronizationActive();
+        if (synchronization) {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.bindResource(dataSource, this);
+        setSynchronizedWithTransaction(true);
+
+        boolean committed = false;
+        try {
+            R r = callback.call();
+            if (isRollbackOnly()) {
+                throw new SQLException("Unit of work has been marked as rollback-only by a failed request.");
+            }
+
+            con.commit();
+            committed = true;
+            this.commits.increment();
+
+            return r;
+        } catch (Exception e) {
+            try {
+                con.rollback();
+            } catch (SQLException ignored) {
+            }
+            this.rollbacks.increment();
+
+            throw e;
+        } finally {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+            closeStatements();
+
+            if (synchronization) {
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                TransactionSynchronizationManager.clearSynchronization();
+                triggerAfterCompletion(synchronizations, committed);
+            }
+
+            try {
+                if (autoCommit) {
+                    con.setAutoCommit(true);
+                }
+            } catch (SQLException ignored) {
+            }
+            try {
+                con.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 보관된 {@link PreparedStatement}를 제공한다. 없는 경우 새로 생성하여 보관한다. <br>
+     * 동일한 쿼리의 {@link PreparedStatement}가 사용 중인 경우에는 보관하지 않는 객체를 새로 생성한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param args
+     *            {@link Connection#prepareStatement(String)}, {@link Connection#prepareStatement(String, int, int)} 파라미터
+     * @return 보관하지 않도록 설정되었거나 다른 형태의 파라미터인 경우 <code>null</code>
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    PreparedStatement prepareStatement(Object[] args) throws SQLException {
+        if (this.maxStatements < 1) {
+            return null;
+        }
+
+        String key;
+        int type = ResultSet.TYPE_FORWARD_ONLY;
+        int concurrency = ResultSet.CONCUR_READ_ONLY;
+        if (args.length == 1 && args[0] instanceof String) {
+            key = (String) args[0];
+        } else if (args.length == 3 && args[0] instanceof String && args[1] instanceof Integer && args[2] instanceof Integer) {
+            type = (Integer) args[1];
+            concurrency = (Integer) args[2];
+            key = type + ":" + concurrency + ":" + args[0];
+        } else {
+            return null;
+        }
+
+        CachedStatement cached = this.statements.get(key);
+        if (cached == null) {
+            cached = new CachedStatement(getConnection().prepareStatement((String) args[0], type, concurrency));
+            this.prepared.increment();
+            this.statements.put(key, cached);
+        } else if (cached.leased) {
+            this.prepared.increment();
+            return getConnection().prepareStatement((String) args[0], type, concurrency);
+        } else {
+            this.reused.increment();
+        }
+
+        return cached.lease();
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("UnitOfWork [connection=");
+        buffer.append(getConnection());
+        buffer.append(", statements=");
+        buffer.append(this.statements.size());
+        buffer.append(", rollbackOnly=");
+        buffer.append(isRollbackOnly());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    private static void triggerAfterCompletion(List<TransactionSynchronization> synchronizations, boolean committed) {
+        for (TransactionSynchronization synchronization : synchronizations) {
+            try {
+                if (committed) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+            } catch (RuntimeException e) {
+                logger.warn("Fail to invoke a synchronization after completion. synchronization=" + synchronization, e);
+            }
+        }
+    }
+
+    /**
+     * 작업 단위 안에서 재사용되는 {@link PreparedStatement}.
+     */
+    private static class CachedStatement {
+        private final PreparedStatement target;
+        /** 최초 설정값. 재사용시 복원한다. */
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+        /** 사용 중 여부 */
+        private boolean leased;
+        /** 보관 목록에서 제거되었는지 여부. 사용 중에 제거된 경우 반환될 때 닫는다. */
+        private boolean evicted;
+
+        CachedStatement(PreparedStatement target) throws SQLException {
+            this.target = target;
+            this.fetchSize = target.getFetchSize();
+            this.maxRows = target.getMaxRows();
+            this.queryTimeout = target.getQueryTimeout();
+        }
+
+        void evict() {
+            this.evicted = true;
+            if (!this.leased) {
+                try {
+                    this.target.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+
+        PreparedStatement lease() throws SQLException {
+            this.target.setFetchSize(this.fetchSize);
+            this.target.setMaxRows(this.maxRows);
+            this.target.setQueryTimeout(this.queryTimeout);
+            this.leased = true;
+
+            return (PreparedStatement) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                    new LeaseHandler(this));
+        }
+
+        void release() {
+            this.leased = false;
+            if (this.evicted) {
+                try {
+                    this.target.close();
+                } catch (SQLException ignored) {
+                }
+                return;
+            }
+
+            try {
+                this.target.clearParameters();
+                this.target.clearBatch();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * {@link CachedStatement} 1회 사용을 나타내는 객체. 닫는 경우 실제로 닫지 않고 반환한다.
+     */
+    private static class LeaseHandler implements InvocationHandler {
+
+        private final CachedStatement statement;
+
+        private boolean closed;
+
+        LeaseHandler(CachedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Leased" + this.statement.target;
+                case "close":
+                    if (!this.closed) {
+                        this.closed = true;
+                        this.statement.release();
+                    }
+                    return null;
+                case "isClosed":
+                    return this.closed || this.statement.target.isClosed();
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (this.closed) {
+                throw new SQLException("Statement is closed.");
+            }
+
+            try {
+                return method.invoke(this.statement.target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
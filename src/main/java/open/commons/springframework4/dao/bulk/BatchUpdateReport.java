@@ -0,0 +1,236 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:05:27
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.bulk;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청쿼리별로 실패를 격리하여 실행한 다중 (Insert/Update/Delete) 쿼리 요청의 결과.<br>
+ * 
+ * 요청쿼리 순서대로 변경된 데이터 개수와 오류 정보를 제공한다. 실패한 요청쿼리의 변경 내용만 취소되며, 나머지 요청쿼리의 변경 내용은 반영된다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class BatchUpdateReport {
+
+    /** 요청쿼리별 변경된 데이터 개수 */
+    private final int[] counts;
+    /** 요청쿼리별 오류. 성공한 경우 <code>null</code> */
+    private final SQLException[] errors;
+    /** 재실행을 포함한 요청쿼리 실행 횟수 */
+    private final int executions;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param counts
+     *            요청쿼리별 변경된 데이터 개수
+     * @param errors
+     *            요청쿼리별 오류. 성공한 경우 <code>null</code>
+     * @param executions
+     *            재실행을 포함한 요청쿼리 실행 횟수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public BatchUpdateReport(int[] counts, SQLException[] errors, int executions) {
+        if (counts.length != errors.length) {
+            throw new IllegalArgumentException("counts.length=" + counts.length + ", errors.length=" + errors.length);
+        }
+
+        this.counts = counts;
+        this.errors = errors;
+        this.executions = executions;
+    }
+
+    /**
+     * 요청쿼리가 변경한 데이터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            요청쿼리 위치
+     * @return 실패한 경우 0
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getCount(int index) {
+        return this.counts[index];
+    }
+
+    /**
+     * 요청쿼리의 오류 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param index
+     *            요청쿼리 위치
+     * @return 성공한 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public SQLException getError(int index) {
+        return this.errors[index];
+    }
+
+    public int getExecutions() {
+        return executions;
+    }
+
+    /**
+     * 실패한 요청쿼리의 위치를 순서대로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public List<Integer> getFailed() {
+        List<Integer> failed = new ArrayList<>();
+        for (int i = 0; i < this.errors.length; i++) {
+            if (this.errors[i] != null) {
+                failed.add(i);
+            }
+        }
+        return failed;
+    }
+
+    public int getSize() {
+        return this.counts.length;
+    }
+
+    /**
+     * 변경된 데이터 개수 합계를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getUpdated() {
+        int updated = 0;
+        for (int count : this.counts) {
+            updated += count;
+        }
+        return updated;
+    }
+
+    /**
+     * 실패한 요청쿼리가 있는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean hasFailure() {
+        for (SQLException error : this.errors) {
+            if (error != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isFailed(int index) {
+        return this.errors[index] != null;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("BatchUpdateReport [size=");
+        buffer.append(counts.length);
+        buffer.append(", updated=");
+        buffer.append(getUpdated());
+        buffer.append(", failed=");
+        buffer.append(getFailed());
+        buffer.append(", executions=");
+        buffer.append(executions);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,239 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:40:12
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.bulk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BulkLoader} 실행 결과.<br>
+ * 
+ * 단계(읽기/변환, 입력)별 처리량과 대기 시간을 함께 제공하여 병목 단계를 확인할 수 있도록 한다. 변환 단계의 대기 시간(queue full)이 긴 경우 입력 단계가, 입력 단계의 대기
+ * 시간(queue empty)이 긴 경우 변환 단계가 병목이다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class BulkLoadReport {
+
+    private final long bytes;
+    private final long lines;
+    private final long rows;
+    private final long rejected;
+    private final long elapsedNanos;
+
+    /** 변환 단계 실행 시간 합계 (단위: ns) */
+    private final long parseNanos;
+    /** 변환 단계에서 대기열이 가득 차서 대기한 시간 합계 (단위: ns) */
+    private final long parseBlockedNanos;
+    /** 입력 단계 실행 시간 합계 (단위: ns) */
+    private final long writeNanos;
+    /** 입력 단계에서 대기열이 비어서 대기한 시간 합계 (단위: ns) */
+    private final long writeIdleNanos;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param bytes
+     *            읽은 데이터 크기
+     * @param lines
+     *            읽은 줄 개수
+     * @param rows
+     *            입력된 데이터 개수
+     * @param rejected
+     *            거부된 줄 개수
+     * @param elapsedNanos
+     *            전체 소요 시간
+     * @param parseNanos
+     *            변환 단계 실행 시간 합계
+     * @param parseBlockedNanos
+     *            변환 단계 대기 시간 합계
+     * @param writeNanos
+     *            입력 단계 실행 시간 합계
+     * @param writeIdleNanos
+     *            입력 단계 대기 시간 합계
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public BulkLoadReport(long bytes, long lines, long rows, long rejected, long elapsedNanos, long parseNanos, long parseBlockedNanos, long writeNanos,
+            long writeIdleNanos) {
+        this.bytes = bytes;
+        this.lines = lines;
+        this.rows = rows;
+        this.rejected = rejected;
+        this.elapsedNanos = elapsedNanos;
+        this.parseNanos = parseNanos;
+        this.parseBlockedNanos = parseBlockedNanos;
+        this.writeNanos = writeNanos;
+        this.writeIdleNanos = writeIdleNanos;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getParseBlockedNanos() {
+        return parseBlockedNanos;
+    }
+
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * 변환 단계 처리량을 제공한다. (쓰레드 1개 기준) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: lines/sec
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getParseThroughput() {
+        return rate(this.lines, this.parseNanos);
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 전체 처리량을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: rows/sec
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getThroughput() {
+        return rate(this.rows, this.elapsedNanos);
+    }
+
+    public long getWriteIdleNanos() {
+        return writeIdleNanos;
+    }
+
+    public long getWriteNanos() {
+        return writeNanos;
+    }
+
+    /**
+     * 입력 단계 처리량을 제공한다. (연결 1개 기준) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: rows/sec
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getWriteThroughput() {
+        return rate(this.rows, this.writeNanos);
+    }
+
+    private static double rate(long count, long nanos) {
+        return nanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("BulkLoadReport [bytes=");
+        buffer.append(bytes);
+        buffer.append(", lines=");
+        buffer.append(lines);
+        buffer.append(", rows=");
+        buffer.append(rows);
+        buffer.append(", rejected=");
+        buffer.append(rejected);
+        buffer.append(", elapsed=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        buffer.append("ms, throughput=");
+        buffer.append(String.format("%.1f", getThroughput()));
+        buffer.append("/s, parse=");
+        buffer.append(String.format("%.1f", getParseThroughput()));
+        buffer.append("/s, parse-blocked=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(parseBlockedNanos));
+        buffer.append("ms, write=");
+        buffer.append(String.format("%.1f", getWriteThroughput()));
+        buffer.append("/s, write-idle=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(writeIdleNanos));
+        buffer.append("ms]");
+        return buffer.toString();
+    }
+}
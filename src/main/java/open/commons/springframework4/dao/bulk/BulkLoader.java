@@ -0,0 +1,766 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:52:36
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.bulk;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import open.commons.springframework4.dao.concurrent.DaoExecutors;
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.resilience.SQLExceptionUtils;
+
+/**
+ * 구분자(CSV/TSV 등)로 구분된 대용량 파일을 병렬로 읽어서 일괄 입력(batch insert)하는 객체.<br>
+ * 
+ * 다음 단계로 처리하며, 단계 사이는 크기가 제한된 대기열로 연결된다.
+ * <ol>
+ * <li>파일을 {@link #setChunkSize(long)} 크기의 구간으로 나눈다. 구간은 줄(레코드) 단위로 나뉜다.
+ * <li>변환 쓰레드가 구간을 메모리에 매핑(memory-mapped)하여 줄(레코드) 단위로 읽고, 컬럼 타입에 맞는 쿼리 파라미터로 변환한다.
+ * <li>입력 쓰레드가 각자의 {@link Connection}으로 {@link #setBatchSize(int)} 단위로 입력하고 commit 한다.
+ * </ol>
+ * 
+ * 변환할 수 없는 줄과 입력이 거부된(데이터 오류) 줄은 거부 파일(기본값: &lt;파일&gt;.rejects)에 <code>파일 위치(byte), 사유, 원본</code> 순서로 기록된다. 입력 중
+ * 데이터 오류가 아닌 오류(연결 오류 등)가 발생하면 전체 작업을 중단한다. 이미 commit 된 데이터는 취소되지 않는다. <br>
+ * 따옴표로 감싼 필드 안의 줄바꿈은 필드 값에 포함된다. 이를 위해 따옴표를 사용하는 경우({@link #setQuote(char)}) 구간을 나누기 전에 변환 쓰레드가 구간별 따옴표
+ * 개수를 병렬로 세고, 누적된 따옴표 개수로 구간 시작 위치가 따옴표 안인지 확인하여 줄 단위로 나눈다. <br>
+ * 따옴표는 위치와 관계없이 상태를 바꾼다. 따옴표로 감싸지 않은 필드 안에 짝이 맞지 않는 따옴표가 있는 경우(예: <code>5" pipe</code>) 다음 따옴표까지의 줄바꿈이 필드
+ * 값에 포함되어 여러 줄이 1개의 줄로 처리되고, 닫히지 않은 경우 파일 끝까지 1개의 줄로 처리되어 거부된다. 이런 파일은 따옴표를 사용하지 않도록 설정한다.
+ * 
+ * <pre>
+ * BulkLoader loader = new BulkLoader(dataSource, "INSERT INTO PLANT (ID, NAME, COST, CREATED) VALUES (?, ?, ?, ?)", //
+ *         Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP);
+ * loader.setSkipHeader(true);
+ * loader.setWriterThreads(8);
+ * BulkLoadReport report = loader.load(Paths.get("/data/vendor/plant-20261019.csv"));
+ * </pre>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다. (실행 중이거나 마지막으로 실행한 작업 기준)
+ * <ul>
+ * <li>bulk.read.bytes: 읽은 데이터 크기
+ * <li>bulk.parse.lines: 읽은 줄 개수
+ * <li>bulk.parse.rejected: 변환할 수 없는 줄 개수
+ * <li>bulk.parse.blockedMillis: 대기열이 가득 차서 변환 쓰레드가 대기한 시간 합계
+ * <li>bulk.write.rows: 입력된 데이터 개수
+ * <li>bulk.write.batches: 일괄 입력 횟수
+ * <li>bulk.write.rejected: 입력이 거부된 데이터 개수
+ * <li>bulk.write.idleMillis: 대기열이 비어서 입력 쓰레드가 대기한 시간 합계
+ * <li>bulk.queue.size: 대기열에 있는 일괄 입력 단위 개수
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ * 
+ * @see BulkLoadReport
+ */
+public class BulkLoader {
+
+    /** 대기열 종료 표시 */
+    private static final List<Row> END = new ArrayList<>(0);
+
+    /** 구간 최대 크기. 메모리 매핑 가능한 크기보다 작아야 한다. */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final DataSource dataSource;
+    private final String insertSql;
+    /** 컬럼 타입. {@link Types} */
+    private final int[] columnTypes;
+
+    private char delimiter = ',';
+    /** 0인 경우 따옴표를 사용하지 않는다. */
+    private char quote = '"';
+    private boolean skipHeader = false;
+    private Charset charset = StandardCharsets.UTF_8;
+    /** 구간 크기 (단위: byte) */
+    private long chunkSize = 8 * 1024 * 1024;
+    private int parserThreads = Runtime.getRuntime().availableProcessors();
+    private int writerThreads = 4;
+    private int batchSize = 1000;
+    /** 변환 - 입력 단계 사이 대기열 크기 (단위: 일괄 입력 단위) */
+    private int queueCapacity = 16;
+    /** 거부 파일. (nullable) */
+    private Path rejectFile;
+
+    /** 실행 중이거나 마지막으로 실행한 작업 상태 */
+    private volatile Stats stats = new Stats(null);
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     *            입력할 DBMS. 입력 쓰레드 개수만큼 {@link Connection}을 사용한다.
+     * @param insertSql
+     *            입력 쿼리
+     * @param columnTypes
+     *            파일 필드(쿼리 파라미터) 순서대로 컬럼 타입. {@link Types}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public BulkLoader(DataSource dataSource, String insertSql, int... columnTypes) {
+        if (columnTypes == null || columnTypes.length < 1) {
+            throw new IllegalArgumentException("columnTypes MUST NOT BE empty.");
+        }
+        this.dataSource = dataSource;
+        this.insertSql = insertSql;
+        this.columnTypes = columnTypes.clone();
+    }
+
+    private void bind(PreparedStatement pstmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] == null) {
+                pstmt.setNull(i + 1, this.columnTypes[i]);
+            } else {
+                pstmt.setObject(i + 1, params[i]);
+            }
+        }
+    }
+
+    /**
+     * 파일을 읽어서 입력한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param file
+     *            입력할 파일
+     * @return
+     * @throws IOException
+     *             파일을 읽을 수 없는 경우
+     * @throws SQLException
+     *             데이터 오류가 아닌 입력 오류가 발생한 경우
+     * @throws InterruptedException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public BulkLoadReport load(Path file) throws IOException, SQLException, InterruptedException {
+        BlockingQueue<List<Row>> queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        Stats stats = new Stats(queue);
+        this.stats = stats;
+
+        long started = System.nanoTime();
+        Path rejectPath = this.rejectFile != null ? this.rejectFile : file.resolveSibling(file.getFileName() + ".rejects");
+
+        ExecutorService parsers = newParserExecutor(this.parserThreads);
+        ExecutorService writers = DaoExecutors.newExecutor("bulk-writer", this.writerThreads);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ); RejectWriter rejects = new RejectWriter(rejectPath, this.charset)) {
+            List<Future<?>> writerFutures = new ArrayList<>();
+            for (int i = 0; i < this.writerThreads; i++) {
+                writerFutures.add(writers.submit(() -> {
+                    try {
+                        write(queue, stats, rejects);
+                    } catch (Throwable t) {
+                        // 입력이 중단되면 대기열이 비워지지 않으므로 읽기 작업도 바로 중단시킨다.
+                        stats.failure.compareAndSet(null, t);
+                        throw t;
+                    }
+                    return null;
+                }));
+            }
+
+            List<Future<?>> parserFutures = new ArrayList<>();
+            for (long[] chunk : split(channel, parsers)) {
+                parserFutures.add(parsers.submit(() -> {
+                    parse(channel, chunk[0], chunk[1], queue, stats, rejects);
+                    return null;
+                }));
+            }
+
+            await(parserFutures, stats);
+            for (int i = 0; i < this.writerThreads; i++) {
+                put(queue, END, stats);
+            }
+            await(writerFutures, stats);
+        } finally {
+            parsers.shutdownNow();
+            writers.shutdownNow();
+        }
+
+        Throwable failure = stats.failure.get();
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure != null) {
+            throw new IOException("Fail to load. file=" + file + ", cause=" + failure.getMessage(), failure);
+        }
+
+        BulkLoadReport report = new BulkLoadReport(stats.bytes.sum(), stats.lines.sum(), stats.rows.sum(), stats.parseRejected.sum() + stats.writeRejected.sum(),
+                System.nanoTime() - started, stats.parseNanos.sum(), stats.parseBlockedNanos.sum(), stats.writeNanos.sum(), stats.writeIdleNanos.sum());
+        logger.info("Bulk load completed. file={}, report={}", file, report);
+
+        return report;
+    }
+
+    /**
+     * 구간을 메모리에 매핑하여 줄 단위로 변환한다.
+     */
+    private void parse(FileChannel channel, long start, long end, BlockingQueue<List<Row>> queue, Stats stats, RejectWriter rejects)
+            throws IOException, InterruptedException {
+        long began = System.nanoTime();
+        long blocked = 0;
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        DelimitedLineParser parser = new DelimitedLineParser(this.delimiter, this.quote, this.columnTypes);
+
+        byte[] line = new byte[256];
+        List<Row> batch = new ArrayList<>(this.batchSize);
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit && stats.failure.get() == null) {
+            int lineEnd = lineStart;
+            boolean quoted = false;
+            while (lineEnd < limit) {
+                byte b = buffer.get(lineEnd);
+                if (b == '\n' && !quoted) {
+                    break;
+                } else if (this.quote != 0 && b == (byte) this.quote) {
+                    // 따옴표 2개("")는 상태가 2번 바뀌므로 별도로 처리하지 않는다.
+                    quoted = !quoted;
+                }
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            int len = lineEnd - lineStart;
+            if (len > 0) {
+                if (line.length < len) {
+                    line = new byte[Math.max(len, line.length * 2)];
+                }
+                for (int i = 0; i < len; i++) {
+                    line[i] = buffer.get(lineStart + i);
+                }
+                String text = new String(line, 0, len, this.charset);
+                stats.lines.increment();
+
+                try {
+                    batch.add(new Row(start + lineStart, parser.parse(text)));
+                } catch (IllegalArgumentException e) {
+                    stats.parseRejected.increment();
+                    rejects.write(start + lineStart, e.getMessage(), text);
+                }
+
+                if (batch.size() >= this.batchSize) {
+                    blocked += put(queue, batch, stats);
+                    batch = new ArrayList<>(this.batchSize);
+                }
+            }
+
+            lineStart = next;
+        }
+
+        if (!batch.isEmpty()) {
+            blocked += put(queue, batch, stats);
+        }
+
+        stats.bytes.add(end - start);
+        stats.parseBlockedNanos.add(blocked);
+        stats.parseNanos.add(System.nanoTime() - began - blocked);
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("bulk.read.bytes", () -> stats.bytes.sum());
+        metrics.gauge("bulk.parse.lines", () -> stats.lines.sum());
+        metrics.gauge("bulk.parse.rejected", () -> stats.parseRejected.sum());
+        metrics.gauge("bulk.parse.blockedMillis", () -> TimeUnit.NANOSECONDS.toMillis(stats.parseBlockedNanos.sum()));
+        metrics.gauge("bulk.write.rows", () -> stats.rows.sum());
+        metrics.gauge("bulk.write.batches", () -> stats.batches.sum());
+        metrics.gauge("bulk.write.rejected", () -> stats.writeRejected.sum());
+        metrics.gauge("bulk.write.idleMillis", () -> TimeUnit.NANOSECONDS.toMillis(stats.writeIdleNanos.sum()));
+        metrics.gauge("bulk.queue.size", () -> {
+            BlockingQueue<?> queue = stats.queue;
+            return queue != null ? queue.size() : 0;
+        });
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * 구간 크기를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param chunkSize
+     *            단위: byte. 최대 1GB
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setChunkSize(long chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize MUST BE in [1, " + MAX_CHUNK_SIZE + "]. chunkSize=" + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 필드 구분자를 설정한다. 기본값은 <code>','</code>이며, TSV 파일인 경우 <code>'\t'</code>를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param delimiter
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    public void setParserThreads(int parserThreads) {
+        this.parserThreads = parserThreads;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 따옴표 문자를 설정한다. 기본값은 <code>'"'</code>이며, 0인 경우 따옴표를 사용하지 않는다. <br>
+     * 따옴표로 감싸지 않은 필드 안에 짝이 맞지 않는 따옴표가 있는 파일은 줄바꿈이 필드 값에 포함되므로 0으로 설정한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			짝이 맞지 않는 따옴표 설명 추가
+     * </pre>
+     * 
+     * @param quote
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setQuote(char quote) {
+        this.quote = quote;
+    }
+
+    public void setRejectFile(Path rejectFile) {
+        this.rejectFile = rejectFile;
+    }
+
+    public void setSkipHeader(boolean skipHeader) {
+        this.skipHeader = skipHeader;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    /**
+     * 파일을 줄 단위 구간으로 나눈다. 따옴표를 사용하는 경우 {@link #chunkSize} 단위 구간의 따옴표 개수를 <code>parsers</code>에서 병렬로 세고, 누적된 개수로 각 구간
+     * 시작 위치의 따옴표 상태를 결정한다.
+     * 
+     * @return [시작 위치, 끝 위치)
+     */
+    private List<long[]> split(FileChannel channel, ExecutorService parsers) throws IOException, InterruptedException {
+        long size = channel.size();
+        long start = this.skipHeader ? nextLine(channel, 0, false, size, this.quote) : 0;
+        char quote = this.quote;
+
+        List<Future<Boolean>> odds = new ArrayList<>();
+        if (quote != 0) {
+            for (long from = start; from < size; from += this.chunkSize) {
+                long blockStart = from;
+                long blockEnd = Math.min(size, from + this.chunkSize);
+                odds.add(parsers.submit(() -> oddQuotes(channel, blockStart, blockEnd, quote)));
+            }
+        }
+
+        List<long[]> chunks = new ArrayList<>();
+        boolean quoted = false;
+        long chunkStart = start;
+        for (int i = 1; start + i * this.chunkSize < size; i++) {
+            long position = start + i * this.chunkSize;
+            if (quote != 0) {
+                quoted ^= get(odds.get(i - 1));
+            }
+            if (position < chunkStart) {
+                // 이전 구간의 마지막 줄이 이 구간을 포함한다.
+                continue;
+            }
+
+            long end = nextLine(channel, position, quoted, size, quote);
+            chunks.add(new long[] { chunkStart, end });
+            chunkStart = end;
+        }
+        if (chunkStart < size) {
+            chunks.add(new long[] { chunkStart, size });
+        }
+
+        return chunks;
+    }
+
+    /**
+     * 대기열에서 일괄 입력 단위를 받아서 입력한다.
+     */
+    private void write(BlockingQueue<List<Row>> queue, Stats stats, RejectWriter rejects) throws SQLException, IOException, InterruptedException {
+        try (Connection con = this.dataSource.getConnection()) {
+            con.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = con.prepareStatement(this.insertSql)) {
+                while (true) {
+                    long waited = System.nanoTime();
+                    List<Row> batch = queue.poll(100, TimeUnit.MILLISECONDS);
+                    stats.writeIdleNanos.add(System.nanoTime() - waited);
+
+                    if (batch == END || (batch == null && stats.failure.get() != null)) {
+                        return;
+                    } else if (batch == null) {
+                        continue;
+                    }
+
+                    long began = System.nanoTime();
+                    writeBatch(con, pstmt, batch, stats, rejects);
+                    stats.writeNanos.add(System.nanoTime() - began);
+                }
+            }
+        }
+    }
+
+    /**
+     * 일괄 입력한다. 데이터 오류로 실패한 경우 1건씩 입력하여 오류 데이터를 거부 파일에 기록한다.
+     */
+    private void writeBatch(Connection con, PreparedStatement pstmt, List<Row> batch, Stats stats, RejectWriter rejects) throws SQLException, IOException {
+        try {
+            for (Row row : batch) {
+                bind(pstmt, row.params);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+            con.commit();
+
+            stats.rows.add(batch.size());
+            stats.batches.increment();
+            return;
+        } catch (SQLException e) {
+            pstmt.clearBatch();
+            con.rollback();
+
+            if (!SQLExceptionUtils.isClientError(e)) {
+                throw e;
+            }
+            logger.debug("Fail to insert a batch. Retry one by one. size={}, cause={}", batch.size(), e.getMessage());
+        }
+
+        for (Row row : batch) {
+            try {
+                bind(pstmt, row.params);
+                pstmt.executeUpdate();
+                con.commit();
+                stats.rows.increment();
+            } catch (SQLException e) {
+                con.rollback();
+
+                if (!SQLExceptionUtils.isClientError(e)) {
+                    throw e;
+                }
+                stats.writeRejected.increment();
+                rejects.write(row.offset, e.getMessage(), Arrays.toString(row.params));
+            }
+        }
+    }
+
+    private static void await(List<Future<?>> futures, Stats stats) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                stats.failure.compareAndSet(null, e.getCause());
+            }
+        }
+    }
+
+    /** 작업 결과를 제공한다. 작업 중 발생한 {@link IOException}은 그대로 전달한다. */
+    private static <V> V get(Future<V> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static ExecutorService newParserExecutor(int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "bulk-parser-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * <code>position</code> 이후 첫번째 줄의 시작 위치를 제공한다. 따옴표 안의 줄바꿈은 제외한다.
+     * 
+     * @param quoted
+     *            <code>position</code>이 따옴표 안인지 여부
+     */
+    private static long nextLine(FileChannel channel, long position, boolean quoted, long size, char quote) throws IOException {
+        byte[] bytes = new byte[8192];
+
+        long pos = position;
+        while (pos < size) {
+            int read = channel.read(ByteBuffer.wrap(bytes), pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (quote != 0 && bytes[i] == (byte) quote) {
+                    quoted = !quoted;
+                } else if (bytes[i] == '\n' && !quoted) {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * [<code>from</code>, <code>to</code>) 구간의 따옴표 개수가 홀수인지 여부를 제공한다.
+     */
+    private static boolean oddQuotes(FileChannel channel, long from, long to, char quote) throws IOException {
+        byte[] bytes = new byte[65536];
+        boolean odd = false;
+
+        long pos = from;
+        while (pos < to) {
+            int read = channel.read(ByteBuffer.wrap(bytes, 0, (int) Math.min(bytes.length, to - pos)), pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == (byte) quote) {
+                    odd = !odd;
+                }
+            }
+            pos += read;
+        }
+
+        return odd;
+    }
+
+    /**
+     * 대기열에 추가한다. 작업이 중단된 경우 추가하지 않는다.
+     * 
+     * @return 대기 시간 (단위: ns)
+     */
+    private static long put(BlockingQueue<List<Row>> queue, List<Row> batch, Stats stats) throws InterruptedException {
+        if (queue.offer(batch)) {
+            return 0;
+        }
+
+        long began = System.nanoTime();
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (stats.failure.get() != null) {
+                break;
+            }
+        }
+        return System.nanoTime() - began;
+    }
+
+    /**
+     * 거부된 줄을 기록하는 객체. 거부된 줄이 있는 경우에만 파일을 생성한다.
+     */
+    private static class RejectWriter implements Closeable {
+        private final Path file;
+        private final Charset charset;
+        private final ReentrantLock lock = new ReentrantLock();
+        private BufferedWriter writer;
+
+        RejectWriter(Path file, Charset charset) {
+            this.file = file;
+            this.charset = charset;
+        }
+
+        @Override
+        public void close() throws IOException {
+            lock.lock();
+            try {
+                if (writer != null) {
+                    writer.close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void write(long offset, String reason, String line) throws IOException {
+            lock.lock();
+            try {
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(file, charset);
+                }
+                writer.write(Long.toString(offset));
+                writer.write('\t');
+                writer.write(reason != null ? reason.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ') : "");
+                writer.write('\t');
+                writer.write(line);
+                writer.newLine();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 1줄 변환 결과.
+     */
+    private static class Row {
+        /** 파일 위치 (단위: byte) */
+        private final long offset;
+        private final Object[] params;
+
+        Row(long offset, Object[] params) {
+            this.offset = offset;
+            this.params = params;
+        }
+    }
+
+    /**
+     * 작업 상태.
+     */
+    private static class Stats {
+        private final BlockingQueue<?> queue;
+
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder parseRejected = new LongAdder();
+        private final LongAdder parseNanos = new LongAdder();
+        private final LongAdder parseBlockedNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder writeRejected = new LongAdder();
+        private final LongAdder writeNanos = new LongAdder();
+        private final LongAdder writeIdleNanos = new LongAdder();
+
+        /** 작업을 중단시킨 오류 */
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Stats(BlockingQueue<?> queue) {
+            this.queue = queue;
+        }
+    }
+}
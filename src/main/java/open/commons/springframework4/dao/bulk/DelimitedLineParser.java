@@ -0,0 +1,232 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:31:50
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.bulk;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * 구분자(delimiter)로 구분된 1줄을 필드로 분리하고 컬럼 타입에 맞는 값으로 변환하는 객체.<br>
+ * 
+ * 따옴표(quote)로 감싼 필드는 구분자를 포함할 수 있으며, 따옴표 2개는 따옴표 1개로 변환된다. 필드 안의 줄바꿈은 그대로 유지된다. <br>
+ * 쓰레드에 안전하지 않으므로 쓰레드마다 생성하여 사용한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+class DelimitedLineParser {
+
+    private final char delimiter;
+    /** 0인 경우 따옴표를 사용하지 않는다. */
+    private final char quote;
+    /** 컬럼 타입. {@link Types} */
+    private final int[] columnTypes;
+
+    private final String[] fields;
+    private final StringBuilder field = new StringBuilder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param delimiter
+     *            필드 구분자
+     * @param quote
+     *            따옴표. 0인 경우 사용하지 않는다.
+     * @param columnTypes
+     *            컬럼 타입. {@link Types}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    DelimitedLineParser(char delimiter, char quote, int[] columnTypes) {
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.columnTypes = columnTypes;
+        this.fields = new String[columnTypes.length];
+    }
+
+    private Object convert(String value, int type) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.valueOf(value.trim());
+            case Types.BIGINT:
+                return Long.valueOf(value.trim());
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return new BigDecimal(value.trim());
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.valueOf(value.trim());
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return parseBoolean(value.trim());
+            case Types.DATE:
+                return Date.valueOf(value.trim());
+            case Types.TIME:
+                return Time.valueOf(value.trim());
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value.trim());
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * 1줄을 분리하고 컬럼 타입에 맞게 변환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param line
+     *            줄바꿈 문자를 제외한 1줄
+     * @return 쿼리 파라미터. 빈 필드는 <code>null</code>
+     * @throws IllegalArgumentException
+     *             필드 개수가 컬럼 개수와 다르거나, 값을 변환할 수 없는 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    Object[] parse(String line) {
+        int count = split(line);
+        if (count != this.columnTypes.length) {
+            throw new IllegalArgumentException("Field count mismatch. expected=" + this.columnTypes.length + ", actual=" + count);
+        }
+
+        Object[] params = new Object[count];
+        for (int i = 0; i < count; i++) {
+            try {
+                params[i] = convert(this.fields[i], this.columnTypes[i]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value. column=" + (i + 1) + ", value=" + this.fields[i], e);
+            }
+        }
+        return params;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        switch (value.toLowerCase()) {
+            case "1":
+            case "true":
+            case "y":
+            case "yes":
+                return Boolean.TRUE;
+            case "0":
+            case "false":
+            case "n":
+            case "no":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Not a boolean. value=" + value);
+        }
+    }
+
+    /**
+     * @return 필드 개수. 컬럼 개수보다 많은 경우 컬럼 개수 + 1
+     */
+    private int split(String line) {
+        Arrays.fill(this.fields, null);
+
+        int count = 0;
+        int len = line.length();
+        int i = 0;
+        while (true) {
+            this.field.setLength(0);
+
+            if (this.quote != 0 && i < len && line.charAt(i) == this.quote) {
+                i++;
+                while (true) {
+                    if (i >= len) {
+                        throw new IllegalArgumentException("Unterminated quoted field. column=" + (count + 1));
+                    }
+                    char c = line.charAt(i++);
+                    if (c == this.quote) {
+                        if (i < len && line.charAt(i) == this.quote) {
+                            this.field.append(c);
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        this.field.append(c);
+                    }
+                }
+                if (i < len && line.charAt(i) != this.delimiter) {
+                    throw new IllegalArgumentException("Unexpected character after quoted field. column=" + (count + 1));
+                }
+            } else {
+                int end = line.indexOf(this.delimiter, i);
+                if (end < 0) {
+                    end = len;
+                }
+                this.field.append(line, i, end);
+                i = end;
+            }
+
+            if (count >= this.fields.length) {
+                return count + 1;
+            }
+            this.fields[count++] = this.field.toString();
+
+            if (i >= len) {
+                return count;
+            }
+            // 구분자
+            i++;
+        }
+    }
+}
@@ -0,0 +1,539 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:05:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 키(key) 컬럼 값으로 조회한 엔티티를 메모리에 보관하는 객체.<br>
+ * 
+ * 엔티티 타입별로 1개를 생성하며, 최대 개수를 넘는 경우 가장 오래 사용되지 않은 엔티티부터 제거한다. 동시 접근시 경합을 줄이기 위해 키의 해시값으로 구간(segment)을 나누어
+ * 관리한다.<br>
+ * 보관된 엔티티는 여러 요청에서 공유되므로 변경하지 않아야 한다. <br>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>entityCache.&lt;엔티티 이름&gt;.hits: 보관된 엔티티를 제공한 횟수
+ * <li>entityCache.&lt;엔티티 이름&gt;.misses: 보관된 엔티티가 없었던 횟수
+ * <li>entityCache.&lt;엔티티 이름&gt;.evictions: 최대 개수 초과로 제거된 개수
+ * <li>entityCache.&lt;엔티티 이름&gt;.size: 보관 중인 개수
+ * <li>entityCache.&lt;엔티티 이름&gt;.hitRatio: 적중률 (0 ~ 1)
+ * </ul>
+ * 
+ * @param <T>
+ *            엔티티 타입
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class EntityCache<T> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Class<T> entity;
+    /** 엔티티 테이블 */
+    private final String table;
+    /** 키 컬럼 */
+    private final String[] keyColumns;
+    private final int maxSize;
+
+    private final Segment<T>[] segments;
+
+    /** 무효화 횟수. 조회 중 무효화된 엔티티가 다시 보관되는 것을 방지한다. */
+    private final AtomicLong version = new AtomicLong();
+
+    /** 보관 후 유효 시간 (단위: ns). 0 이하인 경우 제한 없음. */
+    private volatile long expireAfterWriteNanos = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param entity
+     *            엔티티 타입
+     * @param table
+     *            엔티티 테이블. 테이블 변경 쿼리 실행시 무효화 대상을 확인하는데 사용된다.
+     * @param maxSize
+     *            최대 보관 개수
+     * @param keyColumns
+     *            키 컬럼. 조회시 키 값은 컬럼 순서대로 전달한다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    @SuppressWarnings("unchecked")
+    public EntityCache(Class<T> entity, String table, int maxSize, String... keyColumns) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize MUST BE greater than 0. maxSize=" + maxSize);
+        }
+        if (keyColumns == null || keyColumns.length < 1) {
+            throw new IllegalArgumentException("keyColumns MUST NOT BE empty. entity=" + entity);
+        }
+
+        this.entity = entity;
+        this.table = table;
+        this.maxSize = maxSize;
+        this.keyColumns = keyColumns.clone();
+
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // 구간별 최대 개수의 합이 maxSize와 같도록 나머지를 앞 구간에 분배한다.
+            this.segments[i] = new Segment<>(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * 키 값으로 보관된 엔티티를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param key
+     *            키 값. {@link #key(Object...)}
+     * @return 보관된 엔티티. 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public T get(Object key) {
+        T value = segment(key).get(key, this.expireAfterWriteNanos);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    public Class<T> getEntity() {
+        return entity;
+    }
+
+    /**
+     * 적중률을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 0 ~ 1. 조회 요청이 없었던 경우 0
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getHitRatio() {
+        long hit = this.hits.sum();
+        long total = hit + this.misses.sum();
+        return total > 0 ? (double) hit / total : 0;
+    }
+
+    public List<String> getKeyColumns() {
+        return Collections.unmodifiableList(Arrays.asList(keyColumns));
+    }
+
+    /**
+     * 키 값으로 엔티티를 조회하는 쿼리를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return <code>SELECT * FROM {table} WHERE {key1} = ? AND {key2} = ? ...</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String getLookupQuery() {
+        StringBuilder query = new StringBuilder("SELECT * FROM ").append(this.table).append(" WHERE ");
+        for (int i = 0; i < this.keyColumns.length; i++) {
+            if (i > 0) {
+                query.append(" AND ");
+            }
+            query.append(this.keyColumns[i]).append(" = ?");
+        }
+        return query.toString();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * 보관 중인 엔티티 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getSize() {
+        int size = 0;
+        for (Segment<T> segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 키 값에 해당하는 엔티티를 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param key
+     *            키 값. {@link #key(Object...)}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void invalidate(Object key) {
+        this.version.incrementAndGet();
+        segment(key).remove(key);
+    }
+
+    /**
+     * 보관된 모든 엔티티를 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void invalidateAll() {
+        this.version.incrementAndGet();
+        for (Segment<T> segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * 엔티티를 보관한다. 조회를 시작한 이후 무효화가 발생한 경우 보관하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param key
+     *            키 값. {@link #key(Object...)}
+     * @param value
+     *            엔티티
+     * @param version
+     *            조회 시작 전에 확인한 {@link #version()}
+     * @return 보관 여부
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean put(Object key, T value, long version) {
+        if (value == null || this.version.get() != version) {
+            return false;
+        }
+
+        Segment<T> segment = segment(key);
+        segment.lock.lock();
+        try {
+            // 잠금 이후에 다시 확인하여 무효화와 보관이 교차되지 않도록 한다.
+            if (this.version.get() != version) {
+                return false;
+            }
+            if (segment.put(key, value)) {
+                evictions.increment();
+            }
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        String prefix = "entityCache." + this.entity.getSimpleName() + ".";
+        metrics.gauge(prefix + "hits", () -> hits.sum());
+        metrics.gauge(prefix + "misses", () -> misses.sum());
+        metrics.gauge(prefix + "evictions", () -> evictions.sum());
+        metrics.gauge(prefix + "size", () -> getSize());
+        metrics.gauge(prefix + "hitRatio", () -> getHitRatio());
+    }
+
+    private Segment<T> segment(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return this.segments[h & (this.segments.length - 1)];
+    }
+
+    /**
+     * 보관 후 유효 시간을 설정한다. 다른 프로그램에서 테이블을 변경하는 경우 변경 내용이 반영되는 최대 지연 시간이 된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param expireAfterWrite
+     *            유효 시간 (단위: ms). 0 이하인 경우 제한 없음.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setExpireAfterWrite(long expireAfterWrite) {
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWrite);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("EntityCache [entity=");
+        buffer.append(entity.getName());
+        buffer.append(", table=");
+        buffer.append(table);
+        buffer.append(", keyColumns=");
+        buffer.append(Arrays.toString(keyColumns));
+        buffer.append(", maxSize=");
+        buffer.append(maxSize);
+        buffer.append(", size=");
+        buffer.append(getSize());
+        buffer.append(", hitRatio=");
+        buffer.append(getHitRatio());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 무효화 횟수를 제공한다. 엔티티를 조회하기 전에 확인하여 {@link #put(Object, Object, long)}에 전달한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long version() {
+        return this.version.get();
+    }
+
+    /**
+     * 키 컬럼 값으로 키 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param values
+     *            키 컬럼 순서대로 값
+     * @return 값이 1개인 경우 그 값, 여러 개인 경우 {@link List}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Object key(Object... values) {
+        return values.length == 1 ? values[0] : Arrays.asList(values.clone());
+    }
+
+    /**
+     * 최근 사용 순서를 유지하는 구간.
+     */
+    private static class Segment<T> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Object, Entry<T>> entries;
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        T get(Object key, long expireAfterWriteNanos) {
+            lock.lock();
+            try {
+                Entry<T> entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (expireAfterWriteNanos > 0 && System.nanoTime() - entry.written > expireAfterWriteNanos) {
+                    entries.remove(key);
+                    return null;
+                }
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 잠금을 획득한 상태에서 호출한다.
+         * 
+         * @return 최대 개수 초과로 제거된 엔티티가 있는지 여부
+         */
+        boolean put(Object key, T value) {
+            entries.put(key, new Entry<>(value));
+            if (entries.size() > maxSize) {
+                Map.Entry<Object, Entry<T>> eldest = entries.entrySet().iterator().next();
+                entries.remove(eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+
+        void remove(Object key) {
+            lock.lock();
+            try {
+                entries.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final long written = System.nanoTime();
+
+        Entry(T value) {
+            this.value = value;
+        }
+    }
+}
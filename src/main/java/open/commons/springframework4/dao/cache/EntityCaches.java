@@ -0,0 +1,247 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:31:12
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 엔티티 타입별 {@link EntityCache}를 관리하고, 테이블 변경 쿼리 실행시 해당 테이블의 엔티티를 무효화하는 객체.<br>
+ * 
+ * 테이블은 쿼리의 시작 부분(<code>UPDATE</code>, <code>DELETE FROM</code>, <code>MERGE INTO</code>, <code>TRUNCATE</code> 등)으로 확인하며, 확인할 수 없는 쿼리는
+ * 모든 엔티티를 무효화한다. 중복키 처리(<code>ON DUPLICATE KEY</code>, <code>ON CONFLICT</code>)가 없는 <code>INSERT</code>는 보관된 엔티티를 변경하지 않으므로
+ * 무효화하지 않는다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class EntityCaches {
+
+    private static final Pattern WRITE = Pattern.compile(
+            "^\\s*(?:/\\*.*?\\*/\\s*)*(INSERT|UPDATE|DELETE|MERGE|REPLACE|UPSERT|TRUNCATE)\\b(?:\\s+(?:LOW_PRIORITY|DELAYED|HIGH_PRIORITY|QUICK|IGNORE|ONLY))*\\s+(?:(?:FROM|INTO|TABLE)\\s+)?([^\\s(,;]+)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern UPSERT = Pattern.compile("\\bON\\s+(?:DUPLICATE\\s+KEY|CONFLICT)\\b", Pattern.CASE_INSENSITIVE);
+
+    /** 변경 테이블을 확인할 수 없는 경우 */
+    private static final String ALL_TABLES = "*";
+    /** 보관된 엔티티를 변경하지 않는 경우 */
+    private static final String NO_TABLE = "";
+    /** 쿼리별 확인 결과 최대 보관 개수 */
+    private static final int MAX_QUERIES = 4096;
+
+    /** 엔티티 타입 - 엔티티 보관 객체 */
+    private final Map<Class<?>, EntityCache<?>> caches = new HashMap<>();
+    /** 테이블 (소문자) - 엔티티 보관 객체 */
+    private final Map<String, List<EntityCache<?>>> tables = new HashMap<>();
+
+    /** 쿼리 - 변경 테이블 (소문자) */
+    private final ConcurrentHashMap<String, String> targets = new ConcurrentHashMap<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param caches
+     *            엔티티 보관 객체. 엔티티 타입은 중복될 수 없다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public EntityCaches(Collection<EntityCache<?>> caches) {
+        for (EntityCache<?> cache : caches) {
+            if (this.caches.put(cache.getEntity(), cache) != null) {
+                throw new IllegalArgumentException("Duplicated entity. entity=" + cache.getEntity().getName());
+            }
+            this.tables.computeIfAbsent(normalize(cache.getTable()), t -> new ArrayList<>()).add(cache);
+        }
+    }
+
+    /**
+     * 엔티티 타입에 해당하는 보관 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param entity
+     * @return 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityCache<T> get(Class<T> entity) {
+        return (EntityCache<T>) this.caches.get(entity);
+    }
+
+    /**
+     * 쿼리가 변경하는 테이블의 엔티티를 모두 무효화한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param query
+     *            실행한 쿼리
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void invalidate(String query) {
+        if (query == null) {
+            invalidateAll();
+            return;
+        }
+
+        String table = this.targets.get(query);
+        if (table == null) {
+            if (this.targets.size() >= MAX_QUERIES) {
+                // 동적으로 생성되는 쿼리가 누적되지 않도록 한다.
+                this.targets.clear();
+            }
+            table = target(query);
+            this.targets.put(query, table);
+        }
+
+        switch (table) {
+            case NO_TABLE:
+                break;
+            case ALL_TABLES:
+                invalidateAll();
+                break;
+            default:
+                this.tables.getOrDefault(table, Collections.emptyList()).forEach(EntityCache::invalidateAll);
+                break;
+        }
+    }
+
+    /**
+     * 모든 엔티티를 무효화한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void invalidateAll() {
+        this.caches.values().forEach(EntityCache::invalidateAll);
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see EntityCache#registerMetrics(DaoMetrics)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        this.caches.values().forEach(c -> c.registerMetrics(metrics));
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("EntityCaches [caches=");
+        buffer.append(caches.values());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 스키마, 따옴표를 제외한 소문자 테이블 이름을 제공한다.
+     */
+    private static String normalize(String table) {
+        String name = table.replaceAll("[\"`\\[\\]]", "");
+        return name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * 쿼리가 변경하는 테이블을 제공한다.
+     */
+    static String target(String query) {
+        Matcher m = WRITE.matcher(query);
+        if (!m.find()) {
+            return ALL_TABLES;
+        }
+        if (m.group(1).equalsIgnoreCase("INSERT") && !UPSERT.matcher(query).find()) {
+            return NO_TABLE;
+        }
+        return normalize(m.group(2));
+    }
+}
@@ -0,0 +1,256 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:55:03
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.resilience.LoadShedder;
+import open.commons.springframework4.dao.resilience.LoadSheddingException;
+
+/**
+ * {@link java.sql.Connection} 할당 개수를 제한하여, 제한을 넘는 요청은 허가를 받을 때까지 대기하는 객체.<br>
+ * 
+ * 가상 쓰레드({@link DaoExecutors})로 많은 요청을 동시에 받는 경우 연결 풀(connection pool) 내부 대기열이 아닌 이 객체에서 대기하도록 하며, 최대 개수는 연결 풀 크기로
+ * 설정한다. 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 사용해야 한다. 대기하지 않고 즉시 거부해야 하는 경우에는 {@link LoadShedder}를 사용한다.
+ * <br>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>connectionGate.inUse: 허가를 받은 요청 개수
+ * <li>connectionGate.waiting: 대기 중인 요청 개수(추정)
+ * <li>connectionGate.timeouts: 대기 시간을 초과한 요청 개수
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConnectionGate {
+
+    private final int permits;
+    /** 먼저 대기한 요청이 먼저 허가를 받는다. */
+    private final Semaphore semaphore;
+
+    /** 허가 대기 시간 (단위: ms) */
+    private long acquireTimeout = 30000;
+
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param permits
+     *            최대 동시 할당 개수. 연결 풀 크기
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public ConnectionGate(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits MUST BE greater than 0. permits=" + permits);
+        }
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * 허가를 받을 때까지 대기한다. 허가를 받은 경우 반드시 {@link #release()}를 호출해야 한다. <br>
+     * 대기 시간 초과는 DBMS 연결 오류가 아니므로 재시도하지 않도록 {@link LoadSheddingException}을 발생시킨다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			대기 시간 초과시 LoadSheddingException 발생
+     * </pre>
+     * 
+     * @throws LoadSheddingException
+     *             대기 시간을 초과했거나 대기 중 인터럽트가 발생한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void acquire() throws LoadSheddingException {
+        try {
+            if (!this.semaphore.tryAcquire(this.acquireTimeout, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new LoadSheddingException("Timed out waiting for a connection permit. permits=" + this.permits + ", timeout=" + this.acquireTimeout + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoadSheddingException("Interrupted while waiting for a connection permit.", e);
+        }
+    }
+
+    /**
+     * 같은 설정으로 새로운 객체를 생성한다. 상태 정보는 복사하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public ConnectionGate copy() {
+        ConnectionGate copy = new ConnectionGate(this.permits);
+        copy.acquireTimeout = this.acquireTimeout;
+        return copy;
+    }
+
+    public long getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    /**
+     * 허가를 받은 요청 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int getInUse() {
+        return this.permits - this.semaphore.availablePermits();
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("connectionGate.inUse", () -> getInUse());
+        metrics.gauge("connectionGate.waiting", () -> semaphore.getQueueLength());
+        metrics.gauge("connectionGate.timeouts", () -> timeouts.sum());
+    }
+
+    /**
+     * 허가를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void release() {
+        this.semaphore.release();
+    }
+
+    /**
+     * 허가 대기 시간을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param acquireTimeout
+     *            단위: ms
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setAcquireTimeout(long acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("ConnectionGate [permits=");
+        buffer.append(permits);
+        buffer.append(", inUse=");
+        buffer.append(getInUse());
+        buffer.append(", acquireTimeout=");
+        buffer.append(acquireTimeout);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
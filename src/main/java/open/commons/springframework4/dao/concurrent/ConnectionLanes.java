@@ -0,0 +1,591 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:47:05
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import open.commons.springframework4.dao.QueryOptions;
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.resilience.LoadSheddingException;
+
+/**
+ * 요청 종류(lane)별로 {@link java.sql.Connection} 할당 개수를 나누어 제한하는 객체.<br>
+ * 
+ * lane마다 예약 개수와 최대 개수를 설정한다. 예약 개수는 다른 lane이 사용할 수 없으며, 예약 개수를 넘는 할당은 모든 lane이 공유하는 나머지 개수에서 최대 개수까지
+ * 허용된다. 허가를 기다리는 요청이 여러 lane에 있는 경우, 먼저 등록된 lane(우선순위가 높은 lane)의 요청이 먼저 허가를 받는다. <br>
+ * 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 사용해야 하며, 전체 개수는 연결 풀 크기로 설정한다. 요청의 lane은 {@link QueryOptions#lane(String)} 또는
+ * 쿼리 정보 파일의 {@link QueryOptions#LANE} 항목으로 지정하며, 지정하지 않았거나 등록되지 않은 lane인 경우 기본 lane을 사용한다.
+ * 
+ * <pre>
+ * ConnectionLanes lanes = new ConnectionLanes(20);
+ * lanes.addLane("interactive", 5, 20);
+ * lanes.addLane("batch", 2, 10);
+ * lanes.setDefaultLane("interactive");
+ * 
+ * dao.setConnectionLanes(lanes);
+ * dao.getList(query, setter, new QueryOptions().lane("batch"), Report.class);
+ * </pre>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 lane별로 다음 이름으로 제공된다.
+ * <ul>
+ * <li>connectionLanes.&lt;lane&gt;.inUse: 허가를 받은 요청 개수
+ * <li>connectionLanes.&lt;lane&gt;.waiting: 대기 중인 요청 개수
+ * <li>connectionLanes.&lt;lane&gt;.acquired: 허가를 받은 요청 누적 개수
+ * <li>connectionLanes.&lt;lane&gt;.timeouts: 대기 시간을 초과한 요청 개수
+ * <li>connectionLanes.&lt;lane&gt;.waitTime.avg, connectionLanes.&lt;lane&gt;.waitTime.max: 허가 대기 시간 평균/최대 (단위: ms)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConnectionLanes {
+
+    private final int permits;
+
+    /** 이름 - lane. 등록 순서가 우선순위이다. */
+    private final LinkedHashMap<String, Lane> lanes = new LinkedHashMap<>();
+    /** 우선순위 순서 lane 목록 */
+    private volatile Lane[] ordered = new Lane[0];
+    private volatile Lane defaultLane;
+
+    /** 허가 대기 시간 (단위: ms) */
+    private long acquireTimeout = 30000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 허가를 받은 요청 개수 */
+    private int inUse;
+
+    /** 상태 정보를 등록한 객체 */
+    private final List<DaoMetrics> registered = new CopyOnWriteArrayList<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param permits
+     *            최대 동시 할당 개수. 연결 풀 크기
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public ConnectionLanes(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits MUST BE greater than 0. permits=" + permits);
+        }
+        this.permits = permits;
+    }
+
+    /**
+     * 허가를 받을 때까지 대기한다. 허가를 받은 경우 반드시 {@link #release(Lane)}를 호출해야 한다. <br>
+     * 대기 시간을 초과한 요청은 재시도하지 않도록 {@link LoadSheddingException}으로 거부한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			대기 시간 초과시 LoadSheddingException 발생
+     * </pre>
+     * 
+     * @param name
+     *            lane 이름. <code>null</code>이거나 등록되지 않은 경우 기본 lane
+     * @return 허가를 받은 lane
+     * @throws LoadSheddingException
+     *             대기 시간을 초과했거나 대기 중 인터럽트가 발생한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Lane acquire(String name) throws LoadSheddingException {
+        Lane lane = getLane(name);
+
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            long remains = TimeUnit.MILLISECONDS.toNanos(this.acquireTimeout);
+
+            lane.waiting++;
+            try {
+                while (!canAcquire(lane) || yields(lane)) {
+                    if (remains <= 0) {
+                        lane.timeouts++;
+                        throw new LoadSheddingException("Timed out waiting for a connection permit. lane=" + lane.name + ", permits=" + this.permits + ", timeout="
+                                + this.acquireTimeout + "ms");
+                    }
+                    remains = lane.available.awaitNanos(remains);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LoadSheddingException("Interrupted while waiting for a connection permit. lane=" + lane.name, e);
+            } finally {
+                lane.waiting--;
+            }
+
+            lane.inUse++;
+            this.inUse++;
+
+            long waited = System.nanoTime() - started;
+            lane.acquired++;
+            lane.waitNanos += waited;
+            lane.maxWaitNanos = Math.max(lane.maxWaitNanos, waited);
+
+            return lane;
+        } finally {
+            // 허가를 받지 못한 경우에도 다른 lane이 허가를 받을 수 있는지 확인한다.
+            signalNext();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lane을 등록한다. 먼저 등록한 lane의 우선순위가 높으며, 처음 등록한 lane이 기본 lane이 된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            lane 이름
+     * @param reserved
+     *            예약 개수. 다른 lane은 사용할 수 없다.
+     * @param max
+     *            최대 개수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void addLane(String name, int reserved, int max) {
+        if (reserved < 0 || max < 1 || reserved > max || max > this.permits) {
+            throw new IllegalArgumentException(
+                    "MUST BE 0 <= reserved <= max <= permits, 0 < max. reserved=" + reserved + ", max=" + max + ", permits=" + this.permits);
+        }
+
+        Lane lane;
+        lock.lock();
+        try {
+            if (this.lanes.containsKey(name)) {
+                throw new IllegalArgumentException("Lane already exists. name=" + name);
+            }
+
+            int totalReserved = reserved;
+            for (Lane l : this.lanes.values()) {
+                totalReserved += l.reserved;
+            }
+            if (totalReserved > this.permits) {
+                throw new IllegalArgumentException("Total reserved MUST BE less than or equal to permits. reserved=" + totalReserved + ", permits=" + this.permits);
+            }
+
+            lane = new Lane(name, reserved, max, this.lanes.size(), lock.newCondition());
+            this.lanes.put(name, lane);
+            this.ordered = this.lanes.values().toArray(new Lane[0]);
+            if (this.defaultLane == null) {
+                this.defaultLane = lane;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (DaoMetrics metrics : this.registered) {
+            registerMetrics(metrics, lane);
+        }
+    }
+
+    /**
+     * 요청 lane이 허가를 받을 수 있는지 여부를 제공한다. 잠금을 획득한 상태에서 호출한다.
+     */
+    private boolean canAcquire(Lane lane) {
+        if (lane.inUse >= lane.max) {
+            return false;
+        }
+
+        // 다른 lane이 사용하지 않은 예약 개수는 사용할 수 없다.
+        int idle = this.permits - this.inUse;
+        for (Lane l : this.ordered) {
+            if (l != lane && l.inUse < l.reserved) {
+                idle -= l.reserved - l.inUse;
+            }
+        }
+
+        return idle > 0;
+    }
+
+    /**
+     * 같은 설정으로 새로운 객체를 생성한다. 상태 정보는 복사하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public ConnectionLanes copy() {
+        ConnectionLanes copy = new ConnectionLanes(this.permits);
+        copy.acquireTimeout = this.acquireTimeout;
+        for (Lane lane : this.ordered) {
+            copy.addLane(lane.name, lane.reserved, lane.max);
+        }
+        Lane defaultLane = this.defaultLane;
+        if (defaultLane != null) {
+            copy.setDefaultLane(defaultLane.name);
+        }
+        return copy;
+    }
+
+    public long getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public int getInUse() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lane을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            lane 이름
+     * @return <code>null</code>이거나 등록되지 않은 경우 기본 lane
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Lane getLane(String name) {
+        Lane lane = null;
+        if (name != null) {
+            lock.lock();
+            try {
+                lane = this.lanes.get(name);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (lane == null) {
+            lane = this.defaultLane;
+            if (lane == null) {
+                throw new IllegalStateException("No lane is registered.");
+            }
+        }
+
+        return lane;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    /**
+     * 상태 정보를 등록한다. 이후에 추가되는 lane도 함께 등록된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        this.registered.add(metrics);
+        for (Lane lane : this.ordered) {
+            registerMetrics(metrics, lane);
+        }
+    }
+
+    private void registerMetrics(DaoMetrics metrics, Lane lane) {
+        String prefix = "connectionLanes." + lane.name + ".";
+        metrics.gauge(prefix + "inUse", () -> read(() -> lane.inUse));
+        metrics.gauge(prefix + "waiting", () -> read(() -> lane.waiting));
+        metrics.gauge(prefix + "acquired", () -> read(() -> lane.acquired));
+        metrics.gauge(prefix + "timeouts", () -> read(() -> lane.timeouts));
+        metrics.gauge(prefix + "waitTime.avg", () -> read(() -> lane.acquired > 0 ? lane.waitNanos / 1e6 / lane.acquired : 0));
+        metrics.gauge(prefix + "waitTime.max", () -> read(() -> lane.maxWaitNanos / 1e6));
+    }
+
+    private <N extends Number> N read(Supplier<N> value) {
+        lock.lock();
+        try {
+            return value.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가를 반환한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param lane
+     *            {@link #acquire(String)} 결과
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void release(Lane lane) {
+        lock.lock();
+        try {
+            lane.inUse--;
+            this.inUse--;
+
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가 대기 시간을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param acquireTimeout
+     *            단위: ms
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setAcquireTimeout(long acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 기본 lane을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            등록된 lane 이름
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setDefaultLane(String name) {
+        lock.lock();
+        try {
+            Lane lane = this.lanes.get(name);
+            if (lane == null) {
+                throw new IllegalArgumentException("No such lane. name=" + name);
+            }
+            this.defaultLane = lane;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가를 받을 수 있는 lane 중에서 우선순위가 가장 높은 lane의 대기 요청 1개를 깨운다. 잠금을 획득한 상태에서 호출한다.
+     */
+    private void signalNext() {
+        for (Lane lane : this.ordered) {
+            if (lane.waiting > 0 && canAcquire(lane)) {
+                lane.available.signal();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        List<String> states = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Lane lane : this.ordered) {
+                states.add(lane.toString());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("ConnectionLanes [permits=");
+        buffer.append(permits);
+        buffer.append(", lanes=");
+        buffer.append(states);
+        buffer.append(", acquireTimeout=");
+        buffer.append(acquireTimeout);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 우선순위가 높은 lane에 허가를 받을 수 있는 대기 요청이 있어 양보해야 하는지 여부를 제공한다. 예약 개수 안에서는 양보하지 않는다. 잠금을 획득한 상태에서 호출한다.
+     */
+    private boolean yields(Lane lane) {
+        if (lane.inUse < lane.reserved) {
+            return false;
+        }
+
+        for (Lane l : this.ordered) {
+            if (l == lane) {
+                return false;
+            }
+            if (l.waiting > 0 && canAcquire(l)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 요청 종류별 할당 정보.
+     */
+    public static final class Lane {
+        private final String name;
+        private final int reserved;
+        private final int max;
+        /** 우선순위. 작을수록 높다. */
+        private final int priority;
+        private final Condition available;
+
+        private int inUse;
+        private int waiting;
+        private long acquired;
+        private long timeouts;
+        private long waitNanos;
+        private long maxWaitNanos;
+
+        private Lane(String name, int reserved, int max, int priority, Condition available) {
+            this.name = name;
+            this.reserved = reserved;
+            this.max = max;
+            this.priority = priority;
+            this.available = available;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public int getReserved() {
+            return reserved;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            StringBuffer buffer = new StringBuffer();
+            buffer.append("Lane [name=");
+            buffer.append(name);
+            buffer.append(", reserved=");
+            buffer.append(reserved);
+            buffer.append(", max=");
+            buffer.append(max);
+            buffer.append(", inUse=");
+            buffer.append(inUse);
+            buffer.append(", waiting=");
+            buffer.append(waiting);
+            buffer.append("]");
+            return buffer.toString();
+        }
+    }
+}
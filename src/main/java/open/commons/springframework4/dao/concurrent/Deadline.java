@@ -0,0 +1,424 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:41:26
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import open.commons.springframework4.dao.QueryOptions;
+
+/**
+ * 요청 처리 기한.<br>
+ * 
+ * {@link QueryOptions#deadline(Deadline)}로 요청마다 전달하거나, {@link #attach(Deadline)}로 현재 쓰레드에 설정하면 해당 쓰레드의 모든 DAO 요청에 적용된다. DAO는
+ * {@link Statement}를 생성할 때 남은 시간을 query timeout으로 설정하고, 기한이 지나도록 실행 중인 {@link Statement}는 감시 쓰레드가
+ * {@link Statement#cancel()}을 호출하여 DBMS에서 실행을 취소한다. <br>
+ * 클라이언트 연결이 종료되는 등 더 이상 결과를 기다리지 않는 경우 {@link #cancel()}을 호출하면, 실행 중인 {@link Statement}를 바로 취소하고 이후 요청은 실행하지 않는다.
+ * 
+ * <pre>
+ * Deadline deadline = Deadline.after(3, TimeUnit.SECONDS);
+ * asyncContext.addListener(new AsyncListener() {
+ *     public void onError(AsyncEvent event) {
+ *         deadline.cancel();
+ *     }
+ *     ...
+ * });
+ * 
+ * try (Deadline.Scope scope = Deadline.attach(deadline)) {
+ *     return service.getReport(...);
+ * }
+ * </pre>
+ * 
+ * 다른 쓰레드에서 실행되는 작업에 현재 기한을 전달하는 경우 {@link #wrap(Callable)}을 사용한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /** 기한이 지난 {@link Statement}를 취소하는 감시 쓰레드 */
+    private static final ScheduledThreadPoolExecutor WATCHDOG = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread t = new Thread(r, "dao-deadline-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        WATCHDOG.setRemoveOnCancelPolicy(true);
+    }
+
+    /** 이전 기한이 없는 경우 사용 */
+    private static final Scope NOOP_SCOPE = () -> {
+    };
+
+    /** 기한. {@link System#nanoTime()} 기준 */
+    private final long deadlineNanos;
+
+    private volatile boolean cancelled;
+
+    /** 실행 중인 {@link Statement} - 취소된 {@link Statement} 개수 */
+    private final Map<Statement, LongAdder> statements = new IdentityHashMap<>();
+    /** 기한이 되면 {@link Statement}를 취소하는 작업 */
+    private ScheduledFuture<?> watchdog;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 현재 시각으로부터 주어진 시간 후를 기한으로 하는 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param timeout
+     * @param unit
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * 기한을 현재 쓰레드에 설정한다. 반환된 객체를 닫으면 이전 기한으로 복원된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param deadline
+     *            기한. (nullable)
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Scope attach(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        if (previous == deadline) {
+            return NOOP_SCOPE;
+        }
+
+        set(deadline);
+        return () -> set(previous);
+    }
+
+    /**
+     * 기한을 취소한다. 실행 중인 {@link Statement}를 바로 취소하며, 이후 요청은 실행하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void cancel() {
+        this.cancelled = true;
+        cancelStatements();
+    }
+
+    private void cancelStatements() {
+        List<Map.Entry<Statement, LongAdder>> running;
+        synchronized (this) {
+            running = new ArrayList<>(this.statements.entrySet());
+            this.statements.clear();
+            if (this.watchdog != null) {
+                this.watchdog.cancel(false);
+                this.watchdog = null;
+            }
+        }
+
+        for (Map.Entry<Statement, LongAdder> entry : running) {
+            try {
+                if (!entry.getKey().isClosed()) {
+                    entry.getKey().cancel();
+                    entry.getValue().increment();
+                }
+            } catch (SQLException | AbstractMethodError ignored) {
+                // 이미 종료되었거나 취소를 지원하지 않는 경우
+            }
+        }
+    }
+
+    /**
+     * 현재 쓰레드의 기한을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 실행이 끝난 {@link Statement}를 감시 대상에서 제외한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param stmt
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public synchronized void deregister(Statement stmt) {
+        this.statements.remove(stmt);
+        if (this.statements.isEmpty() && this.watchdog != null) {
+            this.watchdog.cancel(false);
+            this.watchdog = null;
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 기한이 지났거나 취소되었는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean isExpired() {
+        return this.cancelled || remainingNanos() <= 0;
+    }
+
+    /**
+     * 실행할 {@link Statement}를 감시 대상으로 등록한다. 기한이 지나도록 실행 중인 경우 {@link Statement#cancel()}을 호출한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param stmt
+     * @param cancelled
+     *            취소된 {@link Statement} 개수
+     * @throws SQLTimeoutException
+     *             이미 기한이 지났거나 취소된 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public synchronized void register(Statement stmt, LongAdder cancelled) throws SQLTimeoutException {
+        verify();
+
+        this.statements.put(stmt, cancelled);
+        if (this.watchdog == null) {
+            this.watchdog = WATCHDOG.schedule(this::cancelStatements, remainingNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 남은 시간을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: ns. 기한이 지난 경우 0 이하
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long remainingNanos() {
+        return this.deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 남은 시간을 {@link Statement#setQueryTimeout(int)}에 사용할 수 있도록 초 단위(올림)로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: 초. 최소 1
+     * @throws SQLTimeoutException
+     *             이미 기한이 지났거나 취소된 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int remainingSeconds() throws SQLTimeoutException {
+        long remaining = verify();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    static void set(Deadline deadline) {
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("Deadline [remaining=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(remainingNanos()));
+        buffer.append("ms, cancelled=");
+        buffer.append(cancelled);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 기한이 지났거나 취소된 경우 예외를 발생시킨다.
+     * 
+     * @return 남은 시간 (단위: ns)
+     */
+    private long verify() throws SQLTimeoutException {
+        if (this.cancelled) {
+            throw new SQLTimeoutException("Deadline has been cancelled.");
+        }
+
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            throw new SQLTimeoutException("Deadline exceeded by " + TimeUnit.NANOSECONDS.toMillis(-remaining) + "ms.");
+        }
+        return remaining;
+    }
+
+    /**
+     * 현재 기한을 전달받아 실행하는 작업을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param task
+     * @return 현재 기한이 없는 경우 <code>task</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+
+        return () -> {
+            try (Scope scope = attach(deadline)) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 기한 설정 범위. 닫으면 이전 기한으로 복원된다.
+     */
+    @FunctionalInterface
+    public static interface Scope extends AutoCloseable {
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        void close();
+    }
+}
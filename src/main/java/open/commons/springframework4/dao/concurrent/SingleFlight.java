@@ -0,0 +1,318 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:12:50
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 동일한 요청이 동시에 실행되는 경우 1개만 실행하고, 나머지 요청은 실행 중인 요청의 결과를 전달받도록 하는 객체.<br>
+ * 
+ * 실행이 끝난 결과는 보관하지 않으므로, 실행 중에 도착한 요청만 결과를 공유한다. 실행 중 오류가 발생한 경우 대기 중인 요청도 같은 오류를 전달받는다. 단, 실행한 요청의
+ * {@link Deadline}이 지났거나 취소되어 실패한 경우에는 대기 중인 요청이 다시 실행한다. 대기 중인 요청은 각자의 {@link Deadline}까지만 기다린다. <br>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>singleFlight.executions: 실제로 실행된 요청 개수
+ * <li>singleFlight.joined: 실행 중인 요청의 결과를 전달받은 요청 개수
+ * <li>singleFlight.inFlight: 실행 중인 요청 개수
+ * <li>singleFlight.collapseRatio: 실행되지 않고 결과를 전달받은 요청 비율 (0 ~ 1)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class SingleFlight {
+
+    /** 실행한 요청의 기한 때문에 실패하여 결과를 공유하지 않음을 나타내는 값 */
+    private static final Object ABANDONED = new Object();
+
+    /** 요청 식별 정보 - 실행 중인 요청 */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /** 결과 공유 여부. <code>false</code>인 경우 실행한 요청을 포함하여 모든 요청에 복사본을 제공한다. */
+    private volatile boolean shareResults = false;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public SingleFlight() {
+    }
+
+    /**
+     * 현재 쓰레드의 {@link Deadline}을 기준으로 요청을 실행한다. 동일한 요청이 실행 중인 경우 실행하지 않고 그 결과를 기다린다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			요청 처리 기한 적용
+     * </pre>
+     * 
+     * @param key
+     *            요청 식별 정보. {@link Object#equals(Object)}, {@link Object#hashCode()}가 구현되어야 한다.
+     * @param task
+     *            요청
+     * @param copier
+     *            결과를 공유하지 않는 경우({@link #setShareResults(boolean)}) 각 요청에 제공할 복사본을 생성하는 함수. 실행한 요청도 복사본을 전달받는다.
+     * @return
+     * @throws SQLException
+     *             요청 실행 중 오류가 발생한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see #execute(Object, Callable, UnaryOperator, Deadline)
+     */
+    public <R> R execute(Object key, Callable<R> task, UnaryOperator<R> copier) throws SQLException {
+        return execute(key, task, copier, Deadline.current());
+    }
+
+    /**
+     * 요청을 실행한다. 동일한 요청이 실행 중인 경우 실행하지 않고, 요청 처리 기한까지 그 결과를 기다린다. <br>
+     * 실행 중인 요청이 자신의 기한 때문에 실패한 경우에는 그 오류를 전달받지 않고 다시 실행한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			실행한 요청에도 복사본 제공
+     * </pre>
+     * 
+     * @param key
+     *            요청 식별 정보. {@link Object#equals(Object)}, {@link Object#hashCode()}가 구현되어야 한다.
+     * @param task
+     *            요청. 결과는 복사하는 동안 변경되지 않도록 변경할 수 없는 객체로 제공해야 한다.
+     * @param copier
+     *            결과를 공유하지 않는 경우({@link #setShareResults(boolean)}) 각 요청에 제공할 복사본을 생성하는 함수. 실행한 요청도 복사본을 전달받는다.
+     * @param deadline
+     *            요청 처리 기한. (nullable)
+     * @return
+     * @throws SQLException
+     *             요청 실행 중 오류가 발생한 경우, 결과를 기다리는 중 기한이 지난 경우 {@link SQLTimeoutException}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(Object key, Callable<R> task, UnaryOperator<R> copier, Deadline deadline) throws SQLException {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running;
+        while ((running = this.inFlight.putIfAbsent(key, mine)) != null) {
+            joined.increment();
+            Object value = await(running, deadline);
+            if (value != ABANDONED) {
+                return this.shareResults || value == null ? (R) value : copier.apply((R) value);
+            }
+            // 실행한 요청이 자신의 기한 때문에 실패한 경우 결과를 전달받지 않고 다시 실행한다.
+            joined.decrement();
+            this.inFlight.remove(key, running);
+        }
+
+        executions.increment();
+        try {
+            R value = task.call();
+            mine.complete(value);
+            // 결과를 기다리는 요청이 복사하는 동안 변경되지 않도록 실행한 요청도 복사본을 전달받는다.
+            return this.shareResults || value == null ? value : copier.apply(value);
+        } catch (Exception e) {
+            if (deadline != null && deadline.isExpired()) {
+                mine.complete(ABANDONED);
+            } else {
+                mine.completeExceptionally(e);
+            }
+            if (e instanceof SQLException) {
+                throw (SQLException) e;
+            } else if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else {
+                throw new SQLException(e.getMessage(), e);
+            }
+        } catch (Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 실행되지 않고 결과를 전달받은 요청 비율을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 0 ~ 1. 요청이 없었던 경우 0
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getCollapseRatio() {
+        long join = this.joined.sum();
+        long total = join + this.executions.sum();
+        return total > 0 ? (double) join / total : 0;
+    }
+
+    public boolean isShareResults() {
+        return shareResults;
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("singleFlight.executions", () -> executions.sum());
+        metrics.gauge("singleFlight.joined", () -> joined.sum());
+        metrics.gauge("singleFlight.inFlight", () -> inFlight.size());
+        metrics.gauge("singleFlight.collapseRatio", () -> getCollapseRatio());
+    }
+
+    /**
+     * 결과 공유 여부를 설정한다. <br>
+     * 공유하는 경우 모든 요청이 동일한 결과 객체를 전달받으므로, 결과는 변경할 수 없는 객체여야 한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param shareResults
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setShareResults(boolean shareResults) {
+        this.shareResults = shareResults;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("SingleFlight [shareResults=");
+        buffer.append(shareResults);
+        buffer.append(", executions=");
+        buffer.append(executions.sum());
+        buffer.append(", joined=");
+        buffer.append(joined.sum());
+        buffer.append(", inFlight=");
+        buffer.append(inFlight.size());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 실행 중인 요청의 결과를 요청 처리 기한까지 기다린다.
+     */
+    private static Object await(CompletableFuture<Object> running, Deadline deadline) throws SQLException {
+        try {
+            if (deadline == null) {
+                return running.get();
+            }
+
+            long remaining = deadline.remainingNanos();
+            if (deadline.isCancelled() || remaining <= 0) {
+                throw new SQLTimeoutException("Deadline exceeded while waiting for an in-flight query. deadline=" + deadline);
+            }
+            return running.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new SQLTimeoutException("Deadline exceeded while waiting for an in-flight query. deadline=" + deadline, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for an in-flight query.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new SQLException(cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 3:24:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.explain;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * DBMS별 실행계획(EXPLAIN) 조회 방법과 문제 유형 판별 규칙.<br>
+ * 
+ * 실행계획은 행 단위로 <code>"컬럼=값, 컬럼=값, ..."</code> 형태의 문자열로 변환하여 판별한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public enum ExplainDialect {
+
+    /** MySQL, MariaDB */
+    MYSQL("EXPLAIN ") {
+        private final Pattern fullScan = Pattern.compile("(^|, )type=ALL(,|$)");
+
+        @Override
+        void inspect(String line, Set<PlanIssue> issues) {
+            if (fullScan.matcher(line).find()) {
+                issues.add(PlanIssue.FULL_SCAN);
+            }
+            if (line.contains("Using filesort")) {
+                issues.add(PlanIssue.FILESORT);
+            }
+            if (line.contains("Using temporary")) {
+                issues.add(PlanIssue.TEMP_TABLE);
+            }
+        }
+    },
+    /** PostgreSQL */
+    POSTGRESQL("EXPLAIN ") {
+        private final Pattern sort = Pattern.compile("(^|->)\\s*(Incremental )?Sort\\b");
+
+        @Override
+        void inspect(String line, Set<PlanIssue> issues) {
+            if (line.contains("Seq Scan")) {
+                issues.add(PlanIssue.FULL_SCAN);
+            }
+            if (sort.matcher(line).find()) {
+                issues.add(PlanIssue.FILESORT);
+            }
+            if (line.contains("Materialize")) {
+                issues.add(PlanIssue.TEMP_TABLE);
+            }
+        }
+    },
+    /** H2 Database. 정렬/임시테이블 정보는 실행계획에 표시되지 않으므로 전체 조회만 판별한다. */
+    H2("EXPLAIN ") {
+        @Override
+        void inspect(String line, Set<PlanIssue> issues) {
+            if (line.contains(".tableScan */")) {
+                issues.add(PlanIssue.FULL_SCAN);
+            }
+        }
+    },
+    //
+    ;
+
+    private final String prefix;
+
+    private ExplainDialect(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * 실행계획 조회 쿼리를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param query
+     *            분석 대상 쿼리
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String explain(String query) {
+        return this.prefix + query;
+    }
+
+    /**
+     * 실행계획 1행을 검사하여 발견된 문제를 추가한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param line
+     *            실행계획 1행
+     * @param issues
+     *            발견된 문제
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    abstract void inspect(String line, Set<PlanIssue> issues);
+
+    /**
+     * 실행계획을 검사하여 발견된 문제를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param plan
+     *            실행계획
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Set<PlanIssue> inspect(List<String> plan) {
+        Set<PlanIssue> issues = EnumSet.noneOf(PlanIssue.class);
+        for (String line : plan) {
+            inspect(line, issues);
+        }
+        return issues;
+    }
+
+    /**
+     * DBMS 정보에 해당하는 방식을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param meta
+     * @return
+     * @throws SQLException
+     *             지원하지 않는 DBMS인 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static ExplainDialect detect(DatabaseMetaData meta) throws SQLException {
+        String product = meta.getDatabaseProductName().toLowerCase();
+
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return MYSQL;
+        } else if (product.contains("postgresql")) {
+            return POSTGRESQL;
+        } else if (product.equals("h2")) {
+            return H2;
+        } else {
+            throw new SQLException("Unsupported database. product=" + meta.getDatabaseProductName());
+        }
+    }
+}
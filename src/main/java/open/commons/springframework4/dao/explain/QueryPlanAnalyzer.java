@@ -0,0 +1,386 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 3:58:06
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.explain;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.util.ReflectionUtils;
+
+import open.commons.utils.AssertUtils;
+
+/**
+ * 쿼리 정보 파일에 등록된 쿼리의 실행계획(EXPLAIN)을 조회하여 성능 문제(전체 조회, filesort, 임시 테이블)를 찾는 객체.<br>
+ * 
+ * 조회/수정/삭제(SELECT, WITH, UPDATE, DELETE) 쿼리만 분석하며, 쿼리 파라미터는 {@link #setSampleParameters(Map)}에 설정된 값, 파라미터 타입에 맞는 예시값
+ * 순서로 설정한다. <br>
+ * {@link #setInspectOnStartup(boolean)}이 설정된 경우 Bean 초기화 시점에 분석하고, 문제가 있는 쿼리를 로그로 출력한다.
+ * 
+ * <pre>
+ * &lt;bean class="open.commons.springframework4.dao.explain.QueryPlanAnalyzer"&gt;
+ *     &lt;constructor-arg ref="dataSource" /&gt;
+ *     &lt;constructor-arg ref="querySource" /&gt;
+ *     &lt;property name="inspectOnStartup" value="true" /&gt;
+ *     &lt;property name="ignoredQueries"&gt;
+ *         &lt;set&gt;&lt;value&gt;codeDao.select.all&lt;/value&gt;&lt;/set&gt;
+ *     &lt;/property&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryPlanAnalyzer implements InitializingBean {
+
+    /** 분석 대상 쿼리 */
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(SELECT|WITH|UPDATE|DELETE)\\b", Pattern.CASE_INSENSITIVE);
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final DataSource dataSource;
+    private final ReloadableResourceBundleMessageSource querySource;
+
+    /** 지정하지 않은 경우 DBMS 정보로 판단한다. */
+    private ExplainDialect dialect;
+    /** 쿼리 이름 - 쿼리 파라미터 */
+    private Map<String, Object[]> sampleParameters = new HashMap<>();
+    /** 분석 제외 쿼리 이름 */
+    private Set<String> ignoredQueries = new HashSet<>();
+    /** Bean 초기화 시점 분석 여부 */
+    private boolean inspectOnStartup = false;
+    /** 문제가 발견된 경우 Bean 초기화 실패 처리 여부 */
+    private boolean failOnIssue = false;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     *            실행계획을 조회할 DBMS
+     * @param querySource
+     *            쿼리 정보
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public QueryPlanAnalyzer(DataSource dataSource, ReloadableResourceBundleMessageSource querySource) {
+        this.dataSource = dataSource;
+        this.querySource = querySource;
+    }
+
+    /**
+     * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+     */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        AssertUtils.assertNull("DataSource MUST NOT BE null", this.dataSource);
+        AssertUtils.assertNull("QuerySource Source MUST NOT BE null", this.querySource);
+
+        if (!this.inspectOnStartup) {
+            return;
+        }
+
+        List<QueryPlanReport> problems = new ArrayList<>();
+        for (QueryPlanReport report : analyze()) {
+            if (report.hasIssues() || report.getError() != null) {
+                logger.warn("[query-plan] " + report);
+                problems.add(report);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("[query-plan] " + report);
+            }
+        }
+
+        if (this.failOnIssue && !problems.isEmpty()) {
+            throw new IllegalStateException(problems.size() + " queries have plan issues. queries=" + problems);
+        }
+    }
+
+    /**
+     * 등록된 모든 쿼리의 실행계획을 분석한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 쿼리 이름 순서로 정렬된 분석 결과
+     * @throws SQLException
+     *             DBMS 연결에 실패한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public List<QueryPlanReport> analyze() throws SQLException {
+        return analyze(getQueryNames());
+    }
+
+    /**
+     * 지정된 쿼리의 실행계획을 분석한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param names
+     *            쿼리 이름
+     * @return 분석 결과
+     * @throws SQLException
+     *             DBMS 연결에 실패한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public List<QueryPlanReport> analyze(Collection<String> names) throws SQLException {
+        List<QueryPlanReport> reports = new ArrayList<>();
+
+        try (Connection con = this.dataSource.getConnection()) {
+            ExplainDialect dialect = this.dialect != null ? this.dialect : ExplainDialect.detect(con.getMetaData());
+
+            boolean autoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            try {
+                String query = null;
+                for (String name : names) {
+                    if (this.ignoredQueries.contains(name)) {
+                        continue;
+                    }
+
+                    query = this.querySource.getMessage(name, null, null, null);
+                    if (query == null || !EXPLAINABLE.matcher(query).find()) {
+                        continue;
+                    }
+
+                    reports.add(explain(con, dialect, name, query));
+                }
+            } finally {
+                // 실행계획 조회 중 변경된 내용이 없도록 한다.
+                con.rollback();
+                con.setAutoCommit(autoCommit);
+            }
+        }
+
+        return reports;
+    }
+
+    private void bindParameters(PreparedStatement pstmt, String name) throws SQLException {
+        Object[] samples = this.sampleParameters.get(name);
+        ParameterMetaData meta = pstmt.getParameterMetaData();
+        int count = meta.getParameterCount();
+
+        for (int i = 1; i <= count; i++) {
+            if (samples != null && samples.length >= i) {
+                pstmt.setObject(i, samples[i - 1]);
+            } else {
+                pstmt.setObject(i, sampleValue(meta, i));
+            }
+        }
+    }
+
+    private QueryPlanReport explain(Connection con, ExplainDialect dialect, String name, String query) {
+        List<String> plan = new ArrayList<>();
+
+        try (PreparedStatement pstmt = con.prepareStatement(dialect.explain(query))) {
+            bindParameters(pstmt, name);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columnCount = meta.getColumnCount();
+
+                StringBuffer line = new StringBuffer();
+                while (rs.next()) {
+                    line.setLength(0);
+                    for (int i = 1; i <= columnCount; i++) {
+                        if (i > 1) {
+                            line.append(", ");
+                        }
+                        if (columnCount > 1) {
+                            line.append(meta.getColumnLabel(i));
+                            line.append('=');
+                        }
+                        line.append(rs.getString(i));
+                    }
+                    plan.add(line.toString());
+                }
+            }
+
+            return new QueryPlanReport(name, query, plan, dialect.inspect(plan), null);
+        } catch (SQLException e) {
+            logger.warn("Fail to explain a query. name=" + name + ", query=" + query, e);
+            return new QueryPlanReport(name, query, plan, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 쿼리 정보 파일에 등록된 쿼리 이름을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Set<String> getQueryNames() {
+        // 'getMergedProperties'는 protected 이므로 reflection을 이용한다.
+        Method getMergedProperties = ReflectionUtils.findMethod(ReloadableResourceBundleMessageSource.class, "getMergedProperties", Locale.class);
+        ReflectionUtils.makeAccessible(getMergedProperties);
+        Object holder = ReflectionUtils.invokeMethod(getMergedProperties, this.querySource, Locale.getDefault());
+
+        Method getProperties = ReflectionUtils.findMethod(holder.getClass(), "getProperties");
+        ReflectionUtils.makeAccessible(getProperties);
+        Properties properties = (Properties) ReflectionUtils.invokeMethod(getProperties, holder);
+
+        return new TreeSet<>(properties.stringPropertyNames());
+    }
+
+    private Object sampleValue(ParameterMetaData meta, int index) {
+        int type;
+        try {
+            type = meta.getParameterType(index);
+        } catch (SQLException e) {
+            type = Types.VARCHAR;
+        }
+
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return 1;
+            case Types.BIGINT:
+                return 1L;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return BigDecimal.ONE;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return Boolean.TRUE;
+            case Types.DATE:
+                return new Date(System.currentTimeMillis());
+            case Types.TIME:
+                return new Time(System.currentTimeMillis());
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return new Timestamp(System.currentTimeMillis());
+            default:
+                return "1";
+        }
+    }
+
+    public void setDialect(ExplainDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    public void setFailOnIssue(boolean failOnIssue) {
+        this.failOnIssue = failOnIssue;
+    }
+
+    public void setIgnoredQueries(Set<String> ignoredQueries) {
+        this.ignoredQueries = ignoredQueries != null ? ignoredQueries : new HashSet<>();
+    }
+
+    public void setInspectOnStartup(boolean inspectOnStartup) {
+        this.inspectOnStartup = inspectOnStartup;
+    }
+
+    /**
+     * 쿼리별 실행계획 조회시 사용할 파라미터를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param sampleParameters
+     *            쿼리 이름 - 쿼리 파라미터(순서대로)
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setSampleParameters(Map<String, Object[]> sampleParameters) {
+        this.sampleParameters = sampleParameters != null ? sampleParameters : new HashMap<>();
+    }
+}
@@ -0,0 +1,145 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 3:41:52
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.explain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿼리 1개의 실행계획 분석 결과.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryPlanReport {
+
+    private final String name;
+    private final String query;
+    private final List<String> plan;
+    private final Set<PlanIssue> issues;
+    /** 실행계획 조회 실패 사유 */
+    private final String error;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            쿼리 이름
+     * @param query
+     *            쿼리
+     * @param plan
+     *            실행계획
+     * @param issues
+     *            발견된 문제
+     * @param error
+     *            실행계획 조회 실패 사유
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public QueryPlanReport(String name, String query, List<String> plan, Set<PlanIssue> issues, String error) {
+        this.name = name;
+        this.query = query;
+        this.plan = plan != null ? Collections.unmodifiableList(plan) : Collections.<String> emptyList();
+        this.issues = issues != null ? Collections.unmodifiableSet(issues) : Collections.<PlanIssue> emptySet();
+        this.error = error;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Set<PlanIssue> getIssues() {
+        return issues;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getPlan() {
+        return plan;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * 성능 문제가 발견되었는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean hasIssues() {
+        return !this.issues.isEmpty();
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("QueryPlanReport [name=");
+        buffer.append(name);
+        buffer.append(", issues=");
+        buffer.append(issues);
+        buffer.append(", error=");
+        buffer.append(error);
+        buffer.append(", plan=");
+        buffer.append(plan);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,158 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:47:22
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import open.commons.springframework4.dao.RowCursor;
+
+/**
+ * 조회 결과를 CSV(RFC 4180) 형식으로 출력하는 객체.<br>
+ * 
+ * 첫번째 줄에 출력 이름을 출력하며, 구분자/따옴표/줄바꿈이 포함된 값은 따옴표로 감싸서 출력한다. <code>NULL</code>은 빈 값으로 출력한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class CsvExportHandler extends ExportHandler {
+
+    /** 출력 버퍼 크기 */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final char delimiter;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param out
+     *            출력 대상
+     * @param columns
+     *            출력 대상 컬럼 정보
+     * @param delimiter
+     *            구분자
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public CsvExportHandler(OutputStream out, ExportColumns columns, char delimiter) {
+        super(columns);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#finish()
+     */
+    @Override
+    public void finish() throws IOException {
+        // 출력 대상 스트림은 닫지 않는다.
+        this.writer.flush();
+    }
+
+    private boolean needQuote(String value) {
+        char c;
+        for (int i = 0; i < value.length(); i++) {
+            c = value.charAt(i);
+            if (c == this.delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        if (!needQuote(value)) {
+            this.writer.write(value);
+            return;
+        }
+
+        this.writer.write('"');
+        char c;
+        for (int i = 0; i < value.length(); i++) {
+            c = value.charAt(i);
+            if (c == '"') {
+                this.writer.write('"');
+            }
+            this.writer.write(c);
+        }
+        this.writer.write('"');
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#writeHeader()
+     */
+    @Override
+    protected void writeHeader() throws IOException {
+        for (int i = 0; i < this.names.length; i++) {
+            if (i > 0) {
+                this.writer.write(this.delimiter);
+            }
+            writeValue(this.names[i]);
+        }
+        this.writer.write("\r\n");
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#writeRow(open.commons.springframework4.dao.RowCursor)
+     */
+    @Override
+    protected void writeRow(RowCursor cursor) throws IOException, SQLException {
+        for (int i = 0; i < this.indexes.length; i++) {
+            if (i > 0) {
+                this.writer.write(this.delimiter);
+            }
+            writeValue(cursor.getString(this.indexes[i]));
+        }
+        this.writer.write("\r\n");
+    }
+}
@@ -0,0 +1,221 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:04:51
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import open.commons.annotation.ColumnDef;
+import open.commons.springframework4.dao.RowCursor;
+
+/**
+ * 내보내기(export) 대상 컬럼과 출력 이름 정보.<br>
+ * 
+ * <ul>
+ * <li>{@link #all()}: 조회 결과의 모든 컬럼을 컬럼 이름으로 출력한다.
+ * <li>{@link #of(String...)}: 지정한 컬럼만 컬럼 이름으로 출력한다.
+ * <li>{@link #of(Class)}: 엔티티 메소드에 적용된 {@link ColumnDef#name()} 컬럼을 엔티티 속성 이름으로 출력한다. (Jackson 직렬화 결과와 동일한 이름)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ExportColumns {
+
+    private static final ExportColumns ALL = new ExportColumns(Collections.<String, String> emptyMap());
+
+    /** 컬럼 이름 - 출력 이름. 비어 있는 경우 모든 컬럼 */
+    private final Map<String, String> columns;
+
+    private ExportColumns(Map<String, String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * 조회 결과에 적용할 컬럼 위치와 출력 이름을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param cursor
+     *            조회 결과
+     * @param indexes
+     *            컬럼 위치를 저장할 객체
+     * @param names
+     *            출력 이름을 저장할 객체
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    void resolve(RowCursor cursor, List<Integer> indexes, List<String> names) throws SQLException {
+        if (this.columns.isEmpty()) {
+            ResultSetMetaData meta = cursor.getResultSet().getMetaData();
+            for (int i = 1; i <= cursor.getColumnCount(); i++) {
+                indexes.add(i);
+                names.add(meta.getColumnLabel(i));
+            }
+        } else {
+            for (Map.Entry<String, String> entry : this.columns.entrySet()) {
+                indexes.add(cursor.indexOf(entry.getKey()));
+                names.add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("ExportColumns [columns=");
+        buffer.append(columns.isEmpty() ? "*" : columns);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 조회 결과의 모든 컬럼을 출력하는 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static ExportColumns all() {
+        return ALL;
+    }
+
+    /**
+     * 엔티티 메소드에 적용된 {@link ColumnDef} 정보를 이용하여 출력할 컬럼을 제공한다. <br>
+     * 출력 이름은 메소드 이름에서 <code>set/get/is</code>를 제외한 속성 이름을 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param entity
+     *            데이터 모델
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static ExportColumns of(Class<?> entity) {
+        Map<String, String> columns = new LinkedHashMap<>();
+
+        ColumnDef cdef = null;
+        for (Method m : entity.getMethods()) {
+            if ((cdef = m.getAnnotation(ColumnDef.class)) != null) {
+                columns.putIfAbsent(cdef.name(), propertyName(m.getName()));
+            }
+        }
+
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("No @ColumnDef method. entity=" + entity.getName());
+        }
+
+        return new ExportColumns(Collections.unmodifiableMap(columns));
+    }
+
+    /**
+     * 지정한 컬럼만 출력하는 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param columns
+     *            컬럼 이름. 출력 이름으로도 사용된다.
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static ExportColumns of(String... columns) {
+        if (columns == null || columns.length < 1) {
+            return ALL;
+        }
+
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String column : columns) {
+            map.put(column, column);
+        }
+        return new ExportColumns(Collections.unmodifiableMap(map));
+    }
+
+    private static String propertyName(String methodName) {
+        String name = methodName;
+        for (String prefix : new String[] { "set", "get", "is" }) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                name = name.substring(prefix.length());
+                break;
+            }
+        }
+
+        // java.beans.Introspector#decapitalize 규칙과 동일
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,115 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:55:10
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 내보내기(export) 형식.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public enum ExportFormat {
+    /** JSON 배열 */
+    JSON("application/json"),
+    /** 쉼표(,)로 구분된 값 */
+    CSV("text/csv"),
+    /** 탭(\t)으로 구분된 값 */
+    TSV("text/tab-separated-values"),
+    //
+    ;
+
+    private final String contentType;
+
+    private ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * HTTP 응답에 사용할 Content-Type을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * 형식에 맞는 출력 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param out
+     *            출력 대상
+     * @param columns
+     *            출력 대상 컬럼 정보
+     * @return
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public ExportHandler newHandler(OutputStream out, ExportColumns columns) throws IOException {
+        switch (this) {
+            case JSON:
+                return new JsonExportHandler(out, columns);
+            case CSV:
+                return new CsvExportHandler(out, columns, ',');
+            case TSV:
+                return new CsvExportHandler(out, columns, '\t');
+            default:
+                throw new UnsupportedOperationException("Unsupported format. format=" + this);
+        }
+    }
+}
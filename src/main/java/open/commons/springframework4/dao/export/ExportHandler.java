@@ -0,0 +1,177 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:18:03
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import java.io.IOException;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import open.commons.springframework4.dao.RowCursor;
+import open.commons.springframework4.dao.RowCursorHandler;
+
+/**
+ * 조회 결과를 엔티티로 변환하지 않고 바로 출력하는 객체.<br>
+ * 
+ * 출력 대상 컬럼의 위치, 이름, 타입은 {@link #begin(RowCursor)}에서 1회 계산한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public abstract class ExportHandler implements RowCursorHandler {
+
+    private final ExportColumns columns;
+
+    /** 출력 대상 컬럼 위치 */
+    protected int[] indexes;
+    /** 출력 이름 */
+    protected String[] names;
+    /** 출력 대상 컬럼 타입. {@link java.sql.Types} */
+    protected int[] types;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param columns
+     *            출력 대상 컬럼 정보
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    protected ExportHandler(ExportColumns columns) {
+        this.columns = columns != null ? columns : ExportColumns.all();
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.RowCursorHandler#begin(open.commons.springframework4.dao.RowCursor)
+     */
+    @Override
+    public final void begin(RowCursor cursor) throws SQLException {
+        List<Integer> indexes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        this.columns.resolve(cursor, indexes, names);
+
+        ResultSetMetaData meta = cursor.getResultSet().getMetaData();
+        this.indexes = new int[indexes.size()];
+        this.names = names.toArray(new String[names.size()]);
+        this.types = new int[indexes.size()];
+        for (int i = 0; i < this.indexes.length; i++) {
+            this.indexes[i] = indexes.get(i);
+            this.types[i] = meta.getColumnType(this.indexes[i]);
+        }
+
+        try {
+            writeHeader();
+        } catch (IOException e) {
+            throw new SQLException("Fail to write header.", e);
+        }
+    }
+
+    /**
+     * 출력을 종료한다. 출력 대상 스트림은 닫지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public abstract void finish() throws IOException;
+
+    /**
+     * @see open.commons.springframework4.dao.RowCursorHandler#handle(open.commons.springframework4.dao.RowCursor)
+     */
+    @Override
+    public final void handle(RowCursor cursor) throws SQLException {
+        try {
+            writeRow(cursor);
+        } catch (IOException e) {
+            throw new SQLException("Fail to write a row. row=" + cursor.getRow(), e);
+        }
+    }
+
+    /**
+     * 출력 대상 컬럼 정보가 확인된 후 1회 호출된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    protected abstract void writeHeader() throws IOException;
+
+    /**
+     * 현재 행을 출력한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param cursor
+     * @throws IOException
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    protected abstract void writeRow(RowCursor cursor) throws IOException, SQLException;
+}
@@ -0,0 +1,210 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:31:40
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import open.commons.springframework4.dao.RowCursor;
+
+/**
+ * 조회 결과를 JSON 배열(<code>[{...}, {...}]</code>)로 출력하는 객체.<br>
+ * 
+ * Jackson 스트리밍 API({@link JsonGenerator})를 이용하여 행 단위로 출력하므로, 결과 크기와 무관하게 일정한 메모리를 사용한다. <br>
+ * 날짜/시간은 Jackson 기본 설정과 동일하게 epoch milliseconds, 바이너리는 Base64 문자열로 출력한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class JsonExportHandler extends ExportHandler {
+
+    private static final JsonFactory FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final JsonGenerator generator;
+    /** 미리 인코딩된 출력 이름 */
+    private SerializedString[] fieldNames;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param out
+     *            출력 대상
+     * @param columns
+     *            출력 대상 컬럼 정보
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public JsonExportHandler(OutputStream out, ExportColumns columns) throws IOException {
+        super(columns);
+        this.generator = FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#finish()
+     */
+    @Override
+    public void finish() throws IOException {
+        if (this.fieldNames == null) {
+            // 조회가 시작되지 않은 경우
+            this.generator.writeStartArray();
+        }
+        this.generator.writeEndArray();
+        this.generator.close();
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#writeHeader()
+     */
+    @Override
+    protected void writeHeader() throws IOException {
+        this.fieldNames = new SerializedString[this.names.length];
+        for (int i = 0; i < this.names.length; i++) {
+            this.fieldNames[i] = new SerializedString(this.names[i]);
+        }
+
+        this.generator.writeStartArray();
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.export.ExportHandler#writeRow(open.commons.springframework4.dao.RowCursor)
+     */
+    @Override
+    protected void writeRow(RowCursor cursor) throws IOException, SQLException {
+        JsonGenerator gen = this.generator;
+
+        gen.writeStartObject();
+        for (int i = 0; i < this.indexes.length; i++) {
+            gen.writeFieldName(this.fieldNames[i]);
+
+            int index = this.indexes[i];
+            switch (this.types[i]) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    int intValue = cursor.getInt(index);
+                    if (cursor.wasNull()) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(intValue);
+                    }
+                    break;
+                case Types.BIGINT:
+                    long longValue = cursor.getLong(index);
+                    if (cursor.wasNull()) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(longValue);
+                    }
+                    break;
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    double doubleValue = cursor.getDouble(index);
+                    if (cursor.wasNull()) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(doubleValue);
+                    }
+                    break;
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    BigDecimal decimal = cursor.getBigDecimal(index);
+                    if (decimal == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(decimal);
+                    }
+                    break;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    boolean boolValue = cursor.getBoolean(index);
+                    if (cursor.wasNull()) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeBoolean(boolValue);
+                    }
+                    break;
+                case Types.DATE:
+                case Types.TIMESTAMP:
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                    Timestamp ts = cursor.getTimestamp(index);
+                    if (ts == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeNumber(ts.getTime());
+                    }
+                    break;
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                    byte[] bytes = cursor.getBytes(index);
+                    if (bytes == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeBinary(bytes);
+                    }
+                    break;
+                default:
+                    String str = cursor.getString(index);
+                    if (str == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeString(str);
+                    }
+                    break;
+            }
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,462 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 6:22:47
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.loader;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import open.commons.springframework4.dao.concurrent.Deadline;
+import open.commons.springframework4.dao.trace.TraceContext;
+
+/**
+ * 키 단위의 개별 조회 요청을 모아서 한번에 조회하는 객체.<br>
+ * 
+ * 요청(request) 또는 주기(tick) 단위로 생성하여 사용하며, 같은 키는 1번만 조회한다. {@link #load(Object)}로 요청한 조회는 다음 경우에 한번에 실행된다.
+ * <ul>
+ * <li>{@link #dispatch()} 또는 {@link #close()}를 호출한 경우
+ * <li>대기 중인 키 개수가 {@link #setMaxBatchSize(int)}에 도달한 경우
+ * <li>첫번째 키가 요청된 이후 {@link #setBatchWindow(long)}가 지난 경우 (설정된 경우)
+ * </ul>
+ * 
+ * {@link #setBatchWindow(long)}에 의한 조회는 생성시 전달한 {@link Executor}에서 첫번째 키를 요청한 쓰레드의 실행 위치({@link TraceContext})와 기한({@link Deadline})을
+ * 전달받아 실행되며, 요청한 쓰레드의 트랜잭션에는 참여하지 않는다. 트랜잭션 안에서 조회해야 하는 경우 {@link #dispatch()}를 직접 호출한다.
+ * 
+ * <pre>
+ * try (BatchLoader&lt;String, Plant&gt; loader = dao.newBatchLoader(query, "ids", Plant.class, Plant::getId)) {
+ *     Map&lt;String, CompletableFuture&lt;Plant&gt;&gt; plants = new HashMap&lt;&gt;();
+ *     for (String id : ids) {
+ *         plants.put(id, loader.load(id));
+ *     }
+ *     loader.dispatch(); // 1번의 IN 쿼리
+ *     ...
+ * }
+ * </pre>
+ * 
+ * @param <K>
+ *            키 타입
+ * @param <T>
+ *            데이터 타입
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class BatchLoader<K, T> implements AutoCloseable {
+
+    /** {@link #batchWindow} 경과 후 조회를 {@link #executor}로 넘기는 객체. 조회를 직접 실행하지 않는다. */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "dao-batch-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final BatchFunction<K, T> batchFunction;
+    /** {@link #batchWindow} 경과 후 조회를 실행하는 객체 */
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 키 - 조회 결과. 조회가 끝난 결과도 보관한다. */
+    private final Map<K, CompletableFuture<T>> cache = new LinkedHashMap<>();
+    /** 조회 대기 중인 키 - 조회 결과 */
+    private Map<K, CompletableFuture<T>> pending = new LinkedHashMap<>();
+
+    /** 한번에 조회할 최대 키 개수 */
+    private int maxBatchSize = Integer.MAX_VALUE;
+    /** 첫번째 키 요청 이후 조회 대기 시간 (단위: ms). 0 이하인 경우 자동으로 실행하지 않는다. */
+    private long batchWindow = 0;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder loadedKeys = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param batchFunction
+     *            여러 개의 키를 한번에 조회하는 함수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * 
+     * @see #BatchLoader(BatchFunction, Executor)
+     */
+    public BatchLoader(BatchFunction<K, T> batchFunction) {
+        this(batchFunction, null);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param batchFunction
+     *            여러 개의 키를 한번에 조회하는 함수
+     * @param executor
+     *            {@link #setBatchWindow(long)} 경과 후 조회를 실행하는 객체. <code>null</code>인 경우 {@link #setBatchWindow(long)}를 사용할 수 없다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public BatchLoader(BatchFunction<K, T> batchFunction, Executor executor) {
+        this.batchFunction = batchFunction;
+        this.executor = executor;
+    }
+
+    /**
+     * 보관된 결과를 모두 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void clearAll() {
+        lock.lock();
+        try {
+            this.cache.keySet().retainAll(this.pending.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회되지 않은 키를 모두 조회한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        dispatch();
+    }
+
+    /**
+     * 대기 중인 키를 조회하여 결과를 전달한다. 조회 중 오류가 발생한 경우 해당 키의 결과는 오류로 완료되고, 다음 요청시 다시 조회한다. <br>
+     * {@link Error}가 발생한 경우에도 조회하지 못한 키의 결과를 모두 오류로 완료한 후 전달한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			Error 발생시 대기 중인 결과 완료
+     * </pre>
+     * 
+     * @return 조회한 키 개수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int dispatch() {
+        Map<K, CompletableFuture<T>> batch;
+        lock.lock();
+        try {
+            if (this.pending.isEmpty()) {
+                return 0;
+            }
+            batch = this.pending;
+            this.pending = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        List<K> keys = new ArrayList<>(batch.keySet());
+        int from = 0;
+        try {
+            for (; from < keys.size(); from += this.maxBatchSize) {
+                load(keys.subList(from, (int) Math.min(keys.size(), (long) from + this.maxBatchSize)), batch);
+            }
+        } catch (Throwable e) {
+            fail(keys.subList(from, keys.size()), batch, e);
+            throw e;
+        }
+        return keys.size();
+    }
+
+    /** 현재 쓰레드의 실행 위치와 기한을 전달받아 {@link #batchWindow} 경과 후 {@link #executor}에서 조회를 실행한다. */
+    private void dispatchLater() {
+        Callable<Integer> task = Deadline.wrap(TraceContext.wrap(this::dispatch));
+        SCHEDULER.schedule(() -> {
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        task.call();
+                    } catch (Throwable e) {
+                        // 조회 결과는 dispatch()에서 모두 완료된다.
+                        logger.warn("Fail to dispatch batch. cause={}", e.getMessage(), e);
+                    }
+                });
+            } catch (RejectedExecutionException ignored) {
+                // 대기 중인 키는 dispatch() 또는 close() 호출시 조회한다.
+            }
+        }, this.batchWindow, TimeUnit.MILLISECONDS);
+    }
+
+    /** 조회 결과를 오류로 완료하고, 다음 요청시 다시 조회하도록 보관된 결과에서 제거한다. */
+    private void fail(List<K> keys, Map<K, CompletableFuture<T>> batch, Throwable e) {
+        lock.lock();
+        try {
+            for (K key : keys) {
+                CompletableFuture<T> future = batch.get(key);
+                if (!future.isDone()) {
+                    this.cache.remove(key, future);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        keys.forEach(key -> batch.get(key).completeExceptionally(e));
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getLoadedKeyCount() {
+        return loadedKeys.sum();
+    }
+
+    private void load(List<K> keys, Map<K, CompletableFuture<T>> batch) {
+        batches.increment();
+        loadedKeys.add(keys.size());
+
+        try {
+            Map<K, T> loaded = this.batchFunction.load(keys);
+            if (loaded == null) {
+                loaded = Collections.emptyMap();
+            }
+            for (K key : keys) {
+                batch.get(key).complete(loaded.get(key));
+            }
+        } catch (SQLException | RuntimeException e) {
+            fail(keys, batch, e);
+        }
+    }
+
+    /**
+     * 키에 해당하는 데이터 조회를 요청한다. 이미 요청된 키인 경우 보관된 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			batchWindow 경과 후 조회를 executor에서 실행
+     * </pre>
+     * 
+     * @param key
+     * @return 조회 결과. 데이터가 없는 경우 <code>null</code>로 완료된다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public CompletableFuture<T> load(K key) {
+        CompletableFuture<T> future;
+        boolean full;
+        boolean first;
+
+        lock.lock();
+        try {
+            future = this.cache.get(key);
+            if (future != null) {
+                cacheHits.increment();
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            this.cache.put(key, future);
+            first = this.pending.isEmpty();
+            this.pending.put(key, future);
+            full = this.pending.size() >= this.maxBatchSize;
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) {
+            dispatch();
+        } else if (first && this.batchWindow > 0) {
+            dispatchLater();
+        }
+
+        return future;
+    }
+
+    /**
+     * 여러 개의 키에 해당하는 데이터 조회를 요청한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param keys
+     * @return 키 순서대로 조회 결과. 데이터가 없는 키는 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public CompletableFuture<List<T>> loadMany(Collection<K> keys) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(keys.size());
+        keys.forEach(key -> futures.add(load(key)));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(v -> {
+            List<T> values = new ArrayList<>(futures.size());
+            futures.forEach(f -> values.add(f.join()));
+            return values;
+        });
+    }
+
+    /**
+     * 첫번째 키 요청 이후 자동으로 조회를 실행할 대기 시간을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			조회를 실행할 {@link Executor}가 없는 경우 오류 처리
+     * </pre>
+     * 
+     * @param batchWindow
+     *            단위: ms. 0 이하인 경우 {@link #dispatch()}를 호출할 때까지 대기한다.
+     * 
+     * @throws IllegalStateException
+     *             조회를 실행할 {@link Executor} 없이 생성된 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setBatchWindow(long batchWindow) {
+        if (batchWindow > 0 && this.executor == null) {
+            throw new IllegalStateException("batchWindow requires an executor. Create this loader with an Executor, or call dispatch() explicitly.");
+        }
+        this.batchWindow = batchWindow;
+    }
+
+    /**
+     * 한번에 조회할 최대 키 개수를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param maxBatchSize
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize MUST BE greater than 0. maxBatchSize=" + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("BatchLoader [maxBatchSize=");
+        buffer.append(maxBatchSize);
+        buffer.append(", batchWindow=");
+        buffer.append(batchWindow);
+        buffer.append(", batches=");
+        buffer.append(batches.sum());
+        buffer.append(", loadedKeys=");
+        buffer.append(loadedKeys.sum());
+        buffer.append(", cacheHits=");
+        buffer.append(cacheHits.sum());
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
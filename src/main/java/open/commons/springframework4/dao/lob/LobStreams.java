@@ -0,0 +1,166 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:14:27
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.lob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LOB 데이터를 고정 크기 버퍼를 이용하여 복사하는 클래스.<br>
+ * 
+ * 데이터 크기와 관계없이 버퍼 크기만큼의 메모리만 사용한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class LobStreams {
+
+    /** 기본 버퍼 크기 (64KB) */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private LobStreams() {
+    }
+
+    /**
+     * 데이터를 파일로 복사한다. 파일이 존재하는 경우 덮어쓴다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param in
+     *            원본 데이터
+     * @param target
+     *            저장할 파일
+     * @param bufferSize
+     *            버퍼 크기
+     * @return 복사한 데이터 크기 (단위: byte)
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static long copy(InputStream in, Path target, int bufferSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return copy(in, channel, bufferSize);
+        }
+    }
+
+    /**
+     * 데이터를 채널로 복사한다. 채널은 닫지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param in
+     *            원본 데이터
+     * @param target
+     *            대상 채널
+     * @param bufferSize
+     *            버퍼 크기
+     * @return 복사한 데이터 크기 (단위: byte)
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static long copy(InputStream in, WritableByteChannel target, int bufferSize) throws IOException {
+        byte[] bytes = new byte[bufferSize];
+
+        long copied = 0;
+        int read;
+        while ((read = in.read(bytes)) != -1) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, read);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            copied += read;
+        }
+
+        return copied;
+    }
+
+    /**
+     * 문자 데이터를 복사한다. {@link Writer}는 닫지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param in
+     *            원본 데이터
+     * @param target
+     *            대상
+     * @param bufferSize
+     *            버퍼 크기
+     * @return 복사한 문자 개수
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static long copy(Reader in, Writer target, int bufferSize) throws IOException {
+        char[] buffer = new char[bufferSize];
+
+        long copied = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            target.write(buffer, 0, read);
+            copied += read;
+        }
+
+        return copied;
+    }
+}
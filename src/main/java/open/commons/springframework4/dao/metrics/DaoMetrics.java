@@ -0,0 +1,182 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 1:10:45
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DAO 동작 상태를 수집하는 객체.<br>
+ * 
+ * 이름으로 구분되는 카운터(counter)와 게이지(gauge)를 관리하며, {@link #snapshot()}을 통해서 현재 값을 제공한다. <br>
+ * 외부 모니터링 시스템(JMX, Micrometer 등)에는 {@link #snapshot()} 결과를 주기적으로 전달하거나, 게이지로 등록하여 사용한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class DaoMetrics {
+
+    /** 이름 - 카운터 */
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    /** 이름 - 게이지 */
+    private final ConcurrentHashMap<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public DaoMetrics() {
+    }
+
+    /**
+     * 이름에 해당하는 카운터를 제공한다. 없는 경우 새로 생성한다. <br>
+     * 반복적으로 사용하는 경우 반환된 객체를 보관하여 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            카운터 이름
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public LongAdder counter(String name) {
+        return this.counters.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    /**
+     * 게이지를 등록한다. 동일한 이름이 있는 경우 새로운 게이지로 대체한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            게이지 이름
+     * @param gauge
+     *            현재 값을 제공하는 객체
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void gauge(String name, Supplier<? extends Number> gauge) {
+        this.gauges.put(name, gauge);
+    }
+
+    /**
+     * 등록된 게이지를 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            게이지 이름
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void removeGauge(String name) {
+        this.gauges.remove(name);
+    }
+
+    /**
+     * 모든 카운터와 게이지의 현재 값을 이름 순서로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public SortedMap<String, Number> snapshot() {
+        SortedMap<String, Number> snapshot = new TreeMap<>();
+
+        for (Map.Entry<String, LongAdder> entry : this.counters.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, Supplier<? extends Number>> entry : this.gauges.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().get());
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("DaoMetrics ");
+        buffer.append(snapshot());
+        return buffer.toString();
+    }
+}
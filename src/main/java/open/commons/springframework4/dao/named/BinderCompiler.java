@@ -0,0 +1,411 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:41:02
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.named;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 파라미터 이름과 파라미터 객체 타입으로 {@link ParameterBinder}를 생성하는 객체.<br>
+ * 
+ * JavaBean의 getter는 {@link LambdaMetafactory}를 이용하여 생성한 함수로 호출하여 반복적인 reflection 비용을 제거하고, 값의 선언 타입에 맞는 <code>setXxx</code>를
+ * 미리 결정한다. 함수를 생성할 수 없는 경우(접근할 수 없는 클래스 등)에는 {@link Method#invoke(Object, Object...)}를 사용한다. <br>
+ * 
+ * 이 클래스의 {@link ClassLoader}에서 볼 수 없는 클래스(웹 애플리케이션 {@link ClassLoader}에서 읽은 클래스 등)는 함수를 생성하지 않고 {@link MethodHandle}로 호출한다.
+ * 이 클래스에 정의되는 함수가 해당 클래스를 참조하여 {@link ClassLoader}가 해제되지 않거나, 클래스를 찾지 못하는 것을 방지한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+final class BinderCompiler {
+
+    private BinderCompiler() {
+    }
+
+    /**
+     * 파라미터 설정 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param names
+     *            위치 순서대로 파라미터 이름
+     * @param type
+     *            파라미터 객체 타입
+     * @param skip
+     *            파라미터 객체에서 읽지 않을 파라미터 이름. (nullable)
+     * @return
+     * @throws IllegalArgumentException
+     *             파라미터 이름에 해당하는 속성이 없는 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    static CompiledBinder compile(String[] names, Class<?> type, String skip) {
+        Setter[] setters = new Setter[names.length];
+
+        if (Map.class.isAssignableFrom(type)) {
+            for (int i = 0; i < names.length; i++) {
+                setters[i] = names[i].equals(skip) ? null : mapSetter(names[i]);
+            }
+            return new CompiledBinder(setters);
+        }
+
+        Map<String, Method> getters = null;
+        Map<String, Setter> compiled = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.equals(skip)) {
+                continue;
+            }
+            if (getters == null) {
+                getters = getters(type);
+            }
+            Method getter = getters.get(name);
+            if (getter == null) {
+                throw new IllegalArgumentException("No readable property. type=" + type.getName() + ", name=" + name);
+            }
+            setters[i] = compiled.computeIfAbsent(name, n -> setter(getter));
+        }
+
+        return new CompiledBinder(setters);
+    }
+
+    private static Map<String, Method> getters(Class<?> type) {
+        try {
+            Map<String, Method> getters = new HashMap<>();
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                if (pd.getReadMethod() != null) {
+                    getters.put(pd.getName(), pd.getReadMethod());
+                }
+            }
+            return getters;
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("Failed to introspect. type=" + type.getName(), e);
+        }
+    }
+
+    /** {@link MethodHandle}로 getter를 호출하는 객체를 생성한다. */
+    private static Setter handleSetter(Method getter) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return reflectiveSetter(getter);
+        }
+
+        Class<?> type = MethodType.methodType(getter.getReturnType()).wrap().returnType();
+        return objectSetter(type, bean -> {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read a property. getter=" + getter, e);
+            }
+        });
+    }
+
+    /** 이 클래스의 {@link ClassLoader}에서 같은 클래스를 찾을 수 있는지 여부를 제공한다. */
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, BinderCompiler.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> F lambda(Class<F> iface, String sam, MethodType samType, Method getter) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = lookup.unreflect(getter);
+        MethodType instantiated = handle.type();
+        if (!samType.returnType().isPrimitive()) {
+            instantiated = instantiated.wrap().changeParameterType(0, getter.getDeclaringClass());
+        }
+        CallSite site = LambdaMetafactory.metafactory(lookup, sam, MethodType.methodType(iface), samType, handle, instantiated);
+        return (F) site.getTarget().invoke();
+    }
+
+    private static Setter mapSetter(String name) {
+        return (pstmt, index, param) -> {
+            Map<?, ?> map = (Map<?, ?>) param;
+            Object value = map.get(name);
+            if (value == null && !map.containsKey(name)) {
+                throw new SQLException("No such parameter. name=" + name);
+            }
+            setValue(pstmt, index, value);
+        };
+    }
+
+    private static Setter objectSetter(Class<?> type, Function<Object, Object> getter) {
+        if (type == String.class) {
+            return (pstmt, index, bean) -> {
+                String value = (String) getter.apply(bean);
+                if (value == null) {
+                    pstmt.setNull(index, Types.VARCHAR);
+                } else {
+                    pstmt.setString(index, value);
+                }
+            };
+        } else if (type == BigDecimal.class) {
+            return (pstmt, index, bean) -> {
+                BigDecimal value = (BigDecimal) getter.apply(bean);
+                if (value == null) {
+                    pstmt.setNull(index, Types.NUMERIC);
+                } else {
+                    pstmt.setBigDecimal(index, value);
+                }
+            };
+        } else if (java.util.Date.class.isAssignableFrom(type) || byte[].class == type) {
+            int sqlType = sqlType(type);
+            return (pstmt, index, bean) -> {
+                Object value = getter.apply(bean);
+                if (value == null) {
+                    pstmt.setNull(index, sqlType);
+                } else {
+                    setValue(pstmt, index, value);
+                }
+            };
+        } else {
+            int sqlType = sqlType(type);
+            return (pstmt, index, bean) -> {
+                Object value = getter.apply(bean);
+                if (value == null) {
+                    pstmt.setNull(index, sqlType);
+                } else {
+                    pstmt.setObject(index, value);
+                }
+            };
+        }
+    }
+
+    private static Setter reflectiveSetter(Method getter) {
+        getter.setAccessible(true);
+        Class<?> type = MethodType.methodType(getter.getReturnType()).wrap().returnType();
+        return objectSetter(type, bean -> {
+            try {
+                return getter.invoke(bean);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to read a property. getter=" + getter, e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Setter setter(Method getter) {
+        Class<?> type = getter.getReturnType();
+        if (!isVisible(getter.getDeclaringClass()) || !isVisible(type)) {
+            return handleSetter(getter);
+        }
+        try {
+            if (type == int.class) {
+                ToIntFunction<Object> f = lambda(ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class), getter);
+                return (pstmt, index, bean) -> pstmt.setInt(index, f.applyAsInt(bean));
+            } else if (type == long.class) {
+                ToLongFunction<Object> f = lambda(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class), getter);
+                return (pstmt, index, bean) -> pstmt.setLong(index, f.applyAsLong(bean));
+            } else if (type == double.class) {
+                ToDoubleFunction<Object> f = lambda(ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class), getter);
+                return (pstmt, index, bean) -> pstmt.setDouble(index, f.applyAsDouble(bean));
+            } else if (type == boolean.class) {
+                Predicate<Object> f = lambda(Predicate.class, "test", MethodType.methodType(boolean.class, Object.class), getter);
+                return (pstmt, index, bean) -> pstmt.setBoolean(index, f.test(bean));
+            } else {
+                Function<Object, Object> f = lambda(Function.class, "apply", MethodType.methodType(Object.class, Object.class), getter);
+                return objectSetter(MethodType.methodType(type).wrap().returnType(), f);
+            }
+        } catch (Throwable e) {
+            return reflectiveSetter(getter);
+        }
+    }
+
+    /**
+     * 값의 실제 타입에 맞는 <code>setXxx</code>를 호출한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param pstmt
+     * @param index
+     *            파라미터 위치. (1부터 시작)
+     * @param value
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    static void setValue(PreparedStatement pstmt, int index, Object value) throws SQLException {
+        if (value == null) {
+            pstmt.setNull(index, Types.NULL);
+        } else if (value instanceof String) {
+            pstmt.setString(index, (String) value);
+        } else if (value instanceof Integer) {
+            pstmt.setInt(index, (Integer) value);
+        } else if (value instanceof Long) {
+            pstmt.setLong(index, (Long) value);
+        } else if (value instanceof Double) {
+            pstmt.setDouble(index, (Double) value);
+        } else if (value instanceof Boolean) {
+            pstmt.setBoolean(index, (Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            pstmt.setBigDecimal(index, (BigDecimal) value);
+        } else if (value instanceof Timestamp) {
+            pstmt.setTimestamp(index, (Timestamp) value);
+        } else if (value instanceof java.sql.Date) {
+            pstmt.setDate(index, (java.sql.Date) value);
+        } else if (value instanceof Time) {
+            pstmt.setTime(index, (Time) value);
+        } else if (value instanceof java.util.Date) {
+            pstmt.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        } else if (value instanceof byte[]) {
+            pstmt.setBytes(index, (byte[]) value);
+        } else {
+            pstmt.setObject(index, value);
+        }
+    }
+
+    private static int sqlType(Class<?> type) {
+        if (type == String.class) {
+            return Types.VARCHAR;
+        } else if (type == Integer.class) {
+            return Types.INTEGER;
+        } else if (type == Long.class) {
+            return Types.BIGINT;
+        } else if (type == Double.class) {
+            return Types.DOUBLE;
+        } else if (type == Float.class) {
+            return Types.REAL;
+        } else if (type == Short.class) {
+            return Types.SMALLINT;
+        } else if (type == Byte.class) {
+            return Types.TINYINT;
+        } else if (type == Boolean.class) {
+            return Types.BOOLEAN;
+        } else if (type == BigDecimal.class) {
+            return Types.NUMERIC;
+        } else if (type == java.sql.Date.class) {
+            return Types.DATE;
+        } else if (type == Time.class) {
+            return Types.TIME;
+        } else if (java.util.Date.class.isAssignableFrom(type)) {
+            return Types.TIMESTAMP;
+        } else if (type == byte[].class) {
+            return Types.VARBINARY;
+        } else {
+            return Types.NULL;
+        }
+    }
+
+    /**
+     * 파라미터 위치별 설정 함수를 실행하는 객체.
+     */
+    static final class CompiledBinder implements ParameterBinder<Object> {
+
+        /** 위치 순서대로 설정 함수. 파라미터 객체에서 읽지 않는 경우 <code>null</code> */
+        private final Setter[] setters;
+
+        private CompiledBinder(Setter[] setters) {
+            this.setters = setters;
+        }
+
+        /**
+         * @see open.commons.springframework4.dao.named.ParameterBinder#bind(java.sql.PreparedStatement, java.lang.Object)
+         */
+        @Override
+        public void bind(PreparedStatement pstmt, Object param) throws SQLException {
+            for (int i = 0; i < setters.length; i++) {
+                if (setters[i] != null) {
+                    setters[i].set(pstmt, i + 1, param);
+                }
+            }
+        }
+
+        /**
+         * 파라미터 위치를 변경하여 설정한다.
+         * 
+         * @param indexes
+         *            이름 순서별 실제 파라미터 위치
+         */
+        void bind(PreparedStatement pstmt, Object param, int[] indexes) throws SQLException {
+            for (int i = 0; i < setters.length; i++) {
+                if (setters[i] != null) {
+                    setters[i].set(pstmt, indexes[i], param);
+                }
+            }
+        }
+    }
+
+    /**
+     * 파라미터 객체에서 값을 읽어 설정하는 함수.
+     */
+    @FunctionalInterface
+    private interface Setter {
+        void set(PreparedStatement pstmt, int index, Object bean) throws SQLException;
+    }
+}
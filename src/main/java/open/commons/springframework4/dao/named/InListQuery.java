@@ -0,0 +1,308 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 12:34:20
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.named;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목록 파라미터(<code>IN (:ids)</code>)를 사용하는 쿼리 정보.<br>
+ * 
+ * 목록 파라미터는 목록 크기 이상인 2의 거듭제곱 개수({@link #bucket(int)})의 위치 기반 파라미터(<code>?</code>)로 확장되고, 남는 위치는 마지막 값으로 채운다. 따라서
+ * 목록 크기가 매번 달라도 생성되는 쿼리의 종류는 최대 크기의 로그 수준으로 유지되어, DBMS 실행계획 캐시와 드라이버 {@link PreparedStatement} 캐시를 재사용할 수 있다. <br>
+ * 드라이버 파라미터 개수 제한을 넘는 목록은 {@link #maxChunkSize(int)} 크기로 나누어 실행한다.
+ * 
+ * <pre>
+ * InListQuery query = InListQuery.parse("SELECT * FROM plant WHERE region = :region AND plant_id IN (:ids)", "ids");
+ * int bucket = InListQuery.bucket(ids.size()); // 5 → 8
+ * query.getSql(bucket); // ... AND plant_id IN (?, ?, ?, ?, ?, ?, ?, ?)
+ * query.bind(pstmt, param, ids, bucket);
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class InListQuery {
+
+    /** 원본 쿼리, 목록 파라미터 이름 - 쿼리 정보 */
+    private static final ConcurrentHashMap<String, InListQuery> QUERIES = new ConcurrentHashMap<>();
+
+    private final NamedQuery named;
+    /** 목록 파라미터 이름 */
+    private final String listName;
+    /** 위치 순서에서 목록 파라미터의 위치 */
+    private final int listIndex;
+    /** 목록 파라미터 앞부분 쿼리 */
+    private final String prefix;
+    /** 목록 파라미터 뒷부분 쿼리 */
+    private final String suffix;
+
+    /** 파라미터 개수 - 위치 기반 쿼리 */
+    private final ConcurrentHashMap<Integer, String> sqls = new ConcurrentHashMap<>();
+    /** 파라미터 객체 타입 - 파라미터 설정 객체 */
+    private final ConcurrentHashMap<Class<?>, BinderCompiler.CompiledBinder> binders = new ConcurrentHashMap<>();
+
+    private InListQuery(NamedQuery named, String listName) {
+        String[] names = named.names();
+
+        int index = -1;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(listName)) {
+                if (index >= 0) {
+                    throw new IllegalArgumentException("A list parameter MUST appear only once. name=" + listName + ", query=" + named.getSql());
+                }
+                index = i;
+            }
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("No such list parameter. name=" + listName + ", parameters=" + named.getParameterNames());
+        }
+
+        int pos = named.placeholders()[index];
+        this.named = named;
+        this.listName = listName;
+        this.listIndex = index;
+        this.prefix = named.getSql().substring(0, pos);
+        this.suffix = named.getSql().substring(pos + 1);
+    }
+
+    /**
+     * 파라미터를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param pstmt
+     * @param param
+     *            목록 파라미터를 제외한 파라미터 객체. JavaBean 또는 {@link java.util.Map}. 다른 파라미터가 없는 경우 <code>null</code> 가능
+     * @param values
+     *            목록 파라미터 값. 크기는 1 이상, <code>bucket</code> 이하
+     * @param bucket
+     *            목록 파라미터 개수. {@link #bucket(int)}
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void bind(PreparedStatement pstmt, Object param, List<?> values, int bucket) throws SQLException {
+        if (values.isEmpty() || values.size() > bucket) {
+            throw new SQLException("Invalid list size. size=" + values.size() + ", bucket=" + bucket);
+        }
+
+        int count = this.named.names().length;
+        if (count > 1) {
+            if (param == null) {
+                throw new SQLException("Parameter object MUST NOT BE null. parameters=" + this.named.getParameterNames());
+            }
+
+            int[] indexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                indexes[i] = i < this.listIndex ? i + 1 : i + bucket;
+            }
+            this.binders.computeIfAbsent(param.getClass(), t -> BinderCompiler.compile(this.named.names(), t, this.listName)).bind(pstmt, param, indexes);
+        }
+
+        int start = this.listIndex + 1;
+        int last = values.size() - 1;
+        for (int i = 0; i < bucket; i++) {
+            BinderCompiler.setValue(pstmt, start + i, values.get(Math.min(i, last)));
+        }
+    }
+
+    /**
+     * 목록 파라미터 이름을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String getListName() {
+        return listName;
+    }
+
+    /**
+     * 목록 파라미터를 주어진 개수로 확장한 위치 기반 쿼리를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param bucket
+     *            목록 파라미터 개수. {@link #bucket(int)}
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String getSql(int bucket) {
+        if (bucket < 1) {
+            throw new IllegalArgumentException("bucket MUST BE greater than 0. bucket=" + bucket);
+        }
+
+        return this.sqls.computeIfAbsent(bucket, b -> {
+            StringBuilder sql = new StringBuilder(this.prefix.length() + this.suffix.length() + b * 3);
+            sql.append(this.prefix).append('?');
+            for (int i = 1; i < b; i++) {
+                sql.append(", ?");
+            }
+            return sql.append(this.suffix).toString();
+        });
+    }
+
+    /**
+     * 드라이버 파라미터 개수 제한 이내에서 한번에 실행할 수 있는 목록의 최대 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param maxParameters
+     *            쿼리 1개에 사용할 수 있는 최대 파라미터 개수
+     * @return 2의 거듭제곱
+     * @throws IllegalArgumentException
+     *             목록 파라미터를 제외한 파라미터 개수가 제한 이상인 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public int maxChunkSize(int maxParameters) {
+        int available = maxParameters - (this.named.names().length - 1);
+        if (available < 1) {
+            throw new IllegalArgumentException("Too many parameters. limit=" + maxParameters + ", parameters=" + this.named.getParameterNames());
+        }
+        return Integer.highestOneBit(available);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("InListQuery [named=");
+        buffer.append(named);
+        buffer.append(", listName=");
+        buffer.append(listName);
+        buffer.append(", buckets=");
+        buffer.append(sqls.keySet());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 목록 크기에 해당하는 파라미터 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param size
+     *            목록 크기
+     * @return 목록 크기 이상인 가장 작은 2의 거듭제곱
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static int bucket(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * 쿼리를 변환한다. 변환 결과는 보관하여 재사용한다. <br>
+     * 보관된 변환 결과가 {@value NamedQuery#MAX_QUERIES}개에 도달한 경우 모두 제거한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			보관 개수 제한 추가
+     * </pre>
+     * 
+     * @param query
+     *            이름 있는 파라미터를 사용하는 쿼리
+     * @param listName
+     *            목록 파라미터 이름. 쿼리에 1번만 사용되어야 한다.
+     * @return
+     * @throws IllegalArgumentException
+     *             목록 파라미터가 없거나 2번 이상 사용된 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see NamedQuery#parse(String)
+     */
+    public static InListQuery parse(String query, String listName) {
+        String key = listName + '\0' + query;
+        InListQuery in = QUERIES.get(key);
+        if (in == null) {
+            if (QUERIES.size() >= NamedQuery.MAX_QUERIES) {
+                // 동적으로 생성되는 쿼리가 누적되지 않도록 한다.
+                QUERIES.clear();
+            }
+            in = QUERIES.computeIfAbsent(key, k -> new InListQuery(NamedQuery.parse(query), listName));
+        }
+        return in;
+    }
+}
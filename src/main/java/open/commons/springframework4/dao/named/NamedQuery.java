@@ -0,0 +1,310 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:28:44
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.named;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름 있는 파라미터(<code>:plantId</code>)를 사용하는 쿼리를 위치 기반(<code>?</code>) 쿼리로 변환한 정보.<br>
+ * 
+ * 쿼리별로 1회만 변환하여 보관하며({@link #parse(String)}), 파라미터 객체 타입별로 {@link ParameterBinder}를 1회 생성하여 재사용한다. 파라미터 객체는 JavaBean 또는
+ * {@link java.util.Map}을 지원한다. <br>
+ * 문자열(<code>'...'</code>, <code>"..."</code>, <code>`...`</code>), 주석(<code>--</code>, <code>/* *&#47;</code>) 안의 <code>:</code>와 형변환 연산자
+ * (<code>::</code>)는 파라미터로 처리하지 않는다.
+ * 
+ * <pre>
+ * NamedQuery query = NamedQuery.parse("SELECT * FROM plant WHERE plant_id = :plantId AND region = :region");
+ * query.getSql(); // SELECT * FROM plant WHERE plant_id = ? AND region = ?
+ * query.binder(PlantParam.class).bind(pstmt, param);
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class NamedQuery {
+
+    /** 변환 정보 최대 보관 개수 */
+    static final int MAX_QUERIES = 4096;
+    /** 원본 쿼리 - 변환 정보 */
+    private static final ConcurrentHashMap<String, NamedQuery> QUERIES = new ConcurrentHashMap<>();
+
+    /** 위치 기반 쿼리 */
+    private final String sql;
+    /** 위치 순서대로 파라미터 이름 */
+    private final String[] names;
+    /** 위치 순서대로 {@link #sql}에서 파라미터(<code>?</code>)의 위치 */
+    private final int[] placeholders;
+
+    /** 파라미터 객체 타입 - 파라미터 설정 객체 */
+    private final ConcurrentHashMap<Class<?>, ParameterBinder<?>> binders = new ConcurrentHashMap<>();
+
+    private NamedQuery(String sql, String[] names, int[] placeholders) {
+        this.sql = sql;
+        this.names = names;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * 파라미터 객체의 값을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param pstmt
+     * @param param
+     *            파라미터 객체. 파라미터가 없는 쿼리인 경우 <code>null</code> 가능
+     * @throws SQLException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public void bind(PreparedStatement pstmt, Object param) throws SQLException {
+        if (this.names.length == 0) {
+            return;
+        }
+        if (param == null) {
+            throw new SQLException("Parameter object MUST NOT BE null. parameters=" + Arrays.toString(this.names));
+        }
+
+        ((ParameterBinder<Object>) binder(param.getClass())).bind(pstmt, param);
+    }
+
+    /**
+     * 파라미터 객체 타입에 해당하는 {@link ParameterBinder}를 제공한다. 없는 경우 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param type
+     *            파라미터 객체 타입. JavaBean 또는 {@link java.util.Map}
+     * @return
+     * @throws IllegalArgumentException
+     *             파라미터 이름에 해당하는 속성이 없는 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    @SuppressWarnings("unchecked")
+    public <P> ParameterBinder<P> binder(Class<P> type) {
+        return (ParameterBinder<P>) this.binders.computeIfAbsent(type, t -> BinderCompiler.compile(this.names, t, null));
+    }
+
+    /**
+     * 위치 순서대로 파라미터 이름을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public List<String> getParameterNames() {
+        return Collections.unmodifiableList(Arrays.asList(this.names));
+    }
+
+    /**
+     * 위치 기반(<code>?</code>) 쿼리를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /** 위치 순서대로 파라미터 이름 */
+    String[] names() {
+        return this.names;
+    }
+
+    /** 위치 순서대로 {@link #getSql()}에서 파라미터(<code>?</code>)의 위치 */
+    int[] placeholders() {
+        return this.placeholders;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("NamedQuery [sql=");
+        buffer.append(sql);
+        buffer.append(", names=");
+        buffer.append(Arrays.toString(names));
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 쿼리를 위치 기반 쿼리로 변환한다. 변환 결과는 보관하여 재사용한다. <br>
+     * 보관된 변환 결과가 {@value #MAX_QUERIES}개에 도달한 경우 모두 제거한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			보관 개수 제한 추가
+     * </pre>
+     * 
+     * @param query
+     *            이름 있는 파라미터를 사용하는 쿼리
+     * @return
+     * @throws IllegalArgumentException
+     *             이름 있는 파라미터와 위치 기반 파라미터(<code>?</code>)를 함께 사용한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static NamedQuery parse(String query) {
+        NamedQuery named = QUERIES.get(query);
+        if (named == null) {
+            if (QUERIES.size() >= MAX_QUERIES) {
+                // 동적으로 생성되는 쿼리가 누적되지 않도록 한다.
+                QUERIES.clear();
+            }
+            named = QUERIES.computeIfAbsent(query, NamedQuery::compile);
+        }
+        return named;
+    }
+
+    private static NamedQuery compile(String query) {
+        int len = query.length();
+        StringBuilder sql = new StringBuilder(len);
+        List<String> names = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        boolean positional = false;
+
+        int i = 0;
+        while (i < len) {
+            char c = query.charAt(i);
+            char next = i + 1 < len ? query.charAt(i + 1) : 0;
+
+            int end;
+            if (c == '\'' || c == '"' || c == '`') {
+                end = skipQuoted(query, i, c);
+            } else if (c == '-' && next == '-') {
+                end = query.indexOf('\n', i);
+                end = end < 0 ? len : end;
+            } else if (c == '/' && next == '*') {
+                end = query.indexOf("*/", i + 2);
+                end = end < 0 ? len : end + 2;
+            } else if (c == ':' && next == ':') {
+                end = i + 2;
+            } else if (c == ':' && Character.isJavaIdentifierStart(next)) {
+                end = i + 2;
+                while (end < len && Character.isJavaIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+                names.add(query.substring(i + 1, end));
+                placeholders.add(sql.length());
+                sql.append('?');
+                i = end;
+                continue;
+            } else {
+                positional |= c == '?';
+                end = i + 1;
+            }
+
+            sql.append(query, i, end);
+            i = end;
+        }
+
+        if (positional && !names.isEmpty()) {
+            throw new IllegalArgumentException("Named and positional parameters MUST NOT BE mixed. query=" + query);
+        }
+
+        return new NamedQuery(sql.toString(), names.toArray(new String[names.size()]), placeholders.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 표준 SQL과 같이 따옴표를 2번 사용한 경우(<code>''</code>)만 문자열에 포함된 따옴표로 처리한다. 역슬래시(<code>\</code>)는 일반 문자로 처리한다.
+     * 
+     * @return 문자열이 끝난 다음 위치
+     */
+    private static int skipQuoted(String query, int start, char quote) {
+        int len = query.length();
+        int i = start + 1;
+        while (i < len) {
+            char c = query.charAt(i);
+            if (c == quote) {
+                if (i + 1 < len && query.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return len;
+    }
+}
@@ -0,0 +1,497 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:52:14
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 실행 시간 변화에 따라 동시 실행 요청 개수 제한을 조정하는 객체.<br>
+ * 
+ * 실행 시간의 단기 평균과 장기 평균을 비교(latency gradient)하여, 단기 평균이 장기 평균보다 커지면(DBMS 내부 대기 발생) 제한을 줄이고, 그렇지 않으면 제한을 늘린다. 시간
+ * 초과 등 DBMS 과부하로 인한 실패가 발생한 경우에는 제한을 비율만큼 즉시 줄인다. <br>
+ * 제한을 넘는 요청은 {@link #setMaxWait(long)} 동안 대기하며, 대기 시간을 초과하거나 대기 중인 요청이 {@link #setMaxQueueSize(int)}를 넘는 경우 거부된다.
+ * 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 사용해야 한다. <br>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>concurrencyLimiter.limit: 현재 동시 실행 제한
+ * <li>concurrencyLimiter.inFlight: 실행 중인 요청 개수
+ * <li>concurrencyLimiter.waiting: 대기 중인 요청 개수
+ * <li>concurrencyLimiter.rejected: 거부된 요청 개수
+ * <li>concurrencyLimiter.dropped: 과부하로 실패한 요청 개수
+ * <li>concurrencyLimiter.rtt.short, concurrencyLimiter.rtt.long: 실행 시간 단기/장기 평균 (단위: ms)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** 최소 동시 실행 제한 */
+    private final int minLimit;
+    /** 초기 동시 실행 제한 */
+    private final int initialLimit;
+    /** 최대 동시 실행 제한 */
+    private final int maxLimit;
+
+    /** 제한을 조정하는 단위가 되는 실행 결과 개수 */
+    private int windowSize = 20;
+    /** 장기 평균에 반영하는 가중치 */
+    private double longWindowWeight = 1.0 / 20;
+    /** 단기 평균이 장기 평균의 몇 배가 될 때까지 허용할지 여부 */
+    private double tolerance = 1.5;
+    /** 제한 변경시 새로운 값의 반영 비율 */
+    private double smoothing = 0.2;
+    /** 과부하로 실패한 경우 제한 감소 비율 */
+    private double backoffRatio = 0.9;
+    /** 최대 대기 시간 (단위: ms) */
+    private long maxWait = 50;
+    /** 최대 대기 요청 개수 */
+    private int maxQueueSize = 100;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    /** 현재 window 실행 시간 합계 (단위: ns) */
+    private long windowRttSum;
+    private int windowSamples;
+    /** 현재 window 최대 실행 중인 요청 개수 */
+    private int windowMaxInFlight;
+    /** 단기 평균 (단위: ns) */
+    private double shortRtt;
+    /** 장기 평균 (단위: ns). 음수인 경우 측정값 없음. */
+    private double longRtt = -1;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param initialLimit
+     *            초기 동시 실행 제한
+     * @param minLimit
+     *            최소 동시 실행 제한
+     * @param maxLimit
+     *            최대 동시 실행 제한. 연결 풀 크기보다 크게 설정하지 않는다.
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "MUST BE 0 < minLimit <= initialLimit <= maxLimit. initialLimit=" + initialLimit + ", minLimit=" + minLimit + ", maxLimit=" + maxLimit);
+        }
+
+        this.limit = initialLimit;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 요청 실행 허가를 받는다. 허가를 받은 경우 실행 후 반드시 {@link #release(long, boolean)}를 호출해야 한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 실행 결과 보고시 전달할 값. 허가를 받은 시각 (단위: ns)
+     * @throws LoadSheddingException
+     *             대기 시간을 초과했거나 대기 중인 요청이 너무 많은 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long acquire() throws LoadSheddingException {
+        lock.lock();
+        try {
+            if (this.inFlight < (int) this.limit) {
+                this.windowMaxInFlight = Math.max(this.windowMaxInFlight, ++this.inFlight);
+                return System.nanoTime();
+            }
+
+            if (this.waiting >= this.maxQueueSize || this.maxWait <= 0) {
+                throw reject();
+            }
+
+            this.waiting++;
+            try {
+                long remains = TimeUnit.MILLISECONDS.toNanos(this.maxWait);
+                while (this.inFlight >= (int) this.limit) {
+                    if (remains <= 0) {
+                        throw reject();
+                    }
+                    remains = this.available.awaitNanos(remains);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            } finally {
+                this.waiting--;
+            }
+
+            this.windowMaxInFlight = Math.max(this.windowMaxInFlight, ++this.inFlight);
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 결과를 반영하지 않고 실행 허가를 반환한다. 허가를 받은 후 실행하지 않은 경우에 사용한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            this.inFlight--;
+            this.available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 같은 설정으로 새로운 객체를 생성한다. 상태 정보는 복사하지 않으며, 동시 실행 제한은 초기값부터 다시 조정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public AdaptiveConcurrencyLimiter copy() {
+        AdaptiveConcurrencyLimiter copy = new AdaptiveConcurrencyLimiter(this.initialLimit, this.minLimit, this.maxLimit);
+        copy.windowSize = this.windowSize;
+        copy.longWindowWeight = this.longWindowWeight;
+        copy.tolerance = this.tolerance;
+        copy.smoothing = this.smoothing;
+        copy.backoffRatio = this.backoffRatio;
+        copy.maxWait = this.maxWait;
+        copy.maxQueueSize = this.maxQueueSize;
+        return copy;
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 결과 1개가 모이면 제한을 조정한다. 잠금을 획득한 상태에서 호출한다.
+     */
+    private void onSample(long rttNanos) {
+        this.windowRttSum += rttNanos;
+        if (++this.windowSamples < this.windowSize) {
+            return;
+        }
+
+        this.shortRtt = (double) this.windowRttSum / this.windowSamples;
+        int maxInFlight = this.windowMaxInFlight;
+        this.windowRttSum = 0;
+        this.windowSamples = 0;
+        this.windowMaxInFlight = this.inFlight;
+
+        if (this.longRtt < 0) {
+            this.longRtt = this.shortRtt;
+            return;
+        }
+        this.longRtt += (this.shortRtt - this.longRtt) * this.longWindowWeight;
+
+        // 지연이 회복된 경우 장기 평균이 높은 값에 머물러 제한이 과도하게 늘어나지 않도록 빠르게 낮춘다.
+        if (this.longRtt > this.shortRtt * 2) {
+            this.longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, this.tolerance * this.longRtt / this.shortRtt));
+        // 요청이 적어 제한에 도달하지 않는 경우 제한을 늘리지 않는다.
+        if (gradient >= 1.0 && maxInFlight < this.limit / 2) {
+            return;
+        }
+
+        double next = this.limit * gradient + Math.sqrt(this.limit);
+        updateLimit(this.limit * (1 - this.smoothing) + next * this.smoothing);
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("concurrencyLimiter.limit", () -> getLimit());
+        metrics.gauge("concurrencyLimiter.inFlight", () -> getInFlight());
+        metrics.gauge("concurrencyLimiter.waiting", () -> getWaiting());
+        metrics.gauge("concurrencyLimiter.rejected", () -> rejected.sum());
+        metrics.gauge("concurrencyLimiter.dropped", () -> dropped.sum());
+        metrics.gauge("concurrencyLimiter.rtt.short", () -> rtt(false));
+        metrics.gauge("concurrencyLimiter.rtt.long", () -> rtt(true));
+    }
+
+    private LoadSheddingException reject() {
+        this.rejected.increment();
+        return new LoadSheddingException("Concurrency limit exceeded. limit=" + (int) this.limit + ", in-flight=" + this.inFlight + ", waiting=" + this.waiting);
+    }
+
+    /**
+     * 실행 허가를 반환하고, 실행 결과를 반영한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param permit
+     *            {@link #acquire()} 결과
+     * @param dropped
+     *            시간 초과 등 DBMS 과부하로 인한 실패 여부
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void release(long permit, boolean dropped) {
+        long rtt = System.nanoTime() - permit;
+
+        lock.lock();
+        try {
+            this.inFlight--;
+
+            if (dropped) {
+                this.dropped.increment();
+                updateLimit(this.limit * this.backoffRatio);
+            } else {
+                onSample(rtt);
+            }
+
+            this.available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double rtt(boolean longTerm) {
+        lock.lock();
+        try {
+            double rtt = longTerm ? this.longRtt : this.shortRtt;
+            return rtt > 0 ? rtt / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio MUST BE in (0, 1). backoffRatio=" + backoffRatio);
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * 장기 평균에 포함할 window 개수를 설정한다. 값이 클수록 장기 평균이 천천히 변한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param longWindows
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setLongWindows(int longWindows) {
+        if (longWindows < 1) {
+            throw new IllegalArgumentException("longWindows MUST BE positive. longWindows=" + longWindows);
+        }
+        this.longWindowWeight = 1.0 / longWindows;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * 제한을 넘는 요청의 최대 대기 시간을 설정한다. 0 이하인 경우 대기하지 않고 거부한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param maxWait
+     *            최대 대기 시간 (단위: ms)
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("smoothing MUST BE in (0, 1]. smoothing=" + smoothing);
+        }
+        this.smoothing = smoothing;
+    }
+
+    public void setTolerance(double tolerance) {
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("tolerance MUST BE greater than or equal to 1. tolerance=" + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    public void setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize MUST BE positive. windowSize=" + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("AdaptiveConcurrencyLimiter [limit=");
+        buffer.append(getLimit());
+        buffer.append(", minLimit=");
+        buffer.append(minLimit);
+        buffer.append(", maxLimit=");
+        buffer.append(maxLimit);
+        buffer.append(", inFlight=");
+        buffer.append(getInFlight());
+        buffer.append(", waiting=");
+        buffer.append(getWaiting());
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 제한을 변경한다. 잠금을 획득한 상태에서 호출한다.
+     */
+    private void updateLimit(double next) {
+        double prev = this.limit;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, next));
+        if ((int) this.limit > (int) prev) {
+            this.available.signalAll();
+        }
+    }
+}
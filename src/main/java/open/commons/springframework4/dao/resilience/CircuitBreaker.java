@@ -0,0 +1,573 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:51:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * {@link DataSource} 단위로 쿼리 실행 오류율과 지연을 감시하여, 장애 상황에서 연결을 기다리지 않고 즉시 실패하도록 하는 객체.<br>
+ * 
+ * 최근 {@link #setWindowSize(int)}개의 실행 결과 중 오류 비율 또는 지연 비율이 기준을 넘으면 {@link State#OPEN} 상태가 되어 모든 요청을
+ * {@link CircuitBreakerOpenException}으로 거부한다. {@link #setOpenDuration(long)} 이후 {@link State#HALF_OPEN} 상태에서
+ * {@link #setHalfOpenProbes(int)}개의 요청만 실행하여, 모두 성공하면 {@link State#CLOSED}, 하나라도 실패하면 다시 {@link State#OPEN} 상태가 된다.
+ * <br>
+ * 
+ * 동일한 {@link DataSource}를 사용하는 DAO는 동일한 객체를 사용해야 하며, {@link #forDataSource(DataSource)}를 이용하면 {@link DataSource}별로 1개의
+ * 객체가 제공된다.
+ * 
+ * <pre>
+ * &lt;bean id="mainDbBreaker" class="open.commons.springframework4.dao.resilience.CircuitBreaker" factory-method="forDataSource"&gt;
+ *     &lt;constructor-arg ref="mainDataSource" /&gt;
+ *     &lt;property name="failureRateThreshold" value="50" /&gt;
+ *     &lt;property name="slowCallDuration" value="3000" /&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>circuitBreaker.state: 현재 상태. (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+ * <li>circuitBreaker.transition.closed / open / halfOpen: 상태별 전환 횟수
+ * <li>circuitBreaker.rejected: 거부된 요청 개수
+ * <li>circuitBreaker.failureRate / slowCallRate: 현재 구간의 오류 / 지연 비율(%)
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class CircuitBreaker {
+
+    /** {@link DataSource} - {@link CircuitBreaker} */
+    private static final ConcurrentHashMap<DataSource, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private static final byte RESULT_FAILURE = 0x01;
+    private static final byte RESULT_SLOW = 0x02;
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final String name;
+
+    /** 상태 판단을 위한 최근 실행 결과 개수 */
+    private int windowSize = 100;
+    /** 상태 판단을 위한 최소 실행 결과 개수 */
+    private int minimumCalls = 20;
+    /** 오류 비율 기준 (단위: %) */
+    private int failureRateThreshold = 50;
+    /** 지연 비율 기준 (단위: %) */
+    private int slowCallRateThreshold = 100;
+    /** 지연으로 판단하는 실행 시간 (단위: ns) */
+    private long slowCallDurationNanos = TimeUnit.SECONDS.toNanos(5);
+    /** {@link State#OPEN} 상태 유지 시간 (단위: ns) */
+    private long openDurationNanos = TimeUnit.SECONDS.toNanos(30);
+    /** {@link State#HALF_OPEN} 상태에서 허용하는 요청 개수 */
+    private int halfOpenProbes = 3;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile State state = State.CLOSED;
+    /** 상태가 전환될 때마다 증가. 이전 상태에서 시작된 요청의 결과를 구분하기 위해서 사용한다. */
+    private volatile long generation;
+    private long openedAt;
+
+    /** 최근 실행 결과 */
+    private byte[] window = new byte[windowSize];
+    private int position;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    /** {@link State#HALF_OPEN} 상태에서 실행 중 / 성공한 요청 개수 */
+    private int probesAcquired;
+    private int probesSucceeded;
+
+    private final LongAdder toClosed = new LongAdder();
+    private final LongAdder toOpen = new LongAdder();
+    private final LongAdder toHalfOpen = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            이름
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public CircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 요청 실행 허가를 받는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 실행 결과 보고시 전달할 값. ({@link #onResult(long, long, boolean)} 참조)
+     * @throws CircuitBreakerOpenException
+     *             요청이 거부된 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long acquire() throws CircuitBreakerOpenException {
+        // 정상 상태에서는 잠금 없이 처리한다. 그 사이에 상태가 전환된 경우 실행 결과는 반영되지 않는다.
+        if (this.state == State.CLOSED) {
+            return this.generation;
+        }
+
+        long retryAfter;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            switch (this.state) {
+                case CLOSED:
+                    return this.generation;
+                case OPEN:
+                    if (now - this.openedAt >= this.openDurationNanos) {
+                        transitionTo(State.HALF_OPEN);
+                        this.probesAcquired++;
+                        return this.generation;
+                    }
+                    retryAfter = TimeUnit.NANOSECONDS.toMillis(this.openDurationNanos - (now - this.openedAt));
+                    break;
+                case HALF_OPEN:
+                    if (this.probesAcquired < this.halfOpenProbes) {
+                        this.probesAcquired++;
+                        return this.generation;
+                    }
+                    retryAfter = 0;
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected state: " + this.state);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        rejected.increment();
+        throw new CircuitBreakerOpenException(this.name, retryAfter);
+    }
+
+    private void clearWindow() {
+        if (this.window.length != this.windowSize) {
+            this.window = new byte[this.windowSize];
+        } else {
+            Arrays.fill(this.window, (byte) 0);
+        }
+        this.position = 0;
+        this.calls = 0;
+        this.failures = 0;
+        this.slowCalls = 0;
+    }
+
+    /**
+     * 같은 설정으로 새로운 객체를 생성한다. 상태 정보는 복사하지 않는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            이름
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public CircuitBreaker copy(String name) {
+        CircuitBreaker copy = new CircuitBreaker(name);
+        lock.lock();
+        try {
+            copy.windowSize = this.windowSize;
+            copy.window = new byte[this.windowSize];
+            copy.minimumCalls = this.minimumCalls;
+            copy.failureRateThreshold = this.failureRateThreshold;
+            copy.slowCallRateThreshold = this.slowCallRateThreshold;
+            copy.slowCallDurationNanos = this.slowCallDurationNanos;
+            copy.openDurationNanos = this.openDurationNanos;
+            copy.halfOpenProbes = this.halfOpenProbes;
+        } finally {
+            lock.unlock();
+        }
+        return copy;
+    }
+
+    /**
+     * {@link DataSource}별로 1개의 객체를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static CircuitBreaker forDataSource(DataSource dataSource) {
+        return BREAKERS.computeIfAbsent(dataSource,
+                ds -> new CircuitBreaker(ds.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(ds))));
+    }
+
+    /**
+     * 현재 구간의 오류 비율(%)을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getFailureRate() {
+        lock.lock();
+        try {
+            return this.calls > 0 ? this.failures * 100.0 / this.calls : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 구간의 지연 비율(%)을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getSlowCallRate() {
+        lock.lock();
+        try {
+            return this.calls > 0 ? this.slowCalls * 100.0 / this.calls : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 요청 실행 결과를 반영한다. <br>
+     * 상태가 전환된 이후에 보고된 이전 상태의 실행 결과는 반영하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param permit
+     *            {@link #acquire()} 결과
+     * @param elapsedNanos
+     *            실행 시간 (단위: ns)
+     * @param failure
+     *            실패 여부
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void onResult(long permit, long elapsedNanos, boolean failure) {
+        boolean slow = elapsedNanos >= this.slowCallDurationNanos;
+
+        lock.lock();
+        try {
+            if (permit != this.generation) {
+                return;
+            }
+
+            switch (this.state) {
+                case CLOSED:
+                    record(failure, slow);
+                    if (this.calls >= this.minimumCalls //
+                            && (this.failures * 100 >= this.failureRateThreshold * this.calls //
+                                    || this.slowCalls * 100 >= this.slowCallRateThreshold * this.calls)) {
+                        logger.warn("[circuit-breaker] {} opened. calls={}, failures={}, slow-calls={}", this.name, this.calls, this.failures, this.slowCalls);
+                        transitionTo(State.OPEN);
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (failure || slow) {
+                        logger.warn("[circuit-breaker] {} re-opened by probe. failure={}, elapsed={}ms", this.name, failure,
+                                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+                        transitionTo(State.OPEN);
+                    } else if (++this.probesSucceeded >= this.halfOpenProbes) {
+                        logger.info("[circuit-breaker] {} closed.", this.name);
+                        transitionTo(State.CLOSED);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (this.calls == this.window.length) {
+            byte old = this.window[this.position];
+            if ((old & RESULT_FAILURE) != 0) {
+                this.failures--;
+            }
+            if ((old & RESULT_SLOW) != 0) {
+                this.slowCalls--;
+            }
+        } else {
+            this.calls++;
+        }
+
+        byte result = 0;
+        if (failure) {
+            result |= RESULT_FAILURE;
+            this.failures++;
+        }
+        if (slow) {
+            result |= RESULT_SLOW;
+            this.slowCalls++;
+        }
+        this.window[this.position] = result;
+        this.position = (this.position + 1) % this.window.length;
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("circuitBreaker.state", () -> this.state.ordinal());
+        metrics.gauge("circuitBreaker.transition.closed", () -> toClosed.sum());
+        metrics.gauge("circuitBreaker.transition.open", () -> toOpen.sum());
+        metrics.gauge("circuitBreaker.transition.halfOpen", () -> toHalfOpen.sum());
+        metrics.gauge("circuitBreaker.rejected", () -> rejected.sum());
+        metrics.gauge("circuitBreaker.failureRate", () -> getFailureRate());
+        metrics.gauge("circuitBreaker.slowCallRate", () -> getSlowCallRate());
+    }
+
+    /**
+     * 오류 비율 기준(%)을 설정한다. (기본값: 50)
+     */
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * {@link State#HALF_OPEN} 상태에서 허용하는 요청 개수를 설정한다. (기본값: 3)
+     */
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes MUST BE greater than 0. halfOpenProbes=" + halfOpenProbes);
+        }
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 상태 판단을 위한 최소 실행 결과 개수를 설정한다. (기본값: 20)
+     */
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    /**
+     * {@link State#OPEN} 상태 유지 시간(ms)을 설정한다. (기본값: 30000)
+     */
+    public void setOpenDuration(long openDuration) {
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDuration);
+    }
+
+    /**
+     * 지연으로 판단하는 실행 시간(ms)을 설정한다. (기본값: 5000)
+     */
+    public void setSlowCallDuration(long slowCallDuration) {
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(slowCallDuration);
+    }
+
+    /**
+     * 지연 비율 기준(%)을 설정한다. 100을 초과하는 경우 지연 여부는 상태 판단에 사용하지 않는다. (기본값: 100)
+     */
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    /**
+     * 상태 판단을 위한 최근 실행 결과 개수를 설정한다. (기본값: 100)
+     */
+    public void setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize MUST BE greater than 0. windowSize=" + windowSize);
+        }
+
+        lock.lock();
+        try {
+            this.windowSize = windowSize;
+            clearWindow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("CircuitBreaker [name=");
+        buffer.append(name);
+        buffer.append(", state=");
+        buffer.append(state);
+        buffer.append(", failureRateThreshold=");
+        buffer.append(failureRateThreshold);
+        buffer.append(", slowCallRateThreshold=");
+        buffer.append(slowCallRateThreshold);
+        buffer.append(", slowCallDuration=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(slowCallDurationNanos));
+        buffer.append(", openDuration=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+        buffer.append(", windowSize=");
+        buffer.append(windowSize);
+        buffer.append(", minimumCalls=");
+        buffer.append(minimumCalls);
+        buffer.append(", halfOpenProbes=");
+        buffer.append(halfOpenProbes);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * 상태를 전환한다. 호출하는 쪽에서 잠금을 보유해야 한다.
+     */
+    private void transitionTo(State next) {
+        this.state = next;
+        this.generation++;
+        this.probesAcquired = 0;
+        this.probesSucceeded = 0;
+
+        switch (next) {
+            case CLOSED:
+                clearWindow();
+                toClosed.increment();
+                break;
+            case OPEN:
+                this.openedAt = System.nanoTime();
+                toOpen.increment();
+                break;
+            case HALF_OPEN:
+                toHalfOpen.increment();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 상태 정보.
+     */
+    public static enum State {
+        /** 정상. 모든 요청 실행 */
+        CLOSED,
+        /** 장애. 모든 요청 거부 */
+        OPEN,
+        /** 복구 확인. 일부 요청만 실행 */
+        HALF_OPEN,;
+    }
+}
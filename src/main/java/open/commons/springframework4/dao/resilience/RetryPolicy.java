@@ -0,0 +1,294 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 5:41:53
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일시적인 오류(교착상태, 직렬화 실패, 연결 끊김 등)가 발생한 요청의 재시도 기준을 제공하는 객체.<br>
+ * 
+ * 재시도 여부는 SQLState, 제조사 오류 코드, JDBC 예외 타입({@link SQLTransientException}, {@link SQLRecoverableException})으로 판단하며, 재시도 간격은
+ * 지수 증가(exponential backoff)한 값에 임의 지연(full jitter)을 적용한다. 첫번째 요청부터 {@link #setMaxElapsed(long)} 이상 경과하게 되는 경우 더 이상
+ * 재시도하지 않는다. <br>
+ * 
+ * 재시도는 멱등성(idempotent)이 보장된 요청에만 적용된다. ({@link open.commons.springframework4.dao.QueryOptions#idempotent(boolean)} 참조)
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class RetryPolicy {
+
+    /**
+     * 기본 재시도 대상 SQLState
+     * <ul>
+     * <li>40001: serialization failure
+     * <li>40P01: deadlock detected (PostgreSQL)
+     * <li>08000, 08001, 08003, 08006, 08S01: connection exception
+     * </ul>
+     */
+    public static final Set<String> DEFAULT_SQL_STATES = Collections
+            .unmodifiableSet(new HashSet<>(Arrays.asList("40001", "40P01", "08000", "08001", "08003", "08006", "08S01")));
+
+    /**
+     * 기본 재시도 대상 제조사 오류 코드
+     * <ul>
+     * <li>1213: deadlock (MySQL/MariaDB)
+     * <li>1205: lock wait timeout (MySQL/MariaDB), deadlock victim (SQL Server)
+     * <li>60: deadlock (Oracle, ORA-00060)
+     * <li>8177: serialization failure (Oracle, ORA-08177)
+     * </ul>
+     */
+    public static final Set<Integer> DEFAULT_ERROR_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(1213, 1205, 60, 8177)));
+
+    /** 최대 실행 횟수 (최초 실행 포함) */
+    private int maxAttempts = 3;
+    /** 최초 재시도 대기 시간 (단위: ms) */
+    private long initialBackoff = 50;
+    /** 최대 재시도 대기 시간 (단위: ms) */
+    private long maxBackoff = 1000;
+    /** 재시도 대기 시간 증가 배수 */
+    private double multiplier = 2.0;
+    /** 최초 실행부터 재시도를 허용하는 시간 (단위: ms) */
+    private long maxElapsed = 5000;
+
+    private Set<String> sqlStates = DEFAULT_SQL_STATES;
+    private Set<Integer> errorCodes = DEFAULT_ERROR_CODES;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public RetryPolicy() {
+    }
+
+    /**
+     * 재시도 대기 시간을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param retry
+     *            재시도 순번 (1부터 시작)
+     * @return 대기 시간 (단위: ms)
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long backoff(int retry) {
+        double ceiling = Math.min(this.maxBackoff, this.initialBackoff * Math.pow(this.multiplier, retry - 1));
+        // full jitter: [0, ceiling]
+        return (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 재시도를 허용하는 시간을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: ns
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getMaxElapsedNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(this.maxElapsed);
+    }
+
+    /**
+     * 재시도 대상 오류인지 여부를 제공한다. <br>
+     * 요청이 거부된 경우({@link CircuitBreakerOpenException}, {@link LoadSheddingException})와 쿼리 실행 제한시간 초과({@link SQLTimeoutException})는
+     * 재시도하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param e
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean isRetryable(SQLException e) {
+        if (e instanceof CircuitBreakerOpenException || e instanceof LoadSheddingException) {
+            return false;
+        }
+
+        SQLException vendor = SQLExceptionUtils.findVendorException(e);
+        if (vendor != null) {
+            if (vendor instanceof SQLTimeoutException) {
+                return false;
+            }
+            if (vendor.getSQLState() != null && this.sqlStates.contains(vendor.getSQLState())) {
+                return true;
+            }
+            if (vendor.getErrorCode() != 0 && this.errorCodes.contains(vendor.getErrorCode())) {
+                return true;
+            }
+        }
+
+        // 코드가 없거나 등록되지 않은 경우 예외 타입으로 판단
+        Throwable cur = e;
+        int depth = 0;
+        while (cur != null && depth++ < 32) {
+            if (cur instanceof SQLTimeoutException) {
+                return false;
+            }
+            if (cur instanceof SQLTransientException || cur instanceof SQLRecoverableException) {
+                return true;
+            }
+            cur = cur.getCause();
+        }
+
+        return false;
+    }
+
+    /**
+     * 재시도 대상 제조사 오류 코드를 설정한다. (기본값: {@link #DEFAULT_ERROR_CODES})
+     */
+    public void setErrorCodes(Collection<Integer> errorCodes) {
+        this.errorCodes = Collections.unmodifiableSet(new HashSet<>(errorCodes));
+    }
+
+    /**
+     * 최초 재시도 대기 시간(ms)을 설정한다. (기본값: 50)
+     */
+    public void setInitialBackoff(long initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * 최대 실행 횟수(최초 실행 포함)를 설정한다. (기본값: 3)
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts MUST BE greater than 0. maxAttempts=" + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 최대 재시도 대기 시간(ms)을 설정한다. (기본값: 1000)
+     */
+    public void setMaxBackoff(long maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * 최초 실행부터 재시도를 허용하는 시간(ms)을 설정한다. (기본값: 5000)
+     */
+    public void setMaxElapsed(long maxElapsed) {
+        this.maxElapsed = maxElapsed;
+    }
+
+    /**
+     * 재시도 대기 시간 증가 배수를 설정한다. (기본값: 2.0)
+     */
+    public void setMultiplier(double multiplier) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier MUST BE greater than or equal to 1. multiplier=" + multiplier);
+        }
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * 재시도 대상 SQLState를 설정한다. (기본값: {@link #DEFAULT_SQL_STATES})
+     */
+    public void setSqlStates(Collection<String> sqlStates) {
+        this.sqlStates = Collections.unmodifiableSet(new HashSet<>(sqlStates));
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("RetryPolicy [maxAttempts=");
+        buffer.append(maxAttempts);
+        buffer.append(", initialBackoff=");
+        buffer.append(initialBackoff);
+        buffer.append(", maxBackoff=");
+        buffer.append(maxBackoff);
+        buffer.append(", multiplier=");
+        buffer.append(multiplier);
+        buffer.append(", maxElapsed=");
+        buffer.append(maxElapsed);
+        buffer.append(", sqlStates=");
+        buffer.append(sqlStates);
+        buffer.append(", errorCodes=");
+        buffer.append(errorCodes);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
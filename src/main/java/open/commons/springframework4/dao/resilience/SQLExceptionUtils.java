@@ -0,0 +1,136 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 5:02:19
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import java.sql.SQLException;
+
+/**
+ * {@link SQLException} 분류 기능을 제공하는 클래스.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class SQLExceptionUtils {
+
+    private SQLExceptionUtils() {
+    }
+
+    /**
+     * 예외 원인 중에서 DBMS가 제공한 {@link SQLException}(SQLState 또는 vendor code가 있는 예외)을 제공한다. <br>
+     * DAO 내부에서 변환(wrapping)된 예외인 경우 원래의 예외를 찾기 위해서 사용한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param t
+     * @return 찾지 못한 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static SQLException findVendorException(Throwable t) {
+        SQLException found = null;
+
+        Throwable cur = t;
+        // 순환 참조 방지
+        int depth = 0;
+        while (cur != null && depth++ < 32) {
+            if (cur instanceof SQLException) {
+                SQLException e = (SQLException) cur;
+                if (e.getSQLState() != null || e.getErrorCode() != 0) {
+                    found = e;
+                }
+            }
+            cur = cur.getCause();
+        }
+
+        return found;
+    }
+
+    /**
+     * 예외의 SQLState를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param t
+     * @return SQLState가 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static String getSQLState(Throwable t) {
+        SQLException e = findVendorException(t);
+        return e != null ? e.getSQLState() : null;
+    }
+
+    /**
+     * 요청 데이터/쿼리 오류로 인한 예외인지 여부를 제공한다. <br>
+     * DBMS 상태와 무관한 오류이므로 장애 판단시 제외한다.
+     * <ul>
+     * <li>22xxx: data exception
+     * <li>23xxx: integrity constraint violation
+     * <li>42xxx: syntax error or access rule violation
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param t
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static boolean isClientError(Throwable t) {
+        String state = getSQLState(t);
+        return state != null && (state.startsWith("22") || state.startsWith("23") || state.startsWith("42"));
+    }
+}
@@ -0,0 +1,157 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 6:14:08
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해시(consistent hashing)를 이용하여 shard key에 해당하는 shard를 제공하는 객체.<br>
+ * 
+ * shard 마다 여러 개의 가상 노드(virtual node)를 해시 링(ring)에 배치하여 데이터를 고르게 분산하고, shard가 추가/제거되는 경우 일부 key만 다른 shard로 이동하도록 한다.
+ * 생성 이후에는 변경되지 않으므로 여러 쓰레드에서 동시에 사용할 수 있다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConsistentHashRouter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** 해시 값 - shard 이름 */
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final List<String> shards;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param shards
+     *            shard 이름
+     * @param virtualNodes
+     *            shard 별 가상 노드 개수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public ConsistentHashRouter(Collection<String> shards, int virtualNodes) {
+        if (shards == null || shards.isEmpty()) {
+            throw new IllegalArgumentException("shards MUST NOT BE empty.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes MUST BE greater than 0. virtualNodes=" + virtualNodes);
+        }
+
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌시 먼저 배치된 노드를 유지한다.
+                this.ring.putIfAbsent(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * 64bit FNV-1a 해시에 MurmurHash3 fmix64를 적용하여 값을 고르게 분산한다.
+     */
+    static long hash(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= FNV_PRIME;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * shard key에 해당하는 shard 이름을 제공한다. <br>
+     * shard key는 {@link String#valueOf(Object)} 결과를 기준으로 계산한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param shardKey
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public String route(Object shardKey) {
+        Map.Entry<Long, String> node = this.ring.ceilingEntry(hash(String.valueOf(shardKey)));
+        return node != null ? node.getValue() : this.ring.firstEntry().getValue();
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("ConsistentHashRouter [shards=");
+        buffer.append(shards);
+        buffer.append(", nodes=");
+        buffer.append(ring.size());
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,156 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:08:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * 조회 결과 데이터를 {@link SpillableList}에 저장하기 위한 이진 변환 객체.<br>
+ * 
+ * 저장 공간과 변환 비용을 줄이기 위해 데이터 타입마다 필드를 직접 기록하도록 작성한다.
+ * 
+ * <pre>
+ * RowCodec&lt;Plant&gt; codec = new RowCodec&lt;Plant&gt;() {
+ *     public void write(Plant row, DataOutput out) throws IOException {
+ *         out.writeLong(row.getId());
+ *         out.writeUTF(row.getName());
+ *     }
+ * 
+ *     public Plant read(DataInput in) throws IOException {
+ *         return new Plant(in.readLong(), in.readUTF());
+ *     }
+ * };
+ * </pre>
+ * 
+ * @param <T>
+ *            데이터 타입
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ * 
+ * @see SpillableList
+ */
+public interface RowCodec<T> {
+
+    /**
+     * 기록된 데이터를 읽어서 객체를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param in
+     * @return
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Java 직렬화를 사용하는 객체를 제공한다. <br>
+     * 행마다 클래스 정보가 함께 기록되므로 데이터 타입별로 작성한 객체보다 저장 공간과 변환 비용이 크다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static <T extends Serializable> RowCodec<T> serializable() {
+        return new RowCodec<T>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public T read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public void write(T row, DataOutput out) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                    oos.writeObject(row);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+        };
+    }
+
+    /**
+     * 객체를 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param row
+     * @param out
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    void write(T row, DataOutput out) throws IOException;
+}
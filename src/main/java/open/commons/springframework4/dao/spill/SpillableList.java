@@ -0,0 +1,510 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:15:02
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.spill;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 데이터 개수가 기준을 넘으면 임시 파일에 이진 형태로 저장하는 목록.<br>
+ * 
+ * 기준 개수까지는 힙(heap)에 객체로 보관하고, 기준을 넘는 경우 모든 데이터를 {@link RowCodec}으로 변환하여 임시 파일에 저장한다. 파일은 direct buffer를 통해서
+ * 기록되고, memory-mapped 영역에서 조회할 때마다 객체로 변환된다. 최근에 조회한 객체는 설정된 개수만큼 보관한다. <br>
+ * 수백만 건의 조회 결과를 힙에 객체로 보관하지 않으므로, 대량 조회 결과를 임의 위치로 접근해야 하는 경우 Full GC를 줄일 수 있다.
+ * 
+ * <ul>
+ * <li>데이터 추가({@link #add(Object)})와 조회만 지원하며, 변경/삭제는 지원하지 않는다.
+ * <li>동시에 사용하는 경우 외부에서 동기화해야 한다.
+ * <li>사용이 끝나면 {@link #close()}를 호출하여 임시 파일을 삭제한다.
+ * </ul>
+ * 
+ * <pre>
+ * try (SpillableList&lt;Plant&gt; plants = dao.getSpillableList(query, setter, null, codec, Plant.class).getData()) {
+ *     ...
+ * }
+ * </pre>
+ * 
+ * @param <T>
+ *            데이터 타입
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class SpillableList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    /** memory-mapped 영역 1개의 최대 크기. 데이터 1개는 영역 경계를 넘지 않도록 기록한다. */
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    /** 파일 기록 버퍼 크기 */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final RowCodec<T> codec;
+    /** 힙에 보관할 최대 데이터 개수 */
+    private final int threshold;
+    /** 임시 파일 생성 디렉토리. <code>null</code>인 경우 시스템 기본값 */
+    private final File directory;
+    /** 최근 조회한 데이터. (nullable) */
+    private final Map<Integer, T> cache;
+
+    /** 힙에 보관 중인 데이터. 임시 파일에 저장한 후에는 <code>null</code> */
+    private List<T> heap = new ArrayList<>();
+    private int size;
+
+    private FileChannel channel;
+    /** 파일 기록 버퍼 */
+    private ByteBuffer writeBuffer;
+    /** 기록 버퍼의 데이터가 기록될 파일 위치 */
+    private long flushed;
+    /** 기록된 데이터 크기 (기록 버퍼 포함) */
+    private long length;
+    /** 데이터별 파일 위치 */
+    private long[] offsets;
+    /** memory-mapped 영역 */
+    private MappedByteBuffer[] segments;
+
+    /** 데이터 변환 버퍼 */
+    private final EncodeBuffer encodeBuffer = new EncodeBuffer();
+    private final DataOutputStream encoder = new DataOutputStream(encodeBuffer);
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param codec
+     *            데이터 변환 객체
+     * @param threshold
+     *            힙에 보관할 최대 데이터 개수
+     * @param cacheSize
+     *            임시 파일에 저장한 후 보관할 최근 조회 데이터 개수. 0 이하인 경우 보관하지 않는다.
+     * @param directory
+     *            임시 파일 생성 디렉토리. (nullable)
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public SpillableList(RowCodec<T> codec, int threshold, int cacheSize, File directory) {
+        if (codec == null) {
+            throw new IllegalArgumentException("codec MUST NOT be null.");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold MUST NOT be negative. threshold=" + threshold);
+        }
+
+        this.codec = codec;
+        this.threshold = threshold;
+        this.directory = directory;
+        this.cache = cacheSize > 0 ? new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > cacheSize;
+            }
+        } : null;
+    }
+
+    /**
+     * 데이터를 추가한다. 힙에 보관한 데이터 개수가 기준을 넘는 경우 임시 파일에 저장한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param row
+     * @return
+     * @throws UncheckedIOException
+     *             임시 파일에 저장하지 못한 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see java.util.AbstractList#add(java.lang.Object)
+     */
+    @Override
+    public boolean add(T row) {
+        try {
+            if (this.channel == null) {
+                if (this.heap.size() < this.threshold) {
+                    this.heap.add(row);
+                    this.size++;
+                    this.modCount++;
+                    return true;
+                }
+                spill();
+            }
+
+            append(row);
+            this.size++;
+            this.modCount++;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fail to spill a row. index=" + this.size + ", cause=" + e.getMessage(), e);
+        }
+    }
+
+    /** 데이터를 변환하여 기록 버퍼에 추가한다. */
+    private void append(T row) throws IOException {
+        this.encodeBuffer.reset();
+        this.codec.write(row, this.encoder);
+        this.encoder.flush();
+
+        int len = this.encodeBuffer.size();
+        if (len > SEGMENT_SIZE) {
+            throw new IOException("Encoded row is too large. size=" + len);
+        }
+
+        // 데이터가 memory-mapped 영역 경계를 넘는 경우 다음 영역에서 시작한다.
+        long segmentEnd = (this.length / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+        if (this.length + len > segmentEnd) {
+            flush();
+            this.flushed = segmentEnd;
+            this.length = segmentEnd;
+        }
+
+        if (this.size == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.offsets.length + (this.offsets.length >> 1));
+        }
+        this.offsets[this.size] = this.length;
+
+        if (len > this.writeBuffer.remaining()) {
+            flush();
+        }
+        if (len > this.writeBuffer.remaining()) {
+            writeFully(ByteBuffer.wrap(this.encodeBuffer.array(), 0, len));
+        } else {
+            this.writeBuffer.put(this.encodeBuffer.array(), 0, len);
+        }
+        this.length += len;
+    }
+
+    /**
+     * 모든 데이터를 삭제하고 임시 파일을 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see java.util.AbstractList#clear()
+     */
+    @Override
+    public void clear() {
+        this.modCount++;
+        this.size = 0;
+        this.heap = new ArrayList<>();
+        if (this.cache != null) {
+            this.cache.clear();
+        }
+
+        FileChannel channel = this.channel;
+        this.channel = null;
+        this.writeBuffer = null;
+        this.offsets = null;
+        this.segments = null;
+        this.flushed = 0;
+        this.length = 0;
+
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 모든 데이터를 삭제하고 임시 파일을 삭제한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /** 파일에 저장된 데이터를 객체로 변환한다. */
+    private T decode(int index) throws IOException {
+        long start = this.offsets[index];
+        int seg = (int) (start / SEGMENT_SIZE);
+        long base = seg * SEGMENT_SIZE;
+        long end = Math.min(index + 1 < this.size ? this.offsets[index + 1] : this.length, base + SEGMENT_SIZE);
+
+        ByteBuffer buf = segment(seg, end).duplicate();
+        buf.limit((int) (end - base));
+        buf.position((int) (start - base));
+
+        return this.codec.read(new DataInputStream(new ByteBufferInputStream(buf)));
+    }
+
+    /** 기록 버퍼의 데이터를 파일에 기록한다. */
+    private void flush() throws IOException {
+        this.writeBuffer.flip();
+        writeFully(this.writeBuffer);
+        this.writeBuffer.clear();
+    }
+
+    /**
+     * @see java.util.AbstractList#get(int)
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + this.size);
+        }
+
+        if (this.channel == null) {
+            return this.heap.get(index);
+        }
+
+        T row = this.cache != null ? this.cache.get(index) : null;
+        if (row == null) {
+            try {
+                row = decode(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Fail to read a spilled row. index=" + index + ", cause=" + e.getMessage(), e);
+            }
+            if (this.cache != null) {
+                this.cache.put(index, row);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * 임시 파일에 저장된 데이터 크기를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: byte. 임시 파일에 저장하지 않은 경우 0
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getSpilledBytes() {
+        return this.length;
+    }
+
+    /**
+     * 임시 파일에 저장되었는지 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean isSpilled() {
+        return this.channel != null;
+    }
+
+    /** 데이터 위치를 포함하는 memory-mapped 영역을 제공한다. 영역 생성 이후에 추가된 데이터인 경우 다시 생성한다. */
+    private MappedByteBuffer segment(int seg, long end) throws IOException {
+        if (this.writeBuffer.position() > 0 && end > this.flushed) {
+            flush();
+        }
+
+        if (seg >= this.segments.length) {
+            this.segments = Arrays.copyOf(this.segments, seg + 1);
+        }
+
+        long base = seg * SEGMENT_SIZE;
+        MappedByteBuffer segment = this.segments[seg];
+        if (segment == null || base + segment.capacity() < end) {
+            segment = this.channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(this.length, base + SEGMENT_SIZE) - base);
+            this.segments[seg] = segment;
+        }
+        return segment;
+    }
+
+    /**
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /** 임시 파일을 생성하고 힙에 보관 중인 데이터를 저장한다. */
+    private void spill() throws IOException {
+        Path file = this.directory != null //
+                ? Files.createTempFile(this.directory.toPath(), "spill-", ".bin")
+                : Files.createTempFile("spill-", ".bin");
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        this.writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        this.offsets = new long[Math.max(16, this.threshold * 2)];
+        this.segments = new MappedByteBuffer[1];
+
+        List<T> heap = this.heap;
+        this.heap = null;
+        for (int i = 0; i < heap.size(); i++) {
+            this.size = i;
+            append(heap.get(i));
+        }
+        this.size = heap.size();
+    }
+
+    /**
+     * @see java.util.AbstractCollection#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("SpillableList [size=");
+        buffer.append(size);
+        buffer.append(", threshold=");
+        buffer.append(threshold);
+        buffer.append(", spilled=");
+        buffer.append(isSpilled());
+        buffer.append(", spilledBytes=");
+        buffer.append(length);
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /** 버퍼의 모든 데이터를 기록 위치에 기록한다. */
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            this.flushed += this.channel.write(src, this.flushed);
+        }
+    }
+
+    /**
+     * {@link ByteBuffer}의 데이터를 읽는 객체.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int available() {
+            return buf.remaining();
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+    }
+
+    /**
+     * 변환된 데이터를 복사하지 않고 제공하는 버퍼.
+     */
+    private static class EncodeBuffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+    }
+}
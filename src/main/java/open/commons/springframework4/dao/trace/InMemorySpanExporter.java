@@ -0,0 +1,158 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:44:57
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 종료된 {@link Span}을 고정 크기의 원형 버퍼(ring buffer)에 보관하는 객체.<br>
+ * 
+ * 테스트 또는 운영 중 최근 실행 정보를 확인하는 용도로 사용한다. 버퍼가 가득 찬 경우 가장 오래된 {@link Span}부터 대체된다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final AtomicReferenceArray<Span> buffer;
+    /** 전달받은 {@link Span} 누적 개수 */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param capacity
+     *            보관할 최대 개수
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public InMemorySpanExporter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity MUST BE greater than 0. capacity=" + capacity);
+        }
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 보관 중인 {@link Span}을 모두 제거한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void clear() {
+        for (int i = 0; i < this.buffer.length(); i++) {
+            this.buffer.set(i, null);
+        }
+    }
+
+    /**
+     * @see open.commons.springframework4.dao.trace.SpanExporter#export(open.commons.springframework4.dao.trace.Span)
+     */
+    @Override
+    public void export(Span span) {
+        long seq = this.sequence.getAndIncrement();
+        this.buffer.set((int) (seq % this.buffer.length()), span);
+    }
+
+    /**
+     * 보관 중인 {@link Span}을 종료된 순서대로 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public List<Span> getSpans() {
+        int capacity = this.buffer.length();
+        long end = this.sequence.get();
+        long start = Math.max(0, end - capacity);
+
+        List<Span> spans = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            Span span = this.buffer.get((int) (seq % capacity));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * 전달받은 {@link Span} 누적 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getTotalCount() {
+        return this.sequence.get();
+    }
+}
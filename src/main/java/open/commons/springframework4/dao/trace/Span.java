@@ -0,0 +1,274 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:25:40
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 1개의 작업 단위 실행 정보.<br>
+ * 
+ * {@link Tracer#startSpan(String)}으로 생성되며, 생성된 쓰레드의 현재 실행 위치가 되고 {@link #end()}를 호출하면 이전 실행 위치로 복원된다. 따라서 생성한 쓰레드에서
+ * 종료해야 한다. <br>
+ * 추적을 사용하지 않는 경우 {@link #NOOP}이 제공되며, 모든 메소드는 아무런 동작을 하지 않는다.
+ * 
+ * <pre>
+ * Span span = tracer.startSpan("dao.executeQuery");
+ * try {
+ *     ...
+ *     span.setAttribute(Span.ROWS, rows);
+ * } catch (SQLException e) {
+ *     span.setError(e);
+ *     throw e;
+ * } finally {
+ *     span.end();
+ * }
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class Span {
+
+    /** 추적을 사용하지 않는 경우 제공되는 객체 */
+    public static final Span NOOP = new Span();
+
+    /** 속성 이름: 쿼리 이름 */
+    public static final String QUERY_NAME = "db.query.name";
+    /** 속성 이름: 조회/변경된 데이터 개수 */
+    public static final String ROWS = "db.rows";
+    /** 속성 이름: 일괄 처리 요청 개수 */
+    public static final String BATCH_SIZE = "db.batch.size";
+
+    private final Tracer tracer;
+    private final String name;
+    private final SpanContext context;
+    /** 상위 span ID. (nullable) */
+    private final String parentSpanId;
+    /** span 생성 이전의 실행 위치 */
+    private final SpanContext previous;
+
+    private final long startEpochMillis;
+    private final long startNanos;
+    private long durationNanos = -1;
+
+    private Map<String, Object> attributes;
+    private Throwable error;
+
+    private Span() {
+        this.tracer = null;
+        this.name = "noop";
+        this.context = null;
+        this.parentSpanId = null;
+        this.previous = null;
+        this.startEpochMillis = 0;
+        this.startNanos = 0;
+    }
+
+    Span(Tracer tracer, String name, SpanContext parent) {
+        this.tracer = tracer;
+        this.name = name;
+        this.context = SpanContext.of(parent != null ? parent.getTraceId() : SpanContext.newTraceId(), SpanContext.newSpanId());
+        this.parentSpanId = parent != null ? parent.getSpanId() : null;
+        this.previous = parent;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+
+        TraceContext.set(this.context);
+    }
+
+    /**
+     * 실행을 종료한다. 이전 실행 위치로 복원하고 {@link SpanExporter}에 전달한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void end() {
+        if (this == NOOP || this.durationNanos >= 0) {
+            return;
+        }
+
+        this.durationNanos = System.nanoTime() - this.startNanos;
+        TraceContext.set(this.previous);
+        this.tracer.export(this);
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes != null ? Collections.unmodifiableMap(attributes) : Collections.emptyMap();
+    }
+
+    public SpanContext getContext() {
+        return context;
+    }
+
+    /**
+     * 실행 시간을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 단위: ns. 종료되지 않은 경우 -1
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * 실행 정보를 기록하는지 여부를 제공한다. {@link #NOOP}인 경우 <code>false</code>. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public boolean isRecording() {
+        return this != NOOP;
+    }
+
+    /**
+     * 속성을 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param key
+     * @param value
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Span setAttribute(String key, Object value) {
+        if (this != NOOP && value != null) {
+            if (this.attributes == null) {
+                this.attributes = new LinkedHashMap<>(4);
+            }
+            this.attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * 실패 정보를 설정한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param error
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Span setError(Throwable error) {
+        if (this != NOOP) {
+            this.error = error;
+        }
+        return this;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("Span [name=");
+        buffer.append(name);
+        buffer.append(", context=");
+        buffer.append(context);
+        buffer.append(", parentSpanId=");
+        buffer.append(parentSpanId);
+        buffer.append(", durationNanos=");
+        buffer.append(durationNanos);
+        buffer.append(", attributes=");
+        buffer.append(attributes);
+        buffer.append(", error=");
+        buffer.append(error);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
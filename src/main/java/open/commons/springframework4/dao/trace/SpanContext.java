@@ -0,0 +1,127 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:31:05
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추적(trace) ID와 span ID로 구성된 실행 위치 정보.<br>
+ * 
+ * 외부 요청의 추적 정보(예: HTTP header)를 이어받는 경우 {@link #of(String, String)}로 생성하여 {@link TraceContext#attach(SpanContext)}로 설정한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class SpanContext {
+
+    /** 128bit, 16진수 32자리 */
+    private final String traceId;
+    /** 64bit, 16진수 16자리 */
+    private final String spanId;
+
+    private SpanContext(String traceId, String spanId) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * 새로운 span ID를 생성한다.
+     */
+    static String newSpanId() {
+        return hex(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 새로운 추적 ID를 생성한다.
+     */
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex(random.nextLong()) + hex(random.nextLong());
+    }
+
+    private static String hex(long v) {
+        String s = Long.toHexString(v);
+        return s.length() == 16 ? s : "0000000000000000".substring(s.length()) + s;
+    }
+
+    /**
+     * 실행 위치 정보를 생성한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param traceId
+     *            추적 ID
+     * @param spanId
+     *            span ID
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static SpanContext of(String traceId, String spanId) {
+        if (traceId == null || spanId == null) {
+            throw new IllegalArgumentException("traceId and spanId MUST NOT BE null. traceId=" + traceId + ", spanId=" + spanId);
+        }
+        return new SpanContext(traceId, spanId);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("SpanContext [traceId=");
+        buffer.append(traceId);
+        buffer.append(", spanId=");
+        buffer.append(spanId);
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,189 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:36:22
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 쓰레드별 현재 실행 위치 정보({@link SpanContext})를 관리하는 클래스.<br>
+ * 
+ * 다른 쓰레드에서 실행되는 작업에 현재 실행 위치를 전달하는 경우 {@link #wrap(Runnable)}, {@link #wrap(Callable)}을 사용한다.
+ * 
+ * <pre>
+ * executor.submit(TraceContext.wrap(() -&gt; dao.getList(...)));
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<SpanContext> CURRENT = new ThreadLocal<>();
+
+    /** 이전 실행 위치가 없는 경우 사용 */
+    private static final Scope NOOP_SCOPE = () -> {
+    };
+
+    private TraceContext() {
+    }
+
+    /**
+     * 실행 위치를 현재 쓰레드에 설정한다. 반환된 객체를 닫으면 이전 실행 위치로 복원된다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param context
+     *            실행 위치. (nullable)
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Scope attach(SpanContext context) {
+        SpanContext previous = CURRENT.get();
+        if (previous == context) {
+            return NOOP_SCOPE;
+        }
+
+        set(context);
+        return () -> set(previous);
+    }
+
+    /**
+     * 현재 쓰레드의 실행 위치를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 없는 경우 <code>null</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static SpanContext current() {
+        return CURRENT.get();
+    }
+
+    static void set(SpanContext context) {
+        if (context != null) {
+            CURRENT.set(context);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 현재 실행 위치를 전달받아 실행하는 작업을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param task
+     * @return 현재 실행 위치가 없는 경우 <code>task</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        SpanContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+
+        return () -> {
+            try (Scope scope = attach(context)) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 현재 실행 위치를 전달받아 실행하는 작업을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param task
+     * @return 현재 실행 위치가 없는 경우 <code>task</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static Runnable wrap(Runnable task) {
+        SpanContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+
+        return () -> {
+            try (Scope scope = attach(context)) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 실행 위치 설정 범위. 닫으면 이전 실행 위치로 복원된다.
+     */
+    @FunctionalInterface
+    public static interface Scope extends AutoCloseable {
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        void close();
+    }
+}
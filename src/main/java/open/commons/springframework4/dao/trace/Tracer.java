@@ -0,0 +1,127 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:20:14
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * {@link Span}을 생성하고 종료된 {@link Span}을 {@link SpanExporter}에 전달하는 객체.<br>
+ * 
+ * 비활성화된 경우 {@link Span#NOOP}을 제공하므로 객체 생성 등의 비용이 발생하지 않는다.
+ * 
+ * <pre>
+ * &lt;bean id="tracer" class="open.commons.springframework4.dao.trace.Tracer"&gt;
+ *     &lt;constructor-arg&gt;
+ *         &lt;bean class="open.commons.springframework4.dao.trace.InMemorySpanExporter"&gt;
+ *             &lt;constructor-arg value="1024" /&gt;
+ *         &lt;/bean&gt;
+ *     &lt;/constructor-arg&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class Tracer {
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final SpanExporter exporter;
+
+    private volatile boolean enabled = true;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param exporter
+     *            종료된 {@link Span}을 전달받을 객체
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public Tracer(SpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    void export(Span span) {
+        try {
+            this.exporter.export(span);
+        } catch (RuntimeException e) {
+            logger.warn("Fail to export span. span=" + span, e);
+        }
+    }
+
+    public SpanExporter getExporter() {
+        return exporter;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 현재 실행 위치({@link TraceContext#current()})를 상위로 하는 {@link Span}을 시작한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param name
+     *            작업 이름
+     * @return 비활성화된 경우 {@link Span#NOOP}
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public Span startSpan(String name) {
+        return this.enabled ? new Span(this, name, TraceContext.current()) : Span.NOOP;
+    }
+}
@@ -0,0 +1,194 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:31:02
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link PreparedStatement}에 설정되는 파라미터와 실행 시간을 {@link WorkloadRecorder}에 전달하는 객체.<br>
+ * 
+ * 스트림/LOB 파라미터(setBinaryStream, setBlob 등)는 값을 읽지 않고 <code>NULL</code>로 기록한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+class RecordingStatementHandler implements InvocationHandler {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final PreparedStatement target;
+    private final WorkloadRecorder recorder;
+    private final String queryName;
+    private final String sql;
+
+    /** 현재 설정된 파라미터 */
+    private Object[] params = EMPTY;
+    /** 일괄 처리(batch) 파라미터 */
+    private List<Object[]> batch;
+
+    RecordingStatementHandler(PreparedStatement target, WorkloadRecorder recorder, String queryName, String sql) {
+        this.target = target;
+        this.recorder = recorder;
+        this.queryName = queryName;
+        this.sql = sql;
+    }
+
+    private void capture(String method, Object[] args) {
+        int index = (Integer) args[0];
+        if (index < 1) {
+            return;
+        }
+        if (index > this.params.length) {
+            this.params = Arrays.copyOf(this.params, Math.max(index, this.params.length * 2));
+        }
+
+        Object value;
+        if ("setNull".equals(method)) {
+            value = new WorkloadEvent.NullValue((Integer) args[1]);
+        } else if (method.endsWith("Stream") || method.endsWith("Blob") || method.endsWith("Clob") || method.endsWith("Reader")) {
+            value = new WorkloadEvent.NullValue(Types.NULL);
+        } else {
+            value = args[1] != null ? args[1] : new WorkloadEvent.NullValue(Types.NULL);
+        }
+        this.params[index - 1] = value;
+    }
+
+    /**
+     * 설정된 파라미터를 복사한다. 설정되지 않은 마지막 위치 이후는 제외한다.
+     */
+    private Object[] copyParams() {
+        int len = this.params.length;
+        while (len > 0 && this.params[len - 1] == null) {
+            len--;
+        }
+        return Arrays.copyOf(this.params, len);
+    }
+
+    /**
+     * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        if (args != null && args.length >= 2 && name.startsWith("set") && args[0] instanceof Integer) {
+            capture(name, args);
+        } else if (args == null) {
+            switch (name) {
+                case "clearParameters":
+                    Arrays.fill(this.params, null);
+                    break;
+                case "addBatch":
+                    if (this.batch == null) {
+                        this.batch = new ArrayList<>();
+                    }
+                    this.batch.add(copyParams());
+                    break;
+                case "clearBatch":
+                    this.batch = null;
+                    break;
+                case "executeQuery":
+                    return record(method, WorkloadEvent.KIND_QUERY);
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    return record(method, WorkloadEvent.KIND_UPDATE);
+                case "execute":
+                    return record(method, WorkloadEvent.KIND_EXECUTE);
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return record(method, WorkloadEvent.KIND_BATCH);
+                default:
+                    break;
+            }
+        }
+
+        try {
+            return method.invoke(this.target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private Object record(Method method, byte kind) throws Throwable {
+        List<Object[]> parameters;
+        if (kind == WorkloadEvent.KIND_BATCH) {
+            parameters = this.batch != null ? this.batch : Collections.emptyList();
+            this.batch = null;
+        } else {
+            parameters = Collections.singletonList(copyParams());
+        }
+
+        long started = System.nanoTime();
+        boolean success = false;
+        Object r = null;
+        try {
+            r = method.invoke(this.target);
+            success = true;
+            return r;
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } finally {
+            this.recorder.record(this.queryName, this.sql, kind, started, System.nanoTime() - started, success, rows(r), parameters);
+        }
+    }
+
+    private static long rows(Object r) {
+        if (r instanceof Integer || r instanceof Long) {
+            return ((Number) r).longValue();
+        } else if (r instanceof int[]) {
+            long sum = 0;
+            for (int c : (int[]) r) {
+                sum += Math.max(0, c);
+            }
+            return sum;
+        } else if (r instanceof long[]) {
+            long sum = 0;
+            for (long c : (long[]) r) {
+                sum += Math.max(0, c);
+            }
+            return sum;
+        } else {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:55:12
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WorkloadReplayer} 실행 결과.<br>
+ * 
+ * 재실행 시간과 함께 기록 당시의 실행 시간 분포를 제공하여, 설정 변경 전후를 비교할 수 있도록 한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ReplayReport {
+
+    private final long events;
+    private final long errors;
+    private final int threads;
+    private final long elapsedNanos;
+    /** 재실행 시간 (단위: ns, 오름차순) */
+    private final long[] latencies;
+    /** 기록 당시 실행 시간 (단위: ns, 오름차순) */
+    private final long[] recordedLatencies;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param events
+     *            실행 개수
+     * @param errors
+     *            실패 개수
+     * @param threads
+     *            동시 실행 쓰레드 개수
+     * @param elapsedNanos
+     *            전체 소요 시간
+     * @param latencies
+     *            재실행 시간
+     * @param recordedLatencies
+     *            기록 당시 실행 시간
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public ReplayReport(long events, long errors, int threads, long elapsedNanos, long[] latencies, long[] recordedLatencies) {
+        this.events = events;
+        this.errors = errors;
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies.clone();
+        this.recordedLatencies = recordedLatencies.clone();
+        Arrays.sort(this.latencies);
+        Arrays.sort(this.recordedLatencies);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * 재실행 시간의 백분위 값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param percentile
+     *            0 ~ 100
+     * @return 단위: ns
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getLatency(double percentile) {
+        return percentile(this.latencies, percentile);
+    }
+
+    /**
+     * 기록 당시 실행 시간의 백분위 값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param percentile
+     *            0 ~ 100
+     * @return 단위: ns
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public long getRecordedLatency(double percentile) {
+        return percentile(this.recordedLatencies, percentile);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * 초당 처리 개수를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public double getThroughput() {
+        return this.elapsedNanos > 0 ? this.events * 1e9 / this.elapsedNanos : 0;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        // nearest-rank
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    private static String micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) + "us";
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("ReplayReport [events=");
+        buffer.append(events);
+        buffer.append(", errors=");
+        buffer.append(errors);
+        buffer.append(", threads=");
+        buffer.append(threads);
+        buffer.append(", elapsed=");
+        buffer.append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        buffer.append("ms, throughput=");
+        buffer.append(String.format("%.1f", getThroughput()));
+        buffer.append("/s, p50=");
+        buffer.append(micros(getLatency(50)));
+        buffer.append(", p90=");
+        buffer.append(micros(getLatency(90)));
+        buffer.append(", p99=");
+        buffer.append(micros(getLatency(99)));
+        buffer.append(", p99.9=");
+        buffer.append(micros(getLatency(99.9)));
+        buffer.append(", max=");
+        buffer.append(micros(getLatency(100)));
+        buffer.append(", recorded-p50=");
+        buffer.append(micros(getRecordedLatency(50)));
+        buffer.append(", recorded-p99=");
+        buffer.append(micros(getRecordedLatency(99)));
+        buffer.append("]");
+        return buffer.toString();
+    }
+}
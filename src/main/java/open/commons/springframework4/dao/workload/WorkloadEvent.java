@@ -0,0 +1,206 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 6:52:31
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 쿼리 1회 실행 정보.<br>
+ * 
+ * 파라미터는 위치(1부터 시작) - 1 을 index로 하는 배열로 관리하며, <code>NULL</code>로 설정된 값은 {@link NullValue}로 표현한다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class WorkloadEvent {
+
+    /** {@link java.sql.PreparedStatement#executeQuery()} */
+    public static final byte KIND_QUERY = 0;
+    /** {@link java.sql.PreparedStatement#executeUpdate()} */
+    public static final byte KIND_UPDATE = 1;
+    /** {@link java.sql.PreparedStatement#executeBatch()} */
+    public static final byte KIND_BATCH = 2;
+    /** {@link java.sql.PreparedStatement#execute()} */
+    public static final byte KIND_EXECUTE = 3;
+
+    private final String queryName;
+    private final String sql;
+    private final byte kind;
+    /** 기록 시작 시점 기준 실행 시작 시간 (단위: ns) */
+    private final long startNanos;
+    /** 실행 시간 (단위: ns) */
+    private final long durationNanos;
+    private final long threadId;
+    private final boolean success;
+    /** 변경된 데이터 개수. 데이터 조회인 경우 -1 */
+    private final long rows;
+    /** 파라미터 목록. 일괄 처리(batch)인 경우 여러 개 */
+    private final List<Object[]> parameters;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param queryName
+     *            쿼리 이름. (nullable)
+     * @param sql
+     *            쿼리
+     * @param kind
+     *            실행 방식
+     * @param startNanos
+     *            실행 시작 시간
+     * @param durationNanos
+     *            실행 시간
+     * @param threadId
+     *            실행 쓰레드 ID
+     * @param success
+     *            성공 여부
+     * @param rows
+     *            변경된 데이터 개수
+     * @param parameters
+     *            파라미터 목록
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public WorkloadEvent(String queryName, String sql, byte kind, long startNanos, long durationNanos, long threadId, boolean success, long rows,
+            List<Object[]> parameters) {
+        this.queryName = queryName;
+        this.sql = sql;
+        this.kind = kind;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+        this.threadId = threadId;
+        this.success = success;
+        this.rows = rows;
+        this.parameters = parameters != null ? parameters : Collections.emptyList();
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public byte getKind() {
+        return kind;
+    }
+
+    public List<Object[]> getParameters() {
+        return parameters;
+    }
+
+    public String getQueryName() {
+        return queryName;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("WorkloadEvent [queryName=");
+        buffer.append(queryName);
+        buffer.append(", kind=");
+        buffer.append(kind);
+        buffer.append(", startNanos=");
+        buffer.append(startNanos);
+        buffer.append(", durationNanos=");
+        buffer.append(durationNanos);
+        buffer.append(", threadId=");
+        buffer.append(threadId);
+        buffer.append(", success=");
+        buffer.append(success);
+        buffer.append(", rows=");
+        buffer.append(rows);
+        buffer.append(", parameters=");
+        for (Object[] p : parameters) {
+            buffer.append(Arrays.toString(p));
+        }
+        buffer.append("]");
+        return buffer.toString();
+    }
+
+    /**
+     * <code>NULL</code>로 설정된 파라미터. {@link java.sql.PreparedStatement#setNull(int, int)}
+     */
+    public static final class NullValue {
+
+        private final int sqlType;
+
+        public NullValue(int sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        public int getSqlType() {
+            return sqlType;
+        }
+
+        /**
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return "NULL(" + sqlType + ")";
+        }
+    }
+}
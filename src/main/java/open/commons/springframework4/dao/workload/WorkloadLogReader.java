@@ -0,0 +1,247 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:18:40
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link WorkloadRecorder}가 기록한 바이너리 로그를 읽는 객체.<br>
+ * 
+ * 로그 형식은 {@link WorkloadLogWriter}를 참조한다. 기록 중 비정상 종료되어 마지막 기록이 완전하지 않은 경우 그 이전 기록까지만 제공한다.
+ * 
+ * <pre>
+ * try (WorkloadLogReader reader = new WorkloadLogReader(Files.newInputStream(path))) {
+ *     WorkloadEvent event;
+ *     while ((event = reader.next()) != null) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class WorkloadLogReader implements Closeable {
+
+    private final DataInputStream in;
+    /** 기록 시작 시간 (epoch ms) */
+    private final long epochMillis;
+
+    /** id - {이름, 쿼리} */
+    private final List<String[]> queries = new ArrayList<>();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param in
+     * @throws IOException
+     *             로그 형식이 아닌 경우
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public WorkloadLogReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+
+        if (this.in.readInt() != WorkloadLogWriter.MAGIC) {
+            throw new IOException("Not a workload log.");
+        }
+        short version = this.in.readShort();
+        if (version != WorkloadLogWriter.VERSION) {
+            throw new IOException("Unsupported workload log version. version=" + version);
+        }
+        this.epochMillis = this.in.readLong();
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+
+    /**
+     * 다음 실행 정보를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return 더 이상 없는 경우 <code>null</code>
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public WorkloadEvent next() throws IOException {
+        try {
+            while (true) {
+                int type = in.read();
+                switch (type) {
+                    case -1:
+                        return null;
+                    case WorkloadLogWriter.RECORD_DEFINE:
+                        int id = (int) readVarLong();
+                        String name = readString();
+                        String sql = readString();
+                        if (id != this.queries.size()) {
+                            throw new IOException("Corrupted workload log. Unexpected query id=" + id);
+                        }
+                        this.queries.add(new String[] { name, sql });
+                        break;
+                    case WorkloadLogWriter.RECORD_EXEC:
+                        return readEvent();
+                    default:
+                        throw new IOException("Corrupted workload log. Unknown record type=" + type);
+                }
+            }
+        } catch (EOFException e) {
+            // 마지막 기록이 완전하지 않은 경우
+            return null;
+        }
+    }
+
+    private WorkloadEvent readEvent() throws IOException {
+        String[] query = this.queries.get((int) readVarLong());
+        byte kind = in.readByte();
+        long start = readVarLong();
+        long duration = readVarLong();
+        long thread = readVarLong();
+        boolean success = in.readBoolean();
+        long rows = unzigzag(readVarLong());
+
+        int sets = (int) readVarLong();
+        List<Object[]> parameters = new ArrayList<>(sets);
+        for (int i = 0; i < sets; i++) {
+            Object[] params = new Object[(int) readVarLong()];
+            for (int j = 0; j < params.length; j++) {
+                params[j] = readValue();
+            }
+            parameters.add(params);
+        }
+
+        return new WorkloadEvent(query[0], query[1], kind, start, duration, thread, success, rows, parameters);
+    }
+
+    private String readString() throws IOException {
+        long len = readVarLong();
+        if (len == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) (len - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Object readValue() throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case WorkloadLogWriter.TAG_NULL:
+                return new WorkloadEvent.NullValue((int) unzigzag(readVarLong()));
+            case WorkloadLogWriter.TAG_BOOLEAN:
+                return in.readBoolean();
+            case WorkloadLogWriter.TAG_INT:
+                return (int) unzigzag(readVarLong());
+            case WorkloadLogWriter.TAG_LONG:
+                return unzigzag(readVarLong());
+            case WorkloadLogWriter.TAG_DOUBLE:
+                return in.readDouble();
+            case WorkloadLogWriter.TAG_FLOAT:
+                return in.readFloat();
+            case WorkloadLogWriter.TAG_STRING:
+            case WorkloadLogWriter.TAG_OBJECT:
+                return readString();
+            case WorkloadLogWriter.TAG_DECIMAL:
+                return new BigDecimal(readString());
+            case WorkloadLogWriter.TAG_DATE:
+                return new java.sql.Date(unzigzag(readVarLong()));
+            case WorkloadLogWriter.TAG_TIME:
+                return new Time(unzigzag(readVarLong()));
+            case WorkloadLogWriter.TAG_TIMESTAMP:
+                Timestamp ts = new Timestamp(unzigzag(readVarLong()));
+                ts.setNanos((int) readVarLong());
+                return ts;
+            case WorkloadLogWriter.TAG_BYTES:
+                byte[] bytes = new byte[(int) readVarLong()];
+                in.readFully(bytes);
+                return bytes;
+            default:
+                throw new IOException("Corrupted workload log. Unknown value tag=" + tag);
+        }
+    }
+
+    private long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Corrupted workload log. Malformed varint.");
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
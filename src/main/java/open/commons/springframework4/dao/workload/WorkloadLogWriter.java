@@ -0,0 +1,215 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:03:15
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link WorkloadEvent}를 바이너리 로그로 기록하는 객체.<br>
+ * 
+ * <pre>
+ * header : int magic("OCWL"), short version, long 기록 시작 시간(epoch ms)
+ * DEFINE : byte 1, varint id, string name, string sql
+ * EXEC   : byte 2, varint id, byte kind, varlong start, varlong duration, varlong thread, byte success, zigzag rows,
+ *          varint 파라미터 목록 개수, { varint 파라미터 개수, { byte tag, value } }
+ * string : varint (UTF-8 byte 길이 + 1), bytes. 0인 경우 null
+ * </pre>
+ * 
+ * 쿼리는 처음 기록될 때 1회만 DEFINE으로 기록되고, 이후에는 id로 참조된다. 여러 쓰레드에서 동시에 사용할 수 없다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+class WorkloadLogWriter implements Closeable {
+
+    static final int MAGIC = 0x4F43574C;
+    static final short VERSION = 1;
+
+    static final byte RECORD_DEFINE = 1;
+    static final byte RECORD_EXEC = 2;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_BOOLEAN = 1;
+    static final byte TAG_INT = 2;
+    static final byte TAG_LONG = 3;
+    static final byte TAG_DOUBLE = 4;
+    static final byte TAG_FLOAT = 5;
+    static final byte TAG_STRING = 6;
+    static final byte TAG_DECIMAL = 7;
+    static final byte TAG_DATE = 8;
+    static final byte TAG_TIME = 9;
+    static final byte TAG_TIMESTAMP = 10;
+    static final byte TAG_BYTES = 11;
+    /** 지원하지 않는 타입. {@link Object#toString()} 결과를 기록한다. */
+    static final byte TAG_OBJECT = 12;
+
+    private final DataOutputStream out;
+    /** 이름 + 쿼리 - id */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    WorkloadLogWriter(OutputStream out, long epochMillis) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.out.writeInt(MAGIC);
+        this.out.writeShort(VERSION);
+        this.out.writeLong(epochMillis);
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    void flush() throws IOException {
+        this.out.flush();
+    }
+
+    private int idOf(WorkloadEvent event) throws IOException {
+        String key = event.getQueryName() + '\u0000' + event.getSql();
+        Integer id = this.ids.get(key);
+        if (id == null) {
+            id = this.ids.size();
+            this.ids.put(key, id);
+
+            out.writeByte(RECORD_DEFINE);
+            writeVarLong(id);
+            writeString(event.getQueryName());
+            writeString(event.getSql());
+        }
+        return id;
+    }
+
+    void write(WorkloadEvent event) throws IOException {
+        int id = idOf(event);
+
+        out.writeByte(RECORD_EXEC);
+        writeVarLong(id);
+        out.writeByte(event.getKind());
+        writeVarLong(event.getStartNanos());
+        writeVarLong(event.getDurationNanos());
+        writeVarLong(event.getThreadId());
+        out.writeBoolean(event.isSuccess());
+        writeVarLong(zigzag(event.getRows()));
+
+        writeVarLong(event.getParameters().size());
+        for (Object[] params : event.getParameters()) {
+            writeVarLong(params.length);
+            for (Object param : params) {
+                writeValue(param);
+            }
+        }
+    }
+
+    private void writeString(String s) throws IOException {
+        if (s == null) {
+            writeVarLong(0);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            out.write(bytes);
+        }
+    }
+
+    private void writeValue(Object v) throws IOException {
+        if (v == null || v instanceof WorkloadEvent.NullValue) {
+            out.writeByte(TAG_NULL);
+            writeVarLong(zigzag(v != null ? ((WorkloadEvent.NullValue) v).getSqlType() : java.sql.Types.NULL));
+        } else if (v instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeString((String) v);
+        } else if (v instanceof Integer || v instanceof Short || v instanceof Byte) {
+            out.writeByte(TAG_INT);
+            writeVarLong(zigzag(((Number) v).intValue()));
+        } else if (v instanceof Long) {
+            out.writeByte(TAG_LONG);
+            writeVarLong(zigzag((Long) v));
+        } else if (v instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) v);
+        } else if (v instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) v);
+        } else if (v instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) v);
+        } else if (v instanceof BigDecimal) {
+            out.writeByte(TAG_DECIMAL);
+            writeString(((BigDecimal) v).toString());
+        } else if (v instanceof Timestamp) {
+            out.writeByte(TAG_TIMESTAMP);
+            Timestamp ts = (Timestamp) v;
+            writeVarLong(zigzag(ts.getTime()));
+            writeVarLong(ts.getNanos());
+        } else if (v instanceof Time) {
+            out.writeByte(TAG_TIME);
+            writeVarLong(zigzag(((Time) v).getTime()));
+        } else if (v instanceof java.util.Date) {
+            out.writeByte(TAG_DATE);
+            writeVarLong(zigzag(((java.util.Date) v).getTime()));
+        } else if (v instanceof byte[]) {
+            out.writeByte(TAG_BYTES);
+            byte[] bytes = (byte[]) v;
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        } else {
+            out.writeByte(TAG_OBJECT);
+            writeString(v.toString());
+        }
+    }
+
+    private void writeVarLong(long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+}
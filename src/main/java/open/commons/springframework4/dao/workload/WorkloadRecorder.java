@@ -0,0 +1,324 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 6:40:27
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * DAO를 통해서 실행되는 쿼리(쿼리 이름, 파라미터, 실행 시간, 실행 쓰레드)를 바이너리 로그 파일에 기록하는 객체.<br>
+ * 
+ * 요청 쓰레드는 실행 정보를 크기가 제한된 큐에 넣기만 하고, 파일 기록은 별도의 쓰레드에서 처리한다. 큐가 가득 찬 경우 요청 쓰레드를 대기시키지 않고 해당 정보를 버린다. <br>
+ * 기록된 로그는 {@link WorkloadReplayer}로 재실행할 수 있다.
+ * 
+ * <pre>
+ * &lt;bean id="workloadRecorder" class="open.commons.springframework4.dao.workload.WorkloadRecorder"&gt;
+ *     &lt;constructor-arg value="/var/log/app/workload.ocwl" /&gt;
+ * &lt;/bean&gt;
+ * 
+ * &lt;bean id="statisticsDao" class="..."&gt;
+ *     &lt;property name="workloadRecorder" ref="workloadRecorder" /&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * 상태 정보는 {@link #registerMetrics(DaoMetrics)}를 통해서 다음 이름으로 제공된다.
+ * <ul>
+ * <li>workload.recorded: 기록된 실행 정보 개수
+ * <li>workload.dropped: 큐가 가득 차서 버려진 실행 정보 개수
+ * <li>workload.queued: 기록 대기 중인 실행 정보 개수
+ * </ul>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class WorkloadRecorder implements Closeable, DisposableBean {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 64 * 1024;
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final Path file;
+    private final BlockingQueue<WorkloadEvent> queue;
+    private final WorkloadLogWriter writer;
+    private final Thread writerThread;
+
+    /** 기록 시작 시간 (nanoTime) */
+    private final long baseNanos;
+
+    private volatile boolean recording = true;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param file
+     *            로그 파일 경로. 이미 있는 경우 새로 작성한다.
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public WorkloadRecorder(String file) throws IOException {
+        this(file, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param file
+     *            로그 파일 경로. 이미 있는 경우 새로 작성한다.
+     * @param queueCapacity
+     *            기록 대기 큐 크기
+     * @throws IOException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public WorkloadRecorder(String file, int queueCapacity) throws IOException {
+        this.file = Paths.get(file);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.baseNanos = System.nanoTime();
+        this.writer = new WorkloadLogWriter(
+                Files.newOutputStream(this.file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE),
+                System.currentTimeMillis());
+
+        this.writerThread = new Thread(this::drain, "dao-workload-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 기록을 중단하고 대기 중인 실행 정보를 모두 기록한 후 파일을 닫는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.recording) {
+            return;
+        }
+        this.recording = false;
+
+        try {
+            this.writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() throws Exception {
+        close();
+    }
+
+    /**
+     * 기록 쓰레드. 큐가 비어 있는 경우 버퍼를 파일에 반영한다.
+     */
+    private void drain() {
+        try {
+            while (this.recording || !this.queue.isEmpty()) {
+                WorkloadEvent event = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    this.writer.flush();
+                    continue;
+                }
+                this.writer.write(event);
+                this.recorded.increment();
+            }
+        } catch (IOException e) {
+            logger.error("Fail to write workload log. file=" + this.file, e);
+            this.recording = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                this.writer.close();
+            } catch (IOException e) {
+                logger.warn("Fail to close workload log. file=" + this.file, e);
+            }
+            logger.info("Workload recording finished. file={}, recorded={}, dropped={}", this.file, this.recorded.sum(), this.dropped.sum());
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 실행 정보를 기록 대기 큐에 넣는다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param queryName
+     *            쿼리 이름. (nullable)
+     * @param sql
+     *            쿼리
+     * @param kind
+     *            실행 방식
+     * @param startedNanos
+     *            실행 시작 시점의 {@link System#nanoTime()}
+     * @param durationNanos
+     *            실행 시간 (단위: ns)
+     * @param success
+     *            성공 여부
+     * @param rows
+     *            변경된 데이터 개수
+     * @param parameters
+     *            파라미터 목록
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    void record(String queryName, String sql, byte kind, long startedNanos, long durationNanos, boolean success, long rows, List<Object[]> parameters) {
+        if (!this.recording) {
+            return;
+        }
+
+        WorkloadEvent event = new WorkloadEvent(queryName, sql, kind, Math.max(0, startedNanos - this.baseNanos), durationNanos,
+                Thread.currentThread().getId(), success, rows, parameters);
+        if (!this.queue.offer(event)) {
+            this.dropped.increment();
+        }
+    }
+
+    /**
+     * 상태 정보를 등록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param metrics
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void registerMetrics(DaoMetrics metrics) {
+        metrics.gauge("workload.recorded", () -> recorded.sum());
+        metrics.gauge("workload.dropped", () -> dropped.sum());
+        metrics.gauge("workload.queued", () -> queue.size());
+    }
+
+    /**
+     * 파라미터와 실행 정보를 기록하는 {@link PreparedStatement}를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param pstmt
+     * @param queryName
+     *            쿼리 이름. (nullable)
+     * @param sql
+     *            쿼리
+     * @return 기록을 중단한 경우 <code>pstmt</code>
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public PreparedStatement wrap(PreparedStatement pstmt, String queryName, String sql) {
+        if (!this.recording) {
+            return pstmt;
+        }
+
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                new RecordingStatementHandler(pstmt, this, queryName, sql));
+    }
+}
@@ -0,0 +1,414 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:40:55
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link WorkloadRecorder}가 기록한 로그를 대상 데이터베이스에서 재실행하는 객체.<br>
+ * 
+ * 기록 당시의 쓰레드마다 재실행 쓰레드를 1개씩 할당하여 같은 쓰레드의 쿼리는 순서대로, 다른 쓰레드의 쿼리는 동시에 실행하므로 기록 당시의 동시 실행 수준이 유지된다. 실행 시점은
+ * {@link #setSpeed(double)}에 따라 기록 당시의 시간 간격을 유지(1), N배 단축(N), 또는 대기 없이 실행(0)한다. <br>
+ * 
+ * 재실행 쓰레드는 각각 1개의 연결(auto-commit)을 사용하므로, 대상 {@link DataSource}의 연결 풀 크기는 기록 당시의 쓰레드 개수보다 커야 한다.
+ * 
+ * <pre>
+ * java -cp ... open.commons.springframework4.dao.workload.WorkloadReplayer workload.ocwl jdbc:h2:mem:test sa "" max
+ * </pre>
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class WorkloadReplayer {
+
+    /** 실행 시점보다 먼저 재실행 쓰레드에 전달하는 시간 (단위: ns) */
+    private static final long LOOKAHEAD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** 재실행 쓰레드 종료 표시 */
+    private static final WorkloadEvent END = new WorkloadEvent(null, null, (byte) -1, 0, 0, 0, false, 0, null);
+
+    protected Logger logger = LogManager.getLogger(getClass());
+
+    private final DataSource dataSource;
+
+    /** 재실행 속도. 0 이하인 경우 대기 없이 실행 */
+    private double speed = 1.0;
+
+    /**
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param dataSource
+     *            재실행할 데이터베이스
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     */
+    public WorkloadReplayer(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    private static void bind(PreparedStatement pstmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            Object v = params[i];
+            int index = i + 1;
+            if (v == null) {
+                // 설정되지 않은 위치
+                continue;
+            } else if (v instanceof WorkloadEvent.NullValue) {
+                pstmt.setNull(index, ((WorkloadEvent.NullValue) v).getSqlType());
+            } else if (v instanceof String) {
+                pstmt.setString(index, (String) v);
+            } else if (v instanceof Integer) {
+                pstmt.setInt(index, (Integer) v);
+            } else if (v instanceof Long) {
+                pstmt.setLong(index, (Long) v);
+            } else if (v instanceof Double) {
+                pstmt.setDouble(index, (Double) v);
+            } else if (v instanceof Float) {
+                pstmt.setFloat(index, (Float) v);
+            } else if (v instanceof Boolean) {
+                pstmt.setBoolean(index, (Boolean) v);
+            } else if (v instanceof BigDecimal) {
+                pstmt.setBigDecimal(index, (BigDecimal) v);
+            } else if (v instanceof Timestamp) {
+                pstmt.setTimestamp(index, (Timestamp) v);
+            } else if (v instanceof Time) {
+                pstmt.setTime(index, (Time) v);
+            } else if (v instanceof java.sql.Date) {
+                pstmt.setDate(index, (java.sql.Date) v);
+            } else if (v instanceof byte[]) {
+                pstmt.setBytes(index, (byte[]) v);
+            } else {
+                pstmt.setObject(index, v);
+            }
+        }
+    }
+
+    /**
+     * 재실행 도구. 사용법과 재실행 결과는 로그로 기록한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			표준 출력 대신 로그 사용
+     * </pre>
+     * 
+     * @param args
+     *            로그 파일, JDBC URL, [사용자], [비밀번호], [속도(숫자 또는 max)]
+     * @throws Exception
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            LogManager.getLogger(WorkloadReplayer.class).error("Usage: WorkloadReplayer <log-file> <jdbc-url> [user] [password] [speed|max]");
+            return;
+        }
+
+        DriverManagerDataSource ds = new DriverManagerDataSource(args[1], args.length > 2 ? args[2] : null, args.length > 3 ? args[3] : null);
+        WorkloadReplayer replayer = new WorkloadReplayer(ds);
+        if (args.length > 4) {
+            replayer.setSpeed("max".equalsIgnoreCase(args[4]) ? 0 : Double.parseDouble(args[4]));
+        }
+
+        replayer.logger.info("Replay completed. file={}, report={}", args[0], replayer.replay(Paths.get(args[0])));
+    }
+
+    /**
+     * 로그를 재실행한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param file
+     *            로그 파일
+     * @return 재실행 결과
+     * @throws IOException
+     * @throws InterruptedException
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public ReplayReport replay(Path file) throws IOException, InterruptedException {
+        Map<Long, Worker> workers = new LinkedHashMap<>();
+        long started = System.nanoTime();
+
+        try (WorkloadLogReader reader = new WorkloadLogReader(Files.newInputStream(file))) {
+            WorkloadEvent event;
+            while ((event = reader.next()) != null) {
+                long due = scheduledAt(started, event);
+                long wait = due - LOOKAHEAD_NANOS - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+
+                Worker worker = workers.get(event.getThreadId());
+                if (worker == null) {
+                    worker = new Worker(started, workers.size() + 1);
+                    workers.put(event.getThreadId(), worker);
+                    worker.start();
+                }
+                worker.queue.put(event);
+            }
+        } finally {
+            for (Worker worker : workers.values()) {
+                worker.queue.put(END);
+            }
+            for (Worker worker : workers.values()) {
+                worker.join();
+            }
+        }
+
+        long elapsed = System.nanoTime() - started;
+
+        long events = 0;
+        long errors = 0;
+        long[] latencies = new long[0];
+        long[] recorded = new long[0];
+        for (Worker worker : workers.values()) {
+            events += worker.count;
+            errors += worker.errors;
+            latencies = concat(latencies, worker.latencies, worker.count);
+            recorded = concat(recorded, worker.recorded, worker.count);
+        }
+
+        return new ReplayReport(events, errors, workers.size(), elapsed, latencies, recorded);
+    }
+
+    private static long[] concat(long[] a, long[] b, int bLen) {
+        long[] r = Arrays.copyOf(a, a.length + bLen);
+        System.arraycopy(b, 0, r, a.length, bLen);
+        return r;
+    }
+
+    private long scheduledAt(long started, WorkloadEvent event) {
+        return this.speed > 0 ? started + (long) (event.getStartNanos() / this.speed) : started;
+    }
+
+    /**
+     * 재실행 속도를 설정한다. (기본값: 1) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @param speed
+     *            1: 기록 당시와 동일, N: N배 빠르게, 0 이하: 대기 없이 실행
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public void setSpeed(double speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * 기록 당시의 쓰레드 1개에 해당하는 재실행 쓰레드.
+     */
+    private class Worker extends Thread {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final BlockingQueue<WorkloadEvent> queue = new LinkedBlockingQueue<>();
+        private final long started;
+        /** 쿼리 - 재사용할 {@link PreparedStatement} */
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        private int count;
+        private long errors;
+        private long[] latencies = new long[INITIAL_CAPACITY];
+        private long[] recorded = new long[INITIAL_CAPACITY];
+
+        Worker(long started, int seq) {
+            super("dao-workload-replay-" + seq);
+            this.started = started;
+            setDaemon(true);
+        }
+
+        private void execute(Connection con, WorkloadEvent event) throws SQLException {
+            PreparedStatement pstmt = this.statements.get(event.getSql());
+            if (pstmt == null) {
+                pstmt = con.prepareStatement(event.getSql());
+                this.statements.put(event.getSql(), pstmt);
+            }
+
+            switch (event.getKind()) {
+                case WorkloadEvent.KIND_BATCH:
+                    for (Object[] params : event.getParameters()) {
+                        pstmt.clearParameters();
+                        bind(pstmt, params);
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                    break;
+                case WorkloadEvent.KIND_QUERY:
+                    bindFirst(pstmt, event);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                        }
+                    }
+                    break;
+                case WorkloadEvent.KIND_UPDATE:
+                    bindFirst(pstmt, event);
+                    pstmt.executeUpdate();
+                    break;
+                default:
+                    bindFirst(pstmt, event);
+                    if (pstmt.execute()) {
+                        try (ResultSet rs = pstmt.getResultSet()) {
+                            while (rs.next()) {
+                            }
+                        }
+                    }
+                    break;
+            }
+        }
+
+        private void bindFirst(PreparedStatement pstmt, WorkloadEvent event) throws SQLException {
+            pstmt.clearParameters();
+            if (!event.getParameters().isEmpty()) {
+                bind(pstmt, event.getParameters().get(0));
+            }
+        }
+
+        private void record(long latency, long recordedLatency) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+                this.recorded = Arrays.copyOf(this.recorded, this.count * 2);
+            }
+            this.latencies[this.count] = latency;
+            this.recorded[this.count] = recordedLatency;
+            this.count++;
+        }
+
+        /**
+         * @see java.lang.Thread#run()
+         */
+        @Override
+        public void run() {
+            try (Connection con = dataSource.getConnection()) {
+                con.setAutoCommit(true);
+
+                WorkloadEvent event;
+                while ((event = this.queue.take()) != END) {
+                    long due = scheduledAt(this.started, event);
+                    long wait;
+                    while ((wait = due - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+
+                    long s = System.nanoTime();
+                    try {
+                        execute(con, event);
+                    } catch (SQLException e) {
+                        this.errors++;
+                        logger.debug("Fail to replay. name={}, cause={}", event.getQueryName(), e.getMessage());
+                    }
+                    record(System.nanoTime() - s, event.getDurationNanos());
+                }
+            } catch (SQLException e) {
+                logger.error("Fail to get connection for replay.", e);
+                drainAsErrors();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (PreparedStatement pstmt : this.statements.values()) {
+                    try {
+                        pstmt.close();
+                    } catch (SQLException ignored) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * 연결을 할당받지 못한 경우 전달되는 실행 정보를 모두 실패로 처리한다.
+         */
+        private void drainAsErrors() {
+            try {
+                while (this.queue.take() != END) {
+                    this.errors++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:48:52
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DAO 비동기/병렬 요청을 처리할 {@link ExecutorService}를 제공하는 클래스. (Java 21 이상)<br>
+ * 
+ * 요청마다 가상 쓰레드(virtual thread)를 생성한다. 가상 쓰레드는 JDBC 호출 대기 중에 carrier 쓰레드를 반환하므로 많은 요청을 동시에 받을 수 있으며, 동시에 실행하는
+ * 작업 개수는 생성시 전달한 쓰레드 개수로 제한한다. 여러 DAO가 같은 {@link javax.sql.DataSource}를 사용하는 경우 실제 DBMS 동시 요청 개수는 {@link ConnectionGate}로
+ * connection pool 크기 이하로 제한한다. <br>
+ * DAO 코드는 JDBC 호출 구간에서 <code>synchronized</code>를 사용하지 않으므로(잠금은 {@link java.util.concurrent.locks.ReentrantLock},
+ * {@link java.util.concurrent.Semaphore} 사용) 가상 쓰레드가 carrier 쓰레드에 고정(pinning)되지 않는다.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public final class DaoExecutors {
+
+    private DaoExecutors() {
+    }
+
+    /**
+     * 가상 쓰레드 사용 여부를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * </pre>
+     * 
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * 요청마다 가상 쓰레드를 생성하는 {@link ExecutorService}를 생성한다. <br>
+     * 동시에 실행하는 작업 개수는 <code>threads</code>로 제한하며, 초과한 작업은 가상 쓰레드에서 허가를 받을 때까지 대기한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2026. 10. 19.		박준홍			최초 작성
+     * 2026. 10. 19.		박준홍			동시 실행 작업 개수 제한 추가
+     * </pre>
+     * 
+     * @param name
+     *            쓰레드 이름 접두어
+     * @param threads
+     *            동시에 실행하는 최대 작업 개수
+     * @return
+     * 
+     * @since 2026. 10. 19.
+     * @version 0.2.0
+     * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+     */
+    public static ExecutorService newExecutor(String name, int threads) {
+        return new BoundedExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory()), Math.max(1, threads));
+    }
+
+    /**
+     * 동시에 실행하는 작업 개수를 제한하는 {@link ExecutorService}.
+     */
+    private static final class BoundedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        private BoundedExecutor(ExecutorService delegate, int permits) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(permits, true);
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return this.delegate.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            this.delegate.execute(() -> {
+                try {
+                    this.permits.acquire();
+                } catch (InterruptedException e) {
+                    // 실행하지 못한 작업의 결과를 기다리지 않도록 취소한다.
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    return;
+                }
+                try {
+                    command.run();
+                } finally {
+                    this.permits.release();
+                }
+            });
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.delegate.isTerminated();
+        }
+
+        @Override
+        public void shutdown() {
+            this.delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return this.delegate.shutdownNow();
+        }
+    }
+}
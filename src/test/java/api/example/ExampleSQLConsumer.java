@@ -54,8 +54,8 @@ public class ExampleSQLConsumer {
 
     static final Function<QueryParamObj, SQLConsumer<PreparedStatement>> PROVIDER = param -> pstmt -> {
         pstmt.setString(1, param.getName());
-        pstmt.setString(1, param.getCost());
-        pstmt.setString(1, param.getDate());
+        pstmt.setString(2, param.getCost());
+        pstmt.setString(3, param.getDate());
     };
 
     @Test
@@ -87,8 +87,8 @@ public class ExampleSQLConsumer {
     static SQLConsumer<PreparedStatement> create(QueryParamObj param) {
         return pstmt -> {
             pstmt.setString(1, param.getName());
-            pstmt.setString(1, param.getCost());
-            pstmt.setString(1, param.getDate());
+            pstmt.setString(2, param.getCost());
+            pstmt.setString(3, param.getDate());
         };
     }
 
@@ -0,0 +1,151 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:05:19
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+import open.commons.Result;
+import open.commons.springframework4.dao.lob.LobStreams;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class CopyBlobTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+    private final AbstractGenericDao dao;
+
+    public CopyBlobTest() throws Exception {
+        this.dao = MockDataSource.newDao(db.getDataSource(), null);
+
+        db.setColumns("ID", "DATA");
+        db.setColumnTypes(Types.INTEGER, Types.BLOB);
+    }
+
+    @Test
+    public void testBuffer() {
+        byte[] data = new byte[LobStreams.DEFAULT_BUFFER_SIZE * 16 + 3];
+        new Random(7).nextBytes(data);
+
+        TrackingInputStream in = new TrackingInputStream(data);
+        db.setQueryHandler(sql -> Collections.singletonList(new Object[] { 1, in }));
+
+        TrackingChannel out = new TrackingChannel();
+        Result<Long> result = dao.copyBlob("SELECT ID, DATA FROM PLANT", null, "data", out);
+
+        assertTrue(result.getResult());
+        assertEquals(Long.valueOf(data.length), result.getData());
+        assertArrayEquals(data, out.bytes.toByteArray());
+        // 데이터 크기와 관계없이 고정된 크기의 버퍼만 사용한다.
+        assertTrue(in.maxRead > 0 && in.maxRead <= LobStreams.DEFAULT_BUFFER_SIZE);
+        assertTrue(out.maxWrite > 0 && out.maxWrite <= LobStreams.DEFAULT_BUFFER_SIZE);
+        assertTrue(in.closed);
+        // 1개의 행만 조회한다.
+        assertEquals(Integer.valueOf(1), db.getSetting("maxRows"));
+    }
+
+    @Test
+    public void testNull() {
+        db.setQueryHandler(sql -> Collections.singletonList(new Object[] { 1, null }));
+
+        TrackingChannel out = new TrackingChannel();
+        Result<Long> result = dao.copyBlob("SELECT ID, DATA FROM PLANT", null, "DATA", out);
+
+        assertTrue(result.getResult());
+        assertEquals(Long.valueOf(-1), result.getData());
+        assertEquals(0, out.bytes.size());
+    }
+
+    /** 요청된 최대 읽기 크기를 기록한다. */
+    private static class TrackingInputStream extends ByteArrayInputStream {
+        int maxRead;
+        boolean closed;
+
+        TrackingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.closed = true;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            this.maxRead = Math.max(this.maxRead, len);
+            return super.read(b, off, len);
+        }
+    }
+
+    /** 전달된 최대 쓰기 크기를 기록한다. */
+    private static class TrackingChannel implements WritableByteChannel {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int maxWrite;
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int size = src.remaining();
+            this.maxWrite = Math.max(this.maxWrite, size);
+            byte[] b = new byte[size];
+            src.get(b);
+            this.bytes.write(b, 0, size);
+            return size;
+        }
+    }
+}
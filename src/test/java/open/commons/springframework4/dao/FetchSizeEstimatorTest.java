@@ -0,0 +1,107 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:24:51
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class FetchSizeEstimatorTest {
+
+    @Test
+    public void testConvergence() {
+        DaoMetrics metrics = new DaoMetrics();
+        FetchSizeEstimator estimator = new FetchSizeEstimator(metrics);
+
+        assertNull(estimator.getFetchSize("plant.list"));
+        assertEquals(10, estimator.getInitialCapacity("plant.list"));
+
+        // 첫 측정값은 그대로 사용한다.
+        estimator.record("plant.list", 100, 0);
+        assertEquals(Integer.valueOf(100), estimator.getFetchSize("plant.list"));
+
+        // 결과 개수가 바뀐 경우 점진적으로 수렴한다.
+        int prev = estimator.getFetchSize("plant.list");
+        for (int i = 0; i < 40; i++) {
+            estimator.record("plant.list", 800, prev);
+            int next = estimator.getFetchSize("plant.list");
+            assertTrue(next >= prev && next <= 800);
+            prev = next;
+        }
+        assertEquals(Integer.valueOf(800), estimator.getFetchSize("plant.list"));
+        assertEquals(800, estimator.getInitialCapacity("plant.list"));
+
+        Number roundTrips = metrics.snapshot().get("fetchSize.roundTrips.plant.list");
+        assertTrue(roundTrips.longValue() >= 40 * 2);
+    }
+
+    @Test
+    public void testBounds() {
+        FetchSizeEstimator estimator = new FetchSizeEstimator(new DaoMetrics());
+        estimator.setMinFetchSize(50);
+        estimator.setMaxFetchSize(1000);
+        estimator.setMaxInitialCapacity(2000);
+
+        estimator.record("plant.none", 0, 0);
+        assertEquals(Integer.valueOf(50), estimator.getFetchSize("plant.none"));
+        assertEquals(10, estimator.getInitialCapacity("plant.none"));
+
+        estimator.record("plant.all", 1_000_000, 0);
+        assertEquals(Integer.valueOf(1000), estimator.getFetchSize("plant.all"));
+        assertEquals(2000, estimator.getInitialCapacity("plant.all"));
+    }
+
+    @Test
+    public void testRoundTrips() {
+        DaoMetrics metrics = new DaoMetrics();
+        FetchSizeEstimator estimator = new FetchSizeEstimator(metrics);
+
+        // 마지막 fetch를 포함한다.
+        estimator.record("plant.list", 1000, 100);
+        // 드라이버 기본값을 사용한 경우 계산하지 않는다.
+        estimator.record("plant.list", 1000, 0);
+
+        assertEquals(11L, metrics.snapshot().get("fetchSize.roundTrips.plant.list").longValue());
+    }
+}
@@ -0,0 +1,140 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:31:50
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import open.commons.database.ConnectionCallbackBroker2;
+import open.commons.springframework4.dao.bulk.BatchUpdateReport;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class IsolatedUpdateTest {
+
+    /** 입력된 데이터 */
+    private final List<Integer> rows = new ArrayList<>();
+    /** 해제되지 않은 savepoint - 설정 시점의 데이터 개수 */
+    private final Map<Savepoint, Integer> savepoints = new HashMap<>();
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement();
+                case "setSavepoint":
+                    Savepoint savepoint = (Savepoint) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Savepoint.class },
+                            (p, m, a) -> m.getName().equals("hashCode") ? System.identityHashCode(p) : m.getName().equals("equals") ? p == a[0] : null);
+                    savepoints.put(savepoint, rows.size());
+                    return savepoint;
+                case "rollback":
+                    int size = savepoints.get(args[0]);
+                    rows.subList(size, rows.size()).clear();
+                    return null;
+                case "releaseSavepoint":
+                    savepoints.remove(args[0]);
+                    return null;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private PreparedStatement statement() {
+        int[] value = new int[1];
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setInt":
+                            value[0] = (Integer) args[1];
+                            return null;
+                        case "executeUpdate":
+                            rows.add(value[0]);
+                            return 1;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    public void testExecuteIsolated() throws SQLException {
+        @SuppressWarnings("unchecked")
+        ConnectionCallbackBroker2<Integer>[] brokers = new ConnectionCallbackBroker2[10];
+        for (int i = 0; i < brokers.length; i++) {
+            int row = i;
+            brokers[i] = new ConnectionCallbackBroker2<Integer>("INSERT INTO t VALUES (?)", row) {
+                @Override
+                public void set(PreparedStatement pstmt) throws SQLException {
+                    if (row == 2 || row == 7) {
+                        throw new SQLException("Duplicate key. row=" + row, "23505");
+                    }
+                    pstmt.setInt(1, row);
+                }
+            };
+        }
+
+        BatchUpdateReport report = AbstractGenericDao.executeIsolated(connection(), brokers, 4);
+
+        assertEquals(Arrays.asList(0, 1, 3, 4, 5, 6, 8, 9), rows);
+        assertEquals(Arrays.asList(2, 7), report.getFailed());
+        assertTrue(report.isFailed(2));
+        assertFalse(report.isFailed(3));
+        assertEquals(0, report.getCount(2));
+        assertEquals(1, report.getCount(3));
+        assertEquals(8, report.getUpdated());
+        // 실패한 chunk에서 실패한 요청쿼리 이전의 요청쿼리만 다시 실행된다.
+        assertEquals(15, report.getExecutions());
+        // 되돌린 savepoint도 해제된다.
+        assertTrue(savepoints.isEmpty());
+    }
+}
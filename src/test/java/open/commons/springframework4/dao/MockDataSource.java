@@ -0,0 +1,345 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오전 9:12:34
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+/**
+ * 요청쿼리 실행 결과를 {@link QueryHandler}로 제공하는 테스트용 {@link DataSource}.
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class MockDataSource {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile String[] columns = { "VALUE" };
+    private volatile int[] columnTypes = { Types.VARCHAR };
+    private volatile QueryHandler queryHandler = sql -> Collections.emptyList();
+
+    /** 실행된 요청쿼리 */
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    /** 마지막으로 생성된 statement 설정. (fetchSize, maxRows, queryTimeout) */
+    private final Map<String, Integer> settings = new ConcurrentHashMap<>();
+    private final AtomicInteger openStatements = new AtomicInteger();
+    private final AtomicInteger openResultSets = new AtomicInteger();
+
+    public MockDataSource(String name) {
+        this.name = name;
+        this.dataSource = proxy(DataSource.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection();
+                default:
+                    return common(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+    }
+
+    /** 테스트용 DAO를 생성한다. */
+    public static AbstractGenericDao newDao(DataSource dataSource, ReloadableResourceBundleMessageSource querySource) throws Exception {
+        AbstractGenericDao dao = new AbstractGenericDao() {
+            @Override
+            public void setDataSource(DataSource dataSource) {
+                this.dataSource = dataSource;
+            }
+
+            @Override
+            public void setQuerySource(ReloadableResourceBundleMessageSource querySource) {
+                this.querySource = querySource;
+            }
+        };
+        dao.setDataSource(dataSource);
+        dao.setQuerySource(querySource != null ? querySource : new ReloadableResourceBundleMessageSource());
+        dao.afterPropertiesSet();
+        return dao;
+    }
+
+    private Object common(Object proxy, String method, Object[] args, Class<?> returnType) {
+        switch (method) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return this.name;
+            default:
+                return defaultValue(returnType);
+        }
+    }
+
+    private Connection connection() {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                case "prepareCall":
+                    return statement((Connection) proxy, (String) args[0]);
+                case "createStatement":
+                    return statement((Connection) proxy, null);
+                case "getAutoCommit":
+                    return false;
+                default:
+                    return common(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0d;
+        } else {
+            return null;
+        }
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public List<String> getExecuted() {
+        return executed;
+    }
+
+    public int getOpenResultSets() {
+        return openResultSets.get();
+    }
+
+    public int getOpenStatements() {
+        return openStatements.get();
+    }
+
+    /**
+     * @param name
+     *            fetchSize, maxRows, queryTimeout
+     * @return 마지막으로 생성된 statement에 적용된 설정값. 적용되지 않은 경우 <code>null</code>
+     */
+    public Integer getSetting(String name) {
+        return settings.get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MockDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private ResultSet resultSet(Statement statement, List<Object[]> rows) {
+        openResultSets.incrementAndGet();
+        int[] cursor = { -1 };
+        boolean[] state = { false, false }; // closed, wasNull
+        String[] labels = this.columns;
+        int[] types = this.columnTypes;
+
+        ResultSetMetaData meta = proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return labels.length;
+                case "getColumnLabel":
+                case "getColumnName":
+                    return labels[(Integer) args[0] - 1];
+                case "getColumnType":
+                    return types[(Integer) args[0] - 1];
+                default:
+                    return common(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "next":
+                    if (++cursor[0] >= rows.size()) {
+                        return false;
+                    }
+                    Object[] row = rows.get(cursor[0]);
+                    if (row.length > 0 && row[0] instanceof SQLException) {
+                        throw (SQLException) row[0];
+                    }
+                    return true;
+                case "getMetaData":
+                    return meta;
+                case "getStatement":
+                    return statement;
+                case "getFetchSize":
+                    return settings.getOrDefault("fetchSize", 0);
+                case "wasNull":
+                    return state[1];
+                case "isClosed":
+                    return state[0];
+                case "close":
+                    if (!state[0]) {
+                        state[0] = true;
+                        openResultSets.decrementAndGet();
+                    }
+                    return null;
+                default:
+                    if (method.getName().startsWith("get") && args != null && args.length == 1) {
+                        int index = args[0] instanceof Integer ? (Integer) args[0] : indexOf(labels, (String) args[0]);
+                        Object value = rows.get(cursor[0])[index - 1];
+                        state[1] = value == null;
+                        return value(value, method.getReturnType());
+                    }
+                    return common(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+    }
+
+    private static int indexOf(String[] labels, String label) throws SQLException {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("Unknown column. label=" + label);
+    }
+
+    public void setColumns(String... columns) {
+        this.columns = columns;
+        int[] types = new int[columns.length];
+        Arrays.fill(types, Types.VARCHAR);
+        this.columnTypes = types;
+    }
+
+    public void setColumnTypes(int... columnTypes) {
+        this.columnTypes = columnTypes;
+    }
+
+    public void setQueryHandler(QueryHandler queryHandler) {
+        this.queryHandler = queryHandler;
+    }
+
+    private PreparedStatement statement(Connection connection, String prepared) {
+        openStatements.incrementAndGet();
+        settings.clear();
+        boolean[] closed = { false };
+
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "setFetchSize":
+                    settings.put("fetchSize", (Integer) args[0]);
+                    return null;
+                case "setMaxRows":
+                    settings.put("maxRows", (Integer) args[0]);
+                    return null;
+                case "setQueryTimeout":
+                    settings.put("queryTimeout", (Integer) args[0]);
+                    return null;
+                case "getFetchSize":
+                    return settings.getOrDefault("fetchSize", 0);
+                case "getMaxRows":
+                    return settings.getOrDefault("maxRows", 0);
+                case "getQueryTimeout":
+                    return settings.getOrDefault("queryTimeout", 0);
+                case "getConnection":
+                    return connection;
+                case "executeQuery": {
+                    String sql = args != null && args.length > 0 ? (String) args[0] : prepared;
+                    executed.add(sql);
+                    return resultSet((Statement) proxy, this.queryHandler.query(sql));
+                }
+                case "executeUpdate": {
+                    String sql = args != null && args.length > 0 ? (String) args[0] : prepared;
+                    executed.add(sql);
+                    this.queryHandler.query(sql);
+                    return 1;
+                }
+                case "isClosed":
+                    return closed[0];
+                case "close":
+                    if (!closed[0]) {
+                        closed[0] = true;
+                        openStatements.decrementAndGet();
+                    }
+                    return null;
+                default:
+                    return common(proxy, method.getName(), args, method.getReturnType());
+            }
+        });
+    }
+
+    private static Object value(Object value, Class<?> type) {
+        if (value == null) {
+            return defaultValue(type);
+        } else if (type == String.class) {
+            return value.toString();
+        } else if (type == int.class) {
+            return ((Number) value).intValue();
+        } else if (type == long.class) {
+            return ((Number) value).longValue();
+        } else if (type == double.class) {
+            return ((Number) value).doubleValue();
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * 요청쿼리를 처리한다.
+     */
+    @FunctionalInterface
+    public interface QueryHandler {
+        /**
+         * @param sql
+         * @return 조회 결과. 행의 첫번째 값이 {@link SQLException}인 경우 해당 행을 읽을 때 오류가 발생한다.
+         * @throws SQLException
+         */
+        List<Object[]> query(String sql) throws SQLException;
+    }
+}
@@ -0,0 +1,80 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 5:06:44
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryOptionsCacheTest {
+
+    @Test
+    public void testReload() throws Exception {
+        Path dir = Files.createTempDirectory("query-options");
+        Path file = dir.resolve("queries.properties");
+        try {
+            Files.write(file, Arrays.asList("plant.list = SELECT * FROM PLANT", "plant.list.fetchSize = 100"), StandardCharsets.UTF_8);
+
+            QuerySource querySource = new QuerySource();
+            querySource.setBasename("file:" + dir.resolve("queries"));
+            AbstractGenericDao dao = MockDataSource.newDao(new MockDataSource("plant").getDataSource(), querySource);
+
+            assertEquals(Integer.valueOf(100), dao.getQueryOptions("plant.list").getFetchSize());
+            assertNull(dao.getQueryOptions("plant.none"));
+
+            // 파일을 다시 읽은 경우 보관된 설정을 사용하지 않는다.
+            Files.write(file, Arrays.asList("plant.list = SELECT * FROM PLANT", "plant.list.fetchSize = 500", "plant.none.maxRows = 1"),
+                    StandardCharsets.UTF_8);
+            querySource.clearCache();
+
+            assertEquals(Integer.valueOf(500), dao.getQueryOptions("plant.list").getFetchSize());
+            assertEquals(Integer.valueOf(1), dao.getQueryOptions("plant.none").getMaxRows());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:12:08
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import open.commons.Result;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryOptionsTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+    private final AbstractGenericDao dao;
+
+    public QueryOptionsTest() throws Exception {
+        ReloadableResourceBundleMessageSource querySource = new ReloadableResourceBundleMessageSource();
+        querySource.setBasename("classpath:dao/option-queries");
+
+        this.dao = MockDataSource.newDao(db.getDataSource(), querySource);
+        db.setQueryHandler(sql -> Arrays.asList(new Object[] { 1 }, new Object[] { 2 }));
+    }
+
+    @Test
+    public void testDeclared() {
+        Result<Long> result = scan(null);
+
+        assertTrue(result.getResult());
+        assertEquals(Integer.valueOf(250), db.getSetting("fetchSize"));
+        assertEquals(Integer.valueOf(1000), db.getSetting("maxRows"));
+        assertEquals(Integer.valueOf(5), db.getSetting("queryTimeout"));
+    }
+
+    @Test
+    public void testOverride() {
+        // 요청시 전달된 설정이 쿼리 정보 파일에 정의된 설정보다 우선한다.
+        Result<Long> result = scan(new QueryOptions().fetchSize(10).queryTimeout(3));
+
+        assertTrue(result.getResult());
+        assertEquals(Integer.valueOf(10), db.getSetting("fetchSize"));
+        assertEquals(Integer.valueOf(1000), db.getSetting("maxRows"));
+        assertEquals(Integer.valueOf(3), db.getSetting("queryTimeout"));
+    }
+
+    /** 쿼리 정보 파일에 정의된 쿼리를 조회한다. */
+    private Result<Long> scan(QueryOptions options) {
+        return dao.scan(dao.getQuery("plant.list"), null, options, new RowCursorHandler() {
+            @Override
+            public void handle(RowCursor cursor) throws SQLException {
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:52:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import open.commons.Result;
+import open.commons.database.ConnectionCallbackBroker2;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ResourceTrackerTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+
+    public ResourceTrackerTest() {
+        db.setQueryHandler(sql -> Arrays.asList(new Object[] { "p1" }, new Object[] { "p2" }));
+    }
+
+    @Test
+    public void testCloseAll() throws SQLException {
+        Connection con = db.getDataSource().getConnection();
+        ResourceTracker tracker = new ResourceTracker(false);
+
+        // 닫힌 자원을 정리한 후에도 닫히지 않은 자원은 유지된다.
+        for (int i = 0; i < 100; i++) {
+            tracker.track(con.prepareStatement("SELECT VALUE FROM PLANT")).close();
+        }
+        Statement open = tracker.track(con.prepareStatement("SELECT VALUE FROM PLANT"));
+        assertEquals(1, db.getOpenStatements());
+
+        assertArrayEquals(new int[] { 1, 0 }, tracker.closeAll());
+        assertTrue(open.isClosed());
+        assertEquals(0, db.getOpenStatements());
+
+        // 이미 정리된 자원은 다시 닫지 않는다.
+        assertArrayEquals(new int[] { 0, 0 }, tracker.closeAll());
+    }
+
+    @Test
+    public void testDebug() throws SQLException {
+        Connection con = db.getDataSource().getConnection();
+        ResourceTracker tracker = new ResourceTracker(true);
+
+        PreparedStatement pstmt = (PreparedStatement) tracker.track(con.prepareStatement("SELECT VALUE FROM PLANT"));
+        pstmt.executeQuery();
+        pstmt.executeQuery().close();
+        assertEquals(1, db.getOpenResultSets());
+
+        assertArrayEquals(new int[] { 1, 1 }, tracker.closeAll());
+        assertEquals(0, db.getOpenStatements());
+        assertEquals(0, db.getOpenResultSets());
+    }
+
+    @Test
+    public void testLeaseEnd() throws Exception {
+        AbstractGenericDao dao = MockDataSource.newDao(db.getDataSource(), null);
+        dao.setResourceLeakDebug(true);
+
+        // 요청쿼리 처리 중 조회한 ResultSet을 닫지 않는다.
+        Result<Integer> result = dao.executeUpdate((QueryOptions) null, new ConnectionCallbackBroker2<String>("UPDATE PLANT SET VALUE = ?", "p1") {
+            @Override
+            public void set(PreparedStatement pstmt) throws SQLException {
+                pstmt.executeQuery();
+                pstmt.setString(1, getSetter());
+            }
+        });
+
+        assertTrue(result.getResult());
+        assertEquals(0, db.getOpenStatements());
+        assertEquals(0, db.getOpenResultSets());
+        assertEquals(1L, dao.getMetrics().snapshot().get("jdbc.leaked.resultSets").longValue());
+    }
+}
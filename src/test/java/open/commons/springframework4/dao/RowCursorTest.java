@@ -0,0 +1,129 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 5:31:09
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import open.commons.Result;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class RowCursorTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+    private final AbstractGenericDao dao;
+
+    public RowCursorTest() throws Exception {
+        this.dao = MockDataSource.newDao(db.getDataSource(), null);
+
+        db.setColumns("ID", "NAME", "COST");
+        db.setColumnTypes(Types.INTEGER, Types.VARCHAR, Types.BIGINT);
+        db.setQueryHandler(sql -> Arrays.asList(new Object[] { 1, "p1", 10L }, new Object[] { 2, null, 20L }, new Object[] { 3, "p3", 30L }));
+    }
+
+    @Test
+    public void testReuse() {
+        Set<RowCursor> cursors = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> rows = new ArrayList<>();
+
+        Result<Long> result = dao.scan("SELECT ID, NAME, COST FROM PLANT", null, null, new RowCursorHandler() {
+            int id;
+            int name;
+            int cost;
+
+            @Override
+            public void begin(RowCursor cursor) throws SQLException {
+                cursors.add(cursor);
+                assertEquals(3, cursor.getColumnCount());
+                // 컬럼 이름은 대소문자를 구분하지 않는다.
+                id = cursor.indexOf("id");
+                name = cursor.indexOf("Name");
+                cost = cursor.indexOf("COST");
+            }
+
+            @Override
+            public void handle(RowCursor cursor) throws SQLException {
+                cursors.add(cursor);
+                String value = cursor.getString(name);
+                assertEquals(value == null, cursor.wasNull());
+                rows.add(cursor.getRow() + ":" + cursor.getInt(id) + ":" + value + ":" + cursor.getLong(cost));
+            }
+        });
+
+        assertTrue(result.getResult());
+        assertEquals(Long.valueOf(3), result.getData());
+        assertEquals(Arrays.asList("1:1:p1:10", "2:2:null:20", "3:3:p3:30"), rows);
+        // 행마다 객체를 생성하지 않는다.
+        assertEquals(1, cursors.size());
+    }
+
+    @Test
+    public void testUnknownColumn() {
+        Result<Long> result = dao.scan("SELECT ID, NAME, COST FROM PLANT", null, null, new RowCursorHandler() {
+            @Override
+            public void begin(RowCursor cursor) throws SQLException {
+                cursor.indexOf("REGION");
+                fail("Unknown column");
+            }
+
+            @Override
+            public void handle(RowCursor cursor) throws SQLException {
+            }
+        });
+
+        assertFalse(result.getResult());
+        assertNull(result.getData());
+        assertEquals(0, db.getOpenResultSets());
+        assertEquals(0, db.getOpenStatements());
+    }
+}
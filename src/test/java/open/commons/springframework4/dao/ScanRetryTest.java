@@ -0,0 +1,133 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오전 9:41:20
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import open.commons.Result;
+import open.commons.function.SQLConsumer;
+import open.commons.springframework4.dao.export.ExportColumns;
+import open.commons.springframework4.dao.export.ExportFormat;
+import open.commons.springframework4.dao.resilience.RetryPolicy;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ScanRetryTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+    private final AbstractGenericDao dao;
+
+    public ScanRetryTest() throws Exception {
+        ReloadableResourceBundleMessageSource querySource = new ReloadableResourceBundleMessageSource();
+        querySource.setBasename("classpath:dao/retry-queries");
+
+        this.dao = MockDataSource.newDao(db.getDataSource(), querySource);
+        RetryPolicy policy = new RetryPolicy();
+        policy.setInitialBackoff(1);
+        this.dao.setRetryPolicy(policy);
+
+        // 2개의 행을 전달한 후 연결이 끊어진다.
+        db.setQueryHandler(sql -> Arrays.asList(new Object[] { "p1" }, new Object[] { "p2" },
+                new Object[] { new SQLException("Communications link failure", "08S01") }));
+    }
+
+    @Test
+    public void testExport() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Result<Long> result = dao.export(dao.getQuery("plant.scan"), null, null, ExportFormat.CSV, ExportColumns.all(), out);
+
+        assertFalse(result.getResult());
+        assertEquals(1, db.getExecuted().size());
+        // 기록된 행이 다시 기록되지 않는다.
+        assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).split("p1", -1).length <= 2);
+    }
+
+    @Test
+    public void testScan() {
+        AtomicInteger begins = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+        Result<Long> result = dao.scan(dao.getQuery("plant.scan"), null, null, new RowCursorHandler() {
+            @Override
+            public void begin(RowCursor cursor) throws SQLException {
+                begins.incrementAndGet();
+            }
+
+            @Override
+            public void handle(RowCursor cursor) throws SQLException {
+                rows.incrementAndGet();
+            }
+        });
+
+        // 쿼리 정보 파일에 멱등성이 설정된 경우에도 재시도하지 않는다.
+        assertFalse(result.getResult());
+        assertEquals(1, db.getExecuted().size());
+        assertEquals(1, begins.get());
+        assertEquals(2, rows.get());
+    }
+
+    @Test
+    public void testUpdate() {
+        AtomicInteger calls = new AtomicInteger();
+        db.setQueryHandler(sql -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new SQLException("Communications link failure", "08S01");
+            }
+            return null;
+        });
+
+        // 행을 전달하지 않는 요청쿼리는 쿼리 정보 파일의 설정에 따라 재시도한다.
+        SQLConsumer<PreparedStatement> setter = pstmt -> {
+        };
+        Result<Integer> result = dao.executeUpdate(dao.getQuery("plant.update"), setter);
+
+        assertTrue(result.getResult());
+        assertEquals(2, db.getExecuted().size());
+    }
+}
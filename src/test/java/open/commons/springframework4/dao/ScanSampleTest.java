@@ -0,0 +1,88 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 3:04:18
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import open.commons.springframework4.dao.resilience.CircuitBreaker;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ScanSampleTest {
+
+    @Test
+    public void testSlowHandler() throws Exception {
+        MockDataSource db = new MockDataSource("plant");
+        db.setQueryHandler(sql -> Arrays.asList(new Object[] { "p1" }, new Object[] { "p2" }));
+
+        ReloadableResourceBundleMessageSource querySource = new ReloadableResourceBundleMessageSource();
+        querySource.setBasename("classpath:dao/retry-queries");
+        AbstractGenericDao dao = MockDataSource.newDao(db.getDataSource(), querySource);
+
+        CircuitBreaker breaker = new CircuitBreaker("plant");
+        breaker.setWindowSize(2);
+        breaker.setMinimumCalls(2);
+        breaker.setSlowCallDuration(20);
+        breaker.setSlowCallRateThreshold(50);
+        dao.setCircuitBreaker(breaker);
+
+        RowCursorHandler slow = cursor -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(30);
+            } catch (InterruptedException e) {
+                throw new SQLException(e);
+            }
+        };
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(dao.scan(dao.getQuery("plant.scan"), null, null, slow).getResult());
+        }
+
+        // 행 처리 시간은 DBMS 실행 시간에 포함되지 않는다.
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getSlowCallRate(), 0);
+    }
+}
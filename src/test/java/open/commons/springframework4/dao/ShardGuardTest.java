@@ -0,0 +1,113 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 2:12:37
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import open.commons.Result;
+import open.commons.function.SQLConsumer;
+import open.commons.springframework4.dao.resilience.CircuitBreaker;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ShardGuardTest {
+
+    private static final String UPDATE = "UPDATE PLANT SET VALUE = VALUE + 1";
+
+    private final MockDataSource main = new MockDataSource("main");
+    private final MockDataSource shardA = new MockDataSource("shardA");
+    private final MockDataSource shardB = new MockDataSource("shardB");
+    private final AbstractGenericDao dao;
+
+    public ShardGuardTest() throws Exception {
+        ReloadableResourceBundleMessageSource querySource = new ReloadableResourceBundleMessageSource();
+        querySource.setBasename("classpath:dao/retry-queries");
+
+        this.dao = MockDataSource.newDao(main.getDataSource(), querySource);
+
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put("a", shardA.getDataSource());
+        shards.put("b", shardB.getDataSource());
+        this.dao.setShards(shards);
+
+        CircuitBreaker breaker = new CircuitBreaker("main");
+        breaker.setWindowSize(2);
+        breaker.setMinimumCalls(2);
+        breaker.setFailureRateThreshold(50);
+        breaker.setOpenDuration(60_000);
+        this.dao.setCircuitBreaker(breaker);
+
+        shardA.setQueryHandler(sql -> {
+            throw new SQLException("Communications link failure", "08S01");
+        });
+    }
+
+    @Test
+    public void testFailingShard() {
+        SQLConsumer<PreparedStatement> setter = pstmt -> {
+        };
+
+        for (int i = 0; i < 2; i++) {
+            assertFalse(dao.executeUpdate(UPDATE, setter, new QueryOptions().shard("a")).getResult());
+        }
+        assertEquals(2, shardA.getExecuted().size());
+
+        // 장애가 발생한 shard의 요청은 실행하지 않고 거부한다.
+        Result<Integer> rejected = dao.executeUpdate(UPDATE, setter, new QueryOptions().shard("a"));
+        assertFalse(rejected.getResult());
+        assertEquals(2, shardA.getExecuted().size());
+
+        // 다른 shard와 기본 DataSource의 요청은 거부하지 않는다.
+        assertTrue(dao.executeUpdate(UPDATE, setter, new QueryOptions().shard("b")).getResult());
+        assertTrue(dao.executeUpdate(UPDATE, setter, (QueryOptions) null).getResult());
+        assertEquals(1, shardB.getExecuted().size());
+        assertEquals(1, main.getExecuted().size());
+    }
+}
@@ -0,0 +1,153 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:40:03
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class UnitOfWorkTest {
+
+    /** 호출된 {@link Connection}, {@link PreparedStatement} 메소드 이름 */
+    private final List<String> calls = new ArrayList<>();
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            calls.add(method.getName());
+            switch (method.getName()) {
+                case "getAutoCommit":
+                    return true;
+                case "prepareStatement":
+                    return statement();
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private PreparedStatement statement() {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                (proxy, method, args) -> {
+                    calls.add("stmt." + method.getName());
+                    switch (method.getName()) {
+                        case "isClosed":
+                            return false;
+                        case "getFetchSize":
+                        case "getMaxRows":
+                        case "getQueryTimeout":
+                            return 0;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    public void testCommit() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource();
+        DaoMetrics metrics = new DaoMetrics();
+        UnitOfWork unitOfWork = new UnitOfWork(connection(), 2, metrics);
+
+        String r = unitOfWork.execute(dataSource, () -> {
+            assertSame(unitOfWork, UnitOfWork.current(dataSource));
+
+            PreparedStatement first = unitOfWork.prepareStatement(new Object[] { "SELECT 1" });
+            // 사용 중인 경우 새로 생성한다.
+            PreparedStatement nested = unitOfWork.prepareStatement(new Object[] { "SELECT 1" });
+            assertNotSame(first, nested);
+            first.close();
+            assertTrue(first.isClosed());
+
+            PreparedStatement second = unitOfWork.prepareStatement(new Object[] { "SELECT 1" });
+            assertFalse(second.isClosed());
+            second.close();
+
+            assertNull(unitOfWork.prepareStatement(new Object[] { "SELECT 1", new int[] { 1 } }));
+            return "done";
+        });
+
+        assertEquals("done", r);
+        assertNull(UnitOfWork.current(dataSource));
+        assertTrue(calls.contains("commit"));
+        assertFalse(calls.contains("rollback"));
+        assertTrue(calls.contains("stmt.close"));
+        assertTrue(calls.contains("close"));
+        assertEquals(2L, metrics.snapshot().get("unitOfWork.statements.prepared"));
+        assertEquals(1L, metrics.snapshot().get("unitOfWork.statements.reused"));
+    }
+
+    @Test
+    public void testRollbackOnly() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource();
+        UnitOfWork unitOfWork = new UnitOfWork(connection(), 2, new DaoMetrics());
+
+        try {
+            unitOfWork.execute(dataSource, () -> {
+                // 작업 단위 안에서 실패한 DAO 요청
+                unitOfWork.setRollbackOnly();
+                return null;
+            });
+            fail("rollback-only");
+        } catch (SQLException expected) {
+        }
+
+        assertNull(UnitOfWork.current(dataSource));
+        assertTrue(calls.contains("rollback"));
+        assertFalse(calls.contains("commit"));
+    }
+}
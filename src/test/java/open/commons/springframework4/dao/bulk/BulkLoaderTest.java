@@ -0,0 +1,223 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:05:19
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class BulkLoaderTest {
+
+    @Test
+    public void testLoad() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1");
+
+        try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+            stmt.execute("CREATE TABLE PLANT (ID INT PRIMARY KEY, NAME VARCHAR(64), COST DECIMAL(10, 2))");
+        }
+
+        Path file = Files.createTempFile("plant", ".csv");
+        Path rejects = Files.createTempFile("plant", ".rejects");
+        file.toFile().deleteOnExit();
+        rejects.toFile().deleteOnExit();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,name,cost\r\n");
+            for (int i = 1; i <= 2500; i++) {
+                if (i == 700) {
+                    // 변환 오류
+                    writer.write("x700,\"식물, 700\",1.5\r\n");
+                } else if (i == 1800) {
+                    // 중복 키
+                    writer.write("1,\"plant \"\"1800\"\"\",2\r\n");
+                } else {
+                    writer.write(i + ",\"식물, " + i + "\"," + (i % 100) + ".25\r\n");
+                }
+            }
+        }
+
+        BulkLoader loader = new BulkLoader(dataSource, "INSERT INTO PLANT (ID, NAME, COST) VALUES (?, ?, ?)", Types.INTEGER, Types.VARCHAR, Types.DECIMAL);
+        loader.setSkipHeader(true);
+        loader.setChunkSize(4096);
+        loader.setParserThreads(3);
+        loader.setWriterThreads(2);
+        loader.setBatchSize(100);
+        loader.setQueueCapacity(2);
+        loader.setRejectFile(rejects);
+
+        BulkLoadReport report = loader.load(file);
+
+        assertEquals(2500, report.getLines());
+        assertEquals(2498, report.getRows());
+        assertEquals(2, report.getRejected());
+
+        List<String> rejected = Files.readAllLines(rejects, StandardCharsets.UTF_8);
+        assertEquals(2, rejected.size());
+
+        try (Connection con = dataSource.getConnection();
+                Statement stmt = con.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM PLANT")) {
+            assertTrue(rs.next());
+            assertEquals(2498, rs.getInt(1));
+        }
+    }
+
+    /** {@link PreparedStatement} 호출을 <code>handler</code>로 전달하는 {@link DataSource} */
+    private static DataSource dataSource(InvocationHandler handler) {
+        PreparedStatement pstmt = (PreparedStatement) Proxy.newProxyInstance(BulkLoaderTest.class.getClassLoader(), new Class<?>[] { PreparedStatement.class },
+                handler);
+        Connection con = (Connection) Proxy.newProxyInstance(BulkLoaderTest.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> method.getName().equals("prepareStatement") ? pstmt : null);
+        return (DataSource) Proxy.newProxyInstance(BulkLoaderTest.class.getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> method.getName().equals("getConnection") ? con : null);
+    }
+
+    @Test
+    public void testQuotedLineBreak() throws Exception {
+        List<String> names = Collections.synchronizedList(new ArrayList<>());
+        DataSource dataSource = dataSource((proxy, method, args) -> {
+            if (method.getName().equals("setObject") && (Integer) args[0] == 2) {
+                names.add((String) args[1]);
+            } else if (method.getName().equals("executeBatch")) {
+                return new int[0];
+            }
+            return null;
+        });
+
+        Path file = Files.createTempFile("plant", ".csv");
+        Path rejects = Files.createTempFile("plant", ".rejects");
+        file.toFile().deleteOnExit();
+        rejects.toFile().deleteOnExit();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,name\n");
+            for (int i = 1; i <= 300; i++) {
+                // 구간 경계가 따옴표 안의 줄바꿈에 위치하도록 긴 필드를 사용한다.
+                writer.write(i + ",\"plant " + i + "\r\nline 2, \"\"quoted\"\"\nline 3 of a long description\"\r\n");
+            }
+        }
+
+        BulkLoader loader = new BulkLoader(dataSource, "INSERT INTO PLANT (ID, NAME) VALUES (?, ?)", Types.INTEGER, Types.VARCHAR);
+        loader.setSkipHeader(true);
+        loader.setChunkSize(50);
+        loader.setParserThreads(3);
+        loader.setWriterThreads(1);
+        loader.setBatchSize(10);
+        loader.setRejectFile(rejects);
+
+        BulkLoadReport report = loader.load(file);
+
+        assertEquals(300, report.getLines());
+        assertEquals(300, report.getRows());
+        assertEquals(0, report.getRejected());
+        assertTrue(names.contains("plant 150\r\nline 2, \"quoted\"\nline 3 of a long description"));
+    }
+
+    @Test
+    public void testWriterFailure() throws Exception {
+        // 입력할 때마다 연결 오류가 발생하는 DataSource
+        DataSource dataSource = dataSource((proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                throw new SQLException("Connection reset", "08006");
+            }
+            return null;
+        });
+
+        Path file = Files.createTempFile("plant", ".csv");
+        Path rejects = Files.createTempFile("plant", ".rejects");
+        file.toFile().deleteOnExit();
+        rejects.toFile().deleteOnExit();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= 5000; i++) {
+                writer.write(i + ",plant " + i + "\n");
+            }
+        }
+
+        BulkLoader loader = new BulkLoader(dataSource, "INSERT INTO PLANT (ID, NAME) VALUES (?, ?)", Types.INTEGER, Types.VARCHAR);
+        loader.setChunkSize(1024);
+        loader.setParserThreads(2);
+        loader.setWriterThreads(1);
+        loader.setBatchSize(10);
+        loader.setQueueCapacity(1);
+        loader.setRejectFile(rejects);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<BulkLoadReport> future = executor.submit(() -> loader.load(file));
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("Writer failure MUST be reported.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SQLException);
+                assertEquals("08006", ((SQLException) e.getCause()).getSQLState());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
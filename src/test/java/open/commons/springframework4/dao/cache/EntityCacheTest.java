@@ -0,0 +1,85 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 3:02:44
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class EntityCacheTest {
+
+    @Test
+    public void testEviction() {
+        EntityCache<String> cache = new EntityCache<>(String.class, "plant", 1, "plant_id");
+
+        cache.put("p1", "plant-1", cache.version());
+        cache.put("p2", "plant-2", cache.version());
+
+        assertNull(cache.get("p1"));
+        assertEquals("plant-2", cache.get("p2"));
+        assertEquals(1, cache.getSize());
+        assertEquals(0.5, cache.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void testInvalidatedWhileLoading() {
+        EntityCache<String> cache = new EntityCache<>(String.class, "plant", 16, "plant_id", "region");
+        Object key = EntityCache.key("p1", "kr");
+
+        long version = cache.version();
+        cache.invalidate(key);
+
+        assertFalse(cache.put(key, "plant-1", version));
+        assertTrue(cache.put(key, "plant-1", cache.version()));
+        assertEquals("plant-1", cache.get(EntityCache.key("p1", "kr")));
+    }
+
+    @Test
+    public void testTarget() {
+        assertEquals("plant", EntityCaches.target("UPDATE plant SET name = ? WHERE plant_id = ?"));
+        assertEquals("plant", EntityCaches.target("delete from \"dbo\".\"PLANT\" where plant_id = ?"));
+        assertEquals("", EntityCaches.target("INSERT INTO plant (plant_id) VALUES (?)"));
+        assertEquals("plant", EntityCaches.target("INSERT INTO plant (plant_id) VALUES (?) ON CONFLICT (plant_id) DO NOTHING"));
+        assertEquals("*", EntityCaches.target("CALL refresh_plants()"));
+    }
+}
@@ -0,0 +1,77 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:18:05
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.resilience.LoadSheddingException;
+import open.commons.springframework4.dao.resilience.RetryPolicy;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConnectionGateTest {
+
+    @Test
+    public void testTimeout() throws Exception {
+        ConnectionGate gate = new ConnectionGate(1);
+        gate.setAcquireTimeout(10);
+        DaoMetrics metrics = new DaoMetrics();
+        gate.registerMetrics(metrics);
+
+        gate.acquire();
+        try {
+            gate.acquire();
+            fail("timeout");
+        } catch (LoadSheddingException expected) {
+            // 허가 대기 시간 초과는 재시도하지 않는다.
+            assertFalse(new RetryPolicy().isRetryable(expected));
+        }
+        assertEquals(1L, metrics.snapshot().get("connectionGate.timeouts"));
+        assertEquals(1, gate.getInUse());
+
+        // 허가를 반환하면 다시 받을 수 있다.
+        gate.release();
+        gate.acquire();
+        assertEquals(1, gate.getInUse());
+    }
+}
@@ -0,0 +1,143 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:12:33
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+import open.commons.springframework4.dao.resilience.LoadSheddingException;
+import open.commons.springframework4.dao.resilience.RetryPolicy;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConnectionLanesTest {
+
+    private static void awaitWaiting(DaoMetrics metrics, String lane, int waiting) throws InterruptedException {
+        for (int i = 0; i < 500 && metrics.snapshot().get("connectionLanes." + lane + ".waiting").intValue() < waiting; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testPriority() throws Exception {
+        ConnectionLanes lanes = new ConnectionLanes(1);
+        lanes.addLane("interactive", 0, 1);
+        lanes.addLane("batch", 0, 1);
+        DaoMetrics metrics = new DaoMetrics();
+        lanes.registerMetrics(metrics);
+
+        ConnectionLanes.Lane held = lanes.acquire("batch");
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable batch = () -> {
+            try {
+                ConnectionLanes.Lane lane = lanes.acquire("batch");
+                order.add(lane.getName());
+                lanes.release(lane);
+            } catch (LoadSheddingException ignored) {
+            } finally {
+                done.countDown();
+            }
+        };
+        Runnable interactive = () -> {
+            try {
+                ConnectionLanes.Lane lane = lanes.acquire("interactive");
+                order.add(lane.getName());
+                lanes.release(lane);
+            } catch (LoadSheddingException ignored) {
+            } finally {
+                done.countDown();
+            }
+        };
+
+        // 나중에 대기한 요청이라도 우선순위가 높은 lane이 먼저 허가를 받는다.
+        new Thread(batch).start();
+        awaitWaiting(metrics, "batch", 1);
+        new Thread(interactive).start();
+        awaitWaiting(metrics, "interactive", 1);
+
+        lanes.release(held);
+        done.await();
+
+        assertEquals(2, order.size());
+        assertEquals("interactive", order.get(0));
+        assertEquals("batch", order.get(1));
+        assertEquals(0, lanes.getInUse());
+    }
+
+    @Test
+    public void testReserved() throws Exception {
+        ConnectionLanes lanes = new ConnectionLanes(3);
+        lanes.addLane("interactive", 1, 3);
+        lanes.addLane("batch", 0, 3);
+        lanes.setAcquireTimeout(10);
+        DaoMetrics metrics = new DaoMetrics();
+        lanes.registerMetrics(metrics);
+
+        lanes.acquire("batch");
+        lanes.acquire("batch");
+        try {
+            // 다른 lane의 예약 개수는 사용할 수 없다.
+            lanes.acquire("batch");
+            fail("reserved");
+        } catch (LoadSheddingException expected) {
+            // 허가 대기 시간 초과는 재시도하지 않는다.
+            assertFalse(new RetryPolicy().isRetryable(expected));
+        }
+
+        // 등록되지 않은 lane은 기본 lane을 사용한다.
+        ConnectionLanes.Lane lane = lanes.acquire("unknown");
+        assertEquals("interactive", lane.getName());
+        assertEquals(3, lanes.getInUse());
+
+        assertEquals(1L, metrics.snapshot().get("connectionLanes.batch.timeouts"));
+        assertEquals(2L, metrics.snapshot().get("connectionLanes.batch.acquired"));
+        assertTrue(metrics.snapshot().get("connectionLanes.batch.waitTime.max").doubleValue() >= 0);
+    }
+}
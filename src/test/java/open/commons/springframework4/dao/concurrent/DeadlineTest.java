@@ -0,0 +1,135 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:58:13
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class DeadlineTest {
+
+    /** {@link Statement#cancel()} 호출 횟수를 기록하는 객체 */
+    private static Statement statement(AtomicInteger cancels) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "cancel":
+                    cancels.incrementAndGet();
+                    return null;
+                case "isClosed":
+                    return false;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void testAttach() {
+        Deadline outer = Deadline.after(1, TimeUnit.SECONDS);
+        Deadline inner = Deadline.after(2, TimeUnit.SECONDS);
+
+        try (Deadline.Scope scope = Deadline.attach(outer)) {
+            try (Deadline.Scope nested = Deadline.attach(inner)) {
+                assertSame(inner, Deadline.current());
+            }
+            assertSame(outer, Deadline.current());
+        }
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        AtomicInteger cancels = new AtomicInteger();
+        LongAdder cancelled = new LongAdder();
+
+        deadline.register(statement(cancels), cancelled);
+        deadline.cancel();
+
+        assertEquals(1, cancels.get());
+        assertEquals(1, cancelled.sum());
+        assertTrue(deadline.isExpired());
+
+        try {
+            deadline.register(statement(cancels), cancelled);
+            fail("Cancelled deadline MUST reject statements.");
+        } catch (SQLTimeoutException expected) {
+        }
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        Deadline deadline = Deadline.after(50, TimeUnit.MILLISECONDS);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        LongAdder cancelled = new LongAdder();
+
+        Statement done = statement(finished);
+        deadline.register(statement(running), cancelled);
+        deadline.register(done, cancelled);
+        deadline.deregister(done);
+        assertEquals(1, deadline.remainingSeconds());
+
+        for (int i = 0; i < 100 && running.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, running.get());
+        assertEquals(0, finished.get());
+        assertEquals(1, cancelled.sum());
+
+        try {
+            deadline.remainingSeconds();
+            fail("Expired deadline MUST throw SQLTimeoutException.");
+        } catch (SQLTimeoutException expected) {
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 5:03:31
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class SingleFlightTest {
+
+    @Test
+    public void testCollapse() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> flight.execute("plant", () -> {
+                executed.incrementAndGet();
+                started.countDown();
+                release.await();
+                return new ArrayList<>(Arrays.asList("p1", "p2"));
+            }, ArrayList::new)));
+            started.await();
+
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> flight.execute("plant", () -> {
+                    executed.incrementAndGet();
+                    return new ArrayList<String>();
+                }, ArrayList::new)));
+            }
+            // 결과를 기다리는 요청이 모두 도착할 때까지 대기한다.
+            while (flight.getCollapseRatio() < (double) (callers - 1) / callers) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            release.countDown();
+
+            List<String> first = futures.get(0).get();
+            for (Future<List<String>> future : futures.subList(1, callers)) {
+                List<String> joined = future.get();
+                assertEquals(first, joined);
+                assertNotSame(first, joined);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    public void testCopyBeforeSort() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            rows.add((i * 7919) % 100_000);
+        }
+        List<Integer> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.reverseOrder());
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            // getList(..., order, ...)와 같이 각 요청이 전달받은 결과를 정렬한다.
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                List<Integer> list = flight.execute("plant", () -> {
+                    started.countDown();
+                    release.await();
+                    return Collections.unmodifiableList(new ArrayList<>(rows));
+                }, ArrayList::new);
+                list.sort(Comparator.reverseOrder());
+                return list;
+            }));
+            started.await();
+
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    List<Integer> list = flight.execute("plant", () -> Collections.<Integer> emptyList(), ArrayList::new);
+                    list.sort(Comparator.reverseOrder());
+                    return list;
+                }));
+            }
+            while (flight.getCollapseRatio() < (double) (callers - 1) / callers) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            release.countDown();
+
+            for (Future<List<Integer>> future : futures) {
+                assertEquals(sorted, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFollowerDeadline() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> flight.execute("plant", () -> {
+                started.countDown();
+                release.await();
+                return Collections.emptyList();
+            }, ArrayList::new));
+            started.await();
+
+            long began = System.nanoTime();
+            try {
+                flight.execute("plant", () -> Collections.emptyList(), ArrayList::new, Deadline.after(100, TimeUnit.MILLISECONDS));
+                fail("Follower MUST stop waiting at its own deadline.");
+            } catch (SQLTimeoutException expected) {
+            }
+            assertTrue(System.nanoTime() - began < TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLeaderDeadline() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> leader = executor.submit(() -> flight.execute("plant", () -> {
+                executed.incrementAndGet();
+                started.countDown();
+                release.await();
+                throw new SQLTimeoutException("Deadline has been cancelled.");
+            }, ArrayList::new, deadline));
+            started.await();
+
+            AtomicReference<List<String>> joined = new AtomicReference<>();
+            Thread follower = new Thread(() -> {
+                try {
+                    joined.set(flight.execute("plant", () -> {
+                        executed.incrementAndGet();
+                        return Arrays.asList("p1");
+                    }, ArrayList::new, null));
+                } catch (Exception e) {
+                    joined.set(Arrays.asList(e.toString()));
+                }
+            });
+            follower.start();
+            while (follower.getState() != Thread.State.WAITING) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+
+            // 클라이언트 연결 종료 등으로 실행한 요청의 기한이 취소된 경우
+            deadline.cancel();
+            release.countDown();
+
+            try {
+                leader.get();
+                fail("Leader MUST fail.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SQLTimeoutException);
+            }
+
+            follower.join(5000);
+            assertEquals(Arrays.asList("p1"), joined.get());
+            assertEquals(2, executed.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 4:26:33
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.explain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class QueryPlanAnalyzerTest {
+
+    @Test
+    public void testAnalyze() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:explain;DB_CLOSE_DELAY=-1");
+
+        try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+            stmt.execute("CREATE TABLE PLANT (ID VARCHAR(32) PRIMARY KEY, NAME VARCHAR(64), COST INT)");
+        }
+
+        ReloadableResourceBundleMessageSource querySource = new ReloadableResourceBundleMessageSource();
+        querySource.setBasename("classpath:explain/queries");
+        querySource.setDefaultEncoding("UTF-8");
+
+        QueryPlanAnalyzer analyzer = new QueryPlanAnalyzer(dataSource, querySource);
+
+        List<QueryPlanReport> reports = analyzer.analyze();
+        Map<String, QueryPlanReport> map = new HashMap<>();
+        for (QueryPlanReport report : reports) {
+            map.put(report.getName(), report);
+        }
+
+        // INSERT 쿼리와 설정 정보는 분석하지 않는다.
+        assertEquals(2, reports.size());
+
+        QueryPlanReport byId = map.get("plant.select.by.id");
+        assertNull(byId.getError());
+        assertFalse(byId.toString(), byId.hasIssues());
+
+        QueryPlanReport byName = map.get("plant.select.by.name");
+        assertNull(byName.getError());
+        assertTrue(byName.toString(), byName.getIssues().contains(PlanIssue.FULL_SCAN));
+    }
+}
@@ -0,0 +1,117 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 7:38:15
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import open.commons.Result;
+import open.commons.springframework4.dao.AbstractGenericDao;
+import open.commons.springframework4.dao.MockDataSource;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ExportHandlerTest {
+
+    private final MockDataSource db = new MockDataSource("plant");
+    private final AbstractGenericDao dao;
+
+    public ExportHandlerTest() throws Exception {
+        this.dao = MockDataSource.newDao(db.getDataSource(), null);
+
+        db.setColumns("ID", "NAME");
+        db.setColumnTypes(Types.INTEGER, Types.VARCHAR);
+        db.setQueryHandler(sql -> Arrays.asList( //
+                new Object[] { 1, "a,b" } //
+                , new Object[] { 2, "say \"hi\"" } //
+                , new Object[] { 3, "l1\r\nl2" } //
+                , new Object[] { 4, "c:\\tmp\t" } //
+                , new Object[] { 5, null } //
+        ));
+    }
+
+    @Test
+    public void testCsv() {
+        assertEquals("ID,NAME\r\n" //
+                + "1,\"a,b\"\r\n" //
+                + "2,\"say \"\"hi\"\"\"\r\n" //
+                + "3,\"l1\r\nl2\"\r\n" //
+                + "4,c:\\tmp\t\r\n" //
+                + "5,\r\n" //
+                , export(ExportFormat.CSV));
+    }
+
+    @Test
+    public void testJson() {
+        assertEquals("[{\"ID\":1,\"NAME\":\"a,b\"}" //
+                + ",{\"ID\":2,\"NAME\":\"say \\\"hi\\\"\"}" //
+                + ",{\"ID\":3,\"NAME\":\"l1\\r\\nl2\"}" //
+                + ",{\"ID\":4,\"NAME\":\"c:\\\\tmp\\t\"}" //
+                + ",{\"ID\":5,\"NAME\":null}]" //
+                , export(ExportFormat.JSON));
+    }
+
+    @Test
+    public void testTsv() {
+        // 구분자(tab)를 포함한 값만 따옴표로 감싼다.
+        assertEquals("ID\tNAME\r\n" //
+                + "1\ta,b\r\n" //
+                + "2\t\"say \"\"hi\"\"\"\r\n" //
+                + "3\t\"l1\r\nl2\"\r\n" //
+                + "4\t\"c:\\tmp\t\"\r\n" //
+                + "5\t\r\n" //
+                , export(ExportFormat.TSV));
+    }
+
+    /** 전체 컬럼을 주어진 형식으로 출력한다. */
+    private String export(ExportFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Result<Long> result = dao.export("SELECT ID, NAME FROM PLANT", null, null, format, ExportColumns.all(), out);
+
+        assertTrue(result.getResult());
+        assertEquals(Long.valueOf(5), result.getData());
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,214 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 6:58:12
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.concurrent.Deadline;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class BatchLoaderTest {
+
+    @Test
+    public void testDispatch() {
+        List<List<Integer>> requested = new ArrayList<>();
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            requested.add(new ArrayList<>(keys));
+            Map<Integer, String> loaded = new HashMap<>();
+            keys.stream().filter(k -> k < 100).forEach(k -> loaded.put(k, "plant-" + k));
+            return loaded;
+        });
+
+        CompletableFuture<String> p1 = loader.load(1);
+        CompletableFuture<String> p2 = loader.load(2);
+        CompletableFuture<String> missing = loader.load(100);
+        assertSame(p1, loader.load(1));
+        assertFalse(p1.isDone());
+
+        assertEquals(3, loader.dispatch());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 100)), requested);
+        assertEquals("plant-1", p1.join());
+        assertEquals("plant-2", p2.join());
+        assertNull(missing.join());
+
+        // 이미 조회한 키는 다시 조회하지 않는다.
+        assertEquals(Arrays.asList("plant-2", "plant-1"), loader.loadMany(Arrays.asList(2, 1)).join());
+        assertEquals(1, loader.getBatchCount());
+        assertEquals(3, loader.getCacheHitCount());
+    }
+
+    @Test
+    public void testFailure() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (fail.get()) {
+                throw new SQLException("connection refused", "08001");
+            }
+            return new HashMap<>();
+        });
+
+        CompletableFuture<String> first = loader.load(1);
+        loader.dispatch();
+        assertTrue(first.isCompletedExceptionally());
+
+        fail.set(false);
+        CompletableFuture<String> retried = loader.load(1);
+        loader.dispatch();
+        assertNull(retried.join());
+    }
+
+    @Test
+    public void testError() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new AssertionError("broken loader");
+            }
+            Map<Integer, String> loaded = new HashMap<>();
+            keys.forEach(k -> loaded.put(k, "plant-" + k));
+            return loaded;
+        });
+
+        CompletableFuture<String> p1 = loader.load(1);
+        CompletableFuture<String> p2 = loader.load(2);
+        CompletableFuture<String> p3 = loader.load(3);
+        loader.setMaxBatchSize(1);
+        try {
+            loader.dispatch();
+            fail("Error is rethrown");
+        } catch (AssertionError expected) {
+        }
+
+        // 조회하지 못한 키도 대기하지 않고 오류로 완료된다.
+        assertEquals("plant-1", p1.get(1, TimeUnit.SECONDS));
+        assertTrue(p2.isCompletedExceptionally());
+        assertTrue(p3.isCompletedExceptionally());
+
+        // 오류로 완료된 키는 다시 조회한다.
+        CompletableFuture<String> retried = loader.load(3);
+        loader.dispatch();
+        assertEquals("plant-3", retried.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testNullResult() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> null);
+
+        CompletableFuture<String> p1 = loader.load(1);
+        loader.dispatch();
+
+        assertNull(p1.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        List<Integer> sizes = new ArrayList<>();
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            sizes.add(keys.size());
+            return new HashMap<>();
+        });
+        loader.setMaxBatchSize(2);
+
+        loader.load(1);
+        loader.load(2);
+        loader.load(3);
+        loader.close();
+
+        assertEquals(Arrays.asList(2, 1), sizes);
+    }
+
+    @Test
+    public void testBatchWindow() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+        AtomicReference<Deadline> deadline = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "batch-window-test"));
+        try {
+            BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+                thread.set(Thread.currentThread().getName());
+                deadline.set(Deadline.current());
+                return new HashMap<>();
+            }, executor);
+            loader.setBatchWindow(10);
+
+            Deadline mine = Deadline.after(10, TimeUnit.SECONDS);
+            CompletableFuture<String> future;
+            try (Deadline.Scope scope = Deadline.attach(mine)) {
+                future = loader.load(1);
+            }
+
+            assertNull(future.get(5, TimeUnit.SECONDS));
+            assertEquals("batch-window-test", thread.get());
+            assertSame(mine, deadline.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchWindowWithoutExecutor() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> new HashMap<>());
+        loader.setBatchWindow(0);
+        try {
+            loader.setBatchWindow(10);
+            fail("batchWindow without an executor");
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 12:52:09
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.named;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class InListQueryTest {
+
+    @Test
+    public void testBucket() {
+        assertEquals(1, InListQuery.bucket(1));
+        assertEquals(2, InListQuery.bucket(2));
+        assertEquals(4, InListQuery.bucket(3));
+        assertEquals(8, InListQuery.bucket(5));
+        assertEquals(512, InListQuery.bucket(512));
+        assertEquals(1024, InListQuery.bucket(513));
+    }
+
+    @Test
+    public void testSql() {
+        InListQuery query = InListQuery.parse("SELECT * FROM plant WHERE region = :region AND plant_id IN (:ids) AND used = :used", "ids");
+
+        assertEquals("SELECT * FROM plant WHERE region = ? AND plant_id IN (?, ?, ?, ?) AND used = ?", query.getSql(4));
+        // 나머지 파라미터 2개를 제외한 개수 이하의 2의 거듭제곱
+        assertEquals(512, query.maxChunkSize(1000));
+    }
+}
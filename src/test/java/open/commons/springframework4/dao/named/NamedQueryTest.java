@@ -0,0 +1,78 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:58:17
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.named;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class NamedQueryTest {
+
+    @Test
+    public void testMixed() {
+        try {
+            NamedQuery.parse("SELECT * FROM plant WHERE plant_id = :plantId AND region = ?");
+            fail("Mixed parameters MUST BE rejected.");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testParse() {
+        String query = "SELECT id::text, ':skip' AS s /* :comment */ FROM plant -- :line\n WHERE plant_id = :plantId AND (region = :region OR :region IS NULL)";
+        NamedQuery named = NamedQuery.parse(query);
+
+        assertEquals("SELECT id::text, ':skip' AS s /* :comment */ FROM plant -- :line\n WHERE plant_id = ? AND (region = ? OR ? IS NULL)", named.getSql());
+        assertEquals(Arrays.asList("plantId", "region", "region"), named.getParameterNames());
+        assertSame(named, NamedQuery.parse(query));
+    }
+
+    @Test
+    public void testQuotedBackslash() {
+        NamedQuery named = NamedQuery.parse("SELECT * FROM file WHERE path = 'C:\\' AND name = :name AND note = 'it''s :skip'");
+
+        assertEquals("SELECT * FROM file WHERE path = 'C:\\' AND name = ? AND note = 'it''s :skip'", named.getSql());
+        assertEquals(Arrays.asList("name"), named.getParameterNames());
+    }
+}
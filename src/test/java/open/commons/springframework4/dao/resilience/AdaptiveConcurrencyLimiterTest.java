@@ -0,0 +1,110 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:18:40
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.metrics.DaoMetrics;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    /**
+     * 제한만큼 요청을 실행하고, 주어진 실행 시간으로 완료한다.
+     */
+    private static void run(AdaptiveConcurrencyLimiter limiter, long rttMillis) throws LoadSheddingException {
+        int n = limiter.getLimit();
+        for (int i = 0; i < n; i++) {
+            limiter.acquire();
+        }
+        for (int i = 0; i < n; i++) {
+            limiter.release(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+        }
+    }
+
+    @Test
+    public void testAdjust() throws LoadSheddingException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 50);
+        limiter.setWindowSize(5);
+
+        // 실행 시간이 일정한 경우 제한을 늘린다.
+        for (int i = 0; i < 10; i++) {
+            run(limiter, 10);
+        }
+        int grown = limiter.getLimit();
+        assertTrue("limit=" + grown, grown > 10);
+
+        // 실행 시간이 늘어난 경우 제한을 줄인다.
+        run(limiter, 40);
+        assertTrue("limit=" + limiter.getLimit(), limiter.getLimit() < grown);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testDropAndReject() throws LoadSheddingException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+        limiter.setMaxWait(0);
+        DaoMetrics metrics = new DaoMetrics();
+        limiter.registerMetrics(metrics);
+
+        long first = limiter.acquire();
+        limiter.acquire();
+        try {
+            limiter.acquire();
+            fail("limit exceeded");
+        } catch (LoadSheddingException expected) {
+        }
+        assertEquals(1L, metrics.snapshot().get("concurrencyLimiter.rejected"));
+
+        // 과부하로 실패한 경우 제한을 줄인다.
+        limiter.release(first, true);
+        assertEquals(1, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1L, metrics.snapshot().get("concurrencyLimiter.dropped"));
+
+        limiter.cancel();
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,138 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:41:05
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import open.commons.springframework4.dao.resilience.CircuitBreaker.State;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class CircuitBreakerTest {
+
+    private static void assertRejected(CircuitBreaker breaker) {
+        try {
+            breaker.acquire();
+            fail("Request MUST BE rejected. state=" + breaker.getState());
+        } catch (CircuitBreakerOpenException expected) {
+        }
+    }
+
+    private static CircuitBreaker newBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test");
+        breaker.setWindowSize(10);
+        breaker.setMinimumCalls(4);
+        breaker.setFailureRateThreshold(50);
+        breaker.setOpenDuration(50);
+        breaker.setHalfOpenProbes(2);
+        return breaker;
+    }
+
+    /**
+     * 실패율이 기준에 도달할 때까지 요청을 실행한다.
+     */
+    private static void open(CircuitBreaker breaker) throws CircuitBreakerOpenException {
+        boolean[] failures = { false, false, true, true };
+        for (boolean failure : failures) {
+            assertEquals(State.CLOSED, breaker.getState());
+            breaker.onResult(breaker.acquire(), 0, failure);
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testTransitions() throws Exception {
+        CircuitBreaker breaker = newBreaker();
+        long stale = breaker.acquire();
+
+        // closed -> open
+        open(breaker);
+        assertRejected(breaker);
+
+        // open -> half-open: 대기 시간이 지나면 halfOpenProbes 개수만큼 허용한다.
+        Thread.sleep(60);
+        long probe1 = breaker.acquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        long probe2 = breaker.acquire();
+        assertRejected(breaker);
+
+        // 이전 상태에서 허용된 요청의 결과는 반영되지 않는다.
+        breaker.onResult(stale, 0, true);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // half-open -> closed
+        breaker.onResult(probe1, 0, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.onResult(probe2, 0, false);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate(), 0);
+    }
+
+    @Test
+    public void testProbeFailure() throws Exception {
+        CircuitBreaker breaker = newBreaker();
+        open(breaker);
+
+        Thread.sleep(60);
+        long probe1 = breaker.acquire();
+        long probe2 = breaker.acquire();
+
+        // half-open -> open: 1개라도 실패한 경우 다시 대기한다.
+        breaker.onResult(probe1, 0, true);
+        assertEquals(State.OPEN, breaker.getState());
+        assertRejected(breaker);
+
+        breaker.onResult(probe2, 0, false);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testSlowCalls() throws Exception {
+        CircuitBreaker breaker = newBreaker();
+        breaker.setSlowCallDuration(100);
+        breaker.setSlowCallRateThreshold(50);
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(breaker.acquire(), i < 2 ? 0 : 200_000_000L, false);
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+}
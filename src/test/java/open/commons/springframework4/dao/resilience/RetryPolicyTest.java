@@ -0,0 +1,109 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 10:52:17
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.resilience;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class RetryPolicyTest {
+
+    @Test
+    public void testBackoff() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.setInitialBackoff(10);
+        policy.setMaxBackoff(100);
+
+        for (int retry = 1; retry < 20; retry++) {
+            long backoff = policy.backoff(retry);
+            assertTrue("retry=" + retry + ", backoff=" + backoff, backoff >= 0 && backoff <= Math.min(100, 10L << (retry - 1)));
+        }
+    }
+
+    @Test
+    public void testNonTransient() {
+        RetryPolicy policy = new RetryPolicy();
+
+        // 데이터, 무결성, 문법 오류는 재시도하지 않는다.
+        assertFalse(policy.isRetryable(new SQLException("Duplicate key", "23505")));
+        assertFalse(policy.isRetryable(new SQLIntegrityConstraintViolationException("Duplicate key", "23000", 1062)));
+        assertFalse(policy.isRetryable(new SQLSyntaxErrorException("Syntax error", "42601")));
+        assertFalse(policy.isRetryable(new SQLException("Numeric value out of range", "22003")));
+        // 원인 예외의 SQLState로 판단한다.
+        assertFalse(policy.isRetryable(new SQLException("Fail to insert", new SQLException("Duplicate key", "23505"))));
+        // 코드와 타입 정보가 없는 경우
+        assertFalse(policy.isRetryable(new SQLException("Unknown")));
+
+        // 요청 처리 시간 초과, 요청 거부는 재시도하지 않는다.
+        assertFalse(policy.isRetryable(new SQLTimeoutException("Query timeout", "08S01")));
+        assertFalse(policy.isRetryable(new CircuitBreakerOpenException("test", 100)));
+        assertFalse(policy.isRetryable(new LoadSheddingException("Too many requests")));
+    }
+
+    @Test
+    public void testSqlStates() {
+        RetryPolicy policy = new RetryPolicy();
+        assertTrue(policy.isRetryable(new SQLException("Connection refused", "08001")));
+
+        policy.setSqlStates(Arrays.asList("40001"));
+        assertFalse(policy.isRetryable(new SQLException("Connection refused", "08001")));
+        assertTrue(policy.isRetryable(new SQLException("Serialization failure", "40001")));
+    }
+
+    @Test
+    public void testTransient() {
+        RetryPolicy policy = new RetryPolicy();
+
+        assertTrue(policy.isRetryable(new SQLException("Serialization failure", "40001")));
+        assertTrue(policy.isRetryable(new SQLException("Deadlock detected", "40P01")));
+        assertTrue(policy.isRetryable(new SQLException("Communications link failure", "08S01")));
+        assertTrue(policy.isRetryable(new SQLException("Deadlock found", "HY000", 1213)));
+        assertTrue(policy.isRetryable(new SQLException("Fail to select", new SQLException("Connection reset", "08006"))));
+        assertTrue(policy.isRetryable(new SQLTransientConnectionException("Connection is not available")));
+    }
+}
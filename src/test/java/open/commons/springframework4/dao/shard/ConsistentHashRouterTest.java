@@ -0,0 +1,133 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:03:42
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.shard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class ConsistentHashRouterTest {
+
+    private static final int KEYS = 10_000;
+    private static final int VIRTUAL_NODES = 160;
+
+    private static Map<Integer, String> routeAll(ConsistentHashRouter router) {
+        Map<Integer, String> routes = new HashMap<>();
+        for (int key = 0; key < KEYS; key++) {
+            routes.put(key, router.route("plant-" + key));
+        }
+        return routes;
+    }
+
+    @Test
+    public void testAddShard() {
+        Map<Integer, String> before = routeAll(new ConsistentHashRouter(Arrays.asList("shard-0", "shard-1", "shard-2", "shard-3"), VIRTUAL_NODES));
+        Map<Integer, String> after = routeAll(new ConsistentHashRouter(Arrays.asList("shard-0", "shard-1", "shard-2", "shard-3", "shard-4"), VIRTUAL_NODES));
+
+        int moved = 0;
+        for (int key = 0; key < KEYS; key++) {
+            if (!before.get(key).equals(after.get(key))) {
+                // 추가된 shard로만 이동한다.
+                assertEquals("shard-4", after.get(key));
+                moved++;
+            }
+        }
+        // 기대값: 1/5
+        assertTrue("moved=" + moved, moved > KEYS * 0.1 && moved < KEYS * 0.3);
+    }
+
+    @Test
+    public void testBalance() {
+        List<String> shards = Arrays.asList("shard-0", "shard-1", "shard-2", "shard-3");
+        Map<String, Integer> counts = new HashMap<>();
+        routeAll(new ConsistentHashRouter(shards, VIRTUAL_NODES)).values().forEach(shard -> counts.merge(shard, 1, Integer::sum));
+
+        assertEquals(shards.size(), counts.size());
+        counts.forEach((shard, count) -> assertTrue(shard + "=" + count, count > KEYS * 0.18 && count < KEYS * 0.32));
+    }
+
+    @Test
+    public void testInvalid() {
+        try {
+            new ConsistentHashRouter(Collections.emptyList(), VIRTUAL_NODES);
+            fail("Empty shards MUST BE rejected.");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new ConsistentHashRouter(Arrays.asList("shard-0"), 0);
+            fail("virtualNodes MUST BE greater than 0.");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testRemoveShard() {
+        Map<Integer, String> before = routeAll(new ConsistentHashRouter(Arrays.asList("shard-0", "shard-1", "shard-2", "shard-3"), VIRTUAL_NODES));
+        Map<Integer, String> after = routeAll(new ConsistentHashRouter(Arrays.asList("shard-0", "shard-2", "shard-3"), VIRTUAL_NODES));
+
+        for (int key = 0; key < KEYS; key++) {
+            if (before.get(key).equals("shard-1")) {
+                assertTrue(after.get(key).equals("shard-0") || after.get(key).equals("shard-2") || after.get(key).equals("shard-3"));
+            } else {
+                // 제거된 shard 이외의 키는 이동하지 않는다.
+                assertEquals(before.get(key), after.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void testStable() {
+        List<String> shards = new ArrayList<>(Arrays.asList("shard-0", "shard-1", "shard-2", "shard-3"));
+        Map<Integer, String> routes = routeAll(new ConsistentHashRouter(shards, VIRTUAL_NODES));
+
+        // 같은 shard 구성은 생성 순서와 관계없이 같은 shard로 연결된다.
+        Collections.reverse(shards);
+        assertEquals(routes, routeAll(new ConsistentHashRouter(shards, VIRTUAL_NODES)));
+    }
+}
@@ -0,0 +1,127 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 11:31:54
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.spill;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class SpillableListTest {
+
+    private static final RowCodec<String> CODEC = new RowCodec<String>() {
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(String row, DataOutput out) throws IOException {
+            byte[] bytes = row.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    };
+
+    @Test
+    public void testHeap() {
+        try (SpillableList<String> list = new SpillableList<>(CODEC, 10, 4, null)) {
+            for (int i = 0; i < 10; i++) {
+                list.add("row-" + i);
+            }
+
+            assertFalse(list.isSpilled());
+            assertEquals(10, list.size());
+            assertEquals("row-7", list.get(7));
+        }
+    }
+
+    @Test
+    public void testSpill() throws Exception {
+        File dir = Files.createTempDirectory("spill-test").toFile();
+        try {
+            try (SpillableList<String> list = new SpillableList<>(CODEC, 100, 16, dir)) {
+                String payload = new String(new char[70000]).replace('\0', 'x');
+                for (int i = 0; i < 20000; i++) {
+                    // 기록 버퍼보다 큰 데이터도 포함한다.
+                    list.add(i % 5000 == 0 ? "row-" + i + payload : "row-" + i);
+                }
+
+                assertTrue(list.isSpilled());
+                assertEquals(20000, list.size());
+
+                assertEquals("row-19999", list.get(19999));
+                assertEquals("row-99", list.get(99));
+                assertEquals("row-12345", list.get(12345));
+                assertEquals(70000 + "row-5000".length(), list.get(5000).length());
+
+                // 조회 이후에 추가된 데이터
+                list.add("row-20000");
+                assertEquals("row-20000", list.get(20000));
+
+                int i = 0;
+                for (String row : list) {
+                    if (i % 5000 != 0) {
+                        assertEquals("row-" + i, row);
+                    }
+                    i++;
+                }
+                assertEquals(20001, i);
+
+                list.clear();
+                assertFalse(list.isSpilled());
+                assertEquals(0, list.size());
+                assertEquals(0, dir.list().length);
+            }
+        } finally {
+            dir.delete();
+        }
+    }
+}
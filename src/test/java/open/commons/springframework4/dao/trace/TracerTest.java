@@ -0,0 +1,111 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 9:02:31
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class TracerTest {
+
+    @Test
+    public void testDisabled() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(4);
+        Tracer tracer = new Tracer(exporter);
+        tracer.setEnabled(false);
+
+        Span span = tracer.startSpan("dao.execute");
+        assertSame(Span.NOOP, span);
+        assertNull(TraceContext.current());
+
+        span.end();
+        assertEquals(0, exporter.getTotalCount());
+    }
+
+    @Test
+    public void testPropagation() throws Exception {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(4);
+        Tracer tracer = new Tracer(exporter);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Span parent = tracer.startSpan("request");
+            executor.submit(TraceContext.wrap(() -> tracer.startSpan("dao.executeQuery").setAttribute(Span.ROWS, 3).end())).get();
+            parent.end();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNull(TraceContext.current());
+
+        List<Span> spans = exporter.getSpans();
+        assertEquals(2, spans.size());
+
+        Span child = spans.get(0);
+        Span parent = spans.get(1);
+        assertEquals("dao.executeQuery", child.getName());
+        assertEquals(3, child.getAttributes().get(Span.ROWS));
+        assertEquals(parent.getContext().getTraceId(), child.getContext().getTraceId());
+        assertEquals(parent.getContext().getSpanId(), child.getParentSpanId());
+        assertNull(parent.getParentSpanId());
+    }
+
+    @Test
+    public void testRingBuffer() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(2);
+        Tracer tracer = new Tracer(exporter);
+
+        for (int i = 0; i < 5; i++) {
+            tracer.startSpan("span-" + i).end();
+        }
+
+        List<Span> spans = exporter.getSpans();
+        assertEquals(5, exporter.getTotalCount());
+        assertEquals(2, spans.size());
+        assertEquals("span-3", spans.get(0).getName());
+        assertEquals("span-4", spans.get(1).getName());
+    }
+}
@@ -0,0 +1,121 @@
+/* 
+ * MIT License
+ * 
+ * Copyright (c) 2019 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/*
+ * This file is generated under this project, "open-commons-springframework4".
+ * 
+ * Date  : 2026. 10. 19. 오후 8:12:44
+ * 
+ * Author: Park_Jun_Hong_(fafanmama_at_naver_com)
+ * 
+ */
+
+package open.commons.springframework4.dao.workload;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+
+/**
+ * 
+ * @since 2026. 10. 19.
+ * @author Park_Jun_Hong_(fafanmama_at_naver_com)
+ * @version 0.2.0
+ */
+public class WorkloadRecorderTest {
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:workload;DB_CLOSE_DELAY=-1");
+
+        Path file = Files.createTempFile("workload", ".ocwl");
+        file.toFile().deleteOnExit();
+
+        WorkloadRecorder recorder = new WorkloadRecorder(file.toString());
+        try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+            stmt.execute("CREATE TABLE PLANT (ID VARCHAR(32) PRIMARY KEY, NAME VARCHAR(64), COST INT)");
+
+            String insert = "INSERT INTO PLANT (ID, NAME, COST) VALUES (?, ?, ?)";
+            try (PreparedStatement pstmt = recorder.wrap(con.prepareStatement(insert), "plant.insert", insert)) {
+                pstmt.setString(1, "P-1");
+                pstmt.setString(2, "첫번째");
+                pstmt.setInt(3, 100);
+                pstmt.addBatch();
+                pstmt.setString(1, "P-2");
+                pstmt.setNull(2, Types.VARCHAR);
+                pstmt.setInt(3, -7);
+                pstmt.addBatch();
+                pstmt.executeBatch();
+            }
+
+            String select = "SELECT * FROM PLANT WHERE ID = ?";
+            try (PreparedStatement pstmt = recorder.wrap(con.prepareStatement(select), "plant.select.by.id", select)) {
+                pstmt.setString(1, "P-1");
+                pstmt.executeQuery().close();
+            }
+
+            // 재실행시 중복 오류가 발생하지 않도록 삭제
+            stmt.execute("DELETE FROM PLANT");
+        }
+        recorder.close();
+
+        try (WorkloadLogReader reader = new WorkloadLogReader(Files.newInputStream(file))) {
+            WorkloadEvent batch = reader.next();
+            assertEquals("plant.insert", batch.getQueryName());
+            assertEquals(WorkloadEvent.KIND_BATCH, batch.getKind());
+            assertEquals(2, batch.getRows());
+            assertEquals(2, batch.getParameters().size());
+            assertArrayEquals(new Object[] { "P-1", "첫번째", 100 }, batch.getParameters().get(0));
+            assertTrue(batch.getParameters().get(1)[1] instanceof WorkloadEvent.NullValue);
+            assertEquals(-7, batch.getParameters().get(1)[2]);
+
+            WorkloadEvent query = reader.next();
+            assertEquals("plant.select.by.id", query.getQueryName());
+            assertEquals(WorkloadEvent.KIND_QUERY, query.getKind());
+            assertArrayEquals(new Object[] { "P-1" }, query.getParameters().get(0));
+
+            assertNull(reader.next());
+        }
+
+        WorkloadReplayer replayer = new WorkloadReplayer(dataSource);
+        replayer.setSpeed(0);
+        ReplayReport report = replayer.replay(file);
+
+        assertEquals(2, report.getEvents());
+        assertEquals(0, report.getErrors());
+        assertEquals(1, report.getThreads());
+    }
+}